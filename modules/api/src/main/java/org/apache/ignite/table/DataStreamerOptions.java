@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.table;
+
+/**
+ * Data streamer options.
+ *
+ * @see DataStreamerTarget#streamData(java.util.concurrent.Flow.Publisher, DataStreamerOptions)
+ */
+public class DataStreamerOptions {
+    /** Default batch size. */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** Default number of in-flight batches per partition. */
+    public static final int DEFAULT_PER_PARTITION_PARALLEL_OPERATIONS = 4;
+
+    /** Default auto flush frequency, in milliseconds. */
+    public static final int DEFAULT_AUTO_FLUSH_FREQUENCY = 5000;
+
+    /** Batch size. */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /** Number of in-flight batches per partition. */
+    private int perPartitionParallelOperations = DEFAULT_PER_PARTITION_PARALLEL_OPERATIONS;
+
+    /** Auto flush frequency, in milliseconds. */
+    private int autoFlushFrequency = DEFAULT_AUTO_FLUSH_FREQUENCY;
+
+    /**
+     * Gets the batch size: the number of items buffered for a partition before they are sent to the server.
+     *
+     * @return Batch size.
+     */
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the batch size: the number of items buffered for a partition before they are sent to the server.
+     *
+     * @param batchSize Batch size, must be positive.
+     * @return This instance for chaining.
+     */
+    public DataStreamerOptions batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of batches that are sent to a partition but not yet acknowledged. Further batches for the partition
+     * wait until one of the in-flight batches completes.
+     *
+     * @return Number of in-flight batches per partition.
+     */
+    public int perPartitionParallelOperations() {
+        return perPartitionParallelOperations;
+    }
+
+    /**
+     * Sets the maximum number of batches that are sent to a partition but not yet acknowledged.
+     *
+     * @param perPartitionParallelOperations Number of in-flight batches per partition, must be positive.
+     * @return This instance for chaining.
+     */
+    public DataStreamerOptions perPartitionParallelOperations(int perPartitionParallelOperations) {
+        if (perPartitionParallelOperations <= 0) {
+            throw new IllegalArgumentException("Per partition parallel operations must be positive: " + perPartitionParallelOperations);
+        }
+
+        this.perPartitionParallelOperations = perPartitionParallelOperations;
+
+        return this;
+    }
+
+    /**
+     * Gets the auto flush frequency: a partially filled batch is sent to the server when nothing was sent to its partition within
+     * this period.
+     *
+     * @return Auto flush frequency, in milliseconds. Zero or negative value means auto flush is disabled.
+     */
+    public int autoFlushFrequency() {
+        return autoFlushFrequency;
+    }
+
+    /**
+     * Sets the auto flush frequency.
+     *
+     * @param autoFlushFrequency Auto flush frequency, in milliseconds. Zero or negative value disables auto flush.
+     * @return This instance for chaining.
+     */
+    public DataStreamerOptions autoFlushFrequency(int autoFlushFrequency) {
+        this.autoFlushFrequency = autoFlushFrequency;
+
+        return this;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.table;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents an entity that can be used as a target for streaming data.
+ *
+ * @param <T> Item type.
+ */
+public interface DataStreamerTarget<T> {
+    /**
+     * Streams data into the table.
+     *
+     * <p>Items are buffered per partition and sent in batches, see {@link DataStreamerOptions}. Each item is upserted outside of any
+     * transaction: other transactions may observe a part of the streamed data, and a failed stream may leave a part of the data
+     * written. Upserts are idempotent, so a failed stream can be safely restarted from the beginning.
+     *
+     * @param publisher Producer of the items to upsert.
+     * @param options Options, or {@code null} to use the defaults.
+     * @return Future that completes when all the items are written, or completes exceptionally when the stream fails.
+     */
+    @NotNull CompletableFuture<Void> streamData(@NotNull Flow.Publisher<T> publisher, @Nullable DataStreamerOptions options);
+}
@@ -31,7 +31,7 @@ import org.jetbrains.annotations.Nullable;
  * @param <R> Mapped record type.
  * @see org.apache.ignite.table.mapper.Mapper
  */
-public interface RecordView<R> {
+public interface RecordView<R> extends DataStreamerTarget<R> {
     /**
      * Gets a record with same key columns values as given one from the table.
      *
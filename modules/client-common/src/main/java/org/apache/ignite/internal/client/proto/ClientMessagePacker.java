@@ -25,6 +25,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -484,6 +485,19 @@ public class ClientMessagePacker implements AutoCloseable {
         buf.writeBytes(src, off, len);
     }
 
+    /**
+     * Writes a row encoded as a binary tuple.
+     *
+     * @param tuple Binary tuple bytes, from the current position to the limit.
+     */
+    public void packBinaryTuple(ByteBuffer tuple) {
+        assert !closed : "Packer is closed";
+
+        packExtensionTypeHeader(ClientMsgPackType.BINARY_TUPLE, tuple.remaining());
+
+        buf.writeBytes(tuple.duplicate());
+    }
+
     /**
      * Writes a UUID.
      *
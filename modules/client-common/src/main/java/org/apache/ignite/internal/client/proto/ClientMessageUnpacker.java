@@ -610,6 +610,69 @@ public class ClientMessageUnpacker implements AutoCloseable {
         return false;
     }
 
+    /**
+     * Tries to read a row encoded as a binary tuple.
+     *
+     * @return Binary tuple bytes, or {@code null} when the next value is not a binary tuple.
+     */
+    public byte[] tryUnpackBinaryTuple() {
+        assert refCnt > 0 : "Unpacker is closed";
+
+        int idx = buf.readerIndex();
+        byte code = buf.getByte(idx);
+
+        int len;
+        int typeIdx = idx + 1;
+
+        switch (code) {
+            case Code.FIXEXT1:
+                len = 1;
+                break;
+
+            case Code.FIXEXT2:
+                len = 2;
+                break;
+
+            case Code.FIXEXT4:
+                len = 4;
+                break;
+
+            case Code.FIXEXT8:
+                len = 8;
+                break;
+
+            case Code.FIXEXT16:
+                len = 16;
+                break;
+
+            case Code.EXT8:
+                len = buf.getUnsignedByte(idx + 1);
+                typeIdx = idx + 2;
+                break;
+
+            case Code.EXT16:
+                len = buf.getUnsignedShort(idx + 1);
+                typeIdx = idx + 3;
+                break;
+
+            case Code.EXT32:
+                len = buf.getInt(idx + 1);
+                typeIdx = idx + 5;
+                break;
+
+            default:
+                return null;
+        }
+
+        if (buf.getByte(typeIdx) != ClientMsgPackType.BINARY_TUPLE) {
+            return null;
+        }
+
+        buf.readerIndex(typeIdx + 1);
+
+        return readPayload(len);
+    }
+
     /**
      * Reads a payload.
      *
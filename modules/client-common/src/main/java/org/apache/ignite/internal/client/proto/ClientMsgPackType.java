@@ -47,4 +47,7 @@ public class ClientMsgPackType {
 
     /** Absent value for a column. */
     public static final byte NO_VALUE = 10;
+
+    /** Whole row (or key) encoded as a binary tuple for the schema version of the request. */
+    public static final byte BINARY_TUPLE = 11;
 }
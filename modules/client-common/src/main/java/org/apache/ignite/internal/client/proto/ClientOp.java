@@ -137,4 +137,7 @@ public class ClientOp {
 
     /** Close cursor. */
     public static final int SQL_CURSOR_CLOSE = 52;
+
+    /** Send a batch of streamed rows. */
+    public static final int STREAMER_BATCH_SEND = 53;
 }
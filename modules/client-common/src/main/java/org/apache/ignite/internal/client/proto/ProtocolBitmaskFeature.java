@@ -15,7 +15,7 @@
  * limitations under the License.
  */
 
-package org.apache.ignite.internal.client;
+package org.apache.ignite.internal.client.proto;
 
 import java.util.BitSet;
 import java.util.Collection;
@@ -26,7 +26,10 @@ import java.util.EnumSet;
  */
 public enum ProtocolBitmaskFeature {
     /** Feature for user attributes. */
-    USER_ATTRIBUTES(0);
+    USER_ATTRIBUTES(0),
+
+    /** Feature for rows and keys sent as binary tuples ({@link ClientMsgPackType#BINARY_TUPLE}) instead of per-column values. */
+    BINARY_TUPLE_ROWS(1);
 
     private static final EnumSet<ProtocolBitmaskFeature> ALL_FEATURES_AS_ENUM_SET =
             EnumSet.allOf(ProtocolBitmaskFeature.class);
@@ -82,7 +85,7 @@ public enum ProtocolBitmaskFeature {
      * @param features Feature set.
      * @return Byte array representing all supported features.
      */
-    static byte[] featuresAsBytes(Collection<ProtocolBitmaskFeature> features) {
+    public static byte[] featuresAsBytes(Collection<ProtocolBitmaskFeature> features) {
         final BitSet set = new BitSet();
 
         for (ProtocolBitmaskFeature f : features) {
@@ -21,12 +21,14 @@ import static org.apache.ignite.internal.testframework.IgniteTestUtils.randomByt
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -107,6 +109,36 @@ public class ClientMessagePackerUnpackerTest {
         }
     }
 
+    @Test
+    public void testBinaryTuple() {
+        // Sizes cover fixext, ext8, ext16 and ext32 headers.
+        for (int size : new int[]{1, 2, 3, 4, 8, 16, 100, 1000, 70_000}) {
+            testBinaryTuple(randomBytes(rnd, size));
+        }
+    }
+
+    private void testBinaryTuple(byte[] tuple) {
+        try (var packer = new ClientMessagePacker(PooledByteBufAllocator.DEFAULT.directBuffer())) {
+            packer.packBinaryTuple(ByteBuffer.wrap(tuple));
+            packer.packUuid(new UUID(0, 0));
+
+            var buf = packer.getBuffer();
+            //noinspection unused
+            var len = buf.readInt();
+
+            byte[] data = new byte[buf.readableBytes()];
+            buf.readBytes(data);
+
+            try (var unpacker = new ClientMessageUnpacker(Unpooled.wrappedBuffer(data))) {
+                assertArrayEquals(tuple, unpacker.tryUnpackBinaryTuple());
+
+                // Other extension types are left untouched.
+                assertNull(unpacker.tryUnpackBinaryTuple());
+                assertEquals(new UUID(0, 0), unpacker.unpackUuid());
+            }
+        }
+    }
+
     @Test
     public void testNumber() {
         testNumber(BigInteger.ZERO);
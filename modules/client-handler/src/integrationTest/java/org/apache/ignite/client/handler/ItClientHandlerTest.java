@@ -33,11 +33,13 @@ import static org.mockito.Mockito.mock;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Socket;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import org.apache.ignite.compute.IgniteCompute;
 import org.apache.ignite.configuration.schemas.clientconnector.ClientConnectorConfiguration;
 import org.apache.ignite.configuration.schemas.network.NetworkConfiguration;
+import org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature;
 import org.apache.ignite.internal.configuration.ConfigurationManager;
 import org.apache.ignite.internal.configuration.storage.TestConfigurationStorage;
 import org.apache.ignite.internal.sql.engine.QueryProcessor;
@@ -135,19 +137,20 @@ public class ItClientHandlerTest {
             final var nodeName = unpacker.unpackString();
 
             var featuresLen = unpacker.unpackBinaryHeader();
-            unpacker.skipValue(featuresLen);
+            var features = ProtocolBitmaskFeature.enumSet(unpacker.readPayload(featuresLen));
 
             var extensionsLen = unpacker.unpackMapHeader();
             unpacker.skipValue(extensionsLen);
 
             assertArrayEquals(MAGIC, magic);
-            assertEquals(26, len);
+            assertEquals(27, len);
             assertEquals(3, major);
             assertEquals(0, minor);
             assertEquals(0, patch);
             assertEquals(0, idleTimeout);
             assertEquals("id", nodeId);
             assertEquals("consistent-id", nodeName);
+            assertEquals(EnumSet.of(ProtocolBitmaskFeature.BINARY_TUPLE_ROWS), features);
         }
     }
 
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.client.handler;
 
+import static org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature.BINARY_TUPLE_ROWS;
 import static org.apache.ignite.lang.ErrorGroups.Client.PROTOCOL_COMPATIBILITY_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Client.PROTOCOL_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Common.UNKNOWN_ERR;
@@ -27,6 +28,7 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import java.util.BitSet;
+import java.util.EnumSet;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.client.handler.requests.cluster.ClientClusterGetNodesRequest;
@@ -47,6 +49,7 @@ import org.apache.ignite.client.handler.requests.sql.ClientSqlCursorCloseRequest
 import org.apache.ignite.client.handler.requests.sql.ClientSqlCursorNextPageRequest;
 import org.apache.ignite.client.handler.requests.sql.ClientSqlExecuteRequest;
 import org.apache.ignite.client.handler.requests.table.ClientSchemasGetRequest;
+import org.apache.ignite.client.handler.requests.table.ClientStreamerBatchSendRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTableGetRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTablesGetRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTupleContainsKeyRequest;
@@ -74,6 +77,7 @@ import org.apache.ignite.internal.client.proto.ClientMessageCommon;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
+import org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature;
 import org.apache.ignite.internal.client.proto.ProtocolVersion;
 import org.apache.ignite.internal.client.proto.ServerMessageType;
 import org.apache.ignite.internal.jdbc.proto.JdbcQueryCursorHandler;
@@ -98,6 +102,9 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
     /** The logger. */
     private static final IgniteLogger LOG = Loggers.forClass(ClientInboundMessageHandler.class);
 
+    /** Features supported by the server. */
+    private static final byte[] SERVER_FEATURES = ProtocolBitmaskFeature.featuresAsBytes(EnumSet.of(BINARY_TUPLE_ROWS));
+
     /** Ignite tables API. */
     private final IgniteTables igniteTables;
 
@@ -220,7 +227,8 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
             packer.packString(localMember.id());
             packer.packString(localMember.name());
 
-            packer.packBinaryHeader(0); // Features.
+            packer.packBinaryHeader(SERVER_FEATURES.length); // Features.
+            packer.writePayload(SERVER_FEATURES);
             packer.packMapHeader(0); // Extensions.
 
             write(packer, ctx);
@@ -469,6 +477,9 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
             case ClientOp.SQL_CURSOR_CLOSE:
                 return ClientSqlCursorCloseRequest.process(in, resources);
 
+            case ClientOp.STREAMER_BATCH_SEND:
+                return ClientStreamerBatchSendRequest.process(in, igniteTables, resources);
+
             default:
                 throw new IgniteException(PROTOCOL_ERR, "Unexpected operation code: " + opCode);
         }
@@ -32,17 +32,22 @@ import java.util.BitSet;
 import java.util.Collection;
 import java.util.UUID;
 import org.apache.ignite.client.handler.ClientResourceRegistry;
+import org.apache.ignite.internal.binarytuple.BinaryTupleFormatException;
 import org.apache.ignite.internal.client.proto.ClientDataType;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.TuplePart;
+import org.apache.ignite.internal.schema.BinaryConverter;
 import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.NativeTypeSpec;
 import org.apache.ignite.internal.schema.SchemaAware;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.VarlenNativeType;
+import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
 import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.TableRow;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.NodeStoppingException;
@@ -314,6 +319,12 @@ public class ClientTableCommon {
             boolean keyOnly,
             SchemaDescriptor schema
     ) {
+        byte[] binaryTuple = unpacker.tryUnpackBinaryTuple();
+
+        if (binaryTuple != null) {
+            return readBinaryTuple(binaryTuple, keyOnly, schema);
+        }
+
         var cnt = keyOnly ? schema.keyColumns().length() : schema.length();
 
         var tuple = Tuple.create(cnt);
@@ -329,6 +340,39 @@ public class ClientTableCommon {
         return tuple;
     }
 
+    /**
+     * Converts a row, which the client has already encoded as a binary tuple, to a row-backed tuple. Such a tuple is passed to the
+     * table as is: only string and byte array lengths are checked here, other column constraints are checked by the row assembler.
+     *
+     * @param bytes   Binary tuple bytes.
+     * @param keyOnly Whether only key fields are expected.
+     * @param schema  Tuple schema.
+     * @return Tuple.
+     */
+    private static Tuple readBinaryTuple(byte[] bytes, boolean keyOnly, SchemaDescriptor schema) {
+        BinaryConverter converter = keyOnly ? BinaryConverter.forKey(schema) : BinaryConverter.forRow(schema);
+
+        Row row;
+
+        try {
+            row = new Row(schema, converter.fromTuple(bytes));
+        } catch (BinaryTupleFormatException e) {
+            throw new IgniteException(PROTOCOL_ERR, "Incorrect binary tuple: " + e.getMessage(), e);
+        }
+
+        var cnt = keyOnly ? schema.keyColumns().length() : schema.length();
+
+        for (int i = 0; i < cnt; i++) {
+            Column col = schema.column(i);
+
+            if (col.type() instanceof VarlenNativeType) {
+                col.validate(row.value(i));
+            }
+        }
+
+        return TableRow.tuple(row);
+    }
+
     /**
      * Reads multiple tuples.
      *
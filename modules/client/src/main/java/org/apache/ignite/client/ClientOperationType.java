@@ -131,5 +131,10 @@ public enum ClientOperationType {
     /**
      * SQL Cursor Next Page ({@link AsyncResultSet#fetchNextPage()}).
      */
-    SQL_CURSOR_NEXT_PAGE
+    SQL_CURSOR_NEXT_PAGE,
+
+    /**
+     * Send a batch of streamed rows ({@link org.apache.ignite.table.DataStreamerTarget#streamData}).
+     */
+    STREAMER_BATCH_SEND
 }
@@ -19,7 +19,7 @@ package org.apache.ignite.client;
 
 import static org.apache.ignite.lang.ErrorGroups.Client.PROTOCOL_COMPATIBILITY_ERR;
 
-import org.apache.ignite.internal.client.ProtocolBitmaskFeature;
+import org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature;
 import org.apache.ignite.lang.IgniteException;
 
 /**
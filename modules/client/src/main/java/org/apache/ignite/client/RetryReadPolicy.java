@@ -18,7 +18,8 @@
 package org.apache.ignite.client;
 
 /**
- * Retry policy that returns true for all read-only operations that do not modify data.
+ * Retry policy that returns true for all read-only operations that do not modify data, and for data streamer batches, which can
+ * be safely resent.
  */
 public class RetryReadPolicy extends RetryLimitPolicy {
     /** {@inheritDoc} */
@@ -34,6 +35,7 @@ public class RetryReadPolicy extends RetryLimitPolicy {
             case TUPLE_GET_ALL:
             case TUPLE_GET:
             case TABLE_GET:
+            case STREAMER_BATCH_SEND: // Streamed rows are upserted idempotently.
                 return true;
 
             case TUPLE_UPSERT:
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.table;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
+import org.apache.ignite.internal.streamer.StreamerBatchSender;
+import org.apache.ignite.internal.streamer.StreamerSubscriber;
+import org.apache.ignite.table.DataStreamerOptions;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Client data streamer.
+ */
+class ClientDataStreamer {
+    /**
+     * Streams items to the server.
+     *
+     * <p>The client is not aware of the partitions yet, so all the items go to a single buffer, and the in-flight limit applies to the
+     * connection rather than to a partition. The server splits every batch by partitions.
+     *
+     * @param publisher Producer of the items.
+     * @param options Options, or {@code null} to use the defaults.
+     * @param batchSender Batch sender.
+     * @param <T> Item type.
+     * @return Future that completes when all the items are written.
+     */
+    static <T> CompletableFuture<Void> streamData(
+            Publisher<T> publisher,
+            @Nullable DataStreamerOptions options,
+            StreamerBatchSender<T, Integer> batchSender
+    ) {
+        DataStreamerOptions opts = options == null ? new DataStreamerOptions() : options;
+
+        var subscriber = new StreamerSubscriber<T, T, Integer>(
+                Function.identity(),
+                item -> 0,
+                batchSender,
+                1,
+                opts.batchSize(),
+                opts.perPartitionParallelOperations(),
+                opts.autoFlushFrequency()
+        );
+
+        publisher.subscribe(subscriber);
+
+        return subscriber.completionFuture();
+    }
+}
@@ -25,9 +25,11 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.proto.TuplePart;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.mapper.Mapper;
@@ -125,6 +127,17 @@ public class ClientRecordView<R> implements RecordView<R> {
                 r -> null);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull CompletableFuture<Void> streamData(@NotNull Publisher<R> publisher, @Nullable DataStreamerOptions options) {
+        Objects.requireNonNull(publisher);
+
+        return ClientDataStreamer.streamData(publisher, options, (partition, batch) -> tbl.doSchemaOutOpAsync(
+                ClientOp.STREAMER_BATCH_SEND,
+                (s, w) -> ser.writeRecs(null, batch, s, w, TuplePart.KEY_AND_VAL),
+                r -> null));
+    }
+
     /** {@inheritDoc} */
     @Override
     public R getAndUpsert(@Nullable Transaction tx, @NotNull R rec) {
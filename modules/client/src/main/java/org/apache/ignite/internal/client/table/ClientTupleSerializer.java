@@ -20,13 +20,23 @@ package org.apache.ignite.internal.client.table;
 import static org.apache.ignite.internal.client.proto.ClientMessageCommon.NO_VALUE;
 import static org.apache.ignite.internal.client.table.ClientTable.writeTx;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
 import org.apache.ignite.internal.client.PayloadOutputChannel;
+import org.apache.ignite.internal.client.proto.ClientDataType;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.table.Tuple;
 import org.apache.ignite.tx.Transaction;
@@ -120,14 +130,15 @@ public class ClientTupleSerializer {
     public static void writeTupleRaw(@NotNull Tuple tuple, ClientSchema schema, PayloadOutputChannel out, boolean keyOnly) {
         var columns = schema.columns();
         var count = keyOnly ? schema.keyColumnCount() : columns.length;
+        var vals = new Object[count];
 
         for (var i = 0; i < count; i++) {
             var col = columns[i];
 
-            Object v = tuple.valueOrDefault(col.name(), NO_VALUE);
-
-            out.out().packObject(v);
+            vals[i] = tuple.valueOrDefault(col.name(), NO_VALUE);
         }
+
+        writeValues(vals, columns, out);
     }
 
     /**
@@ -154,20 +165,218 @@ public class ClientTupleSerializer {
         }
 
         var columns = schema.columns();
+        var vals = new Object[columns.length];
 
         for (var i = 0; i < columns.length; i++) {
             var col = columns[i];
 
-            Object v = col.key()
+            vals[i] = col.key()
                     ? key.valueOrDefault(col.name(), NO_VALUE)
                     : val != null
                             ? val.valueOrDefault(col.name(), NO_VALUE)
                             : NO_VALUE;
+        }
+
+        writeValues(vals, columns, out);
+    }
 
+    /**
+     * Writes column values: as a single binary tuple when the server accepts those, and the values can be encoded without server-side
+     * defaults or type conversions; per column otherwise.
+     *
+     * @param vals Values of the first {@code vals.length} columns.
+     * @param columns Schema columns.
+     * @param out Out.
+     */
+    private static void writeValues(Object[] vals, ClientColumn[] columns, PayloadOutputChannel out) {
+        if (out.clientChannel().protocolContext().isFeatureSupported(ProtocolBitmaskFeature.BINARY_TUPLE_ROWS)) {
+            ByteBuffer binaryTuple = buildBinaryTuple(vals, columns);
+
+            if (binaryTuple != null) {
+                out.out().packBinaryTuple(binaryTuple);
+
+                return;
+            }
+        }
+
+        for (Object v : vals) {
             out.out().packObject(v);
         }
     }
 
+    /**
+     * Encodes column values as a binary tuple.
+     *
+     * @param vals Values of the first {@code vals.length} columns.
+     * @param columns Schema columns.
+     * @return Binary tuple or {@code null} if some value is missing, does not match the column type exactly, or belongs to a decimal
+     *         column: the scale of the latter is not known to the client.
+     */
+    static @Nullable ByteBuffer buildBinaryTuple(Object[] vals, ClientColumn[] columns) {
+        boolean hasNulls = false;
+        int estimatedValueSize = 0;
+
+        for (int i = 0; i < vals.length; i++) {
+            Object v = vals[i];
+
+            if (v == null) {
+                if (!columns[i].nullable()) {
+                    return null;
+                }
+
+                hasNulls = true;
+
+                continue;
+            }
+
+            int size = estimatedSize(columns[i].type(), v);
+
+            if (size < 0) {
+                return null;
+            }
+
+            estimatedValueSize += size;
+        }
+
+        BinaryTupleBuilder builder = BinaryTupleBuilder.create(vals.length, hasNulls, estimatedValueSize);
+
+        for (int i = 0; i < vals.length; i++) {
+            Object v = vals[i];
+
+            if (v == null) {
+                builder.appendNull();
+
+                continue;
+            }
+
+            switch (columns[i].type()) {
+                case ClientDataType.INT8:
+                    builder.appendByte((byte) v);
+                    break;
+
+                case ClientDataType.INT16:
+                    builder.appendShort((short) v);
+                    break;
+
+                case ClientDataType.INT32:
+                    builder.appendInt((int) v);
+                    break;
+
+                case ClientDataType.INT64:
+                    builder.appendLong((long) v);
+                    break;
+
+                case ClientDataType.FLOAT:
+                    builder.appendFloat((float) v);
+                    break;
+
+                case ClientDataType.DOUBLE:
+                    builder.appendDouble((double) v);
+                    break;
+
+                case ClientDataType.UUID:
+                    builder.appendUuidNotNull((UUID) v);
+                    break;
+
+                case ClientDataType.STRING:
+                    builder.appendStringNotNull((String) v);
+                    break;
+
+                case ClientDataType.BYTES:
+                    builder.appendBytesNotNull((byte[]) v);
+                    break;
+
+                case ClientDataType.BITMASK:
+                    builder.appendBitmaskNotNull((BitSet) v);
+                    break;
+
+                case ClientDataType.DATE:
+                    builder.appendDateNotNull((LocalDate) v);
+                    break;
+
+                case ClientDataType.TIME:
+                    builder.appendTimeNotNull((LocalTime) v);
+                    break;
+
+                case ClientDataType.DATETIME:
+                    builder.appendDateTimeNotNull((LocalDateTime) v);
+                    break;
+
+                case ClientDataType.TIMESTAMP:
+                    builder.appendTimestampNotNull((Instant) v);
+                    break;
+
+                case ClientDataType.NUMBER:
+                    builder.appendNumberNotNull((BigInteger) v);
+                    break;
+
+                default:
+                    throw new IllegalStateException("Unexpected column type: " + columns[i].type());
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Estimates the encoded size of a non-null value.
+     *
+     * @param type Column type, see {@link ClientDataType}.
+     * @param v Value.
+     * @return Estimated size in bytes or {@code -1} if the value can't be encoded as is.
+     */
+    private static int estimatedSize(int type, Object v) {
+        switch (type) {
+            case ClientDataType.INT8:
+                return v instanceof Byte ? 1 : -1;
+
+            case ClientDataType.INT16:
+                return v instanceof Short ? 2 : -1;
+
+            case ClientDataType.INT32:
+                return v instanceof Integer ? 4 : -1;
+
+            case ClientDataType.INT64:
+                return v instanceof Long ? 8 : -1;
+
+            case ClientDataType.FLOAT:
+                return v instanceof Float ? 4 : -1;
+
+            case ClientDataType.DOUBLE:
+                return v instanceof Double ? 8 : -1;
+
+            case ClientDataType.UUID:
+                return v instanceof UUID ? 16 : -1;
+
+            case ClientDataType.STRING:
+                return v instanceof String ? ((String) v).length() : -1;
+
+            case ClientDataType.BYTES:
+                return v instanceof byte[] ? ((byte[]) v).length : -1;
+
+            case ClientDataType.BITMASK:
+                return v instanceof BitSet ? ((BitSet) v).length() / 8 + 1 : -1;
+
+            case ClientDataType.DATE:
+                return v instanceof LocalDate ? 3 : -1;
+
+            case ClientDataType.TIME:
+                return v instanceof LocalTime ? 6 : -1;
+
+            case ClientDataType.DATETIME:
+                return v instanceof LocalDateTime ? 9 : -1;
+
+            case ClientDataType.TIMESTAMP:
+                return v instanceof Instant ? 12 : -1;
+
+            case ClientDataType.NUMBER:
+                return v instanceof BigInteger ? ((BigInteger) v).bitLength() / 8 + 1 : -1;
+
+            default:
+                return -1;
+        }
+    }
+
     /**
      * Writes pairs {@link Tuple}.
      *
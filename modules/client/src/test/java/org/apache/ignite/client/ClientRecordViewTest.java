@@ -34,7 +34,11 @@ import java.time.temporal.ChronoUnit;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Table;
@@ -292,6 +296,27 @@ public class ClientRecordViewTest extends AbstractClientTableTest {
         assertEquals("101", pojoView.get(null, new PersonPojo(101L)).name);
     }
 
+    @Test
+    public void testStreamData() throws Exception {
+        RecordView<PersonPojo> pojoView = defaultTable().recordView(Mapper.of(PersonPojo.class));
+
+        CompletableFuture<Void> streamFut;
+
+        try (var publisher = new SubmissionPublisher<PersonPojo>()) {
+            streamFut = pojoView.streamData(publisher, new DataStreamerOptions().batchSize(2));
+
+            for (long i = 0; i < 5; i++) {
+                publisher.submit(new PersonPojo(i, "name" + i));
+            }
+        }
+
+        streamFut.get(10, TimeUnit.SECONDS);
+
+        for (long i = 0; i < 5; i++) {
+            assertEquals("name" + i, pojoView.get(null, new PersonPojo(i)).name);
+        }
+    }
+
     @Test
     public void testGetAndUpsert() {
         RecordView<PersonPojo> pojoView = defaultTable().recordView(Mapper.of(PersonPojo.class));
@@ -20,6 +20,8 @@ package org.apache.ignite.client;
 import static org.apache.ignite.lang.ErrorGroups.Client.TABLE_ID_NOT_FOUND_ERR;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -27,8 +29,14 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.UUID;
 import org.apache.ignite.client.fakes.FakeSchemaRegistry;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.table.RecordView;
@@ -102,6 +110,67 @@ public class ClientTableTest extends AbstractClientTableTest {
         assertTupleEquals(tuple, resTuple);
     }
 
+    @Test
+    public void testAllColumnsUpsertGetAsBinaryTuple() {
+        var table = fullTable().recordView();
+
+        // Every value matches its column type and the decimal column is NULL, so the row is sent as a binary tuple.
+        var tuple = Tuple.create()
+                .set("gid", 1)
+                .set("id", "1")
+                .set("zbyte", (byte) 11)
+                .set("zshort", (short) 12)
+                .set("zint", 13)
+                .set("zlong", 14L)
+                .set("zfloat", 1.5f)
+                .set("zdouble", 1.6)
+                .set("zdate", LocalDate.of(2022, 8, 1))
+                .set("ztime", LocalTime.of(12, 34, 56))
+                .set("ztimestamp", Instant.ofEpochSecond(1659357296))
+                .set("zstring", "foo")
+                .set("zbytes", new byte[]{1, 2})
+                .set("zuuid", UUID.randomUUID())
+                .set("zbitmask", BitSet.valueOf(new byte[]{32}))
+                .set("zdecimal", null)
+                .set("znumber", BigInteger.valueOf(22));
+
+        table.upsert(null, tuple);
+
+        var resTuple = table.get(null, Tuple.create().set("gid", 1).set("id", "1"));
+
+        assertEquals(tuple.columnCount(), resTuple.columnCount());
+
+        for (int i = 0; i < tuple.columnCount(); i++) {
+            String col = tuple.columnName(i);
+
+            if (col.equalsIgnoreCase("zbytes")) {
+                assertArrayEquals((byte[]) tuple.value(col), (byte[]) resTuple.value(col));
+            } else {
+                assertEquals((Object) tuple.value(col), resTuple.value(col), col);
+            }
+        }
+    }
+
+    @Test
+    public void testBinaryTupleValueViolatingColumnConstraintThrowsException() {
+        var table = fullTable().recordView();
+
+        var tuple = Tuple.create()
+                .set("gid", 1)
+                .set("id", "1")
+                .set("znumber", BigInteger.TEN.pow(30));
+
+        for (String col : new String[]{"zbyte", "zshort", "zint", "zlong", "zfloat", "zdouble", "zdate", "ztime", "ztimestamp",
+                "zstring", "zbytes", "zuuid", "zbitmask", "zdecimal"}) {
+            tuple.set(col, null);
+        }
+
+        var ex = assertThrows(IgniteException.class, () -> table.upsert(null, tuple));
+
+        assertThat(ex.getMessage(), containsString("max precision exceeds allocated precision"));
+        assertThat(ex.getMessage(), not(containsString("Incorrect binary tuple")));
+    }
+
     @Test
     public void testGetReturningTupleWithUnknownSchemaRequestsNewSchema() throws Exception {
         FakeSchemaRegistry.setLastVer(2);
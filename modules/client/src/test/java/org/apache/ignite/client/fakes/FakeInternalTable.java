@@ -31,6 +31,7 @@ import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.raft.client.service.RaftGroupService;
@@ -107,6 +108,18 @@ public class FakeInternalTable implements InternalTable {
         return CompletableFuture.completedFuture(res);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<BinaryRow> readOnlyGet(BinaryRowEx keyRow, Timestamp readTimestamp) {
+        return get(keyRow, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Collection<BinaryRow>> readOnlyGetAll(Collection<BinaryRowEx> keyRows, Timestamp readTimestamp) {
+        return getAll(keyRows, null);
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> upsert(BinaryRowEx row, @Nullable InternalTransaction tx) {
@@ -125,6 +138,12 @@ public class FakeInternalTable implements InternalTable {
         return CompletableFuture.completedFuture(null);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> upsertAllDirect(Collection<BinaryRowEx> rows) {
+        return upsertAll(rows, null);
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<BinaryRow> getAndUpsert(BinaryRowEx row,
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.table;
+
+import static org.apache.ignite.internal.client.proto.ClientMessageCommon.NO_VALUE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.internal.client.proto.ClientDataType;
+import org.apache.ignite.internal.schema.BinaryConverter;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypeSpec;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.row.Row;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests binary tuple encoding of rows in {@link ClientTupleSerializer}.
+ */
+public class ClientTupleSerializerTest {
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(
+            1,
+            new Column[]{
+                    new Column("KEY", NativeTypes.INT64, false),
+            },
+            new Column[]{
+                    new Column("ZBYTE", NativeTypes.INT8, true),
+                    new Column("ZSHORT", NativeTypes.INT16, true),
+                    new Column("ZINT", NativeTypes.INT32, true),
+                    new Column("ZFLOAT", NativeTypes.FLOAT, true),
+                    new Column("ZDOUBLE", NativeTypes.DOUBLE, true),
+                    new Column("ZUUID", NativeTypes.UUID, true),
+                    new Column("ZSTRING", NativeTypes.STRING, true),
+                    new Column("ZBYTES", NativeTypes.BYTES, true),
+                    new Column("ZBITMASK", NativeTypes.bitmaskOf(16), true),
+                    new Column("ZDATE", NativeTypes.DATE, true),
+                    new Column("ZTIME", NativeTypes.time(), true),
+                    new Column("ZDATETIME", NativeTypes.datetime(), true),
+                    new Column("ZTIMESTAMP", NativeTypes.timestamp(), true),
+                    new Column("ZNUMBER", NativeTypes.numberOf(24), true),
+                    new Column("ZDECIMAL", NativeTypes.decimalOf(20, 3), true),
+            });
+
+    /** Client view of {@link #SCHEMA}, the columns are in the same order as the server sends them. */
+    private static final ClientColumn[] COLUMNS = clientColumns(SCHEMA);
+
+    @Test
+    public void testBinaryTupleIsReadByServer() {
+        Map<String, Object> vals = new HashMap<>();
+
+        vals.put("KEY", 1L);
+        vals.put("ZBYTE", (byte) 2);
+        vals.put("ZSHORT", (short) 3);
+        vals.put("ZINT", 4);
+        vals.put("ZFLOAT", 5.5f);
+        vals.put("ZDOUBLE", 6.6);
+        vals.put("ZUUID", UUID.randomUUID());
+        vals.put("ZSTRING", "str");
+        vals.put("ZBYTES", new byte[]{1, 2, 3});
+        vals.put("ZBITMASK", BitSet.valueOf(new byte[]{8}));
+        vals.put("ZDATE", LocalDate.of(2022, 8, 1));
+        vals.put("ZTIME", LocalTime.of(12, 34, 56));
+        vals.put("ZDATETIME", LocalDateTime.of(2022, 8, 1, 12, 34, 56));
+        vals.put("ZTIMESTAMP", Instant.ofEpochSecond(1659357296));
+        vals.put("ZNUMBER", BigInteger.valueOf(Long.MAX_VALUE));
+        vals.put("ZDECIMAL", null);
+
+        Object[] row = new Object[COLUMNS.length];
+
+        for (int i = 0; i < COLUMNS.length; i++) {
+            row[i] = vals.get(COLUMNS[i].name());
+        }
+
+        ByteBuffer tuple = ClientTupleSerializer.buildBinaryTuple(row, COLUMNS);
+
+        assertNotNull(tuple);
+
+        Row serverRow = new Row(SCHEMA, BinaryConverter.forRow(SCHEMA).fromTuple(tuple));
+
+        for (int i = 0; i < COLUMNS.length; i++) {
+            Object expected = vals.get(SCHEMA.column(i).name());
+
+            if (expected instanceof byte[]) {
+                assertArrayEquals((byte[]) expected, (byte[]) serverRow.value(i));
+            } else {
+                assertEquals(expected, serverRow.value(i), SCHEMA.column(i).name());
+            }
+        }
+    }
+
+    @Test
+    public void testKeyBinaryTupleIsReadByServer() {
+        ByteBuffer tuple = ClientTupleSerializer.buildBinaryTuple(new Object[]{42L}, COLUMNS);
+
+        assertNotNull(tuple);
+
+        Row row = new Row(SCHEMA, BinaryConverter.forKey(SCHEMA).fromTuple(tuple));
+
+        assertEquals(42L, row.value(0));
+    }
+
+    @Test
+    public void testValuesRequiringServerSideProcessingAreNotEncoded() {
+        // Missing value: the server applies the column default.
+        assertNull(ClientTupleSerializer.buildBinaryTuple(new Object[]{1L, NO_VALUE}, COLUMNS));
+
+        // NULL for a non-nullable column: the server reports an error.
+        assertNull(ClientTupleSerializer.buildBinaryTuple(new Object[]{null}, COLUMNS));
+
+        // Value of another type: the server converts or rejects it.
+        assertNull(ClientTupleSerializer.buildBinaryTuple(new Object[]{1}, COLUMNS));
+        assertNull(ClientTupleSerializer.buildBinaryTuple(new Object[]{1L, 2}, COLUMNS));
+
+        // Decimal: the column scale is not known to the client.
+        Object[] vals = new Object[COLUMNS.length];
+        vals[0] = 1L;
+        vals[SCHEMA.column("ZDECIMAL").schemaIndex()] = BigDecimal.ONE;
+
+        assertNull(ClientTupleSerializer.buildBinaryTuple(vals, COLUMNS));
+    }
+
+    private static ClientColumn[] clientColumns(SchemaDescriptor schema) {
+        var res = new ClientColumn[schema.length()];
+
+        for (int i = 0; i < res.length; i++) {
+            Column col = schema.column(i);
+
+            res[i] = new ClientColumn(col.name(), clientDataType(col.type().spec()), col.nullable(), schema.isKeyColumn(i), i);
+        }
+
+        return res;
+    }
+
+    private static int clientDataType(NativeTypeSpec spec) {
+        switch (spec) {
+            case INT8:
+                return ClientDataType.INT8;
+            case INT16:
+                return ClientDataType.INT16;
+            case INT32:
+                return ClientDataType.INT32;
+            case INT64:
+                return ClientDataType.INT64;
+            case FLOAT:
+                return ClientDataType.FLOAT;
+            case DOUBLE:
+                return ClientDataType.DOUBLE;
+            case DECIMAL:
+                return ClientDataType.DECIMAL;
+            case NUMBER:
+                return ClientDataType.NUMBER;
+            case UUID:
+                return ClientDataType.UUID;
+            case STRING:
+                return ClientDataType.STRING;
+            case BYTES:
+                return ClientDataType.BYTES;
+            case BITMASK:
+                return ClientDataType.BITMASK;
+            case DATE:
+                return ClientDataType.DATE;
+            case TIME:
+                return ClientDataType.TIME;
+            case DATETIME:
+                return ClientDataType.DATETIME;
+            case TIMESTAMP:
+                return ClientDataType.TIMESTAMP;
+            default:
+                throw new IllegalArgumentException(spec.toString());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binarytuple;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import org.apache.ignite.lang.IgniteInternalException;
+
+/**
+ * Common binary tuple constants and utils.
+ */
+public class BinaryTupleCommon {
+    /** Size of a tuple header, in bytes. */
+    public static final int HEADER_SIZE = 1;
+
+    /** Mask for size of entries in variable-length offset table. */
+    public static final int VARSIZE_MASK = 0b011;
+
+    /** Flag that indicates null map presence. */
+    public static final int NULLMAP_FLAG = 0b100;
+
+    /** Size of a UUID element, in bytes. */
+    public static final int UUID_SIZE = 2 * Long.BYTES;
+
+    /** Default value for UUID elements. */
+    public static final UUID DEFAULT_UUID = new UUID(0, 0);
+
+    /** Default value for Date elements (Jan 1st 1 BC). */
+    public static final LocalDate DEFAULT_DATE = LocalDate.of(0, 1, 1);
+
+    /** Default value for Time elements (00:00:00). */
+    public static final LocalTime DEFAULT_TIME = LocalTime.of(0, 0);
+
+    /** Default value for DateTime elements (Jan 1st 1 BC, 00:00:00). */
+    public static final LocalDateTime DEFAULT_DATE_TIME = LocalDateTime.of(0, 1, 1, 0, 0);
+
+    /** Default value for Timestamp elements. */
+    public static final Instant DEFAULT_TIMESTAMP = Instant.EPOCH;
+
+    /**
+     * Calculate flags for a given size of variable-length area.
+     *
+     * @param size Variable-length area size.
+     * @return Flags value.
+     */
+    public static byte valueSizeToFlags(long size) {
+        if (size <= 0xff) {
+            return 0b00;
+        }
+        if (size <= 0xffff) {
+            return 0b01;
+        }
+        if (size <= Integer.MAX_VALUE) {
+            return 0b10;
+        }
+        throw new IgniteInternalException("Too big binary tuple size");
+    }
+
+    /**
+     * Calculate the size of entry in variable-length offset table for given flags.
+     *
+     * @param flags Flags value.
+     * @return Size of entry in variable-length offset table.
+     */
+    public static int flagsToEntrySize(byte flags) {
+        return 1 << (flags & VARSIZE_MASK);
+    }
+
+    /**
+     * Calculate the null map size.
+     *
+     * @param numElements Number of tuple elements.
+     * @return Null map size in bytes.
+     */
+    public static int nullMapSize(int numElements) {
+        return (numElements + 7) / 8;
+    }
+}
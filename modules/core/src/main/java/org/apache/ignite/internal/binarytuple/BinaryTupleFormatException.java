@@ -15,12 +15,12 @@
  * limitations under the License.
  */
 
-package org.apache.ignite.internal.schema;
+package org.apache.ignite.internal.binarytuple;
 
 import org.apache.ignite.lang.IgniteInternalException;
 
 /**
- * Exception thrown when a binary tuple contains invalid data.
+ * Exception thrown when a binary tuple contains invalid data or can't be built.
  */
 public class BinaryTupleFormatException extends IgniteInternalException {
     /**
@@ -31,4 +31,14 @@ public class BinaryTupleFormatException extends IgniteInternalException {
     public BinaryTupleFormatException(String msg) {
         super(msg);
     }
+
+    /**
+     * Constructor with error message and cause.
+     *
+     * @param msg Message.
+     * @param cause Cause.
+     */
+    public BinaryTupleFormatException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
 }
@@ -15,7 +15,7 @@
  * limitations under the License.
  */
 
-package org.apache.ignite.internal.schema;
+package org.apache.ignite.internal.binarytuple;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -76,13 +76,13 @@ public class BinaryTupleParser {
 
         byte flags = buffer.get(0);
 
-        int base = BinaryTupleSchema.HEADER_SIZE;
-        if ((flags & BinaryTupleSchema.NULLMAP_FLAG) != 0) {
-            base += BinaryTupleSchema.nullMapSize(numElements);
+        int base = BinaryTupleCommon.HEADER_SIZE;
+        if ((flags & BinaryTupleCommon.NULLMAP_FLAG) != 0) {
+            base += BinaryTupleCommon.nullMapSize(numElements);
         }
 
         entryBase = base;
-        entrySize = 1 << (flags & BinaryTupleSchema.VARSIZE_MASK);
+        entrySize = 1 << (flags & BinaryTupleCommon.VARSIZE_MASK);
         valueBase = base + entrySize * numElements;
     }
 
@@ -104,7 +104,7 @@ public class BinaryTupleParser {
      * Check if the binary tuple contains a null map.
      */
     public boolean hasNullMap() {
-        return entryBase > BinaryTupleSchema.HEADER_SIZE;
+        return entryBase > BinaryTupleCommon.HEADER_SIZE;
     }
 
     /**
@@ -130,7 +130,7 @@ public class BinaryTupleParser {
         }
 
         if (offset == nextOffset && hasNullMap()) {
-            int nullIndex = BinaryTupleSchema.HEADER_SIZE + index / 8;
+            int nullIndex = BinaryTupleCommon.HEADER_SIZE + index / 8;
             byte nullMask = (byte) (1 << (index % 8));
             if ((buffer.get(nullIndex) & nullMask) != 0) {
                 sink.nextElement(index, 0, 0);
@@ -157,7 +157,7 @@ public class BinaryTupleParser {
             }
 
             if (offset == nextOffset && hasNullMap()) {
-                int nullIndex = BinaryTupleSchema.HEADER_SIZE + i / 8;
+                int nullIndex = BinaryTupleCommon.HEADER_SIZE + i / 8;
                 byte nullMask = (byte) (1 << (i % 8));
                 if ((buffer.get(nullIndex) & nullMask) != 0) {
                     sink.nextElement(i, 0, 0);
@@ -179,7 +179,7 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final byte byteValue(int begin, int end) {
+    public final byte byteValue(int begin, int end) {
         switch (end - begin) {
             case 0:
                 return 0;
@@ -197,7 +197,7 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final short shortValue(int begin, int end) {
+    public final short shortValue(int begin, int end) {
         switch (end - begin) {
             case 0:
                 return 0;
@@ -217,7 +217,7 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final int intValue(int begin, int end) {
+    public final int intValue(int begin, int end) {
         switch (end - begin) {
             case 0:
                 return 0;
@@ -239,7 +239,7 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final long longValue(int begin, int end) {
+    public final long longValue(int begin, int end) {
         switch (end - begin) {
             case 0:
                 return 0;
@@ -263,7 +263,7 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final float floatValue(int begin, int end) {
+    public final float floatValue(int begin, int end) {
         switch (end - begin) {
             case 0:
                 return 0.0F;
@@ -281,7 +281,7 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final double doubleValue(int begin, int end) {
+    public final double doubleValue(int begin, int end) {
         switch (end - begin) {
             case 0:
                 return 0.0;
@@ -301,7 +301,7 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final BigInteger numberValue(int begin, int end) {
+    public final BigInteger numberValue(int begin, int end) {
         byte[] bytes;
         int len = end - begin;
         if (buffer.hasArray()) {
@@ -321,7 +321,7 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final String stringValue(int begin, int end) {
+    public final String stringValue(int begin, int end) {
         byte[] bytes;
         int len = end - begin;
         if (buffer.hasArray()) {
@@ -341,7 +341,7 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final byte[] bytesValue(int begin, int end) {
+    public final byte[] bytesValue(int begin, int end) {
         byte[] bytes = new byte[end - begin];
         buffer.duplicate().position(begin).limit(end).get(bytes);
         return bytes;
@@ -354,11 +354,11 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final UUID uuidValue(int begin, int end) {
+    public final UUID uuidValue(int begin, int end) {
         int len = end - begin;
-        if (len != NativeTypes.UUID.sizeInBytes()) {
+        if (len != BinaryTupleCommon.UUID_SIZE) {
             if (len == 0) {
-                return BinaryTupleSchema.DEFAULT_UUID;
+                return BinaryTupleCommon.DEFAULT_UUID;
             }
             throw new BinaryTupleFormatException("Invalid length for a tuple element");
         }
@@ -374,7 +374,7 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final BitSet bitmaskValue(int begin, int end) {
+    public final BitSet bitmaskValue(int begin, int end) {
         return BitSet.valueOf(buffer.duplicate().position(begin).limit(end));
     }
 
@@ -385,11 +385,11 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final LocalDate dateValue(int begin, int end) {
+    public final LocalDate dateValue(int begin, int end) {
         int len = end - begin;
         if (len != 3) {
             if (len == 0) {
-                return BinaryTupleSchema.DEFAULT_DATE;
+                return BinaryTupleCommon.DEFAULT_DATE;
             }
             throw new BinaryTupleFormatException("Invalid length for a tuple element");
         }
@@ -403,11 +403,11 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final LocalTime timeValue(int begin, int end) {
+    public final LocalTime timeValue(int begin, int end) {
         int len = end - begin;
         if (len < 4 || len > 6) {
             if (len == 0) {
-                return BinaryTupleSchema.DEFAULT_TIME;
+                return BinaryTupleCommon.DEFAULT_TIME;
             }
             throw new BinaryTupleFormatException("Invalid length for a tuple element");
         }
@@ -421,11 +421,11 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final LocalDateTime dateTimeValue(int begin, int end) {
+    public final LocalDateTime dateTimeValue(int begin, int end) {
         int len = end - begin;
         if (len < 7 || len > 9) {
             if (len == 0) {
-                return BinaryTupleSchema.DEFAULT_DATE_TIME;
+                return BinaryTupleCommon.DEFAULT_DATE_TIME;
             }
             throw new BinaryTupleFormatException("Invalid length for a tuple element");
         }
@@ -439,11 +439,11 @@ public class BinaryTupleParser {
      * @param end End offset of the element.
      * @return Element value.
      */
-    final Instant timestampValue(int begin, int end) {
+    public final Instant timestampValue(int begin, int end) {
         int len = end - begin;
         if (len != 8 && len != 12) {
             if (len == 0) {
-                return BinaryTupleSchema.DEFAULT_TIMESTAMP;
+                return BinaryTupleCommon.DEFAULT_TIMESTAMP;
             }
             throw new BinaryTupleFormatException("Invalid length for a tuple element");
         }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Limits the number of batches in flight over all the data streams that share the limiter.
+ *
+ * <p>A stream that can't get a permit registers a waiter. A released permit is handed over to the first waiter instead of being
+ * returned to the limiter, so a waiter must either use the permit to send a batch or release it again.
+ */
+public class StreamerBatchLimiter {
+    /** Maximum number of batches in flight. */
+    private final int maxInFlightBatches;
+
+    /** Waiters for a permit. */
+    private final Queue<Runnable> waiters = new ArrayDeque<>();
+
+    /** Number of batches in flight. */
+    private int inFlightBatches;
+
+    /**
+     * Constructor.
+     *
+     * @param maxInFlightBatches Maximum number of batches in flight.
+     */
+    public StreamerBatchLimiter(int maxInFlightBatches) {
+        assert maxInFlightBatches > 0 : maxInFlightBatches;
+
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    /**
+     * Acquires a permit to send a batch. If there are no free permits, the waiter is registered and is run once it is handed a permit.
+     *
+     * @param waiter Waiter to run when a permit is handed over to it. Must not block and must not acquire locks, because it is run
+     *      by a thread that releases a permit.
+     * @return {@code true} if the permit is acquired, {@code false} if the waiter is registered.
+     */
+    public synchronized boolean tryAcquire(Runnable waiter) {
+        if (inFlightBatches < maxInFlightBatches) {
+            inFlightBatches++;
+
+            return true;
+        }
+
+        waiters.add(waiter);
+
+        return false;
+    }
+
+    /**
+     * Releases a permit, handing it over to the first waiter if there is one.
+     */
+    public void release() {
+        Runnable waiter;
+
+        synchronized (this) {
+            waiter = waiters.poll();
+
+            if (waiter == null) {
+                inFlightBatches--;
+
+                return;
+            }
+        }
+
+        waiter.run();
+    }
+
+    /**
+     * Returns the number of batches in flight.
+     *
+     * @return Number of batches in flight.
+     */
+    public synchronized int inFlightBatches() {
+        return inFlightBatches;
+    }
+}
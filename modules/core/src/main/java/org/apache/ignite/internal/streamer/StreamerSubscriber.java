@@ -0,0 +1,533 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import static org.apache.ignite.lang.IgniteSystemProperties.IGNITE_DATA_STREAMER_MAX_IN_FLIGHT_BATCHES;
+import static org.apache.ignite.lang.IgniteSystemProperties.getInteger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.lang.IgniteSystemProperties;
+
+/**
+ * Data streamer subscriber.
+ *
+ * <p>Buffers the received items per partition and sends them in batches of the given size. At most the given number of batches is
+ * in flight for a partition at a time, and the batches in flight over all the streams of the process are limited by
+ * {@link IgniteSystemProperties#IGNITE_DATA_STREAMER_MAX_IN_FLIGHT_BATCHES}. Further batches are queued until one of the batches in
+ * flight completes. New items are requested from the publisher only as the sent batches complete, so the number of buffered items
+ * stays bounded. Partially filled batches are sent when the publisher completes, when the publisher is waiting for the batches in
+ * flight, and periodically by the auto flush timer.
+ *
+ * <p>All the streams share a single auto flush timer thread. Batch completions and timer ticks are handled by the given executor, so
+ * neither the threads that complete the batches nor the timer thread send the next batches themselves.
+ *
+ * @param <T> Type of the published items.
+ * @param <E> Type of the items as they are buffered and sent.
+ * @param <P> Partition type.
+ */
+public class StreamerSubscriber<T, E, P> implements Flow.Subscriber<T> {
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(StreamerSubscriber.class);
+
+    /** Default maximum number of batches in flight over all the streams. */
+    private static final int DFLT_MAX_IN_FLIGHT_BATCHES = 256;
+
+    /** Limiter of the batches in flight shared by all the streams. */
+    private static final StreamerBatchLimiter SHARED_LIMITER = new StreamerBatchLimiter(
+            getInteger(IGNITE_DATA_STREAMER_MAX_IN_FLIGHT_BATCHES, DFLT_MAX_IN_FLIGHT_BATCHES));
+
+    /** Auto flush timer shared by all the streams. */
+    private static final ScheduledThreadPoolExecutor FLUSH_TIMER = createFlushTimer();
+
+    /** Converts a published item into the item to buffer. */
+    private final Function<T, E> itemMapper;
+
+    /** Resolves a partition of an item. */
+    private final Function<E, P> partitioner;
+
+    /** Batch sender. */
+    private final StreamerBatchSender<E, P> batchSender;
+
+    /** Batch size. */
+    private final int batchSize;
+
+    /** Number of in-flight batches per partition. */
+    private final int perPartitionParallelOperations;
+
+    /** Auto flush frequency, in milliseconds. */
+    private final int autoFlushFrequency;
+
+    /** Number of items to keep requested, buffered or in flight. */
+    private final long window;
+
+    /** Executor that handles batch completions and auto flush timer ticks. */
+    private final Executor executor;
+
+    /** Limiter of the batches in flight. */
+    private final StreamerBatchLimiter limiter;
+
+    /** Completion future. */
+    private final CompletableFuture<Void> completionFut = new CompletableFuture<>();
+
+    /** Partition states. */
+    private final Map<P, PartitionState<E>> partitions = new HashMap<>();
+
+    /** Subscription. */
+    private Flow.Subscription subscription;
+
+    /** Auto flush task. */
+    private ScheduledFuture<?> flushTask;
+
+    /** Number of items requested from the publisher and not yet received. */
+    private long requestedItems;
+
+    /** Number of items in the sent and queued batches. */
+    private long inFlightItems;
+
+    /** Whether the publisher has completed. */
+    private boolean publisherCompleted;
+
+    /** Whether the stream waits for a permit of the limiter. */
+    private boolean waitingForPermit;
+
+    /**
+     * Constructor. The batch completions are handled by the {@link ForkJoinPool#commonPool() common pool}, the batches in flight are
+     * limited over all the streams of the process.
+     *
+     * @param itemMapper Converts a published item into the item to buffer.
+     * @param partitioner Resolves a partition of an item.
+     * @param batchSender Batch sender.
+     * @param partitionCount Expected number of partitions, used to size the window of requested items.
+     * @param batchSize Batch size.
+     * @param perPartitionParallelOperations Number of in-flight batches per partition.
+     * @param autoFlushFrequency Auto flush frequency, in milliseconds, zero or negative to disable.
+     */
+    public StreamerSubscriber(
+            Function<T, E> itemMapper,
+            Function<E, P> partitioner,
+            StreamerBatchSender<E, P> batchSender,
+            int partitionCount,
+            int batchSize,
+            int perPartitionParallelOperations,
+            int autoFlushFrequency
+    ) {
+        this(
+                itemMapper,
+                partitioner,
+                batchSender,
+                partitionCount,
+                batchSize,
+                perPartitionParallelOperations,
+                autoFlushFrequency,
+                ForkJoinPool.commonPool(),
+                SHARED_LIMITER
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param itemMapper Converts a published item into the item to buffer.
+     * @param partitioner Resolves a partition of an item.
+     * @param batchSender Batch sender.
+     * @param partitionCount Expected number of partitions, used to size the window of requested items.
+     * @param batchSize Batch size.
+     * @param perPartitionParallelOperations Number of in-flight batches per partition.
+     * @param autoFlushFrequency Auto flush frequency, in milliseconds, zero or negative to disable.
+     * @param executor Executor that handles batch completions and auto flush timer ticks.
+     * @param limiter Limiter of the batches in flight.
+     */
+    public StreamerSubscriber(
+            Function<T, E> itemMapper,
+            Function<E, P> partitioner,
+            StreamerBatchSender<E, P> batchSender,
+            int partitionCount,
+            int batchSize,
+            int perPartitionParallelOperations,
+            int autoFlushFrequency,
+            Executor executor,
+            StreamerBatchLimiter limiter
+    ) {
+        assert batchSize > 0 : batchSize;
+        assert perPartitionParallelOperations > 0 : perPartitionParallelOperations;
+
+        this.itemMapper = itemMapper;
+        this.partitioner = partitioner;
+        this.batchSender = batchSender;
+        this.batchSize = batchSize;
+        this.perPartitionParallelOperations = perPartitionParallelOperations;
+        this.autoFlushFrequency = autoFlushFrequency;
+        this.executor = executor;
+        this.limiter = limiter;
+
+        window = (long) batchSize * perPartitionParallelOperations * Math.max(1, partitionCount);
+    }
+
+    /**
+     * Returns a future that completes when all the published items are written, or completes exceptionally when the stream fails.
+     *
+     * @return Completion future.
+     */
+    public CompletableFuture<Void> completionFuture() {
+        return completionFut;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+
+            return;
+        }
+
+        this.subscription = subscription;
+
+        if (autoFlushFrequency > 0) {
+            flushTask = FLUSH_TIMER.scheduleAtFixedRate(
+                    () -> executor.execute(this::autoFlush),
+                    autoFlushFrequency,
+                    autoFlushFrequency,
+                    TimeUnit.MILLISECONDS
+            );
+        }
+
+        request(window);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void onNext(T item) {
+        if (completionFut.isDone()) {
+            return;
+        }
+
+        requestedItems--;
+
+        E mapped;
+        P partition;
+
+        try {
+            mapped = itemMapper.apply(item);
+            partition = partitioner.apply(mapped);
+        } catch (Throwable e) {
+            fail(e);
+
+            return;
+        }
+
+        PartitionState<E> state = partitions.computeIfAbsent(partition, p -> new PartitionState<>(batchSize));
+
+        state.buffer.add(mapped);
+
+        if (state.buffer.size() >= batchSize) {
+            flush(partition, state);
+        }
+
+        // The publisher waits for the demand, and the demand is only renewed when a batch completes.
+        if (requestedItems == 0 && inFlightItems == 0) {
+            flushAll();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void onError(Throwable throwable) {
+        fail(throwable);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void onComplete() {
+        publisherCompleted = true;
+
+        stopFlushTimer();
+
+        flushAll();
+
+        completeIfDone();
+    }
+
+    /**
+     * Sends partially filled batches of the partitions nothing was sent to within the auto flush period.
+     */
+    private synchronized void autoFlush() {
+        if (completionFut.isDone()) {
+            return;
+        }
+
+        long threshold = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(autoFlushFrequency);
+
+        try {
+            for (Map.Entry<P, PartitionState<E>> e : partitions.entrySet()) {
+                PartitionState<E> state = e.getValue();
+
+                if (!state.buffer.isEmpty() && state.lastFlushNanos - threshold <= 0) {
+                    flush(e.getKey(), state);
+                }
+            }
+        } catch (Throwable e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Sends partially filled batches of all the partitions.
+     */
+    private void flushAll() {
+        for (Map.Entry<P, PartitionState<E>> e : partitions.entrySet()) {
+            if (!e.getValue().buffer.isEmpty()) {
+                flush(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    /**
+     * Sends the buffered items of a partition, or queues them if there are too many batches in flight.
+     *
+     * @param partition Partition.
+     * @param state Partition state.
+     */
+    private void flush(P partition, PartitionState<E> state) {
+        List<E> batch = state.buffer;
+
+        state.buffer = new ArrayList<>(batchSize);
+        state.lastFlushNanos = System.nanoTime();
+
+        inFlightItems += batch.size();
+
+        if (state.queuedBatches.isEmpty() && state.runningBatches < perPartitionParallelOperations && tryAcquirePermit()) {
+            send(partition, state, batch);
+        } else {
+            state.queuedBatches.add(batch);
+        }
+    }
+
+    /**
+     * Sends the queued batches of all the partitions while there are free in-flight slots.
+     */
+    private void sendQueued() {
+        for (Map.Entry<P, PartitionState<E>> e : partitions.entrySet()) {
+            PartitionState<E> state = e.getValue();
+
+            while (!state.queuedBatches.isEmpty() && state.runningBatches < perPartitionParallelOperations) {
+                if (!tryAcquirePermit()) {
+                    return;
+                }
+
+                send(e.getKey(), state, state.queuedBatches.poll());
+            }
+        }
+    }
+
+    /**
+     * Tries to acquire a permit of the limiter. If there are no free permits, the stream waits for a permit to be handed over to it.
+     *
+     * @return {@code true} if the permit is acquired.
+     */
+    private boolean tryAcquirePermit() {
+        if (waitingForPermit) {
+            return false;
+        }
+
+        if (limiter.tryAcquire(() -> executor.execute(this::onPermitGranted))) {
+            return true;
+        }
+
+        waitingForPermit = true;
+
+        return false;
+    }
+
+    /**
+     * Handles a permit handed over by the limiter: sends a queued batch, or releases the permit if there is nothing to send.
+     */
+    private synchronized void onPermitGranted() {
+        waitingForPermit = false;
+
+        if (!completionFut.isDone()) {
+            for (Map.Entry<P, PartitionState<E>> e : partitions.entrySet()) {
+                PartitionState<E> state = e.getValue();
+
+                if (!state.queuedBatches.isEmpty() && state.runningBatches < perPartitionParallelOperations) {
+                    send(e.getKey(), state, state.queuedBatches.poll());
+
+                    sendQueued();
+
+                    return;
+                }
+            }
+        }
+
+        limiter.release();
+    }
+
+    /**
+     * Sends a batch. A permit of the limiter must be acquired for the batch.
+     *
+     * @param partition Partition.
+     * @param state Partition state.
+     * @param batch Batch.
+     */
+    private void send(P partition, PartitionState<E> state, List<E> batch) {
+        state.runningBatches++;
+
+        CompletableFuture<Void> fut;
+
+        try {
+            fut = batchSender.sendAsync(partition, batch);
+        } catch (Throwable e) {
+            fut = CompletableFuture.failedFuture(e);
+        }
+
+        // Completes asynchronously, so the next batches are not sent from the sender's thread or recursively.
+        fut.whenCompleteAsync((res, err) -> onBatchCompleted(state, batch.size(), err), executor);
+    }
+
+    /**
+     * Handles a batch completion.
+     *
+     * @param state Partition state.
+     * @param batchSize Number of items in the batch.
+     * @param err Error, or {@code null} if the batch was written.
+     */
+    private synchronized void onBatchCompleted(PartitionState<E> state, int batchSize, Throwable err) {
+        state.runningBatches--;
+        inFlightItems -= batchSize;
+
+        limiter.release();
+
+        if (err != null) {
+            fail(err);
+
+            return;
+        }
+
+        if (completionFut.isDone()) {
+            return;
+        }
+
+        sendQueued();
+
+        if (publisherCompleted) {
+            completeIfDone();
+        } else {
+            request(batchSize);
+        }
+    }
+
+    /**
+     * Requests more items from the publisher.
+     *
+     * @param n Number of items.
+     */
+    private void request(long n) {
+        requestedItems += n;
+
+        subscription.request(n);
+    }
+
+    /**
+     * Completes the stream if all the items are written.
+     */
+    private void completeIfDone() {
+        if (inFlightItems == 0) {
+            completionFut.complete(null);
+        }
+    }
+
+    /**
+     * Fails the stream.
+     *
+     * @param err Error.
+     */
+    private void fail(Throwable err) {
+        stopFlushTimer();
+
+        if (completionFut.completeExceptionally(err) && subscription != null && !publisherCompleted) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Stops the auto flush timer.
+     */
+    private void stopFlushTimer() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+
+            flushTask = null;
+        }
+    }
+
+    /**
+     * Creates the auto flush timer shared by all the streams.
+     *
+     * @return Auto flush timer.
+     */
+    private static ScheduledThreadPoolExecutor createFlushTimer() {
+        var timer = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("data-streamer-flush", true, LOG));
+
+        // Streams cancel their tasks on completion, don't keep the cancelled tasks in the queue until their next tick.
+        timer.setRemoveOnCancelPolicy(true);
+
+        return timer;
+    }
+
+    /**
+     * Streaming state of a partition.
+     */
+    private static class PartitionState<E> {
+        /** Batches waiting for a free in-flight slot. */
+        private final Queue<List<E>> queuedBatches = new ArrayDeque<>();
+
+        /** Items of the next batch. */
+        private List<E> buffer;
+
+        /** Time of the last flush, see {@link System#nanoTime()}. */
+        private long lastFlushNanos = System.nanoTime();
+
+        /** Number of batches in flight. */
+        private int runningBatches;
+
+        /**
+         * Constructor.
+         *
+         * @param batchSize Batch size.
+         */
+        private PartitionState(int batchSize) {
+            buffer = new ArrayList<>(batchSize);
+        }
+    }
+}
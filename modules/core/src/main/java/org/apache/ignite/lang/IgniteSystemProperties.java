@@ -67,6 +67,13 @@ public final class IgniteSystemProperties {
      */
     public static final String IGNITE_TO_STRING_MAX_LENGTH = "IGNITE_TO_STRING_MAX_LENGTH";
 
+    /**
+     * Maximum number of data streamer batches in flight over all the data streams of the process.
+     *
+     * <p>Default: 256.
+     */
+    public static final String IGNITE_DATA_STREAMER_MAX_IN_FLIGHT_BATCHES = "IGNITE_DATA_STREAMER_MAX_IN_FLIGHT_BATCHES";
+
     /**
      * Enforces singleton.
      */
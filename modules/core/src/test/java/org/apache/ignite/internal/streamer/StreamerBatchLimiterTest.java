@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StreamerBatchLimiter}.
+ */
+public class StreamerBatchLimiterTest {
+    @Test
+    public void testPermitsAreHandedOverToWaitersInOrder() {
+        var limiter = new StreamerBatchLimiter(2);
+
+        List<Integer> granted = new ArrayList<>();
+
+        assertTrue(limiter.tryAcquire(() -> granted.add(0)));
+        assertTrue(limiter.tryAcquire(() -> granted.add(0)));
+
+        assertFalse(limiter.tryAcquire(() -> granted.add(1)));
+        assertFalse(limiter.tryAcquire(() -> granted.add(2)));
+
+        assertEquals(2, limiter.inFlightBatches());
+
+        limiter.release();
+
+        assertEquals(List.of(1), granted);
+        assertEquals(2, limiter.inFlightBatches());
+
+        limiter.release();
+
+        assertEquals(List.of(1, 2), granted);
+        assertEquals(2, limiter.inFlightBatches());
+
+        limiter.release();
+        limiter.release();
+
+        assertEquals(0, limiter.inFlightBatches());
+        assertEquals(List.of(1, 2), granted);
+    }
+}
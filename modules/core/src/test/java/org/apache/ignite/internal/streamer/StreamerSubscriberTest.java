@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StreamerSubscriber}.
+ */
+public class StreamerSubscriberTest {
+    @Test
+    public void testItemsAreBatchedPerPartition() throws Exception {
+        int itemCount = 10_000;
+        int partitionCount = 4;
+        int batchSize = 100;
+        int parallelOps = 2;
+
+        Map<Integer, AtomicInteger> running = new ConcurrentHashMap<>();
+        Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        StreamerBatchSender<Integer, Integer> sender = (partition, batch) -> {
+            AtomicInteger cnt = running.computeIfAbsent(partition, p -> new AtomicInteger());
+
+            maxRunning.accumulateAndGet(cnt.incrementAndGet(), Math::max);
+
+            assertTrue(batch.size() <= batchSize, "Batch is too large: " + batch.size());
+
+            for (Integer item : batch) {
+                assertEquals(partition.intValue(), item % partitionCount);
+            }
+
+            return CompletableFuture.runAsync(() -> {
+                received.computeIfAbsent(partition, p -> Collections.synchronizedList(new ArrayList<>())).addAll(batch);
+
+                cnt.decrementAndGet();
+            });
+        };
+
+        var subscriber = new StreamerSubscriber<Integer, Integer, Integer>(
+                Function.identity(), i -> i % partitionCount, sender, partitionCount, batchSize, parallelOps, 0);
+
+        try (var publisher = new SubmissionPublisher<Integer>()) {
+            publisher.subscribe(subscriber);
+
+            for (int i = 0; i < itemCount; i++) {
+                publisher.submit(i);
+            }
+        }
+
+        subscriber.completionFuture().get(10, TimeUnit.SECONDS);
+
+        assertTrue(maxRunning.get() <= parallelOps, "Too many batches in flight: " + maxRunning.get());
+
+        int total = 0;
+
+        for (Map.Entry<Integer, List<Integer>> e : received.entrySet()) {
+            List<Integer> items = e.getValue();
+
+            assertEquals(itemCount / partitionCount, items.size());
+            assertEquals(itemCount / partitionCount, items.stream().distinct().count());
+
+            total += items.size();
+        }
+
+        assertEquals(itemCount, total);
+    }
+
+    @Test
+    public void testPartialBatchIsFlushedByTimer() throws Exception {
+        Collection<Integer> received = ConcurrentHashMap.newKeySet();
+        CompletableFuture<Void> firstBatch = new CompletableFuture<>();
+
+        StreamerBatchSender<Integer, Integer> sender = (partition, batch) -> {
+            received.addAll(batch);
+
+            firstBatch.complete(null);
+
+            return CompletableFuture.completedFuture(null);
+        };
+
+        var subscriber = new StreamerSubscriber<Integer, Integer, Integer>(
+                Function.identity(), i -> 0, sender, 1, 1000, 1, 50);
+
+        try (var publisher = new SubmissionPublisher<Integer>()) {
+            publisher.subscribe(subscriber);
+
+            publisher.submit(1);
+            publisher.submit(2);
+
+            firstBatch.get(10, TimeUnit.SECONDS);
+
+            assertEquals(2, received.size());
+            assertFalse(subscriber.completionFuture().isDone());
+        }
+
+        subscriber.completionFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testBatchFailureFailsStream() throws Exception {
+        RuntimeException err = new RuntimeException("Test");
+
+        StreamerBatchSender<Integer, Integer> sender = (partition, batch) -> CompletableFuture.failedFuture(err);
+
+        var subscriber = new StreamerSubscriber<Integer, Integer, Integer>(
+                Function.identity(), i -> i % 2, sender, 2, 10, 1, 0);
+
+        try (var publisher = new SubmissionPublisher<Integer>()) {
+            publisher.subscribe(subscriber);
+
+            for (int i = 0; i < 100 && !subscriber.completionFuture().isDone(); i++) {
+                publisher.submit(i);
+            }
+        }
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> subscriber.completionFuture().get(10, TimeUnit.SECONDS));
+
+        assertSame(err, ex.getCause());
+    }
+
+    @Test
+    public void testBatchesInFlightAreLimitedAcrossStreams() throws Exception {
+        int itemCount = 2_000;
+        int maxInFlight = 2;
+
+        var limiter = new StreamerBatchLimiter(maxInFlight);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger received = new AtomicInteger();
+
+        StreamerBatchSender<Integer, Integer> sender = (partition, batch) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+            return CompletableFuture.runAsync(() -> {
+                received.addAndGet(batch.size());
+
+                running.decrementAndGet();
+            });
+        };
+
+        List<StreamerSubscriber<Integer, Integer, Integer>> subscribers = new ArrayList<>();
+
+        for (int s = 0; s < 2; s++) {
+            subscribers.add(new StreamerSubscriber<>(
+                    Function.identity(), i -> i % 4, sender, 4, 10, 4, 0, ForkJoinPool.commonPool(), limiter));
+        }
+
+        try (
+                var publisher1 = new SubmissionPublisher<Integer>();
+                var publisher2 = new SubmissionPublisher<Integer>()
+        ) {
+            publisher1.subscribe(subscribers.get(0));
+            publisher2.subscribe(subscribers.get(1));
+
+            for (int i = 0; i < itemCount; i++) {
+                publisher1.submit(i);
+                publisher2.submit(i);
+            }
+        }
+
+        for (StreamerSubscriber<Integer, Integer, Integer> subscriber : subscribers) {
+            subscriber.completionFuture().get(10, TimeUnit.SECONDS);
+        }
+
+        assertTrue(maxRunning.get() <= maxInFlight, "Too many batches in flight: " + maxRunning.get());
+        assertEquals(2 * itemCount, received.get());
+        assertEquals(0, limiter.inFlightBatches());
+    }
+
+    @Test
+    public void testCompletionsAreHandledByExecutor() throws Exception {
+        int itemCount = 1_000;
+
+        AtomicInteger sending = new AtomicInteger();
+        AtomicInteger maxSending = new AtomicInteger();
+        AtomicInteger executed = new AtomicInteger();
+
+        // Completed futures would make a synchronous completion send the next batch from within the sender.
+        StreamerBatchSender<Integer, Integer> sender = (partition, batch) -> {
+            maxSending.accumulateAndGet(sending.incrementAndGet(), Math::max);
+
+            sending.decrementAndGet();
+
+            return CompletableFuture.completedFuture(null);
+        };
+
+        Executor executor = task -> {
+            executed.incrementAndGet();
+
+            ForkJoinPool.commonPool().execute(task);
+        };
+
+        var subscriber = new StreamerSubscriber<Integer, Integer, Integer>(
+                Function.identity(), i -> 0, sender, 1, 10, 1, 0, executor, new StreamerBatchLimiter(1));
+
+        try (var publisher = new SubmissionPublisher<Integer>()) {
+            publisher.subscribe(subscriber);
+
+            for (int i = 0; i < itemCount; i++) {
+                publisher.submit(i);
+            }
+        }
+
+        subscriber.completionFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(1, maxSending.get());
+        assertTrue(executed.get() >= itemCount / 10, "Completions are not handled by the executor: " + executed.get());
+    }
+}
@@ -34,12 +34,14 @@ import static org.apache.ignite.utils.ClusterServiceTestUtils.findLocalAddresses
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -157,6 +159,9 @@ public class ItMetaStorageServiceTest {
     /** Expected server result collection. */
     private static final Collection<org.apache.ignite.internal.metastorage.server.Entry> EXPECTED_SRV_RESULT_COLL;
 
+    /** Storage revision reported by mocked storage. */
+    private static final long LATEST_REV = 7;
+
     /** Node 0 id. */
     private static final String NODE_ID_0 = "node-id-0";
 
@@ -543,7 +548,11 @@ public class ItMetaStorageServiceTest {
 
         when(mockStorage.range(expKeyFrom.bytes(), expKeyTo.bytes(), expRevUpperBound, false)).thenReturn(mock(Cursor.class));
 
-        metaStorageSvc.range(expKeyFrom, expKeyTo, expRevUpperBound).close();
+        Cursor<Entry> cursor = metaStorageSvc.range(expKeyFrom, expKeyTo, expRevUpperBound);
+
+        assertFalse(cursor.hasNext());
+
+        cursor.close();
     }
 
     /**
@@ -557,9 +566,15 @@ public class ItMetaStorageServiceTest {
 
         ByteArray expKeyTo = new ByteArray(new byte[]{3});
 
-        when(mockStorage.range(expKeyFrom.bytes(), expKeyTo.bytes(), false)).thenReturn(mock(Cursor.class));
+        when(mockStorage.revision()).thenReturn(LATEST_REV);
+
+        when(mockStorage.range(expKeyFrom.bytes(), expKeyTo.bytes(), LATEST_REV, false)).thenReturn(mock(Cursor.class));
 
-        metaStorageSvc.range(expKeyFrom, expKeyTo).close();
+        Cursor<Entry> cursor = metaStorageSvc.range(expKeyFrom, expKeyTo);
+
+        assertFalse(cursor.hasNext());
+
+        cursor.close();
     }
 
     /**
@@ -571,9 +586,15 @@ public class ItMetaStorageServiceTest {
     public void testRangeWitNullAsKeyTo() throws Exception {
         ByteArray expKeyFrom = new ByteArray(new byte[]{1});
 
-        when(mockStorage.range(expKeyFrom.bytes(), null, false)).thenReturn(mock(Cursor.class));
+        when(mockStorage.revision()).thenReturn(LATEST_REV);
+
+        when(mockStorage.range(expKeyFrom.bytes(), null, LATEST_REV, false)).thenReturn(mock(Cursor.class));
+
+        Cursor<Entry> cursor = metaStorageSvc.range(expKeyFrom, null);
+
+        assertFalse(cursor.hasNext());
 
-        metaStorageSvc.range(expKeyFrom, null).close();
+        cursor.close();
     }
 
     /**
@@ -583,10 +604,13 @@ public class ItMetaStorageServiceTest {
     public void testRangeHasNext() {
         ByteArray expKeyFrom = new ByteArray(new byte[]{1});
 
-        when(mockStorage.range(expKeyFrom.bytes(), null, false)).thenAnswer(invocation -> {
+        when(mockStorage.revision()).thenReturn(LATEST_REV);
+
+        when(mockStorage.range(any(), isNull(), eq(LATEST_REV), eq(false))).thenAnswer(invocation -> {
             var cursor = mock(Cursor.class);
 
             when(cursor.hasNext()).thenReturn(true);
+            when(cursor.next()).thenReturn(EXPECTED_SRV_RESULT_ENTRY);
 
             return cursor;
         });
@@ -601,7 +625,9 @@ public class ItMetaStorageServiceTest {
      */
     @Test
     public void testRangeNext() {
-        when(mockStorage.range(EXPECTED_RESULT_ENTRY.key().bytes(), null, false)).thenAnswer(invocation -> {
+        when(mockStorage.revision()).thenReturn(LATEST_REV);
+
+        when(mockStorage.range(any(), isNull(), eq(LATEST_REV), eq(false))).thenAnswer(invocation -> {
             var cursor = mock(Cursor.class);
 
             when(cursor.hasNext()).thenReturn(true);
@@ -620,7 +646,9 @@ public class ItMetaStorageServiceTest {
      */
     @Test
     public void testRangeNextNoSuchElementException() {
-        when(mockStorage.range(EXPECTED_RESULT_ENTRY.key().bytes(), null, false)).thenAnswer(invocation -> {
+        when(mockStorage.revision()).thenReturn(LATEST_REV);
+
+        when(mockStorage.range(EXPECTED_RESULT_ENTRY.key().bytes(), null, LATEST_REV, false)).thenAnswer(invocation -> {
             var cursor = mock(Cursor.class);
 
             when(cursor.hasNext()).thenReturn(true);
@@ -645,13 +673,50 @@ public class ItMetaStorageServiceTest {
 
         Cursor cursorMock = mock(Cursor.class);
 
-        when(mockStorage.range(expKeyFrom.bytes(), null, false)).thenReturn(cursorMock);
+        when(mockStorage.revision()).thenReturn(LATEST_REV);
+
+        when(mockStorage.range(expKeyFrom.bytes(), null, LATEST_REV, false)).thenReturn(cursorMock);
 
         Cursor<Entry> cursor = metaStorageSvc.range(expKeyFrom, null);
 
-        cursor.close();
+        assertFalse(cursor.hasNext());
 
+        // Range cursors keep no state on the server, storage cursor is closed as soon as the batch is read.
         verify(cursorMock, times(1)).close();
+
+        cursor.close();
+    }
+
+    /**
+     * Tests that {@link MetaStorageService#range(ByteArray, ByteArray)} reads a range that doesn't fit into a single batch, and that all
+     * the batches are read at the revision of the first one.
+     */
+    @Test
+    public void testRangeMultipleBatches() {
+        NavigableMap<ByteArray, org.apache.ignite.internal.metastorage.server.Entry> srvEntries = new TreeMap<>();
+
+        for (int i = 0; i < 250; i++) {
+            byte[] key = {1, (byte) (i / 100), (byte) (i % 100)};
+
+            srvEntries.put(new ByteArray(key), new org.apache.ignite.internal.metastorage.server.Entry(key, new byte[]{(byte) i}, 1, i));
+        }
+
+        when(mockStorage.revision()).thenReturn(LATEST_REV, LATEST_REV + 1, LATEST_REV + 2);
+
+        when(mockStorage.range(any(), isNull(), eq(LATEST_REV), eq(false))).thenAnswer(invocation -> {
+            ByteArray keyFrom = new ByteArray(invocation.<byte[]>getArgument(0));
+
+            return Cursor.fromIterator(srvEntries.tailMap(keyFrom, true).values().iterator());
+        });
+
+        Cursor<Entry> cursor = metaStorageSvc.range(new ByteArray(new byte[]{1}), null);
+
+        List<ByteArray> keys = cursor.stream().map(Entry::key).collect(Collectors.toList());
+
+        assertEquals(new ArrayList<>(srvEntries.keySet()), keys);
+
+        verify(mockStorage, times(1)).revision();
+        verify(mockStorage, times(3)).range(any(), isNull(), eq(LATEST_REV), eq(false));
     }
 
     @Test
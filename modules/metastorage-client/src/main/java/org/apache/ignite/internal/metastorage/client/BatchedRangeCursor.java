@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.client;
+
+import static org.apache.ignite.internal.util.ExceptionUtils.withCauseAndCode;
+import static org.apache.ignite.lang.ErrorGroups.MetaStorage.CURSOR_EXECUTION_ERR;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metastorage.common.MetaStorageException;
+import org.apache.ignite.internal.metastorage.common.command.RangeBatchCommand;
+import org.apache.ignite.internal.metastorage.common.command.RangeBatchResponse;
+import org.apache.ignite.internal.metastorage.common.command.SingleEntryResponse;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.lang.ByteArray;
+import org.apache.ignite.lang.NodeStoppingException;
+import org.apache.ignite.raft.client.service.RaftGroupService;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Meta storage range cursor that fetches entries by batches using {@link RangeBatchCommand}.
+ *
+ * <p>The cursor keeps no state on the server side: every batch is requested starting right after the last received key and at the
+ * revision the first batch has been read at, so the whole range is read from the same snapshot of the storage. The next batch is
+ * requested as soon as the current one is received, so it is transferred while the current batch is being consumed.
+ */
+class BatchedRangeCursor implements Cursor<Entry> {
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(BatchedRangeCursor.class);
+
+    /** Meta storage raft group service. */
+    private final RaftGroupService metaStorageRaftGrpSvc;
+
+    /** End key of range (exclusive). */
+    @Nullable
+    private final byte[] keyTo;
+
+    /** Whether to include tombstone entries. */
+    private final boolean includeTombstones;
+
+    /** Maximum number of entries in a batch. */
+    private final int batchSize;
+
+    /** Iterator over the current batch. */
+    private Iterator<Entry> batchIt = Collections.emptyIterator();
+
+    /** Future of the next batch, {@code null} if the range is exhausted or the cursor is closed. */
+    @Nullable
+    private CompletableFuture<RangeBatchResponse> nextBatchFut;
+
+    /**
+     * Constructor.
+     *
+     * @param metaStorageRaftGrpSvc Meta storage raft group service.
+     * @param keyFrom               Start key of range (inclusive).
+     * @param keyTo                 End key of range (exclusive).
+     * @param revUpperBound         The upper bound for entry revision. {@code -1} means latest revision.
+     * @param includeTombstones     Whether to include tombstones.
+     * @param batchSize             Maximum number of entries in a batch.
+     */
+    BatchedRangeCursor(
+            RaftGroupService metaStorageRaftGrpSvc,
+            ByteArray keyFrom,
+            @Nullable ByteArray keyTo,
+            long revUpperBound,
+            boolean includeTombstones,
+            int batchSize
+    ) {
+        this.metaStorageRaftGrpSvc = metaStorageRaftGrpSvc;
+        this.keyTo = keyTo == null ? null : keyTo.bytes();
+        this.includeTombstones = includeTombstones;
+        this.batchSize = batchSize;
+
+        nextBatchFut = requestBatch(keyFrom.bytes(), revUpperBound);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        nextBatchFut = null;
+
+        batchIt = Collections.emptyIterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean hasNext() {
+        try {
+            return advance();
+        } catch (NodeStoppingException e) {
+            return false;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized Entry next() {
+        try {
+            if (!advance()) {
+                throw new NoSuchElementException();
+            }
+        } catch (NodeStoppingException e) {
+            throw new NoSuchElementException();
+        }
+
+        return batchIt.next();
+    }
+
+    /**
+     * Makes sure the current batch has entries to return, waiting for the next batch if needed.
+     *
+     * @return {@code true} if there is an entry to return.
+     * @throws NodeStoppingException If the node is stopping.
+     */
+    private boolean advance() throws NodeStoppingException {
+        while (!batchIt.hasNext()) {
+            if (nextBatchFut == null) {
+                return false;
+            }
+
+            RangeBatchResponse batch = awaitBatch(nextBatchFut);
+
+            List<SingleEntryResponse> entries = batch.entries();
+
+            if (batch.hasMore()) {
+                byte[] lastKey = entries.get(entries.size() - 1).key();
+
+                // Appending a zero byte gives the smallest key that is greater than the last received one.
+                nextBatchFut = requestBatch(Arrays.copyOf(lastKey, lastKey.length + 1), batch.revision());
+            } else {
+                nextBatchFut = null;
+            }
+
+            batchIt = entries.stream()
+                    .map(e -> (Entry) new EntryImpl(new ByteArray(e.key()), e.value(), e.revision(), e.updateCounter()))
+                    .iterator();
+        }
+
+        return true;
+    }
+
+    private CompletableFuture<RangeBatchResponse> requestBatch(byte[] keyFrom, long revUpperBound) {
+        return metaStorageRaftGrpSvc.run(new RangeBatchCommand(keyFrom, keyTo, revUpperBound, includeTombstones, batchSize));
+    }
+
+    private static RangeBatchResponse awaitBatch(CompletableFuture<RangeBatchResponse> fut) throws NodeStoppingException {
+        try {
+            return fut.get();
+        } catch (InterruptedException | ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof NodeStoppingException) {
+                throw (NodeStoppingException) cause;
+            }
+
+            if (cause instanceof NoSuchElementException) {
+                throw (NoSuchElementException) cause;
+            }
+
+            LOG.debug("Unable to evaluate range batch command", e);
+
+            throw withCauseAndCode(MetaStorageException::new, CURSOR_EXECUTION_ERR, e);
+        }
+    }
+}
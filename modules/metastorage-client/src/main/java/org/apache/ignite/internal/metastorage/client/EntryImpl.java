@@ -93,6 +93,15 @@ public final class EntryImpl implements Entry {
         return val == null && rev == 0 && updCntr == 0;
     }
 
+    /**
+     * Creates an instance of empty entry for a given key.
+     *
+     * @param key Key.
+     * @return Empty entry.
+     */
+    public static EntryImpl empty(@NotNull ByteArray key) {
+        return new EntryImpl(key, null, 0, 0);
+    }
 
     /** {@inheritDoc} */
     @Override
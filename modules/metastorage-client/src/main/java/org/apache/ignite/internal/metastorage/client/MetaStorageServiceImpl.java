@@ -17,7 +17,6 @@
 
 package org.apache.ignite.internal.metastorage.client;
 
-import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.lang.ErrorGroups.MetaStorage.WATCH_STOPPING_ERR;
 
 import java.util.ArrayList;
@@ -53,7 +52,6 @@ import org.apache.ignite.internal.metastorage.common.command.MultipleEntryRespon
 import org.apache.ignite.internal.metastorage.common.command.OperationInfo;
 import org.apache.ignite.internal.metastorage.common.command.PutAllCommand;
 import org.apache.ignite.internal.metastorage.common.command.PutCommand;
-import org.apache.ignite.internal.metastorage.common.command.RangeCommand;
 import org.apache.ignite.internal.metastorage.common.command.RemoveAllCommand;
 import org.apache.ignite.internal.metastorage.common.command.RemoveCommand;
 import org.apache.ignite.internal.metastorage.common.command.SimpleConditionInfo;
@@ -64,6 +62,7 @@ import org.apache.ignite.internal.metastorage.common.command.cursor.CursorsClose
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.lang.ByteArray;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.lang.IgniteSystemProperties;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.lang.IgniteUuidGenerator;
 import org.apache.ignite.lang.NodeStoppingException;
@@ -78,6 +77,9 @@ public class MetaStorageServiceImpl implements MetaStorageService {
     /** The logger. */
     private static final IgniteLogger LOG = Loggers.forClass(MetaStorageServiceImpl.class);
 
+    /** Maximum number of entries fetched by a range cursor in a single request. */
+    private static final int RANGE_BATCH_SIZE = IgniteSystemProperties.getInteger("IGNITE_META_STORAGE_RANGE_BATCH_SIZE", 100);
+
     /** IgniteUuid generator. */
     private static final IgniteUuidGenerator uuidGenerator = new IgniteUuidGenerator(UUID.randomUUID(), 0);
 
@@ -225,17 +227,7 @@ public class MetaStorageServiceImpl implements MetaStorageService {
             long revUpperBound,
             boolean includeTombstones
     ) {
-        return new CursorImpl<>(
-                metaStorageRaftGrpSvc,
-                metaStorageRaftGrpSvc.run(
-                        RangeCommand.builder(keyFrom, localNodeId, uuidGenerator.randomUuid())
-                                .keyTo(keyTo)
-                                .revUpperBound(revUpperBound)
-                                .includeTombstones(includeTombstones)
-                                .build()
-                ),
-                MetaStorageServiceImpl::multipleEntryResultForCache
-        );
+        return new BatchedRangeCursor(metaStorageRaftGrpSvc, keyFrom, keyTo, revUpperBound, includeTombstones, RANGE_BATCH_SIZE);
     }
 
     /** {@inheritDoc} */
@@ -247,12 +239,7 @@ public class MetaStorageServiceImpl implements MetaStorageService {
     /** {@inheritDoc} */
     @Override
     public @NotNull Cursor<Entry> range(@NotNull ByteArray keyFrom, @Nullable ByteArray keyTo, boolean includeTombstones) {
-        return new CursorImpl<>(
-            metaStorageRaftGrpSvc,
-            metaStorageRaftGrpSvc.run(
-                RangeCommand.builder(keyFrom, localNodeId, uuidGenerator.randomUuid()).keyTo(keyTo).build()),
-            MetaStorageServiceImpl::multipleEntryResultForCache
-        );
+        return range(keyFrom, keyTo, -1, includeTombstones);
     }
 
     /** {@inheritDoc} */
@@ -419,14 +406,6 @@ public class MetaStorageServiceImpl implements MetaStorageService {
         return res;
     }
 
-    private static List<Entry> multipleEntryResultForCache(Object obj) {
-        MultipleEntryResponse resp = (MultipleEntryResponse) obj;
-
-        return resp.entries().stream()
-            .map(MetaStorageServiceImpl::singleEntryResult)
-            .collect(toList());
-    }
-
     private static Entry singleEntryResult(Object obj) {
         SingleEntryResponse resp = (SingleEntryResponse) obj;
 
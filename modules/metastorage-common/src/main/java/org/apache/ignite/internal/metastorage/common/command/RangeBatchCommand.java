@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.common.command;
+
+import org.apache.ignite.raft.client.ReadCommand;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Range batch command for MetaStorageCommandListener that retrieves a single batch of entries for the given key range in lexicographic
+ * order. Unlike {@link RangeCommand}, no cursor is kept on the server side: the client requests the next batch starting right after the
+ * last received key and at the revision reported in the {@link RangeBatchResponse}, so all the batches observe the same snapshot of the
+ * storage. Being a read command, it is not written to the raft log.
+ */
+public final class RangeBatchCommand implements ReadCommand {
+    /** Start key of range (inclusive). Couldn't be {@code null}. */
+    @NotNull
+    private final byte[] keyFrom;
+
+    /** End key of range (exclusive). Could be {@code null}. */
+    @Nullable
+    private final byte[] keyTo;
+
+    /** The upper bound for entry revision. {@code -1} means latest revision. */
+    private final long revUpperBound;
+
+    /** Whether to include tombstone entries. */
+    private final boolean includeTombstones;
+
+    /** Maximum number of entries in the batch. */
+    private final int batchSize;
+
+    /**
+     * Constructor.
+     *
+     * @param keyFrom           Start key of range (inclusive).
+     * @param keyTo             End key of range (exclusive).
+     * @param revUpperBound     The upper bound for entry revision. {@code -1} means latest revision.
+     * @param includeTombstones Whether to include tombstones.
+     * @param batchSize         Maximum number of entries in the batch.
+     */
+    public RangeBatchCommand(
+            @NotNull byte[] keyFrom,
+            @Nullable byte[] keyTo,
+            long revUpperBound,
+            boolean includeTombstones,
+            int batchSize
+    ) {
+        assert batchSize > 0 : batchSize;
+
+        this.keyFrom = keyFrom;
+        this.keyTo = keyTo;
+        this.revUpperBound = revUpperBound;
+        this.includeTombstones = includeTombstones;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns start key of range (inclusive). Couldn't be {@code null}.
+     */
+    public @NotNull byte[] keyFrom() {
+        return keyFrom;
+    }
+
+    /**
+     * Returns end key of range (exclusive). Could be {@code null}.
+     */
+    public @Nullable byte[] keyTo() {
+        return keyTo;
+    }
+
+    /**
+     * Returns the upper bound for entry revision. {@code -1} means latest revision.
+     */
+    public long revUpperBound() {
+        return revUpperBound;
+    }
+
+    /**
+     * Returns the boolean value indicating whether tombstone entries should be included into the batch.
+     */
+    public boolean includeTombstones() {
+        return includeTombstones;
+    }
+
+    /**
+     * Returns maximum number of entries in the batch.
+     */
+    public int batchSize() {
+        return batchSize;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.common.command;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Defines response for {@link RangeBatchCommand}.
+ */
+public class RangeBatchResponse implements Serializable {
+    /** Entries of the batch. */
+    private final List<SingleEntryResponse> entries;
+
+    /** Revision the batch has been read at. */
+    private final long revision;
+
+    /** Whether there are more entries in the range after the last entry of the batch. */
+    private final boolean hasMore;
+
+    /**
+     * Constructs range batch response.
+     *
+     * @param entries  Entries of the batch.
+     * @param revision Revision the batch has been read at.
+     * @param hasMore  Whether there are more entries in the range after the last entry of the batch.
+     */
+    public RangeBatchResponse(List<SingleEntryResponse> entries, long revision, boolean hasMore) {
+        this.entries = entries;
+        this.revision = revision;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Returns entries of the batch.
+     */
+    public List<SingleEntryResponse> entries() {
+        return entries;
+    }
+
+    /**
+     * Returns revision the batch has been read at. Subsequent batches must be requested with this revision as the upper bound.
+     */
+    public long revision() {
+        return revision;
+    }
+
+    /**
+     * Returns {@code true} if there are more entries in the range after the last entry of the batch.
+     */
+    public boolean hasMore() {
+        return hasMore;
+    }
+}
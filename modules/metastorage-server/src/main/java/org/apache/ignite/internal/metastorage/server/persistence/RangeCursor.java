@@ -17,7 +17,6 @@
 
 package org.apache.ignite.internal.metastorage.server.persistence;
 
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -122,8 +121,8 @@ class RangeCursor implements Cursor<Entry> {
                         byte[] key = lastRetKey;
 
                         while (nextRetEntry == null) {
-                            Map.Entry<byte[], long[]> e =
-                                    key == null ? storage.revisionCeilingEntry(keyFrom) : storage.revisionHigherEntry(key);
+                            Map.Entry<byte[], Long> e =
+                                    key == null ? storage.revisionCeilingEntry(keyFrom, rev) : storage.revisionHigherEntry(key, rev);
 
                             if (e == null) {
                                 finished = true;
@@ -139,12 +138,7 @@ class RangeCursor implements Cursor<Entry> {
                                 break;
                             }
 
-                            long[] revs = e.getValue();
-
-                            assert revs != null && revs.length != 0 :
-                                    "Revisions should not be empty or null: [revs=" + Arrays.toString(revs) + ']';
-
-                            long lastRev = RocksDbKeyValueStorage.maxRevision(revs, rev);
+                            long lastRev = e.getValue();
 
                             if (lastRev == -1) {
                                 continue;
@@ -18,19 +18,21 @@
 package org.apache.ignite.internal.metastorage.server.persistence;
 
 import static org.apache.ignite.internal.metastorage.server.Value.TOMBSTONE;
-import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.appendLong;
 import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.bytesToLong;
 import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.bytesToValue;
 import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.getAsLongs;
+import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.indexKeyToKey;
+import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.keyToIndexKey;
 import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.keyToRocksKey;
 import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.longToBytes;
+import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.revisionFromIndexKey;
+import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.sameKey;
 import static org.apache.ignite.internal.metastorage.server.persistence.RocksStorageUtils.valueToBytes;
 import static org.apache.ignite.internal.metastorage.server.persistence.StorageColumnFamilyType.DATA;
 import static org.apache.ignite.internal.metastorage.server.persistence.StorageColumnFamilyType.INDEX;
-import static org.apache.ignite.internal.rocksdb.RocksUtils.find;
-import static org.apache.ignite.internal.rocksdb.RocksUtils.forEach;
+import static org.apache.ignite.internal.rocksdb.RocksUtils.checkIterator;
 import static org.apache.ignite.internal.rocksdb.snapshot.ColumnFamilyRange.fullRange;
-import static org.apache.ignite.internal.util.ArrayUtils.LONG_EMPTY_ARRAY;
+import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import static org.apache.ignite.lang.ErrorGroups.MetaStorage.COMPACTION_ERR;
 import static org.apache.ignite.lang.ErrorGroups.MetaStorage.OP_EXECUTION_ERR;
 import static org.apache.ignite.lang.ErrorGroups.MetaStorage.RESTORING_STORAGE_ERR;
@@ -63,7 +65,6 @@ import org.apache.ignite.internal.metastorage.server.Update;
 import org.apache.ignite.internal.metastorage.server.Value;
 import org.apache.ignite.internal.metastorage.server.WatchEvent;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
-import org.apache.ignite.internal.rocksdb.RocksBiPredicate;
 import org.apache.ignite.internal.rocksdb.snapshot.RocksSnapshotManager;
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -91,8 +92,10 @@ import org.rocksdb.WriteOptions;
  * <br>
  * Value: [8 bytes update counter, 1 byte tombstone flag, N bytes value].
  * <br>
- * The mapping from the key to the set of the storage's revisions is stored in the "index" column family. A key represents the key of an
- * entry and the value is a {@code byte[]} that represents a {@code long[]} where every item is a revision of the storage.
+ * The mapping from the key to the set of the storage's revisions is stored in the "index" column family. Every revision of a key has its
+ * own entry with an empty value, so that an update is a blind write and a lookup of a revision is a single seek.
+ * <br>
+ * Index key: [N bytes escaped key, 1 byte terminator, 8 bytes revision] (see {@link RocksStorageUtils#keyToIndexKey}).
  */
 public class RocksDbKeyValueStorage implements KeyValueStorage {
     /** A revision to store with system entries. */
@@ -251,6 +254,8 @@ public class RocksDbKeyValueStorage implements KeyValueStorage {
 
             snapshotManager.restoreSnapshot(path);
 
+            migrateLegacyIndex();
+
             rev = bytesToLong(data.get(REVISION_KEY));
 
             updCntr = bytesToLong(data.get(UPDATE_COUNTER_KEY));
@@ -304,11 +309,7 @@ public class RocksDbKeyValueStorage implements KeyValueStorage {
      */
     private void updateKeysIndex(WriteBatch batch, byte[] key, long curRev) {
         try {
-            // Get the revisions current value
-            byte @Nullable [] array = index.get(key);
-
-            // Store the new value
-            index.put(batch, key, appendLong(array, curRev));
+            index.put(batch, keyToIndexKey(key, curRev), BYTE_EMPTY_ARRAY);
         } catch (RocksDBException e) {
             throw new MetaStorageException(OP_EXECUTION_ERR, e);
         }
@@ -344,9 +345,7 @@ public class RocksDbKeyValueStorage implements KeyValueStorage {
             long curRev = rev + 1;
             long cntr = updCntr + 1;
 
-            long[] revs = getRevisions(key);
-
-            final long lastRev = revs.length == 0 ? 0 : lastRevision(revs);
+            long lastRev = Math.max(maxRevision(key, LATEST_REV), 0);
 
             addDataToBatch(batch, key, value, curRev, cntr);
 
@@ -740,9 +739,27 @@ public class RocksDbKeyValueStorage implements KeyValueStorage {
 
         try (WriteBatch batch = new WriteBatch()) {
             try (RocksIterator iterator = index.newIterator()) {
-                iterator.seekToFirst();
+                byte[] prevIndexKey = null;
+
+                for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+                    byte[] indexKey = iterator.key();
 
-                forEach(iterator, (key, value) -> compactForKey(batch, key, getAsLongs(value)));
+                    if (prevIndexKey != null) {
+                        if (sameKey(prevIndexKey, indexKey)) {
+                            removeRevision(batch, prevIndexKey);
+                        } else {
+                            compactLastRevision(batch, prevIndexKey);
+                        }
+                    }
+
+                    prevIndexKey = indexKey;
+                }
+
+                checkIterator(iterator);
+
+                if (prevIndexKey != null) {
+                    compactLastRevision(batch, prevIndexKey);
+                }
             }
 
             fillAndWriteBatch(batch, rev, updCntr);
@@ -776,30 +793,76 @@ public class RocksDbKeyValueStorage implements KeyValueStorage {
     }
 
     /**
-     * Compacts all entries by the given key, removing all previous revisions and deleting the last entry if it is a tombstone.
+     * Removes an entry and its index entry.
      *
-     * @param batch Write batch.
-     * @param key   Target key.
-     * @param revs  Revisions.
+     * @param batch    Write batch.
+     * @param indexKey Key of the index entry.
      * @throws RocksDBException If failed.
      */
-    private void compactForKey(WriteBatch batch, byte[] key, long[] revs) throws RocksDBException {
-        long lastRev = lastRevision(revs);
+    private void removeRevision(WriteBatch batch, byte[] indexKey) throws RocksDBException {
+        data.delete(batch, keyToRocksKey(revisionFromIndexKey(indexKey), indexKeyToKey(indexKey)));
 
-        for (int i = 0; i < revs.length - 1; i++) {
-            data.delete(batch, keyToRocksKey(revs[i], key));
-        }
+        index.delete(batch, indexKey);
+    }
 
-        byte[] rocksKey = keyToRocksKey(lastRev, key);
+    /**
+     * Removes the last entry of a key if it is a tombstone, all the previous entries of the key are expected to be removed by the
+     * compaction already.
+     *
+     * @param batch    Write batch.
+     * @param indexKey Key of the index entry of the last revision.
+     * @throws RocksDBException If failed.
+     */
+    private void compactLastRevision(WriteBatch batch, byte[] indexKey) throws RocksDBException {
+        byte[] rocksKey = keyToRocksKey(revisionFromIndexKey(indexKey), indexKeyToKey(indexKey));
 
         Value value = bytesToValue(data.get(rocksKey));
 
         if (value.tombstone()) {
-            index.delete(batch, rocksKey);
+            data.delete(batch, rocksKey);
 
-            index.delete(batch, key);
-        } else {
-            index.put(batch, key, longToBytes(lastRev));
+            index.delete(batch, indexKey);
+        }
+    }
+
+    /**
+     * Converts the keys index restored from a snapshot of an older version, where all revisions of a key were stored in a single entry as
+     * a {@code long[]}, to the layout with an entry per revision.
+     *
+     * @throws RocksDBException If failed.
+     */
+    private void migrateLegacyIndex() throws RocksDBException {
+        try (RocksIterator iterator = index.newIterator(); WriteBatch batch = new WriteBatch()) {
+            iterator.seekToFirst();
+
+            // Entries of the current layout have empty values, while the legacy ones hold at least one revision.
+            if (!iterator.isValid() || iterator.value().length == 0) {
+                checkIterator(iterator);
+
+                return;
+            }
+
+            // The iterator reads the state at the moment of its creation, so it's safe to iterate twice while filling the batch.
+            // Removals go first, as a legacy key may accidentally coincide with a new one.
+            for (; iterator.isValid(); iterator.next()) {
+                index.delete(batch, iterator.key());
+            }
+
+            checkIterator(iterator);
+
+            for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+                byte[] key = iterator.key();
+
+                for (long revision : getAsLongs(iterator.value())) {
+                    index.put(batch, keyToIndexKey(key, revision), BYTE_EMPTY_ARRAY);
+                }
+            }
+
+            checkIterator(iterator);
+
+            try (WriteOptions opts = new WriteOptions()) {
+                db.write(opts, batch);
+            }
         }
     }
 
@@ -842,26 +905,9 @@ public class RocksDbKeyValueStorage implements KeyValueStorage {
     Entry doGet(byte[] key, long revUpperBound) {
         assert revUpperBound >= LATEST_REV : "Invalid arguments: [revUpperBound=" + revUpperBound + ']';
 
-        long[] revs;
-        try {
-            revs = getRevisions(key);
-        } catch (RocksDBException e) {
-            throw new MetaStorageException(OP_EXECUTION_ERR, e);
-        }
-
-        if (revs == null || revs.length == 0) {
-            return Entry.empty(key);
-        }
-
-        long lastRev;
-
-        if (revUpperBound == LATEST_REV) {
-            lastRev = lastRevision(revs);
-        } else {
-            lastRev = maxRevision(revs, revUpperBound);
-        }
+        long lastRev = maxRevision(key, revUpperBound);
 
-        // lastRev can be -1 if maxRevision return -1.
+        // lastRev can be -1 if there are no revisions of the key below the upper bound.
         if (lastRev == -1) {
             return Entry.empty(key);
         }
@@ -870,40 +916,42 @@ public class RocksDbKeyValueStorage implements KeyValueStorage {
     }
 
     /**
-     * Get a list of the revisions of the entry corresponding to the key.
+     * Returns maximum revision of the key which must be less or equal to {@code upperBoundRev}. If there is no such revision then
+     * {@code -1} will be returned.
      *
-     * @param key Key.
-     * @return List of the revisions.
-     * @throws RocksDBException If failed to perform {@link RocksDB#get(ColumnFamilyHandle, byte[])}.
+     * @param key           Key.
+     * @param upperBoundRev Revision upper bound or {@link #LATEST_REV}.
+     * @return Maximum revision or {@code -1} if there is no such revision.
      */
-    private long[] getRevisions(byte[] key) throws RocksDBException {
-        byte[] revisions = index.get(key);
-
-        if (revisions == null) {
-            return LONG_EMPTY_ARRAY;
+    private long maxRevision(byte[] key, long upperBoundRev) {
+        try (RocksIterator iterator = index.newIterator()) {
+            return maxRevision(iterator, key, upperBoundRev);
         }
-
-        return getAsLongs(revisions);
     }
 
     /**
-     * Returns maximum revision which must be less or equal to {@code upperBoundRev}. If there is no such revision then {@code -1} will be
-     * returned.
+     * Returns maximum revision of the key which must be less or equal to {@code upperBoundRev}, positioning the given iterator at the
+     * corresponding index entry. If there is no such revision then {@code -1} will be returned.
      *
-     * @param revs          Revisions list.
-     * @param upperBoundRev Revision upper bound.
+     * @param iterator      Iterator over the keys index.
+     * @param key           Key.
+     * @param upperBoundRev Revision upper bound or {@link #LATEST_REV}.
      * @return Maximum revision or {@code -1} if there is no such revision.
      */
-    static long maxRevision(long[] revs, long upperBoundRev) {
-        for (int i = revs.length - 1; i >= 0; i--) {
-            long rev = revs[i];
+    private static long maxRevision(RocksIterator iterator, byte[] key, long upperBoundRev) {
+        byte[] seekKey = keyToIndexKey(key, upperBoundRev == LATEST_REV ? Long.MAX_VALUE : upperBoundRev);
 
-            if (rev <= upperBoundRev) {
-                return rev;
-            }
+        iterator.seekForPrev(seekKey);
+
+        if (!iterator.isValid()) {
+            checkIterator(iterator);
+
+            return -1;
         }
 
-        return -1;
+        byte[] indexKey = iterator.key();
+
+        return sameKey(indexKey, seekKey) ? revisionFromIndexKey(indexKey) : -1;
     }
 
     /**
@@ -985,52 +1033,55 @@ public class RocksDbKeyValueStorage implements KeyValueStorage {
     }
 
     /**
-     * Gets an entry from the keys index with the least key greater than or equal to the specified key.
+     * Gets the least key greater than or equal to the specified key along with its maximum revision which is less than or equal to
+     * {@code revUpperBound}.
      *
-     * @param keyFrom Key.
-     * @return Higher or equal entry. Returns {@code null} if no such entry exists.
+     * @param keyFrom       Key.
+     * @param revUpperBound Revision upper bound.
+     * @return Key and revision, which is {@code -1} if the key has no such revision. Returns {@code null} if no such key exists.
      */
     @Nullable
-    Map.Entry<byte[], long[]> revisionCeilingEntry(byte[] keyFrom) {
-        return higherOrCeiling(keyFrom, false);
+    Map.Entry<byte[], Long> revisionCeilingEntry(byte[] keyFrom, long revUpperBound) {
+        return higherOrCeiling(keyFrom, false, revUpperBound);
     }
 
     /**
-     * Gets an entry from the keys index with the least key greater than the specified key.
+     * Gets the least key greater than the specified key along with its maximum revision which is less than or equal to
+     * {@code revUpperBound}.
      *
-     * @param key Key.
-     * @return Higher entry or {@code null} if no such entry exists.
+     * @param key           Key.
+     * @param revUpperBound Revision upper bound.
+     * @return Key and revision, which is {@code -1} if the key has no such revision. Returns {@code null} if no such key exists.
      */
     @Nullable
-    Map.Entry<byte[], long[]> revisionHigherEntry(byte[] key) {
-        return higherOrCeiling(key, true);
+    Map.Entry<byte[], Long> revisionHigherEntry(byte[] key, long revUpperBound) {
+        return higherOrCeiling(key, true, revUpperBound);
     }
 
     /**
-     * Gets an entry from the keys index with the least key greater than or equal to the specified key, depending on the strictlyHigher
-     * parameter.
+     * Gets the least key greater than or equal to the specified key, depending on the strictlyHigher parameter, along with its maximum
+     * revision which is less than or equal to {@code revUpperBound}.
      *
-     * @param key Key.
-     * @param strictlyHigher {@code true} for a strictly higher entry, {@code false} for a ceiling one.
-     * @return Entry for the least key greater than or equal to the specified key. If no such entry exists returns {@code null}.
+     * @param key            Key.
+     * @param strictlyHigher {@code true} for a strictly higher key, {@code false} for a ceiling one.
+     * @param revUpperBound  Revision upper bound.
+     * @return Key and revision, which is {@code -1} if the key has no such revision. If no such key exists returns {@code null}.
      */
     @Nullable
-    private IgniteBiTuple<byte[], long[]> higherOrCeiling(byte[] key, boolean strictlyHigher) {
+    private IgniteBiTuple<byte[], Long> higherOrCeiling(byte[] key, boolean strictlyHigher, long revUpperBound) {
         try (RocksIterator iterator = index.newIterator()) {
-            iterator.seek(key);
-
-            RocksBiPredicate predicate = strictlyHigher
-                    ? (k, v) -> CMP.compare(k, key) > 0 : (k, v) -> CMP.compare(k, key) >= 0;
+            // Index entries of a key are sorted by revision, so seeking past the greatest possible revision skips all of them.
+            iterator.seek(keyToIndexKey(key, strictlyHigher ? Long.MAX_VALUE : 0));
 
-            boolean found = find(iterator, predicate);
+            if (!iterator.isValid()) {
+                checkIterator(iterator);
 
-            if (!found) {
                 return null;
             }
 
-            return new IgniteBiTuple<>(iterator.key(), getAsLongs(iterator.value()));
-        } catch (RocksDBException e) {
-            throw new MetaStorageException(OP_EXECUTION_ERR, e);
+            byte[] foundKey = indexKeyToKey(iterator.key());
+
+            return new IgniteBiTuple<>(foundKey, maxRevision(iterator, foundKey, revUpperBound));
         }
     }
 
@@ -1044,16 +1095,6 @@ public class RocksDbKeyValueStorage implements KeyValueStorage {
         return data.newIterator(options);
     }
 
-    /**
-     * Gets last revision from the list.
-     *
-     * @param revs Revisions.
-     * @return Last revision.
-     */
-    private static long lastRevision(long[] revs) {
-        return revs[revs.length - 1];
-    }
-
     /**
      * Returns database lock.
      */
@@ -26,7 +26,6 @@ import java.util.Arrays;
 import java.util.stream.IntStream;
 import org.apache.ignite.internal.metastorage.server.Value;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 /**
  * Utility class for {@link RocksDbKeyValueStorage}.
@@ -41,6 +40,12 @@ class RocksStorageUtils {
             ByteOrder.BIG_ENDIAN
     );
 
+    /** Byte that terminates a key encoded in a key of the keys index. */
+    private static final byte KEY_TERMINATOR = 0;
+
+    /** Byte that follows a zero byte of a key encoded in a key of the keys index, which tells it from {@link #KEY_TERMINATOR}. */
+    private static final byte ESCAPED_ZERO = (byte) 0xFF;
+
     /**
      * Converts a long value to a byte array.
      *
@@ -167,25 +172,94 @@ class RocksStorageUtils {
     }
 
     /**
-     * Add a long value to an array of longs that is represented by an array of bytes.
+     * Builds a key of the keys index, which consists of the key itself, escaped so that no encoded key is a prefix of another, followed
+     * by a revision. Index keys of the same key are grouped together and sorted by revision, and the groups are sorted in the
+     * lexicographic order of the keys.
+     * <br>
+     * Every zero byte of the key is followed by {@link #ESCAPED_ZERO}, and the encoded key is terminated by {@link #KEY_TERMINATOR}. Since
+     * revisions are non-negative, the first byte of a revision is always less than {@link #ESCAPED_ZERO}, so the index keys of the key
+     * {@code k} precede the index keys of any key {@code k + [0, ...]}.
      *
-     * @param bytes Byte array that represents an array of longs.
-     * @param value New long value.
-     * @return Byte array with a new value.
+     * @param key Key.
+     * @param revision Revision.
+     * @return Index key.
      */
-    static byte @NotNull [] appendLong(byte @Nullable [] bytes, long value) {
-        if (bytes == null) {
-            return longToBytes(value);
+    static byte[] keyToIndexKey(byte[] key, long revision) {
+        int zeros = 0;
+
+        for (byte b : key) {
+            if (b == 0) {
+                zeros++;
+            }
+        }
+
+        var buffer = new byte[key.length + zeros + 1 + Long.BYTES];
+
+        int pos = 0;
+
+        for (byte b : key) {
+            buffer[pos++] = b;
+
+            if (b == 0) {
+                buffer[pos++] = ESCAPED_ZERO;
+            }
         }
 
-        // Allocate a one long size bigger array
-        var result = new byte[bytes.length + Long.BYTES];
+        buffer[pos++] = KEY_TERMINATOR;
 
-        // Copy the current value
-        System.arraycopy(bytes, 0, result, 0, bytes.length);
+        LONG_ARRAY_HANDLE.set(buffer, pos, revision);
+
+        return buffer;
+    }
+
+    /**
+     * Gets a key from a key of the keys index.
+     *
+     * @param indexKey Index key.
+     * @return Key without a revision.
+     */
+    static byte[] indexKeyToKey(byte[] indexKey) {
+        int encodedLength = indexKey.length - Long.BYTES - 1;
 
-        LONG_ARRAY_HANDLE.set(result, bytes.length, value);
+        var buffer = new byte[encodedLength];
 
-        return result;
+        int len = 0;
+
+        for (int i = 0; i < encodedLength; i++) {
+            byte b = indexKey[i];
+
+            buffer[len++] = b;
+
+            if (b == 0) {
+                // Skip the escape byte.
+                i++;
+            }
+        }
+
+        return len == encodedLength ? buffer : Arrays.copyOf(buffer, len);
+    }
+
+    /**
+     * Gets a revision from a key of the keys index.
+     *
+     * @param indexKey Index key.
+     * @return Revision.
+     */
+    static long revisionFromIndexKey(byte[] indexKey) {
+        return (long) LONG_ARRAY_HANDLE.get(indexKey, indexKey.length - Long.BYTES);
+    }
+
+    /**
+     * Checks whether two keys of the keys index belong to the same key.
+     *
+     * @param indexKey1 First index key.
+     * @param indexKey2 Second index key.
+     * @return {@code true} if the index keys differ by revision only.
+     */
+    static boolean sameKey(byte[] indexKey1, byte[] indexKey2) {
+        return Arrays.equals(
+                indexKey1, 0, indexKey1.length - Long.BYTES,
+                indexKey2, 0, indexKey2.length - Long.BYTES
+        );
     }
 }
@@ -20,7 +20,9 @@ package org.apache.ignite.internal.metastorage.server.raft;
 import static java.util.Objects.requireNonNull;
 import static org.apache.ignite.lang.ErrorGroups.MetaStorage.CLOSING_STORAGE_ERR;
 import static org.apache.ignite.lang.ErrorGroups.MetaStorage.CURSOR_CLOSING_ERR;
+import static org.apache.ignite.lang.ErrorGroups.MetaStorage.CURSOR_EXECUTION_ERR;
 
+import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -52,6 +54,8 @@ import org.apache.ignite.internal.metastorage.common.command.MultipleEntryRespon
 import org.apache.ignite.internal.metastorage.common.command.OperationInfo;
 import org.apache.ignite.internal.metastorage.common.command.PutAllCommand;
 import org.apache.ignite.internal.metastorage.common.command.PutCommand;
+import org.apache.ignite.internal.metastorage.common.command.RangeBatchCommand;
+import org.apache.ignite.internal.metastorage.common.command.RangeBatchResponse;
 import org.apache.ignite.internal.metastorage.common.command.RangeCommand;
 import org.apache.ignite.internal.metastorage.common.command.RemoveAllCommand;
 import org.apache.ignite.internal.metastorage.common.command.RemoveCommand;
@@ -158,12 +162,49 @@ public class MetaStorageListener implements RaftGroupListener {
                 CursorMeta cursorDesc = cursors.get(cursorHasNextCmd.cursorId());
 
                 clo.result(!(cursorDesc == null) && cursorDesc.cursor().hasNext());
+            } else if (command instanceof RangeBatchCommand) {
+                clo.result(rangeBatch((RangeBatchCommand) command));
             } else {
                 assert false : "Command was not found [cmd=" + command + ']';
             }
         }
     }
 
+    /**
+     * Reads a single batch of a range. The batch is read at a fixed revision, which is reported back to the client, so that the next
+     * batch could be requested at the same revision starting right after the last returned key.
+     *
+     * @param cmd Range batch command.
+     * @return Range batch response, or {@link NoSuchElementException} if the storage cursor failed to provide an entry.
+     */
+    private Serializable rangeBatch(RangeBatchCommand cmd) {
+        long revUpperBound = cmd.revUpperBound() != -1 ? cmd.revUpperBound() : storage.revision();
+
+        List<SingleEntryResponse> entries = new ArrayList<>();
+
+        boolean hasMore = false;
+
+        try (Cursor<Entry> cursor = storage.range(cmd.keyFrom(), cmd.keyTo(), revUpperBound, cmd.includeTombstones())) {
+            while (cursor.hasNext()) {
+                if (entries.size() == cmd.batchSize()) {
+                    hasMore = true;
+
+                    break;
+                }
+
+                Entry e = cursor.next();
+
+                entries.add(new SingleEntryResponse(e.key(), e.value(), e.revision(), e.updateCounter()));
+            }
+        } catch (NoSuchElementException e) {
+            return e;
+        } catch (Exception e) {
+            throw new MetaStorageException(CURSOR_EXECUTION_ERR, e);
+        }
+
+        return new RangeBatchResponse(entries, revUpperBound, hasMore);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void onWrite(Iterator<CommandClosure<WriteCommand>> iter) {
@@ -2087,6 +2087,44 @@ public abstract class AbstractKeyValueStorageTest {
         assertFalse(cur.hasNext());
     }
 
+    @Test
+    public void rangeCursorForKeysWithCommonPrefix() {
+        // Keys that are prefixes of each other and contain zero bytes, each one updated several times.
+        List<byte[]> keys = List.of(
+                new byte[] {1},
+                new byte[] {1, 0},
+                new byte[] {1, 0, 0},
+                new byte[] {1, 0, 1},
+                new byte[] {1, 1}
+        );
+
+        for (int i = 0; i < 3; i++) {
+            for (byte[] key : keys) {
+                storage.put(key, keyValue(key.length, i));
+            }
+        }
+
+        assertEquals(3 * keys.size(), storage.revision());
+
+        for (long rev : new long[] {keys.size(), storage.revision()}) {
+            List<Entry> entries = storage.range(keys.get(0), null, rev, false).stream().collect(Collectors.toList());
+
+            assertEquals(keys.size(), entries.size());
+
+            for (int i = 0; i < keys.size(); i++) {
+                Entry e = entries.get(i);
+
+                assertArrayEquals(keys.get(i), e.key());
+                assertEquals(rev - keys.size() + i + 1, e.revision());
+                assertArrayEquals(e.value(), storage.get(keys.get(i), rev).value());
+            }
+        }
+
+        // The upper bound is applied to the keys themselves, not to their encoded representation.
+        assertEquals(2, storage.range(keys.get(0), keys.get(2), false).stream().count());
+        assertEquals(3, storage.range(keys.get(1), keys.get(4), false).stream().count());
+    }
+
     @Test
     public void watchCursorLexicographicTest() throws Exception {
         assertEquals(0, storage.revision());
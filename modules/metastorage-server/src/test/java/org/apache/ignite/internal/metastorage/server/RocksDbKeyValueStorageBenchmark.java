@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.metastorage.server.persistence.RocksDbKeyValueStorage;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the RocksDB based meta storage on a hot key workload: a few keys, like assignments or counters, which are updated over and
+ * over again and accumulate a long history of revisions until the storage is compacted.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RocksDbKeyValueStorageBenchmark {
+    /** Number of hot keys. */
+    private static final int KEYS = 10;
+
+    /** Number of revisions of every hot key written before the measurement. */
+    @Param({"100", "10000"})
+    private int history;
+
+    private Path workDir;
+
+    private RocksDbKeyValueStorage storage;
+
+    private byte[][] keys;
+
+    private final byte[] value = new byte[64];
+
+    /**
+     * Starts the storage and fills the history of the hot keys.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("metastorage-benchmark");
+
+        storage = new RocksDbKeyValueStorage(workDir);
+
+        storage.start();
+
+        keys = new byte[KEYS][];
+
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = ("table.assignments." + i).getBytes(UTF_8);
+        }
+
+        for (int i = 0; i < history; i++) {
+            for (byte[] key : keys) {
+                storage.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Stops the storage.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        storage.close();
+
+        IgniteUtils.deleteIfExists(workDir);
+    }
+
+    /**
+     * Updates a hot key.
+     */
+    @Benchmark
+    public void put() {
+        storage.put(randomKey(), value);
+    }
+
+    /**
+     * Reads the latest revision of a hot key.
+     */
+    @Benchmark
+    public Entry getLatest() {
+        return storage.get(randomKey());
+    }
+
+    /**
+     * Reads a hot key at a random revision from its history.
+     */
+    @Benchmark
+    public Entry getByRevision() {
+        return storage.get(randomKey(), ThreadLocalRandom.current().nextLong(1, storage.revision() + 1));
+    }
+
+    private byte[] randomKey() {
+        return keys[ThreadLocalRandom.current().nextInt(KEYS)];
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(RocksDbKeyValueStorageBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
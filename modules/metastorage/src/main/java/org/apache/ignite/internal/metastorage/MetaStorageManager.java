@@ -34,6 +34,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.internal.cluster.management.ClusterManagementGroupManager;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.manager.IgniteComponent;
 import org.apache.ignite.internal.metastorage.client.CompactedException;
 import org.apache.ignite.internal.metastorage.client.Condition;
@@ -79,6 +81,9 @@ import org.jetbrains.annotations.Nullable;
  * </ul>
  */
 public class MetaStorageManager implements IgniteComponent {
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(MetaStorageManager.class);
+
     /** Meta storage raft group name. */
     private static final String METASTORAGE_RAFT_GROUP_NAME = "metastorage_raft_group";
 
@@ -108,6 +113,13 @@ public class MetaStorageManager implements IgniteComponent {
      */
     private final WatchAggregator watchAggregator = new WatchAggregator();
 
+    /**
+     * Local read cache of the meta storage, that serves reads of the registered key prefixes bounded by the already applied revision.
+     *
+     * @see #registerLocalCachePrefix(ByteArray)
+     */
+    private final MetaStorageReadCache readCache = new MetaStorageReadCache();
+
     /**
      * Future which will be completed with {@link IgniteUuid}, when aggregated watch will be successfully deployed. Can be resolved to
      * {@code null} if no watch deployed at the moment.
@@ -361,6 +373,24 @@ public class MetaStorageManager implements IgniteComponent {
         }
     }
 
+    /**
+     * Registers a key prefix, entries of which are replicated to the local read cache. The cache is kept current by a watch, so reads of
+     * these entries bounded by an already applied revision (e.g. by the revision of a watch event being processed, or by the applied
+     * revision) are served locally, without a round trip to the meta storage.
+     *
+     * <p>Prefixes must be registered before {@link #deployWatches()}. Watch listeners registered after the prefix observe the cache
+     * already updated with the event they are notified about.
+     *
+     * @param prefix Key prefix.
+     */
+    public synchronized void registerLocalCachePrefix(ByteArray prefix) {
+        assert !areWatchesDeployed : "Local cache prefixes must be registered before watches are deployed: " + prefix;
+
+        readCache.addPrefix(prefix);
+
+        watchAggregator.addPrefix(prefix, readCache);
+    }
+
     /**
      * Unregister watch listener by id.
      *
@@ -409,6 +439,12 @@ public class MetaStorageManager implements IgniteComponent {
         }
 
         try {
+            Entry cached = readCache.get(key, revUpperBound);
+
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+
             return metaStorageSvcFut.thenCompose(svc -> svc.get(key, revUpperBound));
         } finally {
             busyLock.leaveBusy();
@@ -443,6 +479,12 @@ public class MetaStorageManager implements IgniteComponent {
         }
 
         try {
+            Map<ByteArray, Entry> cached = readCache.getAll(keys, revUpperBound);
+
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+
             return metaStorageSvcFut.thenCompose(svc -> svc.getAll(keys, revUpperBound));
         } finally {
             busyLock.leaveBusy();
@@ -657,6 +699,12 @@ public class MetaStorageManager implements IgniteComponent {
         }
 
         try {
+            List<Entry> cached = readCache.range(keyFrom, keyTo, revUpperBound);
+
+            if (cached != null) {
+                return Cursor.fromIterator(cached.iterator());
+            }
+
             return new CursorWrapper<>(metaStorageSvcFut.thenApply(svc -> svc.range(keyFrom, keyTo, revUpperBound)));
         } finally {
             busyLock.leaveBusy();
@@ -714,7 +762,7 @@ public class MetaStorageManager implements IgniteComponent {
         try {
             CompletableFuture<Cursor<Entry>> cursorFuture = metaStorageSvcFut.thenCombine(
                     appliedRevision(),
-                    (svc, appliedRevision) -> svc.range(keyFrom, keyTo, appliedRevision)
+                    (svc, appliedRevision) -> cachedRange(svc, keyFrom, keyTo, appliedRevision)
             );
 
             return new CursorWrapper<>(cursorFuture);
@@ -746,7 +794,7 @@ public class MetaStorageManager implements IgniteComponent {
 
             CompletableFuture<Cursor<Entry>> cursorFuture = metaStorageSvcFut.thenCombine(
                     appliedRevision(),
-                    (svc, appliedRevision) -> svc.range(rangeCriterion.from(), rangeCriterion.to(), appliedRevision)
+                    (svc, appliedRevision) -> cachedRange(svc, rangeCriterion.from(), rangeCriterion.to(), appliedRevision)
             );
 
             return new CursorWrapper<>(cursorFuture);
@@ -791,6 +839,13 @@ public class MetaStorageManager implements IgniteComponent {
 
         try {
             var rangeCriterion = KeyCriterion.RangeCriterion.fromPrefixKey(keyPrefix);
+
+            List<Entry> cached = readCache.range(rangeCriterion.from(), rangeCriterion.to(), revUpperBound);
+
+            if (cached != null) {
+                return Cursor.fromIterator(cached.iterator());
+            }
+
             return new CursorWrapper<>(
                     metaStorageSvcFut.thenApply(svc -> svc.range(rangeCriterion.from(), rangeCriterion.to(), revUpperBound))
             );
@@ -816,6 +871,15 @@ public class MetaStorageManager implements IgniteComponent {
         }
     }
 
+    /**
+     * Retrieves entries for the given key range from the local read cache, if possible, or from the meta storage otherwise.
+     */
+    private Cursor<Entry> cachedRange(MetaStorageService svc, ByteArray keyFrom, @Nullable ByteArray keyTo, long revUpperBound) {
+        List<Entry> cached = readCache.range(keyFrom, keyTo, revUpperBound);
+
+        return cached != null ? Cursor.fromIterator(cached.iterator()) : svc.range(keyFrom, keyTo, revUpperBound);
+    }
+
     /**
      * Returns applied revision for {@link VaultManager#putAll} operation.
      */
@@ -848,13 +912,35 @@ public class MetaStorageManager implements IgniteComponent {
 
     private CompletableFuture<IgniteUuid> updateAggregatedWatch() {
         return appliedRevision()
-                .thenCompose(appliedRevision ->
-                        watchAggregator.watch(appliedRevision + 1, this::storeEntries)
+                .thenCompose(appliedRevision -> bootstrapReadCache(appliedRevision)
+                        .thenCompose(v -> watchAggregator.watch(appliedRevision + 1, this::storeEntries)
                                 .map(this::dispatchAppropriateMetaStorageWatch)
                                 .orElseGet(() -> CompletableFuture.completedFuture(null))
+                        )
                 );
     }
 
+    /**
+     * Loads the local read cache at the applied revision, if it hasn't been loaded yet. The cache is left disabled if loading fails, so
+     * that all the reads go to the meta storage.
+     *
+     * @param appliedRevision Applied revision, the watches are deployed from the next one.
+     * @return Future, which will be completed when the cache is loaded.
+     */
+    private CompletableFuture<Void> bootstrapReadCache(long appliedRevision) {
+        if (!readCache.needsBootstrap()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return metaStorageSvcFut
+                .thenAcceptAsync(svc -> readCache.bootstrap(svc, appliedRevision))
+                .exceptionally(e -> {
+                    LOG.warn("Unable to bootstrap meta storage read cache, the reads will be served by the meta storage", e);
+
+                    return null;
+                });
+    }
+
     /**
      * Store entries with appropriate associated revision.
      *
@@ -862,6 +948,9 @@ public class MetaStorageManager implements IgniteComponent {
      * @param revision associated revision.
      */
     private void storeEntries(Collection<IgniteBiTuple<ByteArray, byte[]>> entries, long revision) {
+        // All the listeners have been notified about the revision, including the read cache if any of its keys has been changed.
+        readCache.advance(revision);
+
         appliedRevision()
                 .thenCompose(appliedRevision -> {
                     if (revision <= appliedRevision) {
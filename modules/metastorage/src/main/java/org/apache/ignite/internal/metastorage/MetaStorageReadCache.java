@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage;
+
+import static org.apache.ignite.lang.ErrorGroups.MetaStorage.CURSOR_EXECUTION_ERR;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metastorage.client.Entry;
+import org.apache.ignite.internal.metastorage.client.EntryEvent;
+import org.apache.ignite.internal.metastorage.client.EntryImpl;
+import org.apache.ignite.internal.metastorage.client.MetaStorageService;
+import org.apache.ignite.internal.metastorage.client.WatchEvent;
+import org.apache.ignite.internal.metastorage.client.WatchListener;
+import org.apache.ignite.internal.metastorage.common.MetaStorageException;
+import org.apache.ignite.internal.metastorage.watch.KeyCriterion.RangeCriterion;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.lang.ByteArray;
+import org.apache.ignite.lang.IgniteSystemProperties;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Local read cache of the meta storage entries under the registered key prefixes.
+ *
+ * <p>The cache is bootstrapped by reading the prefixes at the applied revision and then kept current by the watch events, which are
+ * delivered in the revision order. So, once the cache has applied a revision, it holds every change of the cached keys up to that
+ * revision and can serve reads bounded by it without going to the meta storage. Reads of the latest revision are not served, because
+ * the cache can't know whether it lags behind the meta storage.
+ *
+ * <p>Only a few last versions of every key are kept, a read is served only if the versions it needs are still there.
+ */
+class MetaStorageReadCache implements WatchListener {
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(MetaStorageReadCache.class);
+
+    /** Maximum number of versions kept for a single key. */
+    private static final int HISTORY_SIZE = IgniteSystemProperties.getInteger("IGNITE_META_STORAGE_READ_CACHE_HISTORY_SIZE", 16);
+
+    /** Key ranges of the cached prefixes. */
+    private final List<RangeCriterion> ranges = new CopyOnWriteArrayList<>();
+
+    /** Versions of the cached keys. Guarded by {@link #lock}. */
+    private final NavigableMap<ByteArray, KeyHistory> entries = new TreeMap<>();
+
+    /** Lock that guards the cache state. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Revision the cache has been bootstrapped at, {@code -1} if the cache is not bootstrapped. Guarded by {@link #lock}. */
+    private long baseRevision = -1;
+
+    /** Revision up to which all the changes of the cached keys have been applied. Guarded by {@link #lock}. */
+    private long revision = -1;
+
+    /**
+     * Adds a key prefix to cache. Prefixes must be added before the cache is bootstrapped.
+     *
+     * @param prefix Key prefix.
+     */
+    void addPrefix(ByteArray prefix) {
+        ranges.add(RangeCriterion.fromPrefixKey(prefix));
+    }
+
+    /**
+     * Returns {@code true} if the cache should be bootstrapped: there are cached prefixes and the cache is not bootstrapped yet.
+     */
+    boolean needsBootstrap() {
+        if (ranges.isEmpty()) {
+            return false;
+        }
+
+        lock.readLock().lock();
+
+        try {
+            return baseRevision == -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the entries of the cached prefixes at the given revision. Watch events of the cached keys must be delivered to the cache
+     * starting from the next revision.
+     *
+     * @param svc Meta storage service.
+     * @param rev Revision to load the entries at.
+     */
+    void bootstrap(MetaStorageService svc, long rev) {
+        Map<ByteArray, Entry> loaded = new HashMap<>();
+
+        // There are no entries at the zero revision.
+        if (rev > 0) {
+            for (RangeCriterion range : ranges) {
+                // Tombstones are loaded too, because reads of a single key must return them.
+                try (Cursor<Entry> cursor = svc.range(range.from(), range.to(), rev, true)) {
+                    for (Entry e : cursor) {
+                        loaded.put(e.key(), e);
+                    }
+                } catch (Exception e) {
+                    throw new MetaStorageException(CURSOR_EXECUTION_ERR, e);
+                }
+            }
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            entries.clear();
+
+            loaded.forEach((key, e) -> entries.put(key, new KeyHistory(rev, e)));
+
+            baseRevision = rev;
+            revision = rev;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOG.info("Meta storage read cache is bootstrapped [revision={}, entries={}]", rev, loaded.size());
+    }
+
+    /**
+     * Notifies the cache that all the changes up to the given revision have been delivered.
+     *
+     * @param rev Revision.
+     */
+    void advance(long rev) {
+        lock.writeLock().lock();
+
+        try {
+            if (baseRevision != -1 && rev > revision) {
+                revision = rev;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean onUpdate(@NotNull WatchEvent evt) {
+        lock.writeLock().lock();
+
+        try {
+            if (baseRevision == -1) {
+                return true;
+            }
+
+            for (EntryEvent entryEvt : evt.entryEvents()) {
+                Entry e = entryEvt.newEntry();
+
+                KeyHistory history = entries.get(e.key());
+
+                // Watches are redeployed from the applied revision, so already applied events may be delivered again.
+                if (e.revision() <= baseRevision || history != null && e.revision() <= history.lastRevision()) {
+                    continue;
+                }
+
+                if (history == null) {
+                    history = new KeyHistory(baseRevision, null);
+
+                    entries.put(e.key(), history);
+                }
+
+                history.add(e);
+
+                revision = Math.max(revision, e.revision());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onError(@NotNull Throwable e) {
+        LOG.warn("Meta storage read cache has failed to process a watch event", e);
+    }
+
+    /**
+     * Retrieves an entry for the given key and the revision upper bound.
+     *
+     * @param key Key.
+     * @param revUpperBound The upper bound for entry revision.
+     * @return Entry or {@code null} if the read can't be served by the cache.
+     */
+    @Nullable Entry get(ByteArray key, long revUpperBound) {
+        if (!covers(key)) {
+            return null;
+        }
+
+        lock.readLock().lock();
+
+        try {
+            return canServe(revUpperBound) ? lookup(key, revUpperBound) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves entries for given keys and the revision upper bound.
+     *
+     * @param keys Keys.
+     * @param revUpperBound The upper bound for entry revisions.
+     * @return Entries or {@code null} if the read can't be served by the cache.
+     */
+    @Nullable Map<ByteArray, Entry> getAll(Set<ByteArray> keys, long revUpperBound) {
+        for (ByteArray key : keys) {
+            if (!covers(key)) {
+                return null;
+            }
+        }
+
+        lock.readLock().lock();
+
+        try {
+            if (!canServe(revUpperBound)) {
+                return null;
+            }
+
+            Map<ByteArray, Entry> res = new HashMap<>(keys.size());
+
+            for (ByteArray key : keys) {
+                Entry e = lookup(key, revUpperBound);
+
+                if (e == null) {
+                    return null;
+                }
+
+                res.put(key, e);
+            }
+
+            return res;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves entries for the given key range in lexicographic order, tombstones are skipped.
+     *
+     * @param keyFrom Start key of range (inclusive).
+     * @param keyTo End key of range (exclusive).
+     * @param revUpperBound The upper bound for entry revision.
+     * @return Entries or {@code null} if the read can't be served by the cache.
+     */
+    @Nullable List<Entry> range(ByteArray keyFrom, @Nullable ByteArray keyTo, long revUpperBound) {
+        if (!covers(keyFrom, keyTo)) {
+            return null;
+        }
+
+        lock.readLock().lock();
+
+        try {
+            if (!canServe(revUpperBound)) {
+                return null;
+            }
+
+            Collection<ByteArray> keys = keyTo == null
+                    ? entries.tailMap(keyFrom, true).keySet()
+                    : entries.subMap(keyFrom, true, keyTo, false).keySet();
+
+            List<Entry> res = new ArrayList<>(keys.size());
+
+            for (ByteArray key : keys) {
+                Entry e = lookup(key, revUpperBound);
+
+                if (e == null) {
+                    return null;
+                }
+
+                if (!e.empty() && !e.tombstone()) {
+                    res.add(e);
+                }
+            }
+
+            return res;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns {@code true} if a read bounded by the given revision can be served. Must be called under the read lock.
+     */
+    private boolean canServe(long revUpperBound) {
+        // Non-positive bound means the latest revision.
+        return baseRevision != -1 && revUpperBound > 0 && revUpperBound >= baseRevision && revUpperBound <= revision;
+    }
+
+    /**
+     * Looks up a version of the key. Must be called under the read lock.
+     *
+     * @return Entry or {@code null} if the version has been evicted.
+     */
+    private @Nullable Entry lookup(ByteArray key, long revUpperBound) {
+        KeyHistory history = entries.get(key);
+
+        return history == null ? EntryImpl.empty(key) : history.get(key, revUpperBound);
+    }
+
+    private boolean covers(ByteArray key) {
+        for (RangeCriterion range : ranges) {
+            if (range.contains(key)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean covers(ByteArray keyFrom, @Nullable ByteArray keyTo) {
+        if (keyTo == null) {
+            return false;
+        }
+
+        for (RangeCriterion range : ranges) {
+            if (keyFrom.compareTo(range.from()) >= 0 && (range.to() == null || keyTo.compareTo(range.to()) <= 0)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Versions of a single key.
+     */
+    private static class KeyHistory {
+        /** Versions of the key by revision. */
+        private final NavigableMap<Long, Entry> versions = new TreeMap<>();
+
+        /** Lowest revision a version of the key could be looked up at. */
+        private long historyStart;
+
+        /**
+         * Constructor.
+         *
+         * @param historyStart Lowest revision a version of the key could be looked up at.
+         * @param entry Version of the key at the {@code historyStart} revision, {@code null} if the key didn't exist.
+         */
+        KeyHistory(long historyStart, @Nullable Entry entry) {
+            this.historyStart = historyStart;
+
+            if (entry != null) {
+                versions.put(entry.revision(), entry);
+            }
+        }
+
+        /**
+         * Returns revision of the last version or {@code -1} if there are no versions.
+         */
+        long lastRevision() {
+            return versions.isEmpty() ? -1 : versions.lastKey();
+        }
+
+        /**
+         * Adds a new version.
+         *
+         * @param entry Version.
+         */
+        void add(Entry entry) {
+            versions.put(entry.revision(), entry);
+
+            if (versions.size() > HISTORY_SIZE) {
+                versions.pollFirstEntry();
+
+                historyStart = versions.firstKey();
+            }
+        }
+
+        /**
+         * Returns the version of the key at the given revision.
+         *
+         * @return Version or {@code null} if the version has been evicted.
+         */
+        @Nullable Entry get(ByteArray key, long revUpperBound) {
+            if (revUpperBound < historyStart) {
+                return null;
+            }
+
+            Map.Entry<Long, Entry> version = versions.floorEntry(revUpperBound);
+
+            return version == null ? EntryImpl.empty(key) : version.getValue();
+        }
+    }
+}
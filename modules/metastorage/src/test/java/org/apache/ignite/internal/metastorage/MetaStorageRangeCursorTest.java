@@ -33,6 +33,7 @@ import static org.mockito.Mockito.when;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -77,8 +78,9 @@ public class MetaStorageRangeCursorTest {
     public void testCursor(int elementsCount, int keyTo) {
         int limit = Math.min(keyTo, elementsCount);
 
-        when(storage.range(any(), any(), anyBoolean())).thenReturn(new TestCursor(iterator(limit)));
-        when(storage.range(any(), any(), anyLong(), anyBoolean())).thenReturn(new TestCursor(iterator(limit)));
+        // Range cursor reads the range by batches, every batch starts from the key next to the last one of the previous batch.
+        when(storage.range(any(), any(), anyLong(), anyBoolean()))
+                .thenAnswer(invocation -> new TestCursor(iterator(limit, invocation.getArgument(0))));
 
         listener = new MetaStorageListener(storage);
 
@@ -122,8 +124,11 @@ public class MetaStorageRangeCursorTest {
         assertFalse(range.hasNext());
     }
 
-    private Iterator<Entry> iterator(int elementsCount) {
-        return IntStream.range(0, elementsCount).mapToObj(this::intToEntry).iterator();
+    private Iterator<Entry> iterator(int elementsCount, byte[] keyFrom) {
+        return IntStream.range(0, elementsCount)
+                .mapToObj(this::intToEntry)
+                .filter(e -> Arrays.compareUnsigned(e.key(), keyFrom) >= 0)
+                .iterator();
     }
 
     private Entry intToEntry(int i) {
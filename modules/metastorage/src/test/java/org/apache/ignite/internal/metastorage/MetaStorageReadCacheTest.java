@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.ignite.internal.metastorage.client.Entry;
+import org.apache.ignite.internal.metastorage.client.EntryEvent;
+import org.apache.ignite.internal.metastorage.client.MetaStorageService;
+import org.apache.ignite.internal.metastorage.client.WatchEvent;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.lang.ByteArray;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link MetaStorageReadCache}.
+ */
+public class MetaStorageReadCacheTest {
+    /** Cached prefix. */
+    private static final ByteArray PREFIX = new ByteArray("cached.");
+
+    /** Revision the cache is bootstrapped at. */
+    private static final long BASE_REV = 10;
+
+    private final MetaStorageReadCache cache = new MetaStorageReadCache();
+
+    @BeforeEach
+    void setUp() {
+        cache.addPrefix(PREFIX);
+
+        MetaStorageService svc = mock(MetaStorageService.class);
+
+        when(svc.range(eq(PREFIX), eq(new ByteArray("cached/")), eq(BASE_REV), eq(true))).thenReturn(Cursor.fromIterator(List.of(
+                entry("cached.a", "a5", 5),
+                entry("cached.b", null, 7)
+        ).iterator()));
+
+        assertTrue(cache.needsBootstrap());
+
+        cache.bootstrap(svc, BASE_REV);
+    }
+
+    @Test
+    public void testBootstrap() {
+        assertValue("a5", cache.get(new ByteArray("cached.a"), BASE_REV));
+
+        assertTrue(cache.get(new ByteArray("cached.b"), BASE_REV).tombstone());
+        assertTrue(cache.get(new ByteArray("cached.c"), BASE_REV).empty());
+
+        // Keys out of the cached prefixes, reads of the latest revision or of not yet applied or older revisions are not served.
+        assertNull(cache.get(new ByteArray("other.a"), BASE_REV));
+        assertNull(cache.get(new ByteArray("cached.a"), -1));
+        assertNull(cache.get(new ByteArray("cached.a"), BASE_REV + 1));
+        assertNull(cache.get(new ByteArray("cached.a"), BASE_REV - 1));
+    }
+
+    @Test
+    public void testUpdates() {
+        cache.onUpdate(event(entry("cached.a", "a11", 11), entry("cached.c", "c11", 11)));
+        cache.onUpdate(event(entry("cached.a", null, 13)));
+
+        // Replayed event is ignored.
+        cache.onUpdate(event(entry("cached.a", "a11", 11)));
+
+        assertValue("a5", cache.get(new ByteArray("cached.a"), BASE_REV));
+        assertValue("a11", cache.get(new ByteArray("cached.a"), 12));
+        assertTrue(cache.get(new ByteArray("cached.a"), 13).tombstone());
+        assertTrue(cache.get(new ByteArray("cached.c"), BASE_REV).empty());
+        assertValue("c11", cache.get(new ByteArray("cached.c"), 13));
+
+        assertNull(cache.get(new ByteArray("cached.a"), 14));
+
+        cache.advance(14);
+
+        assertTrue(cache.get(new ByteArray("cached.a"), 14).tombstone());
+
+        Map<ByteArray, Entry> all = cache.getAll(Set.of(new ByteArray("cached.a"), new ByteArray("cached.d")), 12);
+
+        assertNotNull(all);
+        assertValue("a11", all.get(new ByteArray("cached.a")));
+        assertTrue(all.get(new ByteArray("cached.d")).empty());
+
+        assertNull(cache.getAll(Set.of(new ByteArray("cached.a"), new ByteArray("other.a")), 12));
+    }
+
+    @Test
+    public void testRange() {
+        cache.onUpdate(event(entry("cached.c", "c11", 11)));
+
+        assertEquals(List.of("cached.a"), keys(cache.range(PREFIX, new ByteArray("cached/"), BASE_REV)));
+        assertEquals(List.of("cached.a", "cached.c"), keys(cache.range(PREFIX, new ByteArray("cached/"), 11)));
+        assertEquals(List.of("cached.c"), keys(cache.range(new ByteArray("cached.b"), new ByteArray("cached.d"), 11)));
+
+        // Ranges that are not covered by the cached prefixes are not served.
+        assertNull(cache.range(PREFIX, null, 11));
+        assertNull(cache.range(new ByteArray("cache"), new ByteArray("cached.d"), 11));
+    }
+
+    @Test
+    public void testHistoryEviction() {
+        for (int rev = 11; rev < 100; rev++) {
+            cache.onUpdate(event(entry("cached.a", "a" + rev, rev)));
+        }
+
+        // Old versions have been evicted.
+        assertNull(cache.get(new ByteArray("cached.a"), BASE_REV));
+        assertNull(cache.range(PREFIX, new ByteArray("cached/"), BASE_REV));
+
+        assertValue("a99", cache.get(new ByteArray("cached.a"), 99));
+        assertValue("a98", cache.get(new ByteArray("cached.a"), 98));
+
+        // Keys without evicted versions are still served.
+        assertTrue(cache.get(new ByteArray("cached.b"), BASE_REV).tombstone());
+    }
+
+    private static void assertValue(String expected, @Nullable Entry entry) {
+        assertNotNull(entry);
+
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), entry.value());
+    }
+
+    private static List<String> keys(@Nullable List<Entry> entries) {
+        assertNotNull(entries);
+
+        return entries.stream().map(e -> new String(e.key().bytes(), StandardCharsets.UTF_8)).collect(toList());
+    }
+
+    private static WatchEvent event(Entry... entries) {
+        return new WatchEvent(List.of(entries).stream().map(e -> new EntryEvent(e, e)).collect(toList()));
+    }
+
+    private static Entry entry(String key, @Nullable String val, long revision) {
+        return new Entry() {
+            /** {@inheritDoc} */
+            @Override
+            public @NotNull ByteArray key() {
+                return new ByteArray(key);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public @Nullable byte[] value() {
+                return val == null ? null : val.getBytes(StandardCharsets.UTF_8);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public long revision() {
+                return revision;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public long updateCounter() {
+                return revision;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public boolean empty() {
+                return false;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public boolean tombstone() {
+                return val == null;
+            }
+        };
+    }
+}
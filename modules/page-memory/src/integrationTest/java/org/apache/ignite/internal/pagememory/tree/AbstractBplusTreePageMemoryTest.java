@@ -21,6 +21,7 @@ import static java.util.Collections.emptyIterator;
 import static java.util.Collections.shuffle;
 import static java.util.Collections.singleton;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.datastructure.DataStructure.rnd;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getPageId;
@@ -41,6 +42,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -72,6 +74,7 @@ import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
+import java.util.stream.LongStream;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.PageMemory;
@@ -1964,6 +1967,153 @@ public abstract class AbstractBplusTreePageMemoryTest extends BaseIgniteAbstract
         assertNoLocks();
     }
 
+    @Test
+    public void testPutAllSorted() throws Exception {
+        MAX_PER_PAGE = 5;
+
+        TestTree tree = createTestTree(true);
+
+        List<Long> rows = LongStream.range(0, 1000).boxed().collect(toList());
+
+        tree.putAll(rows.iterator());
+
+        tree.validateTree();
+
+        checkCursor(tree.find(null, null), rows.iterator());
+        assertEquals(rows.size(), tree.size());
+
+        assertNoLocks();
+    }
+
+    @Test
+    public void testPutAllUnsortedWithReplace() throws Exception {
+        MAX_PER_PAGE = 5;
+
+        TestTree tree = createTestTree(true);
+
+        for (long i = 0; i < 1000; i += 2) {
+            tree.put(i);
+        }
+
+        List<Long> rows = LongStream.range(0, 1000).boxed().collect(toList());
+
+        shuffle(rows, rnd);
+
+        tree.putAll(rows.iterator());
+
+        tree.validateTree();
+
+        checkCursor(tree.find(null, null), LongStream.range(0, 1000).boxed().iterator());
+        assertEquals(1000, tree.size());
+
+        assertNoLocks();
+    }
+
+    @Test
+    public void testBulkLoad() throws Exception {
+        MAX_PER_PAGE = 5;
+
+        for (float fillFactor : new float[] {1f, 0.7f, 0.1f}) {
+            for (int cnt : new int[] {1, 5, 6, 25, 26, 126, 1000}) {
+                TestTree tree = createTestTree(true);
+
+                tree.bulkLoad(LongStream.range(0, cnt).map(i -> i * 2).boxed().iterator(), fillFactor);
+
+                tree.validateTree();
+
+                checkCursor(tree.find(null, null), LongStream.range(0, cnt).map(i -> i * 2).boxed().iterator());
+                assertEquals(cnt, tree.size());
+
+                for (long i = 0; i < cnt; i++) {
+                    assertEquals((Long) (i * 2), tree.findOne(i * 2));
+                    assertNull(tree.findOne(i * 2 + 1));
+                }
+
+                // The loaded tree must support regular modifications.
+                for (long i = 0; i < cnt; i++) {
+                    tree.put(i * 2 + 1);
+                }
+
+                for (long i = 0; i < cnt; i += 3) {
+                    tree.remove(i * 2);
+                }
+
+                tree.validateTree();
+
+                assertEquals(cnt * 2 - (cnt + 2) / 3, tree.size());
+
+                assertNoLocks();
+            }
+        }
+    }
+
+    @Test
+    public void testBulkLoadUnsortedRows() throws Exception {
+        MAX_PER_PAGE = 5;
+
+        TestTree tree = createTestTree(true);
+
+        Iterator<Long> rows = LongStream.concat(LongStream.range(0, 100), LongStream.of(50)).boxed().iterator();
+
+        assertThrows(IllegalArgumentException.class, () -> tree.bulkLoad(rows, 1f));
+
+        // The rows loaded before the failure are kept.
+        tree.validateTree();
+
+        checkCursor(tree.find(null, null), LongStream.range(0, 100).boxed().iterator());
+
+        assertThrows(IgniteInternalCheckedException.class, () -> tree.bulkLoad(singleton(1000L).iterator(), 1f));
+
+        assertNoLocks();
+    }
+
+    @Test
+    public void testPutAllAndBulkLoadAreEquivalentToPut() throws Exception {
+        MAX_PER_PAGE = 5;
+
+        TreeSet<Long> rows = new TreeSet<>();
+
+        while (rows.size() < 2_000) {
+            rows.add((long) rnd.nextInt(100_000));
+        }
+
+        TestTree putTree = createTestTree(true);
+
+        for (Long row : rows) {
+            putTree.put(row);
+        }
+
+        TestTree putAllTree = createTestTree(true);
+
+        putAllTree.putAll(rows.iterator());
+
+        TestTree bulkLoadTree = createTestTree(true);
+
+        bulkLoadTree.bulkLoad(rows.iterator(), 0.6f);
+
+        for (TestTree tree : List.of(putTree, putAllTree, bulkLoadTree)) {
+            tree.validateTree();
+
+            assertEquals(rows.size(), tree.size());
+
+            checkCursor(tree.find(null, null), rows.iterator());
+
+            for (int i = 0; i < 100; i++) {
+                long lower = rnd.nextInt(100_000);
+                long upper = lower + rnd.nextInt(10_000);
+
+                checkCursor(tree.find(lower, upper), rows.subSet(lower, true, upper, true).iterator());
+
+                assertEquals(rows.contains(lower) ? (Long) lower : null, tree.findOne(lower));
+            }
+
+            assertEquals(rows.first(), tree.findFirst());
+            assertEquals(rows.last(), tree.findLast());
+        }
+
+        assertNoLocks();
+    }
+
     @Test
     public void testIterate() throws Exception {
         MAX_PER_PAGE = 5;
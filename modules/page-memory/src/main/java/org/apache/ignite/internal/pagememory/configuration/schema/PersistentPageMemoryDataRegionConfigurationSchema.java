@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.Constants.MiB;
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
 
 /**
  * Persistent data region configuration schema.
@@ -40,6 +41,15 @@ public class PersistentPageMemoryDataRegionConfigurationSchema extends BasePageM
     /** CLOCK page replacement algorithm. */
     public static final String CLOCK_REPLACEMENT_MODE = "CLOCK";
 
+    /** Pages are written to disk as is. */
+    public static final String DISABLED_PAGE_COMPRESSION = "DISABLED";
+
+    /** Unused space of the pages is not written to disk. */
+    public static final String SKIP_GARBAGE_PAGE_COMPRESSION = "SKIP_GARBAGE";
+
+    /** Unused space of the pages is not written to disk, the rest of the pages is compressed with the Deflate algorithm. */
+    public static final String DEFLATE_PAGE_COMPRESSION = "DEFLATE";
+
     /** Memory region size in bytes. */
     @Value(hasDefault = true)
     public long size = DFLT_DATA_REGION_SIZE;
@@ -48,4 +58,28 @@ public class PersistentPageMemoryDataRegionConfigurationSchema extends BasePageM
     @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE})
     @Value(hasDefault = true)
     public String replacementMode = CLOCK_REPLACEMENT_MODE;
+
+    /** Compression of the pages written to disk by the checkpointer and the page replacement. */
+    @OneOf({DISABLED_PAGE_COMPRESSION, SKIP_GARBAGE_PAGE_COMPRESSION, DEFLATE_PAGE_COMPRESSION})
+    @Value(hasDefault = true)
+    public String pageCompression = DISABLED_PAGE_COMPRESSION;
+
+    /** Compression level for the {@link #DEFLATE_PAGE_COMPRESSION}, from 1 (fastest) to 9 (best compression). */
+    @Range(min = 1, max = 9)
+    @Value(hasDefault = true)
+    public int pageCompressionLevel = 1;
+
+    /** Whether the hot pages are recorded periodically and loaded back into memory after a restart. */
+    @Value(hasDefault = true)
+    public boolean warmUp = false;
+
+    /** Frequency of recording the hot pages for the warm-up, in milliseconds. */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public long warmUpRecordFrequency = 60_000;
+
+    /** Maximum number of pages read per second by the warm-up. */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public int warmUpPagesPerSecond = 10_000;
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import java.util.List;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+
+/**
+ * Removes rows that live on a data page chosen for eviction by a {@link PageAbstractEvictionTracker}.
+ *
+ * <p>The tracker only knows about pages, while rows belong to storages built on top of the page memory: the evictor is the place where
+ * a storage removes the rows (and everything they reference) consistently with its own indexes.
+ */
+@FunctionalInterface
+public interface DataPageEvictor {
+    /**
+     * Evicts rows by the links of the items of a data page. Called without any page lock held, so some of the items may have been
+     * removed or reused concurrently; such items must be skipped. Rows that cannot be evicted right now (for example, rows that are being
+     * modified by an active transaction) must be skipped as well.
+     *
+     * @param pageId ID of the data page.
+     * @param links Links to all items of the data page at the moment it was chosen for eviction.
+     * @return {@code True} if at least one row has been evicted.
+     * @throws IgniteInternalCheckedException In case of page memory error.
+     */
+    boolean evictRows(long pageId, List<Long> links) throws IgniteInternalCheckedException;
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.internal.util.FastTimestamps;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+
+/**
+ * Base class for the {@link PageEvictionTracker}s of a {@link VolatilePageMemory}.
+ *
+ * <p>Implementations keep a compact access timestamp for every page of the data region in an off-heap tracking array indexed by the page
+ * sequence number, a zero timestamp meaning that the page is not a data page with rows (or has not been touched yet). Eviction picks the
+ * page with the smallest {@link #evictionTimestamp eviction timestamp} out of a random sample of {@link #SAMPLE_SIZE} data pages and passes
+ * its items to a {@link DataPageEvictor}.
+ */
+public abstract class PageAbstractEvictionTracker implements PageEvictionTracker {
+    /** Logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(PageAbstractEvictionTracker.class);
+
+    /** Maximum number of sampled pages whose eviction may fail in a row. */
+    private static final int EVICT_ATTEMPTS_LIMIT = 30;
+
+    /** Number of data pages in a sample. */
+    private static final int SAMPLE_SIZE = 5;
+
+    /** Maximum number of random probes of the tracking array to collect a sample. */
+    private static final int SAMPLE_SPIN_LIMIT = SAMPLE_SIZE * 1000;
+
+    /** Number of bits of the millisecond timestamp that are cut off to make it compact. */
+    private static final int COMPACT_TS_SHIFT = 8;
+
+    /** Number of milliseconds in one day. */
+    private static final long DAY = 24 * 60 * 60 * 1000;
+
+    /** Page memory. */
+    protected final VolatilePageMemory pageMem;
+
+    /** Number of pages the tracking array is able to hold: the maximum number of pages of the data region. */
+    protected final int trackedPagesCnt;
+
+    /** Evictor of the rows of the chosen page. */
+    private final DataPageEvictor evictor;
+
+    /** Supplier of the number of empty data pages that are ready to be reused. */
+    private final IntSupplier emptyDataPages;
+
+    /** Share of the data region pages after which the eviction starts. */
+    private final double evictionThreshold;
+
+    /** Number of empty data pages the eviction tries to keep. */
+    private final int emptyPagesPoolSize;
+
+    /** Base compact timestamp, to keep compact timestamps small and positive. */
+    private final long baseCompactTs;
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Started page memory.
+     * @param evictionThreshold Share of the data region pages after which the eviction starts.
+     * @param emptyPagesPoolSize Number of empty data pages the eviction tries to keep.
+     * @param emptyDataPages Supplier of the number of empty data pages that are ready to be reused.
+     * @param evictor Evictor of the rows of the chosen page.
+     */
+    protected PageAbstractEvictionTracker(
+            VolatilePageMemory pageMem,
+            double evictionThreshold,
+            int emptyPagesPoolSize,
+            IntSupplier emptyDataPages,
+            DataPageEvictor evictor
+    ) {
+        this.pageMem = pageMem;
+        this.evictionThreshold = evictionThreshold;
+        this.emptyPagesPoolSize = emptyPagesPoolSize;
+        this.emptyDataPages = emptyDataPages;
+        this.evictor = evictor;
+
+        trackedPagesCnt = pageMem.totalPages();
+
+        // Started one day ago to avoid integer overflow on overflow of the millisecond counter.
+        baseCompactTs = (FastTimestamps.coarseCurrentTimeMillis() - DAY) >> COMPACT_TS_SHIFT;
+    }
+
+    /**
+     * Allocates the tracking array.
+     */
+    public abstract void start();
+
+    /**
+     * Releases the tracking array.
+     */
+    public abstract void stop();
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean evictionRequired() {
+        return pageMem.loadedPages() > trackedPagesCnt * evictionThreshold && emptyDataPages.getAsInt() < emptyPagesPoolSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictDataPage() throws IgniteInternalCheckedException {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int evictAttemptsCnt = 0; evictAttemptsCnt < EVICT_ATTEMPTS_LIMIT; evictAttemptsCnt++) {
+            int lruTrackingIdx = -1;
+
+            int lruCompactTs = Integer.MAX_VALUE;
+
+            int dataPagesCnt = 0;
+
+            int sampleSpinCnt = 0;
+
+            while (dataPagesCnt < SAMPLE_SIZE) {
+                int sampleTrackingIdx = rnd.nextInt(trackedPagesCnt);
+
+                int compactTs = evictionTimestamp(sampleTrackingIdx);
+
+                if (compactTs >= 0) {
+                    // We chose a data page with at least one row.
+                    if (compactTs < lruCompactTs) {
+                        lruTrackingIdx = sampleTrackingIdx;
+
+                        lruCompactTs = compactTs;
+                    }
+
+                    dataPagesCnt++;
+                }
+
+                if (++sampleSpinCnt > SAMPLE_SPIN_LIMIT) {
+                    LOG.warn("Too many attempts to choose a data page for eviction [limit={}]", SAMPLE_SPIN_LIMIT);
+
+                    return;
+                }
+            }
+
+            if (evictDataPage(pageIdx(lruTrackingIdx))) {
+                return;
+            }
+        }
+
+        LOG.warn("Too many failed attempts to evict a data page [limit={}]", EVICT_ATTEMPTS_LIMIT);
+    }
+
+    /**
+     * Evicts the rows of the data page with the given index.
+     *
+     * @param pageIdx Page index.
+     * @return {@code True} if at least one row has been evicted, {@code false} if the page is no longer a tracked data page or none of its
+     *      rows could be evicted.
+     * @throws IgniteInternalCheckedException In case of page memory error.
+     */
+    protected final boolean evictDataPage(int pageIdx) throws IgniteInternalCheckedException {
+        // The volatile page memory locates pages by index only, the rest of the page ID does not matter for it.
+        long fakePageId = PageIdUtils.pageId(0, (byte) 0, pageIdx);
+
+        long page = pageMem.acquirePage(0, fakePageId);
+
+        long realPageId;
+        List<Long> links;
+
+        try {
+            long pageAddr = pageMem.readLockForce(0, fakePageId, page);
+
+            try {
+                if (PageIo.getType(pageAddr) == 0) {
+                    return false;
+                }
+
+                PageIo io = pageMem.ioRegistry().resolve(pageAddr);
+
+                if (!(io instanceof AbstractDataPageIo)) {
+                    // The page has been recycled into a non-data page.
+                    return false;
+                }
+
+                realPageId = PageIo.getPageId(pageAddr);
+
+                if (!checkTouch(realPageId)) {
+                    // The page has become empty since it was sampled.
+                    return false;
+                }
+
+                links = ((AbstractDataPageIo<?>) io).forAllItems(pageAddr, link -> link);
+            } finally {
+                pageMem.readUnlock(0, fakePageId, page);
+            }
+        } finally {
+            pageMem.releasePage(0, fakePageId, page);
+        }
+
+        return evictor.evictRows(realPageId, links);
+    }
+
+    /**
+     * Returns the compact timestamp by which the sampled data pages are compared, the page with the smallest one is evicted.
+     *
+     * @param trackingIdx Position of the page in the tracking array.
+     * @return Compact timestamp, negative if the page is not a tracked data page.
+     */
+    protected abstract int evictionTimestamp(int trackingIdx);
+
+    /**
+     * Checks that the page is tracked, that is it has been touched since it was last forgotten.
+     *
+     * @param pageId Page ID.
+     */
+    protected abstract boolean checkTouch(long pageId);
+
+    /**
+     * Returns the compact timestamp for the given time, always positive for the time after the tracker creation.
+     *
+     * @param epochMilli Time in milliseconds.
+     */
+    protected int compactTimestamp(long epochMilli) {
+        long res = (epochMilli >> COMPACT_TS_SHIFT) - baseCompactTs;
+
+        assert res > 0 && res < Integer.MAX_VALUE : res;
+
+        return (int) res;
+    }
+
+    /**
+     * Returns the compact timestamp of the current moment.
+     */
+    protected int currentCompactTimestamp() {
+        return compactTimestamp(FastTimestamps.coarseCurrentTimeMillis());
+    }
+
+    /**
+     * Returns the position of the page in the tracking array.
+     *
+     * @param pageIdx Page index.
+     */
+    protected int trackingIdx(int pageIdx) {
+        return pageMem.pageSequenceNumber(pageIdx);
+    }
+
+    /**
+     * Returns the index of the page by its position in the tracking array.
+     *
+     * @param trackingIdx Position in the tracking array.
+     */
+    protected int pageIdx(int trackingIdx) {
+        return pageMem.pageIndex(trackingIdx);
+    }
+}
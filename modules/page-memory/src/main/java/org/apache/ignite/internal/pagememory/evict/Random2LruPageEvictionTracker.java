@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Random-2-LRU eviction tracker: keeps the timestamps of the two last accesses of every data page and evicts the page with the oldest
+ * penultimate access out of a random sample of data pages. Unlike Random-LRU, a single full scan does not push out
+ * the pages that are accessed regularly.
+ */
+public class Random2LruPageEvictionTracker extends PageAbstractEvictionTracker {
+    /** Address of the off-heap tracking array: two compact timestamps per page. */
+    private volatile long trackingArrPtr;
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Started page memory.
+     * @param evictionThreshold Share of the data region pages after which the eviction starts.
+     * @param emptyPagesPoolSize Number of empty data pages the eviction tries to keep.
+     * @param emptyDataPages Supplier of the number of empty data pages that are ready to be reused.
+     * @param evictor Evictor of the rows of the chosen page.
+     */
+    public Random2LruPageEvictionTracker(
+            VolatilePageMemory pageMem,
+            double evictionThreshold,
+            int emptyPagesPoolSize,
+            IntSupplier emptyDataPages,
+            DataPageEvictor evictor
+    ) {
+        super(pageMem, evictionThreshold, emptyPagesPoolSize, emptyDataPages, evictor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        long size = trackedPagesCnt * 8L;
+
+        long ptr = GridUnsafe.allocateMemory(size);
+
+        GridUnsafe.setMemory(ptr, size, (byte) 0);
+
+        trackingArrPtr = ptr;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        long ptr = trackingArrPtr;
+
+        if (ptr != 0) {
+            trackingArrPtr = 0;
+
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchPage(long pageId) {
+        long firstTsAddr = trackingArrPtr + trackingIdx(PageIdUtils.pageIndex(pageId)) * 8L;
+
+        int firstTs = GridUnsafe.getIntVolatile(null, firstTsAddr);
+        int secondTs = GridUnsafe.getIntVolatile(null, firstTsAddr + 4);
+
+        // Overwrite the older of the two accesses.
+        GridUnsafe.putIntVolatile(null, firstTs <= secondTs ? firstTsAddr : firstTsAddr + 4, currentCompactTimestamp());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int evictionTimestamp(int trackingIdx) {
+        int firstTs = GridUnsafe.getIntVolatile(null, trackingArrPtr + trackingIdx * 8L);
+        int secondTs = GridUnsafe.getIntVolatile(null, trackingArrPtr + trackingIdx * 8L + 4);
+
+        if (firstTs == 0 && secondTs == 0) {
+            return -1;
+        }
+
+        // A page accessed only once has zero penultimate access.
+        return Math.min(firstTs, secondTs);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean checkTouch(long pageId) {
+        long firstTsAddr = trackingArrPtr + trackingIdx(PageIdUtils.pageIndex(pageId)) * 8L;
+
+        return GridUnsafe.getIntVolatile(null, firstTsAddr) != 0 || GridUnsafe.getIntVolatile(null, firstTsAddr + 4) != 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forgetPage(long pageId) {
+        int trackingIdx = trackingIdx(PageIdUtils.pageIndex(pageId));
+
+        GridUnsafe.putLongVolatile(null, trackingArrPtr + trackingIdx * 8L, 0L);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Random-LRU eviction tracker: keeps the timestamp of the last access of every data page and evicts the least recently used page out of a
+ * random sample of data pages.
+ */
+public class RandomLruPageEvictionTracker extends PageAbstractEvictionTracker {
+    /** Address of the off-heap tracking array: one compact timestamp per page. */
+    private volatile long trackingArrPtr;
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Started page memory.
+     * @param evictionThreshold Share of the data region pages after which the eviction starts.
+     * @param emptyPagesPoolSize Number of empty data pages the eviction tries to keep.
+     * @param emptyDataPages Supplier of the number of empty data pages that are ready to be reused.
+     * @param evictor Evictor of the rows of the chosen page.
+     */
+    public RandomLruPageEvictionTracker(
+            VolatilePageMemory pageMem,
+            double evictionThreshold,
+            int emptyPagesPoolSize,
+            IntSupplier emptyDataPages,
+            DataPageEvictor evictor
+    ) {
+        super(pageMem, evictionThreshold, emptyPagesPoolSize, emptyDataPages, evictor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        long size = trackedPagesCnt * 4L;
+
+        long ptr = GridUnsafe.allocateMemory(size);
+
+        GridUnsafe.setMemory(ptr, size, (byte) 0);
+
+        trackingArrPtr = ptr;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        long ptr = trackingArrPtr;
+
+        if (ptr != 0) {
+            trackingArrPtr = 0;
+
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchPage(long pageId) {
+        int trackingIdx = trackingIdx(PageIdUtils.pageIndex(pageId));
+
+        GridUnsafe.putIntVolatile(null, trackingArrPtr + trackingIdx * 4L, currentCompactTimestamp());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int evictionTimestamp(int trackingIdx) {
+        int compactTs = GridUnsafe.getIntVolatile(null, trackingArrPtr + trackingIdx * 4L);
+
+        return compactTs == 0 ? -1 : compactTs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean checkTouch(long pageId) {
+        int trackingIdx = trackingIdx(PageIdUtils.pageIndex(pageId));
+
+        return GridUnsafe.getIntVolatile(null, trackingArrPtr + trackingIdx * 4L) != 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forgetPage(long pageId) {
+        int trackingIdx = trackingIdx(PageIdUtils.pageIndex(pageId));
+
+        GridUnsafe.putIntVolatile(null, trackingArrPtr + trackingIdx * 4L, 0);
+    }
+}
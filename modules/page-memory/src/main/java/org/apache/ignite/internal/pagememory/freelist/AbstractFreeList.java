@@ -92,6 +92,9 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
     /** Write multiple rows on a single page. */
     private final WriteRowsHandler writeRowsHnd = new WriteRowsHandler();
 
+    /** Write a single row on a specific data page handler. */
+    private final WriteRowOnPageHandler writeRowOnPageHnd = new WriteRowOnPageHandler();
+
     private final PageHandler<ReuseBag, Long> rmvRow;
 
     private final class UpdateRowHandler implements PageHandler<T, Boolean> {
@@ -291,6 +294,44 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         }
     }
 
+    private final class WriteRowOnPageHandler implements PageHandler<T, Integer> {
+        /** {@inheritDoc} */
+        @Override
+        public Integer run(
+                int cacheId,
+                long pageId,
+                long page,
+                long pageAddr,
+                PageIo iox,
+                T row,
+                int intArg,
+                IoStatisticsHolder statHolder
+        ) throws IgniteInternalCheckedException {
+            AbstractDataPageIo<T> io = (AbstractDataPageIo<T>) iox;
+
+            int freeSpace = io.getFreeSpace(pageAddr);
+
+            if (freeSpace <= MIN_PAGE_FREE_SPACE || freeSpace < row.size()) {
+                return FAIL_I;
+            }
+
+            // The page must be taken out of its bucket first, unless it has been concurrently taken for put by someone else.
+            long bucketPageId = grpId == 0 ? PageIdUtils.maskPartitionId(pageId) : pageId;
+
+            if (!removeDataPage(bucketPageId, pageAddr, io, bucket(freeSpace, false), statHolder)) {
+                return FAIL_I;
+            }
+
+            int written = writeRowHnd.addRow(pageId, pageAddr, io, row, 0);
+
+            assert written == COMPLETE : written;
+
+            writeRowHnd.putPage(io.getFreeSpace(pageAddr), pageId, pageAddr, statHolder);
+
+            return written;
+        }
+    }
+
     private final class RemoveRowHandler implements PageHandler<ReuseBag, Long> {
         /** Indicates whether partition ID should be masked from page ID. */
         private final boolean maskPartId;
@@ -546,6 +587,33 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         }
     }
 
+    /**
+     * Inserts a row trying to place it on the same data page as another row, so that rows that are read together share a page. If that
+     * page does not have enough free space, the row is inserted as usual.
+     *
+     * @param row Row.
+     * @param neighbourLink Link of the row near which the row should be placed, {@code 0} if there is no such row.
+     * @param statHolder Statistics holder to track IO operations.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void insertDataRow(T row, long neighbourLink, IoStatisticsHolder statHolder) throws IgniteInternalCheckedException {
+        if (neighbourLink != 0L && row.size() < minSizeForDataPage) {
+            try {
+                long pageId = PageIdUtils.changePartitionId(pageId(neighbourLink), row.partition());
+
+                if (write(pageId, writeRowOnPageHnd, row, 0, FAIL_I, statHolder) == COMPLETE) {
+                    return;
+                }
+            } catch (IgniteInternalCheckedException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new CorruptedFreeListException("Failed to insert data row", t, grpId);
+            }
+        }
+
+        insertDataRow(row, statHolder);
+    }
+
     /**
      * Reduces the workload on the free list by writing multiple rows into a single memory page at once.
      *
@@ -159,7 +159,7 @@ import org.jetbrains.annotations.Nullable;
  *     +-----------------------------------------------------------------------+
  * </pre>
  */
-public abstract class AbstractDataPageIo<T extends Storable> extends PageIo {
+public abstract class AbstractDataPageIo<T extends Storable> extends PageIo implements CompactablePageIo {
     private static final int SHOW_ITEM = 0b0001;
 
     private static final int SHOW_PAYLOAD_LEN = 0b0010;
@@ -331,6 +331,18 @@ public abstract class AbstractDataPageIo<T extends Storable> extends PageIo {
         PageUtils.putShort(pageAddr, FREE_SPACE_OFF, (short) freeSpace);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int unusedSpaceOffset(long pageAddr, int pageSize) {
+        return ITEMS_OFF + ITEM_SIZE * (getDirectCount(pageAddr) + getIndirectCount(pageAddr));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int unusedSpaceSize(long pageAddr, int pageSize) {
+        return getFirstEntryOffset(pageAddr) - unusedSpaceOffset(pageAddr, pageSize);
+    }
+
     /**
      * Returns free space refers to a "max row size (without any data page specific overhead) which is guaranteed to fit into this data
      * page".
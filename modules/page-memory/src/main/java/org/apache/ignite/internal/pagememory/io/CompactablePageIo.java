@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.io;
+
+/**
+ * Page IO that keeps a single contiguous region of unused space inside of its pages.
+ *
+ * <p>Such a region holds garbage and does not have to be written to disk: page compression cuts it out of the page image and fills it
+ * with zeroes when the page is read back.
+ */
+public interface CompactablePageIo {
+    /**
+     * Returns the offset of the unused space in the page.
+     *
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     */
+    int unusedSpaceOffset(long pageAddr, int pageSize);
+
+    /**
+     * Returns the size of the unused space in the page, in bytes.
+     *
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     */
+    int unusedSpaceSize(long pageAddr, int pageSize);
+}
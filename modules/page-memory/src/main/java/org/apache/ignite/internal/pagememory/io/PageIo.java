@@ -86,11 +86,11 @@ public abstract class PageIo {
     /** Offset for "short" compacted size. */
     private static final int COMPACTED_SIZE_OFF = COMPRESSED_SIZE_OFF + Short.BYTES;
 
-    /** Offset for reserved "short" value. */
-    private static final int RESERVED_SHORT_OFF = COMPACTED_SIZE_OFF + Short.BYTES;
+    /** Offset for "short" offset of the unused space cut out of a compacted page. */
+    private static final int COMPACTED_HOLE_OFF = COMPACTED_SIZE_OFF + Short.BYTES;
 
     /** Offset for reserved "long" value. */
-    private static final int RESERVED_2_OFF = RESERVED_SHORT_OFF + Short.BYTES;
+    private static final int RESERVED_2_OFF = COMPACTED_HOLE_OFF + Short.BYTES;
 
     /** Offset for reserved "long" value. */
     private static final int RESERVED_3_OFF = RESERVED_2_OFF + Long.BYTES;
@@ -349,6 +349,26 @@ public abstract class PageIo {
         return PageUtils.getShort(pageAddr, COMPACTED_SIZE_OFF);
     }
 
+    /**
+     * Sets the offset of the unused space that was cut out of the compacted page.
+     *
+     * @param page Page buffer.
+     * @param holeOff Offset of the cut out unused space.
+     */
+    public static void setCompactedHoleOffset(ByteBuffer page, short holeOff) {
+        page.putShort(COMPACTED_HOLE_OFF, holeOff);
+    }
+
+    /**
+     * Returns the offset of the unused space that was cut out of the compacted page.
+     *
+     * @param page Page buffer.
+     * @return Offset of the cut out unused space.
+     */
+    public static short getCompactedHoleOffset(ByteBuffer page) {
+        return page.getShort(COMPACTED_HOLE_OFF);
+    }
+
     /**
      * Sets the CRC value to the page.
      *
@@ -402,7 +422,7 @@ public abstract class PageIo {
         setPageId(pageAddr, pageId);
         setCrc(pageAddr, 0);
 
-        // rotated(1) + compress_type(1) + compressed_size(2) + compacted_size(2) + reserved(2)
+        // rotated(1) + compress_type(1) + compressed_size(2) + compacted_size(2) + compacted_hole(2)
         PageUtils.putLong(pageAddr, ROTATED_ID_PART_OFF, 0L);
         PageUtils.putLong(pageAddr, RESERVED_2_OFF, 0L);
         PageUtils.putLong(pageAddr, RESERVED_3_OFF, 0L);
@@ -73,6 +73,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.FullPageId;
@@ -90,6 +91,7 @@ import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointPages;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor;
 import org.apache.ignite.internal.pagememory.persistence.replacement.ClockPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.DelayedPageReplacementTracker;
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicy;
@@ -214,6 +216,10 @@ public class PersistentPageMemory implements PageMemory {
     /** Checkpoint timeout lock. */
     private final CheckpointTimeoutLock checkpointTimeoutLock;
 
+    /** Compressor of the pages written to disk, {@code null} if the page compression is disabled. */
+    @Nullable
+    private final PageCompressor pageCompressor;
+
     /**
      * Constructor.
      *
@@ -276,6 +282,8 @@ public class PersistentPageMemory implements PageMemory {
         }
 
         delayedPageReplacementTracker = new DelayedPageReplacementTracker(pageSize, flushDirtyPageForReplacement, LOG, sizes.length - 1);
+
+        pageCompressor = PageCompressor.create(dataRegionConfigView, ioRegistry, pageSize);
     }
 
     /** {@inheritDoc} */
@@ -973,6 +981,39 @@ public class PersistentPageMemory implements PageMemory {
         return total;
     }
 
+    /**
+     * Passes IDs of the hot pages, i.e. the loaded pages that the page replacement policy considers recently used, to the consumer.
+     *
+     * <p>The consumer is invoked under the segment read lock, so it must be fast.
+     *
+     * @param consumer Consumer of full IDs of the pages, page IDs are effective.
+     */
+    public void forEachHotPage(Consumer<FullPageId> consumer) {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return;
+        }
+
+        for (Segment seg : segments) {
+            seg.readLock().lock();
+
+            try {
+                if (seg.closed) {
+                    continue;
+                }
+
+                seg.loadedPages.forEach((fullPageId, relPtr) -> {
+                    if (relPtr != OUTDATED_REL_PTR && seg.pageReplacementPolicy.isHot(relPtr)) {
+                        consumer.accept(fullPageId);
+                    }
+                });
+            } finally {
+                seg.readLock().unlock();
+            }
+        }
+    }
+
     /**
      * Returns total number of acquired pages.
      */
@@ -1717,6 +1758,13 @@ public class PersistentPageMemory implements PageMemory {
         return ioRegistry;
     }
 
+    /**
+     * Returns the compressor of the pages written to disk, {@code null} if the page compression is disabled.
+     */
+    public @Nullable PageCompressor pageCompressor() {
+        return pageCompressor;
+    }
+
     /**
      * Callback invoked to track changes in pages.
      */
@@ -32,6 +32,7 @@ import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointDirtyPages.CheckpointDirtyPagesView;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor;
 import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
@@ -239,6 +240,8 @@ public class CheckpointManager {
      *
      * <p>Must be used at breakpoint and page replacement.
      *
+     * <p>The page is compressed before writing if the page compression is enabled for the data region of the page memory.
+     *
      * @param pageMemory Page memory.
      * @param pageId Page ID.
      * @param pageBuf Page buffer to write from.
@@ -267,7 +270,12 @@ public class CheckpointManager {
                 () -> pageIndexesForDeltaFilePageStore(pagesToWrite.getPartitionView(pageMemory, pageId.groupId(), pageId.partitionId()))
         );
 
-        deltaFilePageStoreFuture.join().write(pageId.pageId(), pageBuf, calculateCrc);
+        PageCompressor pageCompressor = pageMemory.pageCompressor();
+
+        // CRC calculated above the stack covers the uncompressed page only.
+        ByteBuffer buf = pageCompressor != null && calculateCrc ? pageCompressor.compressPage(pageBuf) : pageBuf;
+
+        deltaFilePageStoreFuture.join().write(pageId.pageId(), buf, calculateCrc);
     }
 
     /**
@@ -0,0 +1,358 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DEFLATE_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DISABLED_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SKIP_GARBAGE_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
+import static org.apache.ignite.internal.util.GridUnsafe.copyMemory;
+import static org.apache.ignite.internal.util.GridUnsafe.zeroMemory;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.io.CompactablePageIo;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compresses pages before they are written to disk and decompresses them after they are read back.
+ *
+ * <p>The compressed image of a page is self-describing: the common page header ({@link PageIo#COMMON_HEADER_END} bytes) is kept as is
+ * and stores the compression type, the compressed size (the number of bytes of the image), the compacted size and the offset of the
+ * unused space that was cut out of the page (see {@link CompactablePageIo}). Thus the image can be restored by
+ * {@link #decompressPage(ByteBuffer, int)} without knowing the configuration it was written with.
+ *
+ * <p>Compressed pages occupy the same slots in the page store files as the uncompressed ones, only fewer bytes are written.
+ */
+public class PageCompressor {
+    /** Compression type of a page with the unused space cut out. */
+    public static final byte SKIP_GARBAGE_COMPRESSION_TYPE = 1;
+
+    /** Compression type of a page with the unused space cut out and the rest compressed with the Deflate algorithm. */
+    public static final byte DEFLATE_COMPRESSION_TYPE = 2;
+
+    /** Thread local buffer to restore the compacted pages into. */
+    private static final ThreadLocal<ByteBuffer> DECOMPRESS_BUF = new ThreadLocal<>();
+
+    /** Thread local inflater. */
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    /** Page IO registry. */
+    private final PageIoRegistry ioRegistry;
+
+    /** Page size in bytes. */
+    private final int pageSize;
+
+    /** Whether the compacted pages are compressed with the Deflate algorithm. */
+    private final boolean deflate;
+
+    /** Thread local buffer for the compacted pages. */
+    private final ThreadLocal<ByteBuffer> compactBuf;
+
+    /** Thread local buffer for the deflated pages. */
+    private final ThreadLocal<ByteBuffer> deflateBuf;
+
+    /** Thread local deflater. */
+    private final ThreadLocal<Deflater> deflater;
+
+    /**
+     * Constructor.
+     *
+     * @param ioRegistry Page IO registry.
+     * @param pageSize Page size in bytes.
+     * @param deflate Whether the compacted pages are compressed with the Deflate algorithm.
+     * @param deflateLevel Deflate compression level.
+     */
+    public PageCompressor(PageIoRegistry ioRegistry, int pageSize, boolean deflate, int deflateLevel) {
+        this.ioRegistry = ioRegistry;
+        this.pageSize = pageSize;
+        this.deflate = deflate;
+
+        compactBuf = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(pageSize).order(nativeOrder()));
+        deflateBuf = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(pageSize).order(nativeOrder()));
+        deflater = ThreadLocal.withInitial(() -> new Deflater(deflateLevel));
+    }
+
+    /**
+     * Creates a page compressor for the data region, {@code null} if the page compression is disabled.
+     *
+     * @param dataRegionConfigView Data region configuration.
+     * @param ioRegistry Page IO registry.
+     * @param pageSize Page size in bytes.
+     */
+    public static @Nullable PageCompressor create(
+            PersistentPageMemoryDataRegionView dataRegionConfigView,
+            PageIoRegistry ioRegistry,
+            int pageSize
+    ) {
+        String pageCompression = dataRegionConfigView.pageCompression();
+
+        switch (pageCompression) {
+            case DISABLED_PAGE_COMPRESSION:
+                return null;
+            case SKIP_GARBAGE_PAGE_COMPRESSION:
+                return new PageCompressor(ioRegistry, pageSize, false, 0);
+            case DEFLATE_PAGE_COMPRESSION:
+                return new PageCompressor(ioRegistry, pageSize, true, dataRegionConfigView.pageCompressionLevel());
+            default:
+                throw new IllegalArgumentException("Unexpected page compression: " + pageCompression);
+        }
+    }
+
+    /**
+     * Compresses the page.
+     *
+     * <p>The page buffer itself is not modified. The result is either the page buffer, if the compression does not make the page smaller,
+     * or a thread local buffer with the compressed image of the page between position {@code 0} and the limit. The result is valid until
+     * the next call of the method in the same thread.
+     *
+     * @param page Direct page buffer, position must be {@code 0} and limit must be equal to the page size.
+     * @return Buffer to write to disk.
+     * @throws IgniteInternalCheckedException If the page IO could not be resolved.
+     */
+    public ByteBuffer compressPage(ByteBuffer page) throws IgniteInternalCheckedException {
+        assert page.isDirect();
+        assert page.position() == 0 && page.limit() == pageSize : "pos=" + page.position() + ", limit=" + page.limit();
+        assert PageIo.getCompressionType(page) == 0 : PageIo.getCompressionType(page);
+
+        PageIo io = ioRegistry.resolve(page);
+
+        long pageAddr = bufferAddress(page);
+
+        int holeOff = pageSize;
+        int holeLen = 0;
+
+        if (io instanceof CompactablePageIo) {
+            holeOff = ((CompactablePageIo) io).unusedSpaceOffset(pageAddr, pageSize);
+            holeLen = ((CompactablePageIo) io).unusedSpaceSize(pageAddr, pageSize);
+
+            assert holeOff >= COMMON_HEADER_END && holeLen >= 0 && holeOff + holeLen <= pageSize
+                    : "Broken unused space [io=" + io + ", off=" + holeOff + ", len=" + holeLen + "]";
+        }
+
+        if (holeLen == 0 && !deflate) {
+            return page;
+        }
+
+        int compactedSize = pageSize - holeLen;
+
+        ByteBuffer compacted = compactBuf.get();
+
+        long compactedAddr = bufferAddress(compacted);
+
+        copyMemory(pageAddr, compactedAddr, holeOff);
+        copyMemory(pageAddr + holeOff + holeLen, compactedAddr + holeOff, pageSize - holeOff - holeLen);
+
+        PageIo.setCompactedSize(compacted, (short) compactedSize);
+        PageIo.setCompactedHoleOffset(compacted, (short) holeOff);
+
+        ByteBuffer res = deflate ? deflate(compacted, compactedSize) : null;
+
+        if (res == null) {
+            if (holeLen == 0) {
+                return page;
+            }
+
+            PageIo.setCompressionType(compacted, SKIP_GARBAGE_COMPRESSION_TYPE);
+            PageIo.setCompressedSize(compacted, (short) compactedSize);
+
+            res = compacted;
+            res.clear().limit(compactedSize);
+        }
+
+        return res;
+    }
+
+    /**
+     * Compresses the compacted page with the Deflate algorithm.
+     *
+     * @param compacted Compacted page.
+     * @param compactedSize Compacted size.
+     * @return Compressed page, {@code null} if it turned out to be not smaller than the compacted one.
+     */
+    private @Nullable ByteBuffer deflate(ByteBuffer compacted, int compactedSize) {
+        ByteBuffer compressed = deflateBuf.get();
+
+        Deflater deflater = this.deflater.get();
+
+        try {
+            compacted.clear().position(COMMON_HEADER_END).limit(compactedSize);
+
+            deflater.setInput(compacted);
+            deflater.finish();
+
+            compressed.clear().position(COMMON_HEADER_END).limit(compactedSize - 1);
+
+            while (!deflater.finished() && compressed.hasRemaining()) {
+                deflater.deflate(compressed);
+            }
+
+            if (!deflater.finished()) {
+                return null;
+            }
+
+            int compressedSize = compressed.position();
+
+            copyMemory(bufferAddress(compacted), bufferAddress(compressed), COMMON_HEADER_END);
+
+            PageIo.setCompressionType(compressed, DEFLATE_COMPRESSION_TYPE);
+            PageIo.setCompressedSize(compressed, (short) compressedSize);
+
+            compressed.clear().limit(compressedSize);
+
+            return compressed;
+        } finally {
+            deflater.reset();
+        }
+    }
+
+    /**
+     * Returns the number of bytes of the page image that were written to disk.
+     *
+     * @param page Page buffer read from disk.
+     * @param pageSize Page size in bytes.
+     */
+    public static int compressedSize(ByteBuffer page, int pageSize) {
+        if (PageIo.getCompressionType(page) == 0) {
+            return pageSize;
+        }
+
+        int compressedSize = PageIo.getCompressedSize(page) & 0xFFFF;
+
+        // A broken header is going to be caught by CRC validation of the whole page.
+        return compressedSize > COMMON_HEADER_END && compressedSize < pageSize ? compressedSize : pageSize;
+    }
+
+    /**
+     * Restores the compressed page in place, does nothing if the page is not compressed.
+     *
+     * @param page Direct page buffer, position must be {@code 0} and capacity must be equal to the page size.
+     * @param pageSize Page size in bytes.
+     * @throws IgniteInternalCheckedException If the page image is broken.
+     */
+    public static void decompressPage(ByteBuffer page, int pageSize) throws IgniteInternalCheckedException {
+        assert page.isDirect();
+        assert page.position() == 0 && page.capacity() == pageSize : "pos=" + page.position() + ", capacity=" + page.capacity();
+
+        byte compressionType = PageIo.getCompressionType(page);
+
+        if (compressionType == 0) {
+            return;
+        }
+
+        int compressedSize = PageIo.getCompressedSize(page) & 0xFFFF;
+        int compactedSize = PageIo.getCompactedSize(page) & 0xFFFF;
+        int holeOff = PageIo.getCompactedHoleOffset(page) & 0xFFFF;
+
+        if (compressedSize <= COMMON_HEADER_END || compactedSize < compressedSize || compactedSize > pageSize
+                || holeOff < COMMON_HEADER_END || holeOff > compactedSize) {
+            throw new IgniteInternalCheckedException("Broken compressed page [type=" + compressionType
+                    + ", compressedSize=" + compressedSize + ", compactedSize=" + compactedSize + ", holeOff=" + holeOff + "]");
+        }
+
+        ByteBuffer compacted = DECOMPRESS_BUF.get();
+
+        if (compacted == null || compacted.capacity() < pageSize) {
+            compacted = ByteBuffer.allocateDirect(pageSize).order(nativeOrder());
+
+            DECOMPRESS_BUF.set(compacted);
+        }
+
+        long pageAddr = bufferAddress(page);
+        long compactedAddr = bufferAddress(compacted);
+
+        switch (compressionType) {
+            case SKIP_GARBAGE_COMPRESSION_TYPE:
+                copyMemory(pageAddr + holeOff, compactedAddr + holeOff, compactedSize - holeOff);
+
+                break;
+
+            case DEFLATE_COMPRESSION_TYPE:
+                inflate(page, compressedSize, compacted, compactedSize);
+
+                // Everything before the hole is restored to its place.
+                copyMemory(compactedAddr + COMMON_HEADER_END, pageAddr + COMMON_HEADER_END, holeOff - COMMON_HEADER_END);
+
+                break;
+
+            default:
+                throw new IgniteInternalCheckedException("Unknown page compression type: " + compressionType);
+        }
+
+        int holeLen = pageSize - compactedSize;
+
+        zeroMemory(pageAddr + holeOff, holeLen);
+        copyMemory(compactedAddr + holeOff, pageAddr + holeOff + holeLen, compactedSize - holeOff);
+
+        PageIo.setCompressionType(page, (byte) 0);
+        PageIo.setCompressedSize(page, (short) 0);
+        PageIo.setCompactedSize(page, (short) 0);
+        PageIo.setCompactedHoleOffset(page, (short) 0);
+    }
+
+    /**
+     * Inflates the page body into the buffer, at the same offsets as in the compacted page.
+     *
+     * @param page Compressed page.
+     * @param compressedSize Compressed size.
+     * @param compacted Buffer for the compacted page.
+     * @param compactedSize Compacted size.
+     * @throws IgniteInternalCheckedException If the compressed data is broken.
+     */
+    private static void inflate(
+            ByteBuffer page,
+            int compressedSize,
+            ByteBuffer compacted,
+            int compactedSize
+    ) throws IgniteInternalCheckedException {
+        Inflater inflater = INFLATER.get();
+
+        try {
+            page.position(COMMON_HEADER_END).limit(compressedSize);
+
+            inflater.setInput(page);
+
+            compacted.clear().position(COMMON_HEADER_END).limit(compactedSize);
+
+            while (!inflater.finished() && compacted.hasRemaining()) {
+                if (inflater.inflate(compacted) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+            }
+
+            if (!inflater.finished() || compacted.hasRemaining()) {
+                throw new IgniteInternalCheckedException("Broken compressed page [compressedSize=" + compressedSize
+                        + ", compactedSize=" + compactedSize + ", inflated=" + (compacted.position() - COMMON_HEADER_END) + "]");
+            }
+        } catch (DataFormatException e) {
+            throw new IgniteInternalCheckedException("Broken compressed page", e);
+        } finally {
+            inflater.reset();
+
+            page.clear();
+        }
+    }
+}
@@ -63,6 +63,14 @@ public class ClockPageReplacementPolicy extends PageReplacementPolicy {
         flags.clearFlag(pageIdx);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isHot(long relPtr) {
+        int pageIdx = (int) seg.pageIndex(relPtr);
+
+        return flags.getFlag(pageIdx);
+    }
+
     /** {@inheritDoc} */
     @Override
     public long replace() throws IgniteInternalCheckedException {
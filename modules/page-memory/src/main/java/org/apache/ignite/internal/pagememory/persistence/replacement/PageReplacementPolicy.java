@@ -67,6 +67,15 @@ public abstract class PageReplacementPolicy {
         // No-op.
     }
 
+    /**
+     * Checks whether the page has been used recently, such pages are worth loading back after a restart.
+     *
+     * <p>Note: This method always invoked under segment read lock.
+     *
+     * @param relPtr Relative pointer to page.
+     */
+    public abstract boolean isHot(long relPtr);
+
     /**
      * Finds page to replace.
      *
@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.pagememory.persistence.PageHeader.fullP
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.INVALID_REL_PTR;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.PAGE_OVERHEAD;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
+import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMillis;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -44,6 +45,9 @@ public class RandomLruPageReplacementPolicy extends PageReplacementPolicy {
 
     private static final double FULL_SCAN_THRESHOLD = 0.4;
 
+    /** Time since the last access of a page, after which it is not considered hot any more, in milliseconds. */
+    public static final long HOT_PAGE_TIMEOUT_MS = 10 * 60 * 1000L;
+
     /**
      * Constructor.
      *
@@ -53,6 +57,13 @@ public class RandomLruPageReplacementPolicy extends PageReplacementPolicy {
         super(seg);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isHot(long relPtr) {
+        // Access timestamps are the only recency information kept by Random-LRU.
+        return coarseCurrentTimeMillis() - PageHeader.readTimestamp(seg.absolute(relPtr)) < HOT_PAGE_TIMEOUT_MS;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long replace() throws IgniteInternalCheckedException {
@@ -71,6 +71,14 @@ public class SegmentedLruPageReplacementPolicy extends PageReplacementPolicy {
         lruList.remove(pageIdx);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isHot(long relPtr) {
+        int pageIdx = (int) seg.pageIndex(relPtr);
+
+        return lruList.protectedPage(pageIdx);
+    }
+
     /** {@inheritDoc} */
     @Override
     public long replace() throws IgniteInternalCheckedException {
@@ -41,6 +41,7 @@ import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.persistence.FastCrc;
 import org.apache.ignite.internal.pagememory.persistence.IgniteInternalDataIntegrityViolationException;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.jetbrains.annotations.Nullable;
 
@@ -170,15 +171,18 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
                     assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
                     assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
 
+                    // Compressed pages are shorter than the page size.
+                    assert pageBuf.limit() == pageSize() || PageIo.getCompressionType(pageBuf) != 0 : pageBuf.limit();
+
                     if (calculateCrc && !skipCrc) {
                         assert PageIo.getCrc(pageBuf) == 0 : hexLong(pageId);
 
-                        PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize()));
+                        PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageBuf.limit()));
                     }
 
                     // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
                     assert skipCrc || PageIo.getCrc(pageBuf) != 0
-                            || calcCrc32(pageBuf, pageSize()) == 0 : "CRC hasn't been calculated, crc=0";
+                            || calcCrc32(pageBuf, pageBuf.limit()) == 0 : "CRC hasn't been calculated, crc=0";
 
                     assert pageBuf.position() == 0 : pageBuf.position();
 
@@ -496,8 +500,10 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
 
             pageBuf.position(0);
 
+            int compressedSize = PageCompressor.compressedSize(pageBuf, pageSize());
+
             if (checkCrc) {
-                int curCrc32 = FastCrc.calcCrc(pageBuf, pageSize());
+                int curCrc32 = FastCrc.calcCrc(pageBuf, compressedSize);
 
                 if ((savedCrc32 ^ curCrc32) != 0) {
                     throw new IgniteInternalDataIntegrityViolationException("Failed to read page (CRC validation failed) "
@@ -510,6 +516,17 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
 
             assert PageIo.getCrc(pageBuf) == 0;
 
+            if (compressedSize != pageSize()) {
+                pageBuf.position(0);
+
+                PageCompressor.decompressPage(pageBuf, pageSize());
+
+                // Saved CRC belongs to the compressed image of the page.
+                if (keepCrc) {
+                    savedCrc32 = calcCrc32(pageBuf, pageSize());
+                }
+            }
+
             if (keepCrc) {
                 PageIo.setCrc(pageBuf, savedCrc32);
             }
@@ -0,0 +1,468 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.warmup;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
+import static org.apache.ignite.internal.util.IgniteUtils.atomicMoveFile;
+import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
+import org.apache.ignite.internal.pagememory.persistence.PartitionMeta;
+import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.lang.IgniteInternalException;
+
+/**
+ * Warm-up of the persistent page memory after a restart.
+ *
+ * <p>The IDs of the hot pages (see {@link PersistentPageMemory#forEachHotPage}) are periodically recorded to a file. After a restart the
+ * recorded pages of the partitions of a group are loaded back into the page memory in background as soon as the group is started (see
+ * {@link #warmUp(int)}). Pages are read in the order of their offsets in the partition file and the reads are throttled, so the
+ * warm-up does not compete with the user load for the disk. The warm-up stops when the page memory is almost full, so that it never causes
+ * page replacement.
+ */
+public class PageMemoryWarmUp {
+    /** Logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(PageMemoryWarmUp.class);
+
+    /** Version of the hot pages file format. */
+    private static final int VERSION = 1;
+
+    /** Suffix of the temporary hot pages file. */
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    /** Fraction of the page memory pages that the warm-up is allowed to fill. */
+    private static final double MAX_FILL_FACTOR = 0.9;
+
+    /** Number of pages loaded between the checks of the page memory fill. */
+    private static final int FILL_CHECK_INTERVAL = 256;
+
+    /** Interval of logging the warm-up progress in nanoseconds. */
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = SECONDS.toNanos(10);
+
+    /** Data region name. */
+    private final String regionName;
+
+    /** Page memory. */
+    private final PersistentPageMemory pageMemory;
+
+    /** File page store manager. */
+    private final FilePageStoreManager filePageStoreManager;
+
+    /** Partition meta information manager. */
+    private final PartitionMetaManager partitionMetaManager;
+
+    /** Path to the hot pages file. */
+    private final Path hotPagesFilePath;
+
+    /** Frequency of recording the hot pages in milliseconds. */
+    private final long recordFrequency;
+
+    /** Time between two page reads in nanoseconds. */
+    private final long readIntervalNanos;
+
+    /** Recorded hot pages (effective page IDs sorted by page index) of the partitions that have not been warmed up yet. */
+    private final Map<GroupPartitionId, long[]> pendingPages = new ConcurrentHashMap<>();
+
+    /** Number of the recorded hot pages. */
+    private final AtomicLong totalPages = new AtomicLong();
+
+    /** Number of the recorded hot pages that have been either loaded or skipped. */
+    private final AtomicLong processedPages = new AtomicLong();
+
+    /** Number of the pages loaded by the warm-up. */
+    private final AtomicLong warmedUpPages = new AtomicLong();
+
+    /** Executor for recording the hot pages and the warm-up. */
+    private final ScheduledExecutorService executor;
+
+    /** Warm-up start time in nanoseconds. */
+    private volatile long startNanos;
+
+    /** Time of the last progress logging in nanoseconds, accessed by the executor thread only. */
+    private long lastProgressLogNanos;
+
+    /** Whether the page memory has been filled up to {@link #MAX_FILL_FACTOR} by the warm-up. */
+    private volatile boolean memoryFilled;
+
+    /** Stop flag. */
+    private volatile boolean stopped;
+
+    /**
+     * Constructor.
+     *
+     * @param igniteInstanceName Ignite instance name.
+     * @param regionName Data region name.
+     * @param pageMemory Page memory.
+     * @param filePageStoreManager File page store manager.
+     * @param partitionMetaManager Partition meta information manager.
+     * @param hotPagesFilePath Path to the hot pages file.
+     * @param recordFrequency Frequency of recording the hot pages in milliseconds.
+     * @param pagesPerSecond Maximum number of pages read per second.
+     */
+    public PageMemoryWarmUp(
+            String igniteInstanceName,
+            String regionName,
+            PersistentPageMemory pageMemory,
+            FilePageStoreManager filePageStoreManager,
+            PartitionMetaManager partitionMetaManager,
+            Path hotPagesFilePath,
+            long recordFrequency,
+            int pagesPerSecond
+    ) {
+        assert recordFrequency > 0 : recordFrequency;
+        assert pagesPerSecond > 0 : pagesPerSecond;
+
+        this.regionName = regionName;
+        this.pageMemory = pageMemory;
+        this.filePageStoreManager = filePageStoreManager;
+        this.partitionMetaManager = partitionMetaManager;
+        this.hotPagesFilePath = hotPagesFilePath;
+        this.recordFrequency = recordFrequency;
+
+        readIntervalNanos = SECONDS.toNanos(1) / pagesPerSecond;
+
+        executor = new ScheduledThreadPoolExecutor(
+                1,
+                new NamedThreadFactory(NamedThreadFactory.threadPrefix(igniteInstanceName, "page-memory-warm-up-" + regionName), LOG)
+        );
+    }
+
+    /**
+     * Reads the hot pages recorded before the restart and schedules recording of the hot pages.
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+        lastProgressLogNanos = startNanos;
+
+        try {
+            readHotPages();
+        } catch (IOException e) {
+            pendingPages.clear();
+            totalPages.set(0);
+
+            LOG.warn("Failed to read the hot pages, the warm-up is skipped [region={}, file={}]", e, regionName, hotPagesFilePath);
+        }
+
+        if (totalPages.get() > 0) {
+            LOG.info("Page memory warm-up is started [region={}, pages={}, partitions={}]", regionName, totalPages.get(),
+                    pendingPages.size());
+        }
+
+        executor.scheduleWithFixedDelay(this::recordHotPagesSafe, recordFrequency, recordFrequency, MILLISECONDS);
+    }
+
+    /**
+     * Stops the warm-up and records the hot pages for the next start.
+     *
+     * <p>Must be called before the page memory is stopped.
+     */
+    public void stop() {
+        stopped = true;
+
+        shutdownAndAwaitTermination(executor, 10, SECONDS);
+
+        recordHotPagesSafe();
+    }
+
+    /**
+     * Loads the recorded hot pages of the partitions of the started group in background, does nothing if there are no such pages.
+     *
+     * <p>Must be called when the file page stores of the group have been initialized, but before its partitions are started: the page
+     * counts of the partitions that have not been started yet are read from their meta pages.
+     *
+     * @param grpId Group ID.
+     */
+    public void warmUp(int grpId) {
+        for (GroupPartitionId grpPartId : pendingPages.keySet()) {
+            if (stopped) {
+                return;
+            }
+
+            if (grpPartId.getGroupId() != grpId) {
+                continue;
+            }
+
+            long[] pageIds = pendingPages.remove(grpPartId);
+
+            if (pageIds == null) {
+                continue;
+            }
+
+            int partId = grpPartId.getPartitionId();
+
+            FilePageStore filePageStore;
+
+            try {
+                filePageStore = filePageStoreManager.getStore(grpId, partId);
+
+                if (filePageStore.pages() == 0 && containsData(filePageStore)) {
+                    PartitionMeta meta = partitionMetaManager.readOrCreateMeta(null, grpPartId, filePageStore);
+
+                    filePageStore.pages(meta.pageCount());
+                }
+            } catch (IgniteInternalCheckedException e) {
+                LOG.warn("Failed to warm up the partition [region={}, grpId={}, partId={}]", e, regionName, grpId, partId);
+
+                onProcessed(pageIds.length);
+
+                continue;
+            }
+
+            try {
+                executor.execute(() -> warmUp0(grpId, partId, filePageStore, pageIds));
+            } catch (RejectedExecutionException ignored) {
+                // Concurrent stop.
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the hot pages recorded before the restart.
+     */
+    public long totalPages() {
+        return totalPages.get();
+    }
+
+    /**
+     * Returns the number of the pages loaded by the warm-up.
+     */
+    public long warmedUpPages() {
+        return warmedUpPages.get();
+    }
+
+    /**
+     * Checks whether the partition file has been written to, i.e. contains the partition meta page.
+     *
+     * @param filePageStore Partition file page store.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private static boolean containsData(FilePageStore filePageStore) throws IgniteInternalCheckedException {
+        return filePageStore.exists() && (filePageStore.deltaFileCount() > 0 || filePageStore.size() > filePageStore.headerSize());
+    }
+
+    /**
+     * Loads the pages of the partition, throttling the reads.
+     *
+     * @param grpId Group ID.
+     * @param partId Partition ID.
+     * @param filePageStore Partition file page store.
+     * @param pageIds Effective page IDs sorted by page index.
+     */
+    private void warmUp0(int grpId, int partId, FilePageStore filePageStore, long[] pageIds) {
+        long maxLoadedPages = (long) (pageMemory.totalPages() * MAX_FILL_FACTOR);
+
+        long partStartNanos = System.nanoTime();
+
+        for (int i = 0; i < pageIds.length; i++) {
+            if (stopped || memoryFilled) {
+                return;
+            }
+
+            if (i % FILL_CHECK_INTERVAL == 0 && pageMemory.loadedPages() >= maxLoadedPages) {
+                memoryFilled = true;
+
+                LOG.info("Page memory warm-up is stopped, the data region is full [region={}, warmedUpPages={}]", regionName,
+                        warmedUpPages.get());
+
+                return;
+            }
+
+            int pageIdx = pageIndex(pageIds[i]);
+
+            // The partition could have been recreated or truncated.
+            if (pageIdx < filePageStore.pages()) {
+                // Effective page IDs have no flag, while a non-zero lock tag is required to load a page. The lock tag is reset to the one
+                // of the actual page ID as soon as the page is read.
+                long pageId = pageId(partId, FLAG_DATA, pageIdx);
+
+                try {
+                    long page = pageMemory.acquirePage(grpId, pageId);
+
+                    pageMemory.releasePage(grpId, pageId, page);
+
+                    warmedUpPages.incrementAndGet();
+                } catch (IgniteInternalCheckedException | IgniteInternalException e) {
+                    LOG.warn("Failed to warm up the partition [region={}, grpId={}, partId={}]", e, regionName, grpId, partId);
+
+                    onProcessed(pageIds.length - i);
+
+                    return;
+                }
+            }
+
+            onProcessed(1);
+
+            long throttleNanos = (i + 1) * readIntervalNanos - (System.nanoTime() - partStartNanos);
+
+            if (throttleNanos > 0) {
+                LockSupport.parkNanos(throttleNanos);
+            }
+        }
+    }
+
+    /**
+     * Updates the warm-up progress and logs it if needed.
+     *
+     * @param pages Number of the processed pages.
+     */
+    private void onProcessed(int pages) {
+        long processed = processedPages.addAndGet(pages);
+
+        long nowNanos = System.nanoTime();
+
+        if (processed == totalPages.get()) {
+            LOG.info("Page memory warm-up is finished [region={}, warmedUpPages={}, time={}ms]", regionName, warmedUpPages.get(),
+                    NANOSECONDS.toMillis(nowNanos - startNanos));
+        } else if (nowNanos - lastProgressLogNanos >= PROGRESS_LOG_INTERVAL_NANOS) {
+            lastProgressLogNanos = nowNanos;
+
+            LOG.info("Page memory warm-up is in progress [region={}, processedPages={}, totalPages={}, warmedUpPages={}]", regionName,
+                    processed, totalPages.get(), warmedUpPages.get());
+        }
+    }
+
+    /**
+     * Records the hot pages, logging the failure.
+     */
+    private void recordHotPagesSafe() {
+        try {
+            recordHotPages();
+        } catch (Throwable e) {
+            LOG.warn("Failed to record the hot pages [region={}, file={}]", e, regionName, hotPagesFilePath);
+        }
+    }
+
+    /**
+     * Records the hot pages of the page memory along with the recorded pages of the partitions that have not been warmed up yet.
+     *
+     * <p>File format: version, number of partitions, then for each partition: group ID, partition ID, number of pages and effective page
+     * IDs sorted by page index.
+     *
+     * @throws IOException If failed.
+     */
+    private void recordHotPages() throws IOException {
+        Map<GroupPartitionId, LongArrayList> hotPages = new HashMap<>();
+
+        pageMemory.forEachHotPage(fullPageId -> hotPages.computeIfAbsent(
+                new GroupPartitionId(fullPageId.groupId(), partitionId(fullPageId.pageId())),
+                k -> new LongArrayList()
+        ).add(fullPageId.pageId()));
+
+        Map<GroupPartitionId, long[]> sortedHotPages = new HashMap<>(pendingPages);
+
+        hotPages.forEach((grpPartId, pageIds) -> sortedHotPages.put(grpPartId, sortByPageIndex(pageIds.toLongArray())));
+
+        Path tmpFilePath = hotPagesFilePath.resolveSibling(hotPagesFilePath.getFileName() + TMP_FILE_SUFFIX);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFilePath)))) {
+            out.writeInt(VERSION);
+            out.writeInt(sortedHotPages.size());
+
+            for (Map.Entry<GroupPartitionId, long[]> e : sortedHotPages.entrySet()) {
+                out.writeInt(e.getKey().getGroupId());
+                out.writeInt(e.getKey().getPartitionId());
+                out.writeInt(e.getValue().length);
+
+                for (long pageId : e.getValue()) {
+                    out.writeLong(pageId);
+                }
+            }
+        }
+
+        atomicMoveFile(tmpFilePath, hotPagesFilePath, LOG);
+    }
+
+    /**
+     * Reads the recorded hot pages.
+     *
+     * @throws IOException If failed.
+     */
+    private void readHotPages() throws IOException {
+        if (!Files.exists(hotPagesFilePath)) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(hotPagesFilePath)))) {
+            int version = in.readInt();
+
+            if (version != VERSION) {
+                throw new IOException("Unknown hot pages file version: " + version);
+            }
+
+            int partitions = in.readInt();
+
+            for (int i = 0; i < partitions; i++) {
+                GroupPartitionId grpPartId = new GroupPartitionId(in.readInt(), in.readInt());
+
+                long[] pageIds = new long[in.readInt()];
+
+                for (int j = 0; j < pageIds.length; j++) {
+                    pageIds[j] = in.readLong();
+                }
+
+                pendingPages.put(grpPartId, pageIds);
+
+                totalPages.addAndGet(pageIds.length);
+            }
+        }
+    }
+
+    /**
+     * Sorts effective page IDs of the partition by page index, i.e. by offset in the partition file.
+     *
+     * @param pageIds Effective page IDs of the same partition.
+     * @return The same array.
+     */
+    private static long[] sortByPageIndex(long[] pageIds) {
+        // Effective page IDs of the same partition differ in the page index only, which occupies the low bits.
+        Arrays.sort(pageIds);
+
+        return pageIds;
+    }
+}
@@ -41,6 +41,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -870,6 +871,71 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    private final PageHandler<LeafPut, Result> insertIntoLeaf = new InsertIntoLeaf();
+
+    /**
+     * Page handler that inserts a row into the leaf page without descending from the root, which is only possible when the row
+     * certainly belongs to this leaf: it goes strictly between two existing rows or after the last row of the rightmost leaf.
+     *
+     * <p>Returns {@link Result#FOUND} if the row was inserted, {@link Result#RETRY} if the row goes after the last row of the page and
+     * the forward page should be tried instead (its ID is set to {@link LeafPut#fwdId}), {@link Result#NOT_FOUND} if the row must be
+     * put with a regular descent (page is full, the row already exists or the page is not a leaf anymore).
+     */
+    private class InsertIntoLeaf implements PageHandler<LeafPut, Result> {
+        /** {@inheritDoc} */
+        @Override
+        public Result run(
+                int groupId,
+                long pageId,
+                long page,
+                long pageAddr,
+                PageIo iox,
+                LeafPut p,
+                int lvl,
+                IoStatisticsHolder statHolder
+        ) throws IgniteInternalCheckedException {
+            if (!(iox instanceof BplusIo) || !((BplusIo<?>) iox).isLeaf()) {
+                return NOT_FOUND;
+            }
+
+            BplusIo<L> io = (BplusIo<L>) iox;
+
+            int cnt = io.getCount(pageAddr);
+
+            if (cnt == 0 || cnt == io.getMaxCount(pageAddr, pageSize())) {
+                return NOT_FOUND;
+            }
+
+            int idx = findInsertionPoint(0, io, pageAddr, 0, cnt, p.row, 0);
+
+            if (idx >= 0) {
+                // Replace may require an inner replace, leave it to the regular put.
+                return NOT_FOUND;
+            }
+
+            idx = fix(idx);
+
+            if (idx == 0) {
+                // The row may belong to the back page.
+                return NOT_FOUND;
+            }
+
+            if (idx == cnt) {
+                long fwdId = io.getForward(pageAddr);
+
+                if (fwdId != 0L) {
+                    p.fwdId = fwdId;
+
+                    return RETRY;
+                }
+            }
+
+            io.insert(pageAddr, idx, p.row, null, 0L, false);
+
+            return FOUND;
+        }
+    }
+
     /**
      * Constructor.
      *
@@ -2503,6 +2569,119 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         return res != null ? res : false;
     }
 
+    /**
+     * Puts all the rows, replacing existing ones.
+     *
+     * <p>Works best when the rows are sorted: the leaf page that received the previous row is tried first, so a row that belongs to it
+     * (or to its forward page) is inserted without descending from the root. Unsorted rows are also supported, they just fall back to
+     * {@link #putx(Object)}.
+     *
+     * @param rows Rows, preferably in ascending order.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void putAll(Iterator<? extends T> rows) throws IgniteInternalCheckedException {
+        checkDestroyed();
+
+        LeafPut leafPut = new LeafPut();
+
+        long leafId = 0L;
+
+        while (rows.hasNext()) {
+            T row = rows.next();
+
+            leafId = leafId == 0L ? 0L : insertIntoLeaf(leafId, row, leafPut);
+
+            if (leafId == 0L) {
+                Put p = new Put(row, false);
+
+                doPut(p);
+
+                leafId = p.leafId;
+            }
+        }
+    }
+
+    /**
+     * Tries to insert the row into the given leaf or its forward page without descending from the root.
+     *
+     * @param leafId Leaf page ID.
+     * @param row Row.
+     * @param p Reusable operation arguments.
+     * @return ID of the page the row was inserted into, {@code 0} if the row must be put with a regular descent.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private long insertIntoLeaf(long leafId, T row, LeafPut p) throws IgniteInternalCheckedException {
+        p.row = row;
+
+        try {
+            // Try the forward page at most once, it is enough for the sorted rows.
+            for (int i = 0; i < 2; i++) {
+                p.fwdId = 0L;
+
+                Result res = write(leafId, insertIntoLeaf, p, 0, NOT_FOUND, statisticsHolder());
+
+                if (res == FOUND) {
+                    return leafId;
+                }
+
+                if (res != RETRY) {
+                    return 0L;
+                }
+
+                leafId = p.fwdId;
+            }
+
+            return 0L;
+        } catch (RuntimeException | AssertionError e) {
+            throw corruptedTreeException("Runtime failure on row: " + row, e, grpId, leafId);
+        } finally {
+            p.row = null;
+
+            checkDestroyed();
+        }
+    }
+
+    /**
+     * Loads the rows into the empty tree bottom-up: leaf pages are filled one after another up to the fill factor and linked together,
+     * while every inner level is built on the fly from the last rows of the pages below it. This is much cheaper than putting the rows
+     * one by one, because no descent from the root, binary search or page split ever happens.
+     *
+     * <p>The tree must not be accessed concurrently until the method returns, and the new root becomes visible only at the end. If the
+     * rows turn out to be not sorted, the rows loaded so far are kept and {@link IllegalArgumentException} is thrown.
+     *
+     * @param rows Rows in strictly ascending order.
+     * @param fillFactor Share of every page capacity to fill, in range {@code (0, 1]}. Values less than {@code 1} leave space for the
+     *      further inserts without immediate page splits.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void bulkLoad(Iterator<? extends T> rows, float fillFactor) throws IgniteInternalCheckedException {
+        if (!(fillFactor > 0f && fillFactor <= 1f)) {
+            throw new IllegalArgumentException("Fill factor must be in range (0, 1]: " + fillFactor);
+        }
+
+        checkDestroyed();
+
+        if (getRootLevel() != 0 || !isEmpty()) {
+            throw new IgniteInternalCheckedException("Bulk load is supported only for an empty tree: " + name());
+        }
+
+        if (!rows.hasNext()) {
+            return;
+        }
+
+        BulkLoad load = new BulkLoad(fillFactor);
+
+        try {
+            load.start(treeMeta().rootId);
+
+            while (rows.hasNext()) {
+                load.add(rows.next());
+            }
+        } finally {
+            load.finish();
+        }
+    }
+
     /**
      * Does a put.
      *
@@ -2512,9 +2691,20 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
      * @throws IgniteInternalCheckedException If failed.
      */
     private T doPut(T row, boolean needOld) throws IgniteInternalCheckedException {
+        return doPut(new Put(row, needOld));
+    }
+
+    /**
+     * Does a put.
+     *
+     * @param p Put operation.
+     * @return Old row.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private T doPut(Put p) throws IgniteInternalCheckedException {
         checkDestroyed();
 
-        Put p = new Put(row, needOld);
+        T row = (T) p.row;
 
         try {
             for (; ; ) { // Go down with retries.
@@ -2908,11 +3098,17 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                     case FOUND: // Do replace.
                         assert lvl == 0 : "This replace can happen only at the bottom level.";
 
+                        p.leafId = pageId;
+
                         return p.tryReplace(pageId, page, fwdId, lvl);
 
                     case NOT_FOUND: // Do insert.
                         assert lvl == p.btmLvl : "must insert at the bottom level";
 
+                        if (lvl == 0) {
+                            p.leafId = pageId;
+                        }
+
                         return p.tryInsert(pageId, page, fwdId, lvl);
 
                     default:
@@ -3664,6 +3860,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
 
         final boolean needOld;
 
+        /** ID of the leaf page the row was inserted into or replaced in, {@code 0} if not known yet. */
+        long leafId;
+
         /**
          * Constructor.
          *
@@ -3988,6 +4187,243 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Arguments of {@link InsertIntoLeaf}.
+     */
+    private final class LeafPut {
+        /** Row to insert. */
+        @Nullable T row;
+
+        /** Forward page ID to try next. */
+        long fwdId;
+    }
+
+    /**
+     * Bottom-up bulk load of the empty tree, see {@link #bulkLoad}.
+     *
+     * <p>Keeps the page being filled write-locked on every level. When a page gets full, the next one is allocated and linked as the
+     * forward page, and the separator (the last row of the full page for the leaves, the overflowing row for the inner pages) is added
+     * to the level above. A trailing inner page may end up as an empty "routing" page which has only the leftmost child.
+     */
+    private final class BulkLoad {
+        /** Fill factor. */
+        private final float fillFactor;
+
+        /** Page being filled on every level, starting from the leaves. */
+        private final List<BulkLoadPage> levels = new ArrayList<>();
+
+        /** First page ID on every level. */
+        private final List<Long> firstPageIds = new ArrayList<>();
+
+        /**
+         * Constructor.
+         *
+         * @param fillFactor Fill factor.
+         */
+        private BulkLoad(float fillFactor) {
+            this.fillFactor = fillFactor;
+        }
+
+        /**
+         * Locks the root leaf page of the empty tree to start the load from it.
+         *
+         * @param rootId Root page ID.
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        void start(long rootId) throws IgniteInternalCheckedException {
+            long page = acquirePage(rootId);
+
+            long pageAddr = writeLock(rootId, page);
+
+            if (pageAddr == 0L) {
+                releasePage(rootId, page);
+
+                throw new IgniteInternalCheckedException("Failed to lock the root page: " + hexLong(rootId));
+            }
+
+            levels.add(new BulkLoadPage(rootId, page, pageAddr, io(pageAddr)));
+            firstPageIds.add(rootId);
+        }
+
+        /**
+         * Appends the row to the last leaf page.
+         *
+         * @param row Row.
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        void add(T row) throws IgniteInternalCheckedException {
+            BulkLoadPage leaf = levels.get(0);
+
+            int cnt = leaf.io.getCount(leaf.pageAddr);
+
+            if (cnt != 0 && compare(0, leaf.io, leaf.pageAddr, cnt - 1, row) >= 0) {
+                throw new IllegalArgumentException("Rows must be sorted in ascending order without duplicates: " + row);
+            }
+
+            if (cnt == leaf.maxCnt) {
+                L separator = leaf.io.getLookupRow(BplusTree.this, leaf.pageAddr, cnt - 1);
+
+                BulkLoadPage next = openForward(0, latestLeafIo());
+
+                addSeparator(1, separator, leaf.pageId, next.pageId);
+
+                leaf = next;
+                cnt = 0;
+            }
+
+            leaf.io.insert(leaf.pageAddr, cnt, row, null, 0L, false);
+        }
+
+        /**
+         * Adds the separator between two adjacent pages of the level below.
+         *
+         * @param lvl Level to add the separator to.
+         * @param separator Separator row.
+         * @param leftId Left child page ID.
+         * @param rightId Right child page ID.
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        private void addSeparator(int lvl, L separator, long leftId, long rightId) throws IgniteInternalCheckedException {
+            if (lvl == levels.size()) {
+                // The first split on the level below, its first page becomes the leftmost child of the new level.
+                BulkLoadPage first = open(latestInnerIo());
+
+                inner(first.io).setLeft(first.pageAddr, 0, leftId);
+
+                levels.add(first);
+                firstPageIds.add(first.pageId);
+            }
+
+            BulkLoadPage p = levels.get(lvl);
+
+            int cnt = p.io.getCount(p.pageAddr);
+
+            if (cnt == p.maxCnt) {
+                // The separator moves up, and its right child becomes the leftmost child of the forward page.
+                BulkLoadPage next = openForward(lvl, latestInnerIo());
+
+                inner(next.io).setLeft(next.pageAddr, 0, rightId);
+
+                addSeparator(lvl + 1, separator, p.pageId, next.pageId);
+            } else {
+                p.io.insert(p.pageAddr, cnt, separator, null, rightId, false);
+            }
+        }
+
+        /**
+         * Allocates the forward page for the page being filled on the given level, and unlocks the latter.
+         *
+         * @param lvl Level.
+         * @param io IO for the new page.
+         * @return New page.
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        private BulkLoadPage openForward(int lvl, BplusIo<L> io) throws IgniteInternalCheckedException {
+            BulkLoadPage p = levels.get(lvl);
+
+            BulkLoadPage next = open(io);
+
+            p.io.setForward(p.pageAddr, next.pageId);
+
+            levels.set(lvl, next);
+
+            close(p);
+
+            return next;
+        }
+
+        /**
+         * Allocates, locks and initializes a new page.
+         *
+         * @param io IO for the new page.
+         * @return New page.
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        private BulkLoadPage open(BplusIo<L> io) throws IgniteInternalCheckedException {
+            long pageId = allocatePage(null);
+            long page = acquirePage(pageId);
+
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L : hexLong(pageId);
+
+            io.initNewPage(pageAddr, pageId, pageSize());
+
+            return new BulkLoadPage(pageId, page, pageAddr, io);
+        }
+
+        /**
+         * Unlocks and releases the page.
+         *
+         * @param p Page.
+         */
+        private void close(BulkLoadPage p) {
+            try {
+                writeUnlock(p.pageId, p.page, p.pageAddr, true);
+            } finally {
+                releasePage(p.pageId, p.page);
+            }
+        }
+
+        /**
+         * Unlocks the pages being filled and publishes the new levels in the meta page.
+         *
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        void finish() throws IgniteInternalCheckedException {
+            for (BulkLoadPage p : levels) {
+                close(p);
+            }
+
+            levels.clear();
+
+            for (int lvl = 1; lvl < firstPageIds.size(); lvl++) {
+                Bool res = write(metaPageId, addRoot, firstPageIds.get(lvl), lvl, FALSE, statisticsHolder());
+
+                assert res == TRUE : res;
+            }
+        }
+
+        /**
+         * Page being filled.
+         */
+        private final class BulkLoadPage {
+            /** Page ID. */
+            final long pageId;
+
+            /** Page pointer. */
+            final long page;
+
+            /** Page address. */
+            final long pageAddr;
+
+            /** IO. */
+            final BplusIo<L> io;
+
+            /** Number of rows to fill the page with. */
+            final int maxCnt;
+
+            /**
+             * Constructor.
+             *
+             * @param pageId Page ID.
+             * @param page Page pointer.
+             * @param pageAddr Page address.
+             * @param io IO.
+             */
+            BulkLoadPage(long pageId, long page, long pageAddr, BplusIo<L> io) {
+                this.pageId = pageId;
+                this.page = page;
+                this.pageAddr = pageAddr;
+                this.io = io;
+
+                int cap = io.getMaxCount(pageAddr, pageSize());
+
+                maxCnt = Math.max(1, Math.min(cap, (int) (cap * fillFactor)));
+            }
+        }
+    }
+
     /**
      * Invoke operation.
      */
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.pagememory.tree.io;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 
 import java.util.function.Consumer;
+import org.apache.ignite.internal.pagememory.io.CompactablePageIo;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.pagememory.util.PageUtils;
@@ -64,7 +65,7 @@ import org.jetbrains.annotations.Nullable;
  *
  * @see BplusTree
  */
-public abstract class BplusIo<L> extends PageIo {
+public abstract class BplusIo<L> extends PageIo implements CompactablePageIo {
     /** Items count in the page offset. */
     private static final int CNT_OFF = COMMON_HEADER_END;
 
@@ -225,6 +226,19 @@ public abstract class BplusIo<L> extends PageIo {
      */
     public abstract int getMaxCount(long pageAddr, int pageSize);
 
+    /** {@inheritDoc} */
+    @Override
+    public int unusedSpaceOffset(long pageAddr, int pageSize) {
+        // For inner pages it also covers the rightmost link.
+        return offset(getCount(pageAddr));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int unusedSpaceSize(long pageAddr, int pageSize) {
+        return pageSize - unusedSpaceOffset(pageAddr, pageSize);
+    }
+
     /**
      * Store the needed info about the row in the page. Leaf and inner pages can store different info.
      *
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor.DEFLATE_COMPRESSION_TYPE;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor.SKIP_GARBAGE_COMPRESSION_TYPE;
+import static org.apache.ignite.internal.pagememory.persistence.store.FilePageStore.VERSION_1;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Random;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.pagememory.TestPageIoModule.TestPageIo;
+import org.apache.ignite.internal.pagememory.TestPageIoRegistry;
+import org.apache.ignite.internal.pagememory.io.IoVersions;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreHeader;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreIo;
+import org.apache.ignite.internal.pagememory.tree.BplusTree;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusLeafIo;
+import org.apache.ignite.internal.pagememory.util.PageUtils;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * For {@link PageCompressor} testing.
+ */
+@ExtendWith(WorkDirectoryExtension.class)
+public class PageCompressorTest {
+    private static final int PAGE_SIZE = 1024;
+
+    private static final TestLeafIo LEAF_IO = new TestLeafIo();
+
+    private final Random random = new Random();
+
+    private final TestPageIoRegistry ioRegistry = new TestPageIoRegistry();
+
+    @WorkDirectory
+    private Path workDir;
+
+    @BeforeEach
+    void setUp() {
+        ioRegistry.loadFromServiceLoader();
+
+        ioRegistry.load(new IoVersions<>(LEAF_IO));
+    }
+
+    @Test
+    void testSkipGarbage() throws Exception {
+        PageCompressor compressor = new PageCompressor(ioRegistry, PAGE_SIZE, false, 0);
+
+        ByteBuffer page = createLeafPage(10, false);
+
+        ByteBuffer compressed = compressor.compressPage(page);
+
+        assertNotSame(page, compressed);
+        assertEquals(SKIP_GARBAGE_COMPRESSION_TYPE, PageIo.getCompressionType(compressed));
+        assertEquals(LEAF_IO.offset(10), compressed.limit());
+
+        assertRestored(page, LEAF_IO.offset(10), compressed);
+    }
+
+    @Test
+    void testSkipGarbageFullPage() throws Exception {
+        PageCompressor compressor = new PageCompressor(ioRegistry, PAGE_SIZE, false, 0);
+
+        ByteBuffer page = createLeafPage(LEAF_IO.getMaxCount(0L, PAGE_SIZE), false);
+
+        // There is nothing to cut out, only the tail that does not fit an item.
+        ByteBuffer compressed = compressor.compressPage(page);
+
+        assertRestored(page, LEAF_IO.offset(LEAF_IO.getCount(bufferAddress(page))), compressed);
+
+        ByteBuffer testPage = createTestPage();
+
+        assertSame(testPage, compressor.compressPage(testPage));
+    }
+
+    @Test
+    void testDeflate() throws Exception {
+        PageCompressor compressor = new PageCompressor(ioRegistry, PAGE_SIZE, true, 1);
+
+        ByteBuffer page = createLeafPage(100, true);
+
+        ByteBuffer compressed = compressor.compressPage(page);
+
+        assertEquals(DEFLATE_COMPRESSION_TYPE, PageIo.getCompressionType(compressed));
+        assertThat(compressed.limit(), lessThan(LEAF_IO.offset(100)));
+
+        assertRestored(page, LEAF_IO.offset(100), compressed);
+    }
+
+    @Test
+    void testDeflateNotCompressible() throws Exception {
+        PageCompressor compressor = new PageCompressor(ioRegistry, PAGE_SIZE, true, 1);
+
+        // Falls back to cutting out the unused space.
+        ByteBuffer page = createLeafPage(100, false);
+
+        ByteBuffer compressed = compressor.compressPage(page);
+
+        assertEquals(SKIP_GARBAGE_COMPRESSION_TYPE, PageIo.getCompressionType(compressed));
+        assertEquals(LEAF_IO.offset(100), compressed.limit());
+
+        assertRestored(page, LEAF_IO.offset(100), compressed);
+
+        // Nothing to cut out and nothing to compress.
+        ByteBuffer testPage = createTestPage();
+
+        assertSame(testPage, compressor.compressPage(testPage));
+    }
+
+    @Test
+    void testWriteAndRead() throws Exception {
+        PageCompressor compressor = new PageCompressor(ioRegistry, PAGE_SIZE, true, 1);
+
+        try (FilePageStoreIo filePageStoreIo = new FilePageStoreIo(
+                new RandomAccessFileIoFactory(),
+                workDir.resolve("test"),
+                new FilePageStoreHeader(VERSION_1, PAGE_SIZE)
+        )) {
+            ByteBuffer[] pages = {createLeafPage(100, true), createLeafPage(10, false), createTestPage(), createLeafPage(0, false)};
+
+            for (int i = 0; i < pages.length; i++) {
+                long pageId = pageId(0, FLAG_DATA, i);
+
+                PageIo.setPageId(bufferAddress(pages[i]), pageId);
+
+                filePageStoreIo.write(pageId, compressor.compressPage(pages[i]), true);
+            }
+
+            for (int i = 0; i < pages.length; i++) {
+                long pageId = pageId(0, FLAG_DATA, i);
+
+                ByteBuffer read = ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+
+                filePageStoreIo.read(pageId, filePageStoreIo.pageOffset(pageId), read, false);
+
+                int used = PageIo.getType(pages[i]) == LEAF_IO.getType()
+                        ? LEAF_IO.offset(LEAF_IO.getCount(bufferAddress(pages[i])))
+                        : PAGE_SIZE;
+
+                assertEquals(pages[i].rewind().limit(used), read.rewind().limit(used));
+            }
+        }
+    }
+
+    private void assertRestored(ByteBuffer page, int used, ByteBuffer compressed) throws Exception {
+        ByteBuffer restored = ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+
+        restored.put(compressed).clear();
+
+        PageCompressor.decompressPage(restored, PAGE_SIZE);
+
+        assertEquals(page.clear().limit(used), restored.clear().limit(used));
+
+        restored.clear();
+
+        for (int i = used; i < PAGE_SIZE; i++) {
+            assertEquals(0, restored.get(i));
+        }
+
+        page.clear();
+    }
+
+    private ByteBuffer createLeafPage(int cnt, boolean compressible) {
+        ByteBuffer page = randomPage();
+
+        long pageAddr = bufferAddress(page);
+
+        LEAF_IO.initNewPage(pageAddr, pageId(0, FLAG_DATA, 0), PAGE_SIZE);
+        LEAF_IO.setCount(pageAddr, cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            PageUtils.putLong(pageAddr, LEAF_IO.offset(i), compressible ? i : random.nextLong());
+        }
+
+        return page;
+    }
+
+    private ByteBuffer createTestPage() {
+        ByteBuffer page = randomPage();
+
+        new TestPageIo().initNewPage(bufferAddress(page), pageId(0, FLAG_DATA, 0), PAGE_SIZE);
+
+        return page;
+    }
+
+    private ByteBuffer randomPage() {
+        byte[] bytes = new byte[PAGE_SIZE];
+
+        random.nextBytes(bytes);
+
+        return ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder()).put(bytes).clear();
+    }
+
+    /**
+     * Leaf IO with {@code long} items.
+     */
+    private static class TestLeafIo extends BplusLeafIo<Long> {
+        TestLeafIo() {
+            super(PageIo.MAX_IO_TYPE - 1, 1, Long.BYTES);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void storeByOffset(long pageAddr, int off, Long row) {
+            PageUtils.putLong(pageAddr, off, row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void store(long dstPageAddr, int dstIdx, BplusIo<Long> srcIo, long srcPageAddr, int srcIdx) {
+            PageUtils.putLong(dstPageAddr, offset(dstIdx), PageUtils.getLong(srcPageAddr, offset(srcIdx)));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Long getLookupRow(BplusTree<Long, ?> tree, long pageAddr, int idx) {
+            return PageUtils.getLong(pageAddr, offset(idx));
+        }
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.warmup;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.CLOCK_REPLACEMENT_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.RANDOM_LRU_REPLACEMENT_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SEGMENTED_LRU_REPLACEMENT_MODE;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.mockCheckpointTimeoutLock;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.apache.ignite.internal.util.Constants.MiB;
+import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.pagememory.DataRegion;
+import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.pagememory.PageIdAllocator;
+import org.apache.ignite.internal.pagememory.TestPageIoModule.TestPageIo;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorConfigurationSchema;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
+import org.apache.ignite.internal.pagememory.persistence.PageHeader;
+import org.apache.ignite.internal.pagememory.persistence.PageReadWriteManager;
+import org.apache.ignite.internal.pagememory.persistence.PartitionMeta;
+import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.TestPageReadWriteManager;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
+import org.apache.ignite.internal.pagememory.util.PageUtils;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * For {@link PageMemoryWarmUp} testing.
+ */
+@ExtendWith(WorkDirectoryExtension.class)
+@ExtendWith(ConfigurationExtension.class)
+public class PageMemoryWarmUpTest extends BaseIgniteAbstractTest {
+    private static final int PAGE_SIZE = 8 * 1024;
+
+    private static final int GRP_ID = -1;
+
+    private static final int PARTITION_ID = 1;
+
+    private static final PageIo PAGE_IO = new TestPageIo();
+
+    private static PageIoRegistry ioRegistry;
+
+    @InjectConfiguration(polymorphicExtensions = UnsafeMemoryAllocatorConfigurationSchema.class)
+    private PersistentPageMemoryDataRegionConfiguration dataRegionCfg;
+
+    @WorkDirectory
+    private Path workDir;
+
+    @BeforeAll
+    static void beforeAll() {
+        ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        ioRegistry = null;
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataRegionCfg.change(c -> c.changeSize(10 * MiB)).get(1, SECONDS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {CLOCK_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE})
+    void testHotPagesAreRecentlyAccessedPages(String replacementMode) throws Exception {
+        dataRegionCfg.change(c -> c.changeReplacementMode(replacementMode)).get(1, SECONDS);
+
+        PersistentPageMemory pageMemory = createPageMemory(new TestPageReadWriteManager(), null);
+
+        pageMemory.start();
+
+        try {
+            List<FullPageId> pages = new ArrayList<>();
+
+            for (int i = 0; i < 10; i++) {
+                pages.add(allocatePage(pageMemory));
+            }
+
+            assertEquals(Set.of(), hotPages(pageMemory));
+
+            Set<FullPageId> accessedPages = Set.of(pages.get(1), pages.get(4), pages.get(7));
+
+            for (FullPageId fullPageId : accessedPages) {
+                long page = pageMemory.acquirePage(fullPageId.groupId(), fullPageId.pageId());
+
+                pageMemory.releasePage(fullPageId.groupId(), fullPageId.pageId(), page);
+            }
+
+            assertEquals(accessedPages, hotPages(pageMemory));
+        } finally {
+            pageMemory.stop(true);
+        }
+    }
+
+    @Test
+    void testRandomLruHotPagesAreRecentlyAccessedPages() throws Exception {
+        dataRegionCfg.change(c -> c.changeReplacementMode(RANDOM_LRU_REPLACEMENT_MODE)).get(1, SECONDS);
+
+        PersistentPageMemory pageMemory = createPageMemory(new TestPageReadWriteManager(), null);
+
+        pageMemory.start();
+
+        try {
+            FullPageId hotPageId = allocatePage(pageMemory);
+            FullPageId coldPageId = allocatePage(pageMemory);
+
+            long hotPage = pageMemory.acquirePage(hotPageId.groupId(), hotPageId.pageId());
+            long coldPage = pageMemory.acquirePage(coldPageId.groupId(), coldPageId.pageId());
+
+            try {
+                // Imitates a page that has not been accessed for a long time.
+                PageHeader.writeTimestamp(coldPage, 0);
+            } finally {
+                pageMemory.releasePage(hotPageId.groupId(), hotPageId.pageId(), hotPage);
+                pageMemory.releasePage(coldPageId.groupId(), coldPageId.pageId(), coldPage);
+            }
+
+            assertEquals(Set.of(hotPageId), hotPages(pageMemory));
+        } finally {
+            pageMemory.stop(true);
+        }
+    }
+
+    @Test
+    void testRecordAndWarmUp(@InjectConfiguration PageMemoryCheckpointConfiguration checkpointConfig) throws Exception {
+        Path hotPagesFilePath = workDir.resolve("hot-pages.bin");
+
+        int pageCount = 20;
+
+        Map<FullPageId, Long> pages = new HashMap<>();
+
+        // Writes the pages to disk and records them as hot.
+        try (TestRegion region = new TestRegion(checkpointConfig)) {
+            region.filePageStoreManager.initialize("test", GRP_ID, PARTITION_ID + 1);
+
+            region.startPartitions();
+
+            PageMemoryWarmUp warmUp = region.createWarmUp(hotPagesFilePath);
+
+            warmUp.start();
+
+            assertEquals(0, warmUp.totalPages());
+
+            region.checkpointManager.checkpointTimeoutLock().checkpointReadLock();
+
+            try {
+                for (long i = 0; i < pageCount; i++) {
+                    pages.put(createPage(region.pageMemory, i), i);
+                }
+            } finally {
+                region.checkpointManager.checkpointTimeoutLock().checkpointReadUnlock();
+            }
+
+            region.checkpointManager.forceCheckpoint("test").futureFor(FINISHED).get(1, SECONDS);
+
+            warmUp.stop();
+        }
+
+        // Restores the recorded pages after a restart.
+        try (TestRegion region = new TestRegion(checkpointConfig)) {
+            region.filePageStoreManager.initialize("test", GRP_ID, PARTITION_ID + 1);
+
+            PageMemoryWarmUp warmUp = region.createWarmUp(hotPagesFilePath);
+
+            try {
+                warmUp.start();
+
+                assertEquals(pageCount, warmUp.totalPages());
+
+                assertEquals(0, region.pageMemory.loadedPages());
+
+                // Pages of other groups are not loaded.
+                warmUp.warmUp(GRP_ID + 1);
+
+                warmUp.warmUp(GRP_ID);
+
+                assertTrue(waitForCondition(() -> warmUp.warmedUpPages() == pageCount, 10_000));
+
+                assertEquals(pageCount, region.pageMemory.loadedPages());
+
+                region.startPartitions();
+
+                for (FullPageId fullPageId : pages.keySet()) {
+                    long page = region.pageMemory.acquirePage(fullPageId.groupId(), fullPageId.pageId());
+
+                    try {
+                        long pageAddr = region.pageMemory.readLock(fullPageId.groupId(), fullPageId.pageId(), page);
+
+                        try {
+                            assertEquals(pages.get(fullPageId), PageUtils.getLong(pageAddr, PageIo.COMMON_HEADER_END));
+                        } finally {
+                            region.pageMemory.readUnlock(fullPageId.groupId(), fullPageId.pageId(), page);
+                        }
+                    } finally {
+                        region.pageMemory.releasePage(fullPageId.groupId(), fullPageId.pageId(), page);
+                    }
+                }
+
+                // No pages have been loaded from disk on access.
+                assertEquals(pageCount, region.pageMemory.loadedPages());
+            } finally {
+                warmUp.stop();
+            }
+        }
+    }
+
+    private PersistentPageMemory createPageMemory(
+            PageReadWriteManager pageReadWriteManager,
+            CheckpointManager checkpointManager
+    ) {
+        return new PersistentPageMemory(
+                dataRegionCfg,
+                ioRegistry,
+                new long[]{5 * MiB, 5 * MiB},
+                5 * MiB,
+                pageReadWriteManager,
+                null,
+                (fullPageId, buf, tag) -> fail("Should not happen"),
+                checkpointManager == null ? mockCheckpointTimeoutLock(log, true) : checkpointManager.checkpointTimeoutLock(),
+                PAGE_SIZE
+        );
+    }
+
+    private static FullPageId allocatePage(PersistentPageMemory pageMemory) throws Exception {
+        return new FullPageId(pageMemory.allocatePage(GRP_ID, PARTITION_ID, PageIdAllocator.FLAG_DATA), GRP_ID);
+    }
+
+    private static FullPageId createPage(PersistentPageMemory pageMemory, long val) throws Exception {
+        FullPageId fullPageId = allocatePage(pageMemory);
+
+        long page = pageMemory.acquirePage(fullPageId.groupId(), fullPageId.pageId());
+
+        try {
+            long pageAddr = pageMemory.writeLock(fullPageId.groupId(), fullPageId.pageId(), page);
+
+            try {
+                PAGE_IO.initNewPage(pageAddr, fullPageId.pageId(), pageMemory.realPageSize(fullPageId.groupId()));
+
+                PageUtils.putLong(pageAddr, PageIo.COMMON_HEADER_END, val);
+            } finally {
+                pageMemory.writeUnlock(fullPageId.groupId(), fullPageId.pageId(), page, true);
+            }
+        } finally {
+            pageMemory.releasePage(fullPageId.groupId(), fullPageId.pageId(), page);
+        }
+
+        return fullPageId;
+    }
+
+    private static Set<FullPageId> hotPages(PersistentPageMemory pageMemory) {
+        Set<FullPageId> hotPages = new HashSet<>();
+
+        pageMemory.forEachHotPage(hotPages::add);
+
+        return hotPages;
+    }
+
+    /**
+     * Persistent data region along with its file page stores and checkpointer, started on creation.
+     */
+    private class TestRegion implements AutoCloseable {
+        final FilePageStoreManager filePageStoreManager;
+
+        final PartitionMetaManager partitionMetaManager;
+
+        final CheckpointManager checkpointManager;
+
+        final PersistentPageMemory pageMemory;
+
+        TestRegion(PageMemoryCheckpointConfiguration checkpointConfig) throws Exception {
+            filePageStoreManager = new FilePageStoreManager(log, "test", workDir, new RandomAccessFileIoFactory(), PAGE_SIZE);
+
+            partitionMetaManager = new PartitionMetaManager(ioRegistry, PAGE_SIZE);
+
+            Collection<DataRegion<PersistentPageMemory>> dataRegions = new ArrayList<>();
+
+            checkpointManager = new CheckpointManager(
+                    "test",
+                    null,
+                    null,
+                    checkpointConfig,
+                    filePageStoreManager,
+                    partitionMetaManager,
+                    dataRegions,
+                    workDir,
+                    ioRegistry,
+                    PAGE_SIZE
+            );
+
+            pageMemory = createPageMemory(filePageStoreManager, checkpointManager);
+
+            dataRegions.add(() -> pageMemory);
+
+            filePageStoreManager.start();
+
+            checkpointManager.start();
+
+            pageMemory.start();
+        }
+
+        PageMemoryWarmUp createWarmUp(Path hotPagesFilePath) {
+            return new PageMemoryWarmUp("test", "test", pageMemory, filePageStoreManager, partitionMetaManager, hotPagesFilePath, 60_000,
+                    100_000);
+        }
+
+        void startPartitions() throws Exception {
+            checkpointManager.checkpointTimeoutLock().checkpointReadLock();
+
+            try {
+                for (int i = 0; i <= PARTITION_ID; i++) {
+                    FilePageStore filePageStore = filePageStoreManager.getStore(GRP_ID, i);
+
+                    filePageStore.ensure();
+
+                    GroupPartitionId groupPartitionId = new GroupPartitionId(GRP_ID, i);
+
+                    PartitionMeta partitionMeta = partitionMetaManager.readOrCreateMeta(null, groupPartitionId, filePageStore);
+
+                    partitionMetaManager.addMeta(groupPartitionId, partitionMeta);
+
+                    filePageStore.setPageAllocationListener(pageIdx -> partitionMeta.incrementPageCount(null));
+
+                    filePageStore.pages(partitionMeta.pageCount());
+                }
+            } finally {
+                checkpointManager.checkpointTimeoutLock().checkpointReadUnlock();
+            }
+        }
+
+        @Override
+        public void close() throws Exception {
+            closeAll(
+                    () -> pageMemory.stop(true),
+                    checkpointManager::stop,
+                    filePageStoreManager::stop
+            );
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.tree;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.apache.ignite.internal.pagememory.TestPageIoRegistry;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.io.IoVersions;
+import org.apache.ignite.internal.pagememory.tree.io.BplusInnerIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusLeafIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusMetaIo;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of loading sorted rows into an empty {@link BplusTree} with {@link BplusTree#put}, {@link BplusTree#putAll} and
+ * {@link BplusTree#bulkLoad}.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(jvmArgsAppend = {"--add-opens=java.base/java.nio=ALL-UNNAMED", "--add-opens=java.base/sun.nio.ch=ALL-UNNAMED"}, value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class BplusTreeLoadBenchmark {
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    private static final long MAX_MEMORY_SIZE = 256L * 1024 * 1024;
+
+    private static final int GROUP_ID = 100;
+
+    private static final short LONG_INNER_IO = 30000;
+
+    private static final short LONG_LEAF_IO = 30001;
+
+    private static final short LONG_META_IO = 30002;
+
+    /** Number of loaded rows. */
+    @Param({"10000", "200000"})
+    private int rows;
+
+    private VolatilePageMemory pageMem;
+
+    private LongTree tree;
+
+    /**
+     * Starts the page memory and creates an empty tree.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() throws Exception {
+        UnsafeMemoryAllocatorView allocatorView = mock(UnsafeMemoryAllocatorView.class);
+
+        VolatilePageMemoryDataRegionView dataRegionView = mock(VolatilePageMemoryDataRegionView.class);
+
+        when(dataRegionView.name()).thenReturn("benchmark");
+        when(dataRegionView.initSize()).thenReturn(MAX_MEMORY_SIZE);
+        when(dataRegionView.maxSize()).thenReturn(MAX_MEMORY_SIZE);
+        when(dataRegionView.memoryAllocator()).thenReturn(allocatorView);
+
+        VolatilePageMemoryDataRegionConfiguration dataRegionCfg = mock(VolatilePageMemoryDataRegionConfiguration.class);
+
+        when(dataRegionCfg.value()).thenReturn(dataRegionView);
+
+        TestPageIoRegistry ioRegistry = new TestPageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        ioRegistry.load(
+                new IoVersions<>(new LongInnerIo()),
+                new IoVersions<>(new LongLeafIo()),
+                new IoVersions<>(new LongMetaIo())
+        );
+
+        pageMem = new VolatilePageMemory(dataRegionCfg, ioRegistry, PAGE_SIZE);
+
+        pageMem.start();
+
+        tree = new LongTree(pageMem, pageMem.allocatePage(GROUP_ID, 0, FLAG_AUX));
+    }
+
+    /**
+     * Stops the page memory.
+     */
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        tree.close();
+
+        pageMem.stop(true);
+    }
+
+    /**
+     * Puts the rows one by one.
+     */
+    @Benchmark
+    public void put() throws Exception {
+        for (long row = 0; row < rows; row++) {
+            tree.putx(row);
+        }
+    }
+
+    /**
+     * Puts the rows with {@link BplusTree#putAll}.
+     */
+    @Benchmark
+    public void putAll() throws Exception {
+        tree.putAll(LongStream.range(0, rows).iterator());
+    }
+
+    /**
+     * Loads the rows with {@link BplusTree#bulkLoad}.
+     */
+    @Benchmark
+    public void bulkLoad() throws Exception {
+        tree.bulkLoad(LongStream.range(0, rows).iterator(), 1f);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(BplusTreeLoadBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * Tree of longs.
+     */
+    private static class LongTree extends BplusTree<Long, Long> {
+        LongTree(VolatilePageMemory pageMem, long metaPageId) throws IgniteInternalCheckedException {
+            super(
+                    "benchmark",
+                    GROUP_ID,
+                    null,
+                    0,
+                    pageMem,
+                    PageLockListenerNoOp.INSTANCE,
+                    new AtomicLong(),
+                    metaPageId,
+                    null,
+                    new IoVersions<>(new LongInnerIo()),
+                    new IoVersions<>(new LongLeafIo()),
+                    new IoVersions<>(new LongMetaIo())
+            );
+
+            initTree(true);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int compare(BplusIo<Long> io, long pageAddr, int idx, Long row) throws IgniteInternalCheckedException {
+            return Long.compare(io.getLookupRow(this, pageAddr, idx), row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Long getRow(BplusIo<Long> io, long pageAddr, int idx, Object x) throws IgniteInternalCheckedException {
+            return io.getLookupRow(this, pageAddr, idx);
+        }
+    }
+
+    /**
+     * Inner page IO of the tree of longs.
+     */
+    private static class LongInnerIo extends BplusInnerIo<Long> {
+        LongInnerIo() {
+            super(LONG_INNER_IO, 1, true, 8);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void storeByOffset(long pageAddr, int off, Long row) {
+            putLong(pageAddr, off, row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void store(long dst, int dstIdx, BplusIo<Long> srcIo, long src, int srcIdx) throws IgniteInternalCheckedException {
+            storeByOffset(dst, offset(dstIdx), srcIo.getLookupRow(null, src, srcIdx));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Long getLookupRow(BplusTree<Long, ?> tree, long pageAddr, int idx) {
+            return getLong(pageAddr, offset(idx));
+        }
+    }
+
+    /**
+     * Leaf page IO of the tree of longs.
+     */
+    private static class LongLeafIo extends BplusLeafIo<Long> {
+        LongLeafIo() {
+            super(LONG_LEAF_IO, 1, 8);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void storeByOffset(long pageAddr, int off, Long row) {
+            putLong(pageAddr, off, row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void store(long dst, int dstIdx, BplusIo<Long> srcIo, long src, int srcIdx) {
+            putLong(dst, offset(dstIdx), getLong(src, offset(srcIdx)));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Long getLookupRow(BplusTree<Long, ?> tree, long pageAddr, int idx) {
+            return getLong(pageAddr, offset(idx));
+        }
+    }
+
+    /**
+     * Meta page IO of the tree of longs.
+     */
+    private static class LongMetaIo extends BplusMetaIo {
+        LongMetaIo() {
+            super(LONG_META_IO, 1);
+        }
+    }
+}
@@ -244,6 +244,9 @@ public interface RaftGroupService {
      *
      * <p>Read commands can see stale data (in the past).
      *
+     * <p>If the peer can't serve the command, for example, it is unavailable or is not started yet, the command is executed on a group
+     * leader, as {@link #run(Command)} does.
+     *
      * @param peer Peer id.
      * @param cmd  The command.
      * @param <R>  Execution result type.
@@ -136,6 +136,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 public class ItNodeTest {
     private static final IgniteLogger LOG = Loggers.forClass(ItNodeTest.class);
 
+    /** Idle time after which a leader quiesces its group, in the quiescence tests. */
+    private static final int QUIESCENCE_TIMEOUT_MILLIS = 2_000;
+
     private static DumpThread dumpThread;
 
     private static class DumpThread extends Thread {
@@ -2286,6 +2289,152 @@ public class ItNodeTest {
         assertEquals(savedTerm, ((NodeImpl) leader1).getCurrentTerm());
     }
 
+    @Test
+    public void testQuiesceIdleGroup() throws Exception {
+        startQuiescingCluster(TestUtils.generatePeers(3));
+
+        NodeImpl leader = (NodeImpl) cluster.getLeader();
+        assertNotNull(leader);
+        long savedTerm = leader.getCurrentTerm();
+        sendTestTaskAndWait(leader);
+
+        assertTrue(waitForQuiescence(10_000));
+
+        // The liveness heartbeats keep the followers from electing a new leader for longer than their quiesced lease.
+        Thread.sleep(3 * QUIESCENCE_TIMEOUT_MILLIS + ELECTION_TIMEOUT_MILLIS);
+
+        assertTrue(leader.isLeader());
+        assertEquals(savedTerm, leader.getCurrentTerm());
+        for (NodeImpl node : cluster.getNodes()) {
+            assertTrue(node.isQuiesced(), node.getNodeId().toString());
+            assertEquals(leader.getServerId(), node.getLeaderId());
+        }
+    }
+
+    @Test
+    public void testQuiescedGroupWakesUpOnCommand() throws Exception {
+        startQuiescingCluster(TestUtils.generatePeers(3));
+
+        NodeImpl leader = (NodeImpl) cluster.getLeader();
+        assertNotNull(leader);
+        long savedTerm = leader.getCurrentTerm();
+        sendTestTaskAndWait(leader);
+
+        assertTrue(waitForQuiescence(10_000));
+
+        sendTestTaskAndWait(leader, 10, RaftError.SUCCESS);
+
+        assertFalse(leader.isQuiesced());
+        assertEquals(savedTerm, leader.getCurrentTerm());
+        cluster.ensureSame();
+        for (MockStateMachine fsm : cluster.getFsms())
+            assertEquals(20, fsm.getLogs().size());
+
+        // The group quiesces again once it is idle.
+        assertTrue(waitForQuiescence(10_000));
+    }
+
+    @Test
+    public void testQuiescedGroupWakesUpOnTopologyChange() throws Exception {
+        startQuiescingCluster(TestUtils.generatePeers(3));
+
+        NodeImpl leader = (NodeImpl) cluster.getLeader();
+        assertNotNull(leader);
+        sendTestTaskAndWait(leader);
+
+        assertTrue(waitForQuiescence(10_000));
+
+        Node follower = cluster.getFollowers().get(0);
+        assertTrue(cluster.stop(follower.getNodeId().getPeerId().getEndpoint()));
+
+        // The leader resumes the heartbeats and stays awake, as the stopped follower doesn't acknowledge quiescence.
+        assertTrue(waitForCondition(() -> !leader.isQuiesced(), 10_000));
+        assertTrue(waitForCondition(() -> cluster.getNodes().stream().noneMatch(NodeImpl::isQuiesced), 5_000));
+        Thread.sleep(QUIESCENCE_TIMEOUT_MILLIS + ELECTION_TIMEOUT_MILLIS);
+        assertFalse(leader.isQuiesced());
+
+        sendTestTaskAndWait(leader, 10, RaftError.SUCCESS);
+        assertTrue(leader.isLeader());
+    }
+
+    @Test
+    public void testQuiescedFollowersElectNewLeaderOnLeaderStop() throws Exception {
+        startQuiescingCluster(TestUtils.generatePeers(3));
+
+        NodeImpl leader = (NodeImpl) cluster.getLeader();
+        assertNotNull(leader);
+        long savedTerm = leader.getCurrentTerm();
+        sendTestTaskAndWait(leader);
+
+        assertTrue(waitForQuiescence(10_000));
+
+        PeerId oldLeader = leader.getNodeId().getPeerId();
+        assertTrue(cluster.stop(oldLeader.getEndpoint()));
+
+        cluster.waitLeader();
+        NodeImpl newLeader = (NodeImpl) cluster.getLeader();
+        assertNotNull(newLeader);
+        assertNotEquals(oldLeader, newLeader.getNodeId().getPeerId());
+        assertTrue(newLeader.getCurrentTerm() > savedTerm);
+
+        sendTestTaskAndWait(newLeader, 10, RaftError.SUCCESS);
+    }
+
+    @Test
+    public void testQuiescedFollowersElectNewLeaderWithoutLivenessHeartbeats() throws Exception {
+        startQuiescingCluster(TestUtils.generatePeers(3));
+
+        NodeImpl leader = (NodeImpl) cluster.getLeader();
+        assertNotNull(leader);
+        long savedTerm = leader.getCurrentTerm();
+        sendTestTaskAndWait(leader);
+
+        assertTrue(waitForQuiescence(10_000));
+
+        List<Node> followers = cluster.getFollowers();
+
+        // The leader stays in the topology, but the followers don't hear from it any more.
+        sender(leader).blockMessages((msg, nodeId) -> msg instanceof RpcRequests.AppendEntriesRequest);
+
+        try {
+            assertTrue(waitForCondition(() -> followers.stream()
+                .anyMatch(node -> node.isLeader() && ((NodeImpl) node).getCurrentTerm() > savedTerm), 30_000));
+
+            // The old leader doesn't get answers to its liveness heartbeats and steps down.
+            assertTrue(waitForCondition(() -> !leader.isLeader(), 30_000));
+        }
+        finally {
+            sender(leader).stopBlock();
+        }
+    }
+
+    /**
+     * Starts a cluster, whose leader quiesces the group after {@link #QUIESCENCE_TIMEOUT_MILLIS} of idle time, and waits for
+     * the leader.
+     *
+     * @param peers Peers.
+     */
+    private void startQuiescingCluster(List<PeerId> peers) throws Exception {
+        cluster = new TestCluster("unittest", dataPath, peers, testInfo);
+
+        for (PeerId peer : peers) {
+            RaftOptions raftOptions = new RaftOptions();
+            raftOptions.setQuiescenceTimeoutMs(QUIESCENCE_TIMEOUT_MILLIS);
+
+            assertTrue(cluster.start(peer.getEndpoint(), false, 300, false, null, raftOptions));
+        }
+
+        cluster.waitLeader();
+    }
+
+    /**
+     * @param timeout The timeout.
+     * @return {@code True} if all the nodes of the cluster are quiesced.
+     */
+    private boolean waitForQuiescence(long timeout) {
+        return waitForCondition(() -> cluster.getNodes().stream().allMatch(NodeImpl::isQuiesced), timeout);
+    }
+
     @Test
     public void testRecoverFollower() throws Exception {
         List<PeerId> peers = TestUtils.generatePeers(3);
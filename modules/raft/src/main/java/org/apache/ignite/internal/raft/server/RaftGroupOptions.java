@@ -37,6 +37,9 @@ public class RaftGroupOptions {
     /** Raft meta storage factory. */
     private RaftMetaStorageFactory raftMetaStorageFactory;
 
+    /** Whether the leader serves linearizable reads locally while its lease is valid. */
+    private boolean leaseBasedReads;
+
     /**
      * Returns default options as defined by classic Raft (so stores are persistent).
      *
@@ -126,4 +129,23 @@ public class RaftGroupOptions {
 
         return this;
     }
+
+    /**
+     * Returns {@code true} if the leader of the Raft group serves linearizable reads locally while its lease is valid, instead of
+     * confirming its leadership with a round of heartbeats to the quorum for every read.
+     */
+    public boolean leaseBasedReads() {
+        return leaseBasedReads;
+    }
+
+    /**
+     * Sets whether the leader of the Raft group serves linearizable reads locally while its lease is valid. The lease is bound by
+     * {@code electionTimeout * leaderLeaseTimeRatio / 100} of the local monotonic clock, so it stays safe as long as the clock drift
+     * between the nodes is below the remaining part of the election timeout.
+     */
+    public RaftGroupOptions leaseBasedReads(boolean leaseBasedReads) {
+        this.leaseBasedReads = leaseBasedReads;
+
+        return this;
+    }
 }
@@ -82,6 +82,14 @@ public interface RaftServer extends IgniteComponent {
      */
     @Nullable Peer localPeer(String groupId);
 
+    /**
+     * Checks whether the local peer is the leader of a raft group, without any network interaction.
+     *
+     * @param groupId Group id.
+     * @return {@code True} if the group is started locally and the local peer is its leader.
+     */
+    boolean isLeader(String groupId);
+
     /**
      * Returns a set of started partition groups.
      *
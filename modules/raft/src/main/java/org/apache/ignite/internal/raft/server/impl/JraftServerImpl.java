@@ -66,8 +66,10 @@ import org.apache.ignite.raft.jraft.disruptor.StripedDisruptor;
 import org.apache.ignite.raft.jraft.entity.PeerId;
 import org.apache.ignite.raft.jraft.error.RaftError;
 import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.option.ReadOnlyOption;
 import org.apache.ignite.raft.jraft.rpc.impl.IgniteRpcClient;
 import org.apache.ignite.raft.jraft.rpc.impl.IgniteRpcServer;
+import org.apache.ignite.raft.jraft.rpc.impl.core.HeartbeatCoalescer;
 import org.apache.ignite.raft.jraft.storage.impl.LogManagerImpl;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotReader;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotWriter;
@@ -189,6 +191,20 @@ public class JraftServerImpl implements RaftServer {
             opts.setClientExecutor(JRaftUtils.createClientExecutor(opts, opts.getServerName()));
         }
 
+        if (opts.getHeartbeatCoalescer() == null) {
+            // A heartbeat waits for the heartbeats of other groups to the same node for a tenth of the heartbeat interval at most.
+            int heartbeatIntervalMs = Math.max(opts.getElectionTimeoutMs() / opts.getRaftOptions().getElectionHeartbeatFactor(), 10);
+
+            opts.setHeartbeatCoalescer(new HeartbeatCoalescer(
+                    new IgniteRpcClient(service),
+                    opts.getScheduler(),
+                    opts.getClientExecutor(),
+                    opts.getRaftMessagesFactory(),
+                    heartbeatIntervalMs / 10,
+                    opts.getRpcDefaultTimeout()
+            ));
+        }
+
         if (opts.getVoteTimer() == null) {
             opts.setVoteTimer(JRaftUtils.createTimer(opts, "JRaft-VoteTimer"));
         }
@@ -384,6 +400,10 @@ public class JraftServerImpl implements RaftServer {
 
             nodeOptions.setRaftGrpEvtsLsnr(evLsnr);
 
+            if (groupOptions.leaseBasedReads()) {
+                nodeOptions.getRaftOptions().setReadOnlyOptions(ReadOnlyOption.ReadOnlyLeaseBased);
+            }
+
             LogStorageFactory logStorageFactory = groupOptions.getLogStorageFactory() == null
                     ? this.logStorageFactory : groupOptions.getLogStorageFactory();
 
@@ -451,6 +471,14 @@ public class JraftServerImpl implements RaftServer {
         return new Peer(addressFromEndpoint(peerId.getEndpoint()), peerId.getPriority());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLeader(String groupId) {
+        RaftGroupService service = groups.get(groupId);
+
+        return service != null && service.getRaftNode().isLeader();
+    }
+
     /**
      * Returns service group.
      *
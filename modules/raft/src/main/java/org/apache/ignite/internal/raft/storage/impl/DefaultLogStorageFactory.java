@@ -69,6 +69,9 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
     /** Data column family handle. */
     private ColumnFamilyHandle dataHandle;
 
+    /** Writer that merges log appends of all the storages. */
+    private GroupCommitWriter groupCommitWriter;
+
     /**
      * Constructor.
      *
@@ -120,6 +123,8 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
             assert (columnFamilyHandles.size() == 2);
             this.confHandle = columnFamilyHandles.get(0);
             this.dataHandle = columnFamilyHandles.get(1);
+
+            this.groupCommitWriter = new GroupCommitWriter(db);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -130,13 +135,13 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
     public void close() throws Exception {
         ExecutorServiceHelper.shutdownAndAwaitTermination(executorService);
 
-        IgniteUtils.closeAll(confHandle, dataHandle, db, dbOptions);
+        IgniteUtils.closeAll(groupCommitWriter, confHandle, dataHandle, db, dbOptions);
     }
 
     /** {@inheritDoc} */
     @Override
     public LogStorage createLogStorage(String groupId, RaftOptions raftOptions) {
-        return new RocksDbSharedLogStorage(db, confHandle, dataHandle, groupId, raftOptions, executorService);
+        return new RocksDbSharedLogStorage(db, confHandle, dataHandle, groupId, raftOptions, executorService, groupCommitWriter);
     }
 
     /**
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+
+/**
+ * Writer that merges concurrent writes of the log storages sharing a RocksDB instance into a single {@link WriteBatch} (group commit).
+ * So writes of many raft groups cost one RocksDB write and one WAL sync instead of one per group.
+ *
+ * <p>A writer that finds no write in progress becomes the leader: it takes all the writes accumulated so far, writes them as one batch
+ * and wakes up their owners. Writes that arrive while the leader is writing are accumulated for the next leader, so the more groups
+ * write concurrently, the larger the batches are.
+ */
+class GroupCommitWriter implements AutoCloseable {
+    /** Shared db instance. */
+    private final RocksDB db;
+
+    /** Write options with WAL sync. */
+    private final WriteOptions syncWriteOptions = new WriteOptions().setSync(true);
+
+    /** Write options without WAL sync. */
+    private final WriteOptions noSyncWriteOptions = new WriteOptions().setSync(false);
+
+    /** Mutex. */
+    private final Object mux = new Object();
+
+    /** Writes accumulated for the next leader. Guarded by {@link #mux}. */
+    private Group pending = new Group();
+
+    /** Whether a leader is writing at the moment. Guarded by {@link #mux}. */
+    private boolean writing;
+
+    /**
+     * Constructor.
+     *
+     * @param db Shared db instance.
+     */
+    GroupCommitWriter(RocksDB db) {
+        this.db = db;
+    }
+
+    /**
+     * Writes the batch and waits until it is written.
+     *
+     * @param batch Batch.
+     * @throws RocksDBException If the write has failed.
+     */
+    void write(Batch batch) throws RocksDBException {
+        Group group;
+
+        boolean interrupted = false;
+
+        synchronized (mux) {
+            group = pending;
+
+            group.add(batch);
+
+            while (!group.done) {
+                if (!writing && pending == group) {
+                    writing = true;
+
+                    pending = new Group();
+
+                    break;
+                }
+
+                try {
+                    // Uninterruptible wait, the batch can't be withdrawn from the group.
+                    mux.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!group.done) {
+            writeGroup(group);
+        }
+
+        if (group.error != null) {
+            throw group.error;
+        }
+    }
+
+    /**
+     * Writes the group as the leader and wakes up the owners of the group's batches.
+     */
+    private void writeGroup(Group group) {
+        RocksDBException error = null;
+
+        try (WriteBatch writeBatch = new WriteBatch()) {
+            for (Batch batch : group.batches) {
+                for (int i = 0; i < batch.keys.size(); i++) {
+                    writeBatch.put(batch.handles.get(i), batch.keys.get(i), batch.values.get(i));
+                }
+            }
+
+            db.write(group.sync ? syncWriteOptions : noSyncWriteOptions, writeBatch);
+        } catch (RocksDBException e) {
+            error = e;
+        }
+
+        synchronized (mux) {
+            group.error = error;
+            group.done = true;
+
+            writing = false;
+
+            mux.notifyAll();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        syncWriteOptions.close();
+        noSyncWriteOptions.close();
+    }
+
+    /**
+     * Writes of a single log storage that must be applied atomically.
+     */
+    static class Batch {
+        /** Whether the WAL must be synced after the write. */
+        private final boolean sync;
+
+        /** Column families. */
+        private final List<ColumnFamilyHandle> handles = new ArrayList<>();
+
+        /** Keys. */
+        private final List<byte[]> keys = new ArrayList<>();
+
+        /** Values. */
+        private final List<byte[]> values = new ArrayList<>();
+
+        /**
+         * Constructor.
+         *
+         * @param sync Whether the WAL must be synced after the write.
+         */
+        Batch(boolean sync) {
+            this.sync = sync;
+        }
+
+        /**
+         * Adds a put to the batch.
+         *
+         * @param handle Column family.
+         * @param key Key.
+         * @param value Value.
+         */
+        void put(ColumnFamilyHandle handle, byte[] key, byte[] value) {
+            handles.add(handle);
+            keys.add(key);
+            values.add(value);
+        }
+    }
+
+    /**
+     * Batches written by a single leader.
+     */
+    private static class Group {
+        /** Batches. */
+        private final List<Batch> batches = new ArrayList<>();
+
+        /** Whether the WAL must be synced after the write. */
+        private boolean sync;
+
+        /** Whether the group has been written. */
+        private boolean done;
+
+        /** Write error. */
+        @Nullable
+        private RocksDBException error;
+
+        /** Adds a batch to the group. */
+        void add(Batch batch) {
+            batches.add(batch);
+
+            sync |= batch.sync;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.raft.storage.impl.GroupCommitWriter.Batch;
 import org.apache.ignite.raft.jraft.conf.Configuration;
 import org.apache.ignite.raft.jraft.conf.ConfigurationEntry;
 import org.apache.ignite.raft.jraft.conf.ConfigurationManager;
@@ -53,7 +54,6 @@ import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
-import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 /**
@@ -101,6 +101,12 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
     /** Write options. */
     private final WriteOptions writeOptions;
 
+    /** Writer that merges log appends of all the storages sharing the db. */
+    private final GroupCommitWriter groupCommitWriter;
+
+    /** Whether the WAL must be synced after log appends. */
+    private final boolean sync;
+
     /** Start prefix. */
     private final byte[] groupStartPrefix;
 
@@ -147,12 +153,14 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
             ColumnFamilyHandle dataHandle,
             String groupId,
             RaftOptions raftOptions,
-            Executor executor
+            Executor executor,
+            GroupCommitWriter groupCommitWriter
     ) {
         Requires.requireNonNull(db);
         Requires.requireNonNull(confHandle);
         Requires.requireNonNull(dataHandle);
         Requires.requireNonNull(executor);
+        Requires.requireNonNull(groupCommitWriter);
 
         Requires.requireTrue(
                 groupId.indexOf(0) == -1,
@@ -167,6 +175,8 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
         this.confHandle = confHandle;
         this.dataHandle = dataHandle;
         this.executor = executor;
+        this.groupCommitWriter = groupCommitWriter;
+        this.sync = raftOptions.isSync();
         this.groupStartPrefix = (groupId + (char) 0).getBytes(StandardCharsets.UTF_8);
         this.groupEndPrefix = (groupId + (char) 1).getBytes(StandardCharsets.UTF_8);
         this.groupStartBound = new Slice(groupStartPrefix);
@@ -534,7 +544,7 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
         }
     }
 
-    private void addConfBatch(LogEntry entry, WriteBatch batch) throws RocksDBException {
+    private void addConfBatch(LogEntry entry, Batch batch) {
         byte[] ks = createKey(entry.getId().getIndex());
         byte[] content = this.logEntryEncoder.encode(entry);
         batch.put(this.dataHandle, ks, content);
@@ -542,21 +552,24 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
     }
 
     /**
-     * Execute write batch template.
+     * Execute write batch template. The batch is written together with concurrent batches of other storages, see
+     * {@link GroupCommitWriter}.
      *
      * @param template write batch template
      */
     private boolean executeBatch(WriteBatchTemplate template) {
         this.useLock.lock();
 
-        try (WriteBatch batch = new WriteBatch()) {
+        try {
             if (stopped) {
                 LOG.warn("Storage stopped.");
                 return false;
             }
 
+            Batch batch = new Batch(sync);
+
             template.execute(batch);
-            this.db.write(this.writeOptions, batch);
+            this.groupCommitWriter.write(batch);
         } catch (RocksDBException e) {
             LOG.error("Execute batch failed with rocksdb exception.", e);
             return false;
@@ -573,8 +586,8 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
         return true;
     }
 
-    private void addDataBatch(LogEntry entry, WriteBatch batch,
-            WriteContext ctx) throws RocksDBException, IOException, InterruptedException {
+    private void addDataBatch(LogEntry entry, Batch batch,
+            WriteContext ctx) throws IOException, InterruptedException {
         long logIndex = entry.getId().getIndex();
         byte[] content = this.logEntryEncoder.encode(entry);
         batch.put(this.dataHandle, createKey(logIndex), onDataAppend(logIndex, content, ctx));
@@ -697,7 +710,7 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
      */
     private interface WriteBatchTemplate {
 
-        void execute(WriteBatch batch) throws RocksDBException, IOException, InterruptedException;
+        void execute(Batch batch) throws RocksDBException, IOException, InterruptedException;
     }
 
     /**
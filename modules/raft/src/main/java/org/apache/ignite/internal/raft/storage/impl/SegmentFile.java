@@ -0,0 +1,535 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Preallocated, memory-mapped file holding a contiguous part of a raft log, see {@link SegmentFileLogStorage}.
+ *
+ * <p>File layout: a header ({@link #MAGIC}, {@link #VERSION}) followed by records, each record is
+ * {@code [data length: int][crc: int][log index: long][flags: byte][data]}. The checksum covers everything after itself. The unused tail
+ * of the file is zero, a zero length marks the end of records.
+ *
+ * <p>Records are located with a sparse in-memory index that holds the offset of a record every {@link #INDEX_INTERVAL} bytes, a read
+ * scans the mapped records forward from the nearest indexed one.
+ *
+ * <p>The file is written by a single thread at a time. Reads may go concurrently with appends, but not with {@link #truncateAfter},
+ * {@link #close} or {@link #delete}, the owner is responsible for that.
+ */
+class SegmentFile {
+    /** Segment file name suffix. */
+    static final String SUFFIX = ".seg";
+
+    /** File magic. */
+    static final int MAGIC = 0x52_4C_53_47;
+
+    /** File format version. */
+    static final int VERSION = 1;
+
+    /** File header size. */
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    /** Record header size: data length, crc, log index and flags. */
+    static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES + 1;
+
+    /** Flag of a record that holds a configuration entry. */
+    static final byte FLAG_CONFIGURATION = 1;
+
+    /** Distance in bytes between the records of the sparse index. */
+    static final int INDEX_INTERVAL = 4096;
+
+    /** Path to the file. */
+    private final Path path;
+
+    /** Index of the first log entry this segment was created for, it is also encoded in the file name. */
+    private final long firstIndex;
+
+    /** File channel. */
+    private final FileChannel channel;
+
+    /** Mapping of the whole file, used for reads. */
+    private final MappedByteBuffer buffer;
+
+    /** Duplicate of {@link #buffer}, used by the writer. */
+    private final ByteBuffer writeBuffer;
+
+    /** Checksum used by the writer. */
+    private final CRC32C crc = new CRC32C();
+
+    /** Position right after the last record. */
+    private volatile int writePosition = HEADER_SIZE;
+
+    /** Index of the last record, {@code firstIndex - 1} if there are no records. */
+    private volatile long lastIndex;
+
+    /** Log indexes of the sparse index. Guarded by {@code this}. */
+    private long[] sparseIndexes = new long[16];
+
+    /** Record offsets of the sparse index. Guarded by {@code this}. */
+    private int[] sparseOffsets = new int[16];
+
+    /** Size of the sparse index. Guarded by {@code this}. */
+    private int sparseSize;
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to the file.
+     * @param firstIndex Index of the first log entry this segment was created for.
+     * @param channel File channel.
+     * @param buffer Mapping of the whole file.
+     */
+    private SegmentFile(Path path, long firstIndex, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstIndex = firstIndex;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.writeBuffer = buffer.duplicate();
+        this.lastIndex = firstIndex - 1;
+    }
+
+    /**
+     * Creates and maps a new segment file.
+     *
+     * @param dir Directory of the log.
+     * @param firstIndex Index of the first log entry to be appended to the segment.
+     * @param size File size.
+     * @return Segment file.
+     * @throws IOException If failed.
+     */
+    static SegmentFile create(Path dir, long firstIndex, int size) throws IOException {
+        Path path = dir.resolve(fileName(firstIndex));
+
+        FileChannel channel = FileChannel.open(path, CREATE_NEW, READ, WRITE);
+
+        try {
+            // Mapping a region beyond the end of the file extends the file to the region size.
+            SegmentFile segment = new SegmentFile(path, firstIndex, channel, channel.map(MapMode.READ_WRITE, 0, size));
+
+            segment.writeHeader();
+
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+
+            Files.deleteIfExists(path);
+
+            throw e;
+        }
+    }
+
+    /**
+     * Maps an existing segment file. Records must be loaded with {@link #recover} afterwards.
+     *
+     * @param path Path to the file.
+     * @return Segment file.
+     * @throws IOException If failed.
+     */
+    static SegmentFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, READ, WRITE);
+
+        try {
+            long size = channel.size();
+
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid segment file size [path=" + path + ", size=" + size + ']');
+            }
+
+            return new SegmentFile(path, firstIndex(path), channel, channel.map(MapMode.READ_WRITE, 0, size));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Returns file name of a segment.
+     *
+     * @param firstIndex Index of the first log entry of the segment.
+     */
+    static String fileName(long firstIndex) {
+        return String.format("%020d", firstIndex) + SUFFIX;
+    }
+
+    /**
+     * Returns {@code true} if the path looks like a segment file.
+     *
+     * @param path Path.
+     */
+    static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+
+        return name.length() == 20 + SUFFIX.length() && name.endsWith(SUFFIX) && name.chars().limit(20).allMatch(Character::isDigit);
+    }
+
+    /**
+     * Returns index of the first log entry of a segment, parsed from the file name.
+     *
+     * @param path Path to the segment file.
+     */
+    static long firstIndex(Path path) {
+        String name = path.getFileName().toString();
+
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    /**
+     * Returns the file size required to fit a single record.
+     *
+     * @param dataLength Record data length.
+     */
+    static int requiredSize(int dataLength) {
+        return HEADER_SIZE + RECORD_HEADER_SIZE + dataLength + Integer.BYTES;
+    }
+
+    /**
+     * Loads the records, stopping at the end marker or at the first record that is not valid. Whatever follows the valid records is cut
+     * off, so that a record torn by a crash is not read and is overwritten by the next append.
+     *
+     * @param verifyChecksums Whether record checksums must be verified.
+     * @param consumer Consumer of the configuration records, accepts a log index and record data.
+     * @throws IOException If the file header is not valid.
+     */
+    void recover(boolean verifyChecksums, RecordConsumer consumer) throws IOException {
+        int magic = buffer.getInt(0);
+
+        if (magic == 0) {
+            // The file was created, but the header has not reached the disk.
+            writeHeader();
+
+            return;
+        }
+
+        if (magic != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Invalid segment file header [path=" + path + ']');
+        }
+
+        CRC32C recoveryCrc = new CRC32C();
+
+        int pos = HEADER_SIZE;
+        long prevIndex = firstIndex - 1;
+
+        while (pos + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            int len = buffer.getInt(pos);
+
+            if (len <= 0 || len > buffer.capacity() - pos - RECORD_HEADER_SIZE) {
+                break;
+            }
+
+            long index = buffer.getLong(pos + 2 * Integer.BYTES);
+
+            if (index <= prevIndex) {
+                break;
+            }
+
+            if (verifyChecksums && buffer.getInt(pos + Integer.BYTES) != checksum(recoveryCrc, buffer, pos, len)) {
+                break;
+            }
+
+            if ((buffer.get(pos + RECORD_HEADER_SIZE - 1) & FLAG_CONFIGURATION) != 0) {
+                consumer.accept(index, readData(pos, len));
+            }
+
+            addToSparseIndex(index, pos);
+
+            prevIndex = index;
+            pos += RECORD_HEADER_SIZE + len;
+        }
+
+        writePosition = pos;
+        lastIndex = prevIndex;
+
+        writeEndMarker(pos);
+    }
+
+    /**
+     * Returns index of the first log entry this segment was created for.
+     */
+    long firstIndex() {
+        return firstIndex;
+    }
+
+    /**
+     * Returns index of the last record, {@code firstIndex() - 1} if there are no records.
+     */
+    long lastIndex() {
+        return lastIndex;
+    }
+
+    /**
+     * Returns {@code true} if the segment has no records.
+     */
+    boolean isEmpty() {
+        return writePosition == HEADER_SIZE;
+    }
+
+    /**
+     * Returns index of the first record, {@code -1} if there are no records.
+     */
+    synchronized long firstRecordIndex() {
+        return sparseSize == 0 ? -1 : sparseIndexes[0];
+    }
+
+    /**
+     * Returns {@code true} if a record with data of the given length fits into the segment.
+     *
+     * @param dataLength Data length.
+     */
+    boolean hasRoom(int dataLength) {
+        return dataLength <= buffer.capacity() - writePosition - RECORD_HEADER_SIZE;
+    }
+
+    /**
+     * Appends a record. The caller must ensure that {@link #hasRoom} and that the index is greater than {@link #lastIndex}.
+     *
+     * @param index Log index.
+     * @param flags Record flags.
+     * @param data Record data.
+     */
+    void append(long index, byte flags, byte[] data) {
+        assert index > lastIndex : "index=" + index + ", lastIndex=" + lastIndex;
+        assert hasRoom(data.length);
+
+        int pos = writePosition;
+
+        writeBuffer.putInt(pos, data.length);
+        writeBuffer.putLong(pos + 2 * Integer.BYTES, index);
+        writeBuffer.put(pos + RECORD_HEADER_SIZE - 1, flags);
+        writeBuffer.position(pos + RECORD_HEADER_SIZE);
+        writeBuffer.put(data);
+        writeBuffer.putInt(pos + Integer.BYTES, checksum(crc, writeBuffer, pos, data.length));
+
+        int end = pos + RECORD_HEADER_SIZE + data.length;
+
+        writeEndMarker(end);
+
+        addToSparseIndex(index, pos);
+
+        lastIndex = index;
+        writePosition = end;
+    }
+
+    /**
+     * Reads data of a record.
+     *
+     * @param index Log index.
+     * @return Record data or {@code null} if there is no record with such index.
+     */
+    byte @Nullable [] read(long index) {
+        int pos = floorOffset(index);
+
+        if (pos < 0) {
+            return null;
+        }
+
+        int end = writePosition;
+
+        while (pos < end) {
+            int len = buffer.getInt(pos);
+            long recordIndex = buffer.getLong(pos + 2 * Integer.BYTES);
+
+            if (recordIndex == index) {
+                return readData(pos, len);
+            } else if (recordIndex > index) {
+                return null;
+            }
+
+            pos += RECORD_HEADER_SIZE + len;
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes the records with indexes greater than the given one and syncs the file.
+     *
+     * @param lastIndexKept Index of the last record to keep.
+     * @throws IOException If failed.
+     */
+    void truncateAfter(long lastIndexKept) throws IOException {
+        if (lastIndexKept >= lastIndex) {
+            return;
+        }
+
+        int pos = floorOffset(lastIndexKept);
+        long newLastIndex = firstIndex - 1;
+
+        if (pos < 0) {
+            pos = HEADER_SIZE;
+        } else {
+            while (pos < writePosition) {
+                long recordIndex = buffer.getLong(pos + 2 * Integer.BYTES);
+
+                if (recordIndex > lastIndexKept) {
+                    break;
+                }
+
+                newLastIndex = recordIndex;
+                pos += RECORD_HEADER_SIZE + buffer.getInt(pos);
+            }
+        }
+
+        synchronized (this) {
+            while (sparseSize > 0 && sparseIndexes[sparseSize - 1] > lastIndexKept) {
+                sparseSize--;
+            }
+        }
+
+        writeEndMarker(pos);
+
+        lastIndex = newLastIndex;
+        writePosition = pos;
+
+        sync();
+    }
+
+    /**
+     * Forces the written records to the disk.
+     */
+    void sync() {
+        buffer.force();
+    }
+
+    /**
+     * Syncs the file and releases the mapping, the segment must not be used afterwards.
+     *
+     * @throws IOException If failed.
+     */
+    void close() throws IOException {
+        try {
+            buffer.force();
+        } finally {
+            GridUnsafe.cleanDirectBuffer(buffer);
+
+            channel.close();
+        }
+    }
+
+    /**
+     * Releases the mapping and deletes the file, the segment must not be used afterwards.
+     *
+     * @throws IOException If failed.
+     */
+    void delete() throws IOException {
+        GridUnsafe.cleanDirectBuffer(buffer);
+
+        channel.close();
+
+        Files.deleteIfExists(path);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "SegmentFile [path=" + path + ", lastIndex=" + lastIndex + ", writePosition=" + writePosition + ']';
+    }
+
+    private void writeHeader() {
+        writeBuffer.putInt(0, MAGIC);
+        writeBuffer.putInt(Integer.BYTES, VERSION);
+
+        buffer.force();
+    }
+
+    /**
+     * Zeroes the length of the record that would follow the given position, so that stale bytes beyond it are not taken for records.
+     */
+    private void writeEndMarker(int pos) {
+        if (pos + Integer.BYTES <= writeBuffer.capacity()) {
+            writeBuffer.putInt(pos, 0);
+        }
+    }
+
+    private byte[] readData(int pos, int len) {
+        byte[] data = new byte[len];
+
+        buffer.duplicate().position(pos + RECORD_HEADER_SIZE).get(data);
+
+        return data;
+    }
+
+    private synchronized void addToSparseIndex(long index, int pos) {
+        if (sparseSize > 0 && pos - sparseOffsets[sparseSize - 1] < INDEX_INTERVAL) {
+            return;
+        }
+
+        if (sparseSize == sparseIndexes.length) {
+            sparseIndexes = Arrays.copyOf(sparseIndexes, sparseSize * 2);
+            sparseOffsets = Arrays.copyOf(sparseOffsets, sparseSize * 2);
+        }
+
+        sparseIndexes[sparseSize] = index;
+        sparseOffsets[sparseSize] = pos;
+
+        sparseSize++;
+    }
+
+    /**
+     * Returns offset of the last indexed record with log index not greater than the given one, {@code -1} if there is no such record.
+     */
+    private synchronized int floorOffset(long index) {
+        int idx = Arrays.binarySearch(sparseIndexes, 0, sparseSize, index);
+
+        if (idx < 0) {
+            idx = -idx - 2;
+        }
+
+        return idx < 0 ? -1 : sparseOffsets[idx];
+    }
+
+    private static int checksum(CRC32C crc, ByteBuffer buf, int pos, int dataLength) {
+        ByteBuffer region = buf.duplicate();
+
+        region.limit(pos + RECORD_HEADER_SIZE + dataLength).position(pos + 2 * Integer.BYTES);
+
+        crc.reset();
+        crc.update(region);
+
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Consumer of the records found by {@link #recover}.
+     */
+    @FunctionalInterface
+    interface RecordConsumer {
+        /**
+         * Accepts a record.
+         *
+         * @param index Log index.
+         * @param data Record data.
+         */
+        void accept(long index, byte[] data);
+    }
+}
@@ -0,0 +1,625 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.raft.jraft.conf.Configuration;
+import org.apache.ignite.raft.jraft.conf.ConfigurationEntry;
+import org.apache.ignite.raft.jraft.conf.ConfigurationManager;
+import org.apache.ignite.raft.jraft.entity.EnumOutter;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.entity.LogId;
+import org.apache.ignite.raft.jraft.entity.codec.LogEntryDecoder;
+import org.apache.ignite.raft.jraft.entity.codec.LogEntryEncoder;
+import org.apache.ignite.raft.jraft.option.LogStorageOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.storage.LogStorage;
+import org.apache.ignite.raft.jraft.util.BytesUtil;
+import org.apache.ignite.raft.jraft.util.Describer;
+import org.apache.ignite.raft.jraft.util.Requires;
+import org.apache.ignite.raft.jraft.util.Utils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Log storage that keeps the log of a raft group in a directory of preallocated segment files, see {@link SegmentFile}.
+ *
+ * <p>Log entries are appended to the last segment, a new segment is started when an entry does not fit into it. Reads are served from
+ * memory-mapped segments, so a replicator catching up a lagging follower reads from the page cache without system calls. Prefix
+ * truncation deletes whole segments below the first kept index, there is no compaction and no tombstones; the first log index itself is
+ * kept in a separate meta file.
+ */
+public class SegmentFileLogStorage implements LogStorage, Describer {
+    /** Logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(SegmentFileLogStorage.class);
+
+    /** Name of the file that holds the first log index. */
+    private static final String META_FILE_NAME = "meta";
+
+    /** Log directory. */
+    private final Path path;
+
+    /** Size of a segment file. */
+    private final int segmentSize;
+
+    /** Whether segments must be synced after log appends. */
+    private final boolean sync;
+
+    /** RW lock. */
+    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+    /** Storage use lock. Non-exclusive, protects readers from segments being truncated or unmapped. */
+    private final Lock useLock = this.readWriteLock.readLock();
+
+    /** Storage manage lock. Exclusive, taken to truncate or unmap segments. */
+    private final Lock manageLock = this.readWriteLock.writeLock();
+
+    /** Lock that serializes the modifications of the log, taken before {@link #manageLock}. */
+    private final Lock writeLock = new ReentrantLock();
+
+    /** Segments ordered by their first index, replaced as a whole on every change. */
+    private volatile List<SegmentFile> segments = List.of();
+
+    /** Flag indicating whether storage is stopped. */
+    private volatile boolean stopped = true;
+
+    /** Log entry encoder. */
+    private LogEntryEncoder logEntryEncoder;
+
+    /** Log entry decoder. */
+    private LogEntryDecoder logEntryDecoder;
+
+    /** First log index. */
+    private volatile long firstLogIndex = 1;
+
+    /** Whether the first log index is known, either from the meta file or from the first appended entry. */
+    private volatile boolean hasFirstLogIndex;
+
+    /** Last log index. */
+    private volatile long lastLogIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param path Log directory.
+     * @param segmentSize Size of a segment file.
+     * @param raftOptions Raft options.
+     */
+    public SegmentFileLogStorage(Path path, int segmentSize, RaftOptions raftOptions) {
+        Requires.requireNonNull(path);
+        Requires.requireTrue(segmentSize >= SegmentFile.HEADER_SIZE + SegmentFile.RECORD_HEADER_SIZE, "Segment size is too small");
+
+        this.path = path;
+        this.segmentSize = segmentSize;
+        this.sync = raftOptions.isSync();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean init(LogStorageOptions opts) {
+        Requires.requireNonNull(opts.getConfigurationManager(), "Null conf manager");
+        Requires.requireNonNull(opts.getLogEntryCodecFactory(), "Null log entry codec factory");
+
+        this.writeLock.lock();
+        this.manageLock.lock();
+
+        try {
+            if (!stopped) {
+                LOG.warn("SegmentFileLogStorage init() already.");
+
+                return true;
+            }
+
+            this.logEntryDecoder = opts.getLogEntryCodecFactory().decoder();
+            this.logEntryEncoder = opts.getLogEntryCodecFactory().encoder();
+            Requires.requireNonNull(this.logEntryDecoder, "Null log entry decoder");
+            Requires.requireNonNull(this.logEntryEncoder, "Null log entry encoder");
+
+            Files.createDirectories(path);
+
+            load(opts.getConfigurationManager());
+
+            stopped = false;
+
+            return true;
+        } catch (IOException e) {
+            LOG.error("Fail to init log storage [path={}].", e, path);
+
+            closeSegments();
+
+            return false;
+        } finally {
+            this.manageLock.unlock();
+            this.writeLock.unlock();
+        }
+    }
+
+    private void load(ConfigurationManager confManager) throws IOException {
+        long metaFirstLogIndex = readFirstLogIndex();
+
+        hasFirstLogIndex = metaFirstLogIndex >= 0;
+        firstLogIndex = hasFirstLogIndex ? metaFirstLogIndex : 1;
+        lastLogIndex = 0;
+
+        List<Path> files;
+
+        try (Stream<Path> list = Files.list(path)) {
+            files = list.filter(SegmentFile::isSegmentFile).sorted().collect(Collectors.toList());
+        }
+
+        List<SegmentFile> loaded = new ArrayList<>(files.size());
+
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                Path file = files.get(i);
+
+                // Leftovers of an interrupted prefix truncation.
+                if (hasFirstLogIndex && i + 1 < files.size() && SegmentFile.firstIndex(files.get(i + 1)) <= firstLogIndex) {
+                    Files.delete(file);
+
+                    continue;
+                }
+
+                SegmentFile segment = SegmentFile.open(file);
+
+                loaded.add(segment);
+
+                // Only the last segment may have been torn by a crash, the previous ones are synced before a new one is started.
+                segment.recover(i == files.size() - 1, (index, data) -> loadConfiguration(confManager, index, data));
+            }
+        } catch (IOException | RuntimeException e) {
+            segments = loaded;
+
+            throw e;
+        }
+
+        // A segment is created right before its first append, an empty one is left only by a crash.
+        if (!loaded.isEmpty() && loaded.get(loaded.size() - 1).isEmpty()) {
+            loaded.remove(loaded.size() - 1).delete();
+        }
+
+        segments = loaded;
+
+        if (!loaded.isEmpty()) {
+            lastLogIndex = loaded.get(loaded.size() - 1).lastIndex();
+
+            if (!hasFirstLogIndex) {
+                setFirstLogIndex(loaded.get(0).firstRecordIndex());
+            }
+        }
+    }
+
+    private void loadConfiguration(ConfigurationManager confManager, long index, byte[] data) {
+        if (hasFirstLogIndex && index < firstLogIndex) {
+            return;
+        }
+
+        LogEntry entry = this.logEntryDecoder.decode(data);
+
+        if (entry == null) {
+            LOG.warn("Fail to decode conf entry at index {}, the log data is: {}.", index, BytesUtil.toHex(data));
+
+            return;
+        }
+
+        ConfigurationEntry confEntry = new ConfigurationEntry();
+        confEntry.setId(new LogId(entry.getId().getIndex(), entry.getId().getTerm()));
+        confEntry.setConf(new Configuration(entry.getPeers(), entry.getLearners()));
+        if (entry.getOldPeers() != null) {
+            confEntry.setOldConf(new Configuration(entry.getOldPeers(), entry.getOldLearners()));
+        }
+
+        confManager.add(confEntry);
+    }
+
+    private void setFirstLogIndex(long index) {
+        this.firstLogIndex = index;
+        this.hasFirstLogIndex = true;
+    }
+
+    /**
+     * Reads the first log index from the meta file.
+     *
+     * @return First log index or {@code -1} if it has not been saved.
+     */
+    private long readFirstLogIndex() throws IOException {
+        Path metaFile = path.resolve(META_FILE_NAME);
+
+        if (!Files.exists(metaFile)) {
+            return -1;
+        }
+
+        byte[] bytes = Files.readAllBytes(metaFile);
+
+        if (bytes.length != Long.BYTES) {
+            throw new IOException("Invalid log meta file [path=" + metaFile + ']');
+        }
+
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+
+    /**
+     * Saves the first log index into the meta file, atomically.
+     */
+    private void saveFirstLogIndex(long index) throws IOException {
+        Path tmpFile = path.resolve(META_FILE_NAME + ".tmp");
+
+        ByteBuffer buf = ByteBuffer.allocate(Long.BYTES).putLong(index).flip();
+
+        try (FileChannel channel = FileChannel.open(tmpFile, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+
+            channel.force(true);
+        }
+
+        if (!Utils.atomicMoveFile(tmpFile.toFile(), path.resolve(META_FILE_NAME).toFile(), true)) {
+            throw new IOException("Fail to move log meta file [path=" + tmpFile + ']');
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown() {
+        this.writeLock.lock();
+        this.manageLock.lock();
+
+        try {
+            if (stopped) {
+                return;
+            }
+
+            stopped = true;
+
+            closeSegments();
+        } finally {
+            this.manageLock.unlock();
+            this.writeLock.unlock();
+        }
+    }
+
+    private void closeSegments() {
+        for (SegmentFile segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                LOG.error("Fail to close log segment {}.", e, segment);
+            }
+        }
+
+        segments = List.of();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getFirstLogIndex() {
+        return this.firstLogIndex;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLastLogIndex() {
+        return this.lastLogIndex;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LogEntry getEntry(long index) {
+        this.useLock.lock();
+
+        try {
+            if ((this.hasFirstLogIndex && index < this.firstLogIndex) || index > this.lastLogIndex) {
+                return null;
+            }
+
+            SegmentFile segment = floorSegment(index);
+
+            byte[] bs = segment == null ? null : segment.read(index);
+
+            if (bs != null) {
+                LogEntry entry = this.logEntryDecoder.decode(bs);
+                if (entry != null) {
+                    return entry;
+                } else {
+                    LOG.error("Bad log entry format for index={}, the log data is: {}.", index, BytesUtil.toHex(bs));
+                    return null;
+                }
+            }
+        } finally {
+            this.useLock.unlock();
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the segment that may hold the given index.
+     */
+    private @Nullable SegmentFile floorSegment(long index) {
+        List<SegmentFile> segments = this.segments;
+
+        int low = 0;
+        int high = segments.size() - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+
+            if (segments.get(mid).firstIndex() <= index) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return high < 0 ? null : segments.get(high);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getTerm(long index) {
+        LogEntry entry = getEntry(index);
+        if (entry != null) {
+            return entry.getId().getTerm();
+        }
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean appendEntry(LogEntry entry) {
+        return appendEntries(List.of(entry)) == 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int appendEntries(List<LogEntry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return 0;
+        }
+
+        this.writeLock.lock();
+
+        try {
+            if (stopped) {
+                LOG.warn("Storage stopped.");
+                return 0;
+            }
+
+            long firstIndex = entries.get(0).getId().getIndex();
+
+            for (int i = 1; i < entries.size(); i++) {
+                if (entries.get(i).getId().getIndex() <= entries.get(i - 1).getId().getIndex()) {
+                    LOG.error("Fail to append entries, indexes are not increasing [index={}].", entries.get(i).getId().getIndex());
+                    return 0;
+                }
+            }
+
+            // An append over existing entries replaces them, like it would in a key-value based storage.
+            if (!segments.isEmpty() && firstIndex <= lastLogIndex) {
+                truncateSuffix0(firstIndex - 1);
+            }
+
+            SegmentFile segment = null;
+
+            for (LogEntry entry : entries) {
+                long index = entry.getId().getIndex();
+                byte[] content = this.logEntryEncoder.encode(entry);
+                byte flags = entry.getType() == EnumOutter.EntryType.ENTRY_TYPE_CONFIGURATION ? SegmentFile.FLAG_CONFIGURATION : 0;
+
+                segment = segmentFor(index, content.length);
+                segment.append(index, flags, content);
+
+                if (!this.hasFirstLogIndex) {
+                    setFirstLogIndex(index);
+                }
+
+                this.lastLogIndex = index;
+            }
+
+            if (sync) {
+                segment.sync();
+            }
+
+            return entries.size();
+        } catch (IOException e) {
+            LOG.error("Fail to append entry.", e);
+            return 0;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the segment to append a record to, starting a new one if the record does not fit into the last segment.
+     */
+    private SegmentFile segmentFor(long index, int dataLength) throws IOException {
+        List<SegmentFile> segments = this.segments;
+
+        SegmentFile last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+
+        if (last != null && last.hasRoom(dataLength)) {
+            return last;
+        }
+
+        if (last != null) {
+            last.sync();
+        }
+
+        SegmentFile segment = SegmentFile.create(path, index, Math.max(segmentSize, SegmentFile.requiredSize(dataLength)));
+
+        if (sync) {
+            Utils.fsync(path.toFile());
+        }
+
+        List<SegmentFile> newSegments = new ArrayList<>(segments.size() + 1);
+
+        newSegments.addAll(segments);
+        newSegments.add(segment);
+
+        this.segments = newSegments;
+
+        return segment;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean truncatePrefix(long firstIndexKept) {
+        this.writeLock.lock();
+
+        try {
+            saveFirstLogIndex(firstIndexKept);
+            setFirstLogIndex(firstIndexKept);
+
+            List<SegmentFile> segments = this.segments;
+
+            // The last segment is kept even if all its entries are truncated, to go on appending to it.
+            int removed = 0;
+
+            while (removed + 1 < segments.size() && segments.get(removed + 1).firstIndex() <= firstIndexKept) {
+                removed++;
+            }
+
+            if (removed > 0) {
+                this.manageLock.lock();
+
+                try {
+                    this.segments = new ArrayList<>(segments.subList(removed, segments.size()));
+
+                    for (SegmentFile segment : segments.subList(0, removed)) {
+                        segment.delete();
+                    }
+                } finally {
+                    this.manageLock.unlock();
+                }
+            }
+
+            return true;
+        } catch (IOException e) {
+            LOG.error("Fail to truncatePrefix {}.", e, firstIndexKept);
+            return false;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean truncateSuffix(long lastIndexKept) {
+        this.writeLock.lock();
+
+        try {
+            truncateSuffix0(lastIndexKept);
+
+            return true;
+        } catch (IOException e) {
+            LOG.error("Fail to truncateSuffix {}.", e, lastIndexKept);
+            return false;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entries after the given index. Segments are truncated from the end, so that whatever is left after a crash in the
+     * middle is a prefix of the log.
+     */
+    private void truncateSuffix0(long lastIndexKept) throws IOException {
+        this.manageLock.lock();
+
+        try {
+            List<SegmentFile> segments = new ArrayList<>(this.segments);
+
+            try {
+                while (!segments.isEmpty() && segments.get(segments.size() - 1).firstIndex() > lastIndexKept) {
+                    segments.remove(segments.size() - 1).delete();
+                }
+
+                if (!segments.isEmpty()) {
+                    segments.get(segments.size() - 1).truncateAfter(lastIndexKept);
+                }
+            } finally {
+                this.segments = segments;
+
+                this.lastLogIndex = segments.isEmpty() ? 0 : Math.max(0, segments.get(segments.size() - 1).lastIndex());
+            }
+        } finally {
+            this.manageLock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean reset(long nextLogIndex) {
+        if (nextLogIndex <= 0) {
+            throw new IllegalArgumentException("Invalid next log index.");
+        }
+
+        this.writeLock.lock();
+
+        try {
+            LogEntry entry = getEntry(nextLogIndex);
+
+            // Saved first, so that the old entries are not visible if the reset is interrupted.
+            saveFirstLogIndex(nextLogIndex);
+            setFirstLogIndex(nextLogIndex);
+
+            truncateSuffix0(-1);
+
+            if (entry == null) {
+                entry = new LogEntry();
+                entry.setType(EnumOutter.EntryType.ENTRY_TYPE_NO_OP);
+                entry.setId(new LogId(nextLogIndex, 0));
+                LOG.warn("Entry not found for nextLogIndex {} when reset.", nextLogIndex);
+            }
+
+            return appendEntry(entry);
+        } catch (IOException e) {
+            LOG.error("Fail to reset next log index.", e);
+            return false;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void describe(final Printer out) {
+        out.println("path=" + path);
+        out.println("firstLogIndex=" + firstLogIndex);
+        out.println("lastLogIndex=" + lastLogIndex);
+        out.println("segments=" + segments);
+    }
+}
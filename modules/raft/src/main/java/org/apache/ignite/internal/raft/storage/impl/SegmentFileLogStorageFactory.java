@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.ignite.internal.raft.storage.LogStorageFactory;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.storage.LogStorage;
+
+/**
+ * Implementation of the {@link LogStorageFactory} that creates {@link SegmentFileLogStorage}s, each in its own subdirectory named after
+ * the log storage URI.
+ */
+public class SegmentFileLogStorageFactory implements LogStorageFactory {
+    /** Default size of a segment file. */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /** Base path of the log storages. */
+    private final Path path;
+
+    /** Size of a segment file. */
+    private final int segmentSize;
+
+    /**
+     * Constructor.
+     *
+     * @param path Base path of the log storages.
+     */
+    public SegmentFileLogStorageFactory(Path path) {
+        this(path, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Base path of the log storages.
+     * @param segmentSize Size of a segment file.
+     */
+    public SegmentFileLogStorageFactory(Path path, int segmentSize) {
+        this.path = path;
+        this.segmentSize = segmentSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        try {
+            Files.createDirectories(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create directory: " + this.path, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LogStorage createLogStorage(String uri, RaftOptions raftOptions) {
+        return new SegmentFileLogStorage(path.resolve(uri), segmentSize, raftOptions);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws Exception {
+    }
+}
@@ -252,6 +252,13 @@ public interface Node extends Lifecycle<NodeOptions>, Describer {
      */
     void resetElectionTimeoutMs(final int electionTimeoutMs);
 
+    /**
+     * Wake up the quiesced group, see {@link RaftOptions#getQuiescenceTimeoutMs()}. The leader resumes the heartbeats, a
+     * follower restarts the election timer, so it elects a new leader unless the leader speaks up. Called on the changes
+     * of the cluster topology, which detect a left node faster than the liveness heartbeats of the idle groups.
+     */
+    void wakeUp();
+
     /**
      * Try transferring leadership to |peer|. If peer is ANY_PEER, a proper follower will be chosen as the leader for
      * the next term. Returns 0 on success, -1 otherwise.
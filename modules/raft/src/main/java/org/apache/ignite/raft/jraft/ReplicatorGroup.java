@@ -124,6 +124,20 @@ public interface ReplicatorGroup extends Describer {
      */
     boolean stopAll();
 
+    /**
+     * Asks the followers to quiesce: the following heartbeats tell them to extend their election timeouts. Once every
+     * follower is caught up and has acknowledged such a heartbeat, the heartbeats of all replicators are slowed down to
+     * the liveness ones.
+     *
+     * @return true if the heartbeats are slowed down
+     */
+    boolean quiesce();
+
+    /**
+     * Cancels quiescence of all replicators and resumes their heartbeats.
+     */
+    void wakeUp();
+
     /**
      * Stop replicator for the peer.
      *
@@ -153,6 +153,17 @@ public class NodeImpl implements Node, RaftServerService {
     private long electionRound;
     private int initialElectionTimeout;
 
+    // Quiescence of an idle group, see RaftOptions#getQuiescenceTimeoutMs().
+    // Leader: the followers are asked to quiesce.
+    private boolean quiescing;
+    // Leader: the heartbeats are slowed down to the liveness ones. Follower: the election timer is extended to the quiesced
+    // leader lease, see quiescedLeaderLeaseMs().
+    private volatile boolean quiesced;
+    // Leader: the last time a command or a configuration change was accepted, or the group was woken up.
+    private long lastActiveTimestamp;
+    // Leader: the last time the heartbeats were resumed.
+    private long lastWakeUpTimestamp;
+
     /**
      * Raft group and node options and identifier
      */
@@ -617,6 +628,7 @@ public class NodeImpl implements Node, RaftServerService {
             if (isCurrentLeaderValid()) {
                 return;
             }
+            resetQuiescedUnsafe();
             resetLeaderId(PeerId.emptyPeer(), new Status(RaftError.ERAFTTIMEDOUT, "Lost connection from leader %s.",
                 this.leaderId));
 
@@ -1243,6 +1255,7 @@ public class NodeImpl implements Node, RaftServerService {
                 LOG.debug("Node {} stop election timer, term={}.", getNodeId(), this.currTerm);
                 this.electionTimer.stop();
             }
+            resetQuiescedUnsafe();
             resetLeaderId(PeerId.emptyPeer(), new Status(RaftError.ERAFTTIMEDOUT,
                 "A follower's leader_id is reset to NULL as it begins to request_vote."));
             this.state = State.STATE_CANDIDATE;
@@ -1348,6 +1361,9 @@ public class NodeImpl implements Node, RaftServerService {
         stopVoteTimer();
         this.state = State.STATE_LEADER;
         this.leaderId = this.serverId.copy();
+        this.quiescing = false;
+        this.quiesced = false;
+        this.lastActiveTimestamp = Utils.monotonicMs();
         this.replicatorGroup.resetTerm(this.currTerm);
         // Start follower's replicators
         for (final PeerId peer : this.conf.listPeers()) {
@@ -1404,6 +1420,8 @@ public class NodeImpl implements Node, RaftServerService {
 
         // soft state in memory
         this.state = State.STATE_FOLLOWER;
+        this.quiescing = false;
+        resetQuiescedUnsafe();
         this.confCtx.reset();
         updateLastLeaderTimestamp(Utils.monotonicMs());
         if (this.snapshotExecutor != null) {
@@ -1499,6 +1517,7 @@ public class NodeImpl implements Node, RaftServerService {
                 });
                 return;
             }
+            wakeUpUnsafe();
             final List<LogEntry> entries = new ArrayList<>(size);
             for (int i = 0; i < size; i++) {
                 final LogEntryAndClosure task = tasks.get(i);
@@ -1705,9 +1724,16 @@ public class NodeImpl implements Node, RaftServerService {
         }
 
         ReadOnlyOption readOnlyOpt = this.raftOptions.getReadOnlyOptions();
-        if (readOnlyOpt == ReadOnlyOption.ReadOnlyLeaseBased && !isLeaderLeaseValid()) {
-            // If leader lease timeout, we must change option to ReadOnlySafe
-            readOnlyOpt = ReadOnlyOption.ReadOnlySafe;
+        if (readOnlyOpt == ReadOnlyOption.ReadOnlyLeaseBased) {
+            if (isLeaderLeaseValid()) {
+                this.metrics.recordTimes("read-index-lease-based-times", 1);
+            }
+            else {
+                // If leader lease timeout, we must change option to ReadOnlySafe
+                readOnlyOpt = ReadOnlyOption.ReadOnlySafe;
+
+                this.metrics.recordTimes("read-index-lease-expired-times", 1);
+            }
         }
 
         switch (readOnlyOpt) {
@@ -1795,6 +1821,10 @@ public class NodeImpl implements Node, RaftServerService {
                     .newResponse(raftOptions.getRaftMessagesFactory(), RaftError.EINVAL,
                         "Parse candidateId failed: %s.", request.serverId());
             }
+            if (this.state == State.STATE_LEADER) {
+                // The candidate doesn't hear from this leader, resume the heartbeats.
+                wakeUpUnsafe();
+            }
             boolean granted = false;
             // noinspection ConstantConditions
             do {
@@ -1867,7 +1897,21 @@ public class NodeImpl implements Node, RaftServerService {
     }
 
     private boolean isCurrentLeaderValid() {
-        return checkLeaderLease(Utils.monotonicMs());
+        final long monotonicNowMs = Utils.monotonicMs();
+        if (this.quiesced) {
+            // A quiesced leader only sends the liveness heartbeats.
+            return monotonicNowMs - this.lastLeaderTimestamp < quiescedLeaderLeaseMs();
+        }
+        return checkLeaderLease(monotonicNowMs);
+    }
+
+    /**
+     * A quiesced follower considers the leader alive for two periods of the liveness heartbeats, which are sent every
+     * {@link RaftOptions#getQuiescenceTimeoutMs()}, plus the election timeout, so a single lost heartbeat doesn't start an
+     * election.
+     */
+    private int quiescedLeaderLeaseMs() {
+        return 2 * this.raftOptions.getQuiescenceTimeoutMs() + this.options.getElectionTimeoutMs();
     }
 
     private void updateLastLeaderTimestamp(final long lastLeaderTimestamp) {
@@ -2085,6 +2129,17 @@ public class NodeImpl implements Node, RaftServerService {
 
             updateLastLeaderTimestamp(Utils.monotonicMs());
 
+            if (request.quiesce()) {
+                if (!this.quiesced) {
+                    LOG.debug("Node {} quiesced by leader {}, term={}.", getNodeId(), this.leaderId, this.currTerm);
+                    this.quiesced = true;
+                    this.electionTimer.reset(quiescedLeaderLeaseMs());
+                }
+            }
+            else {
+                wakeUpUnsafe();
+            }
+
             if (entriesCount > 0 && this.snapshotExecutor != null && this.snapshotExecutor.isInstallingSnapshot()) {
                 LOG.warn("Node {} received AppendEntriesRequest while installing snapshot.", getNodeId());
                 return RaftRpcFactory.DEFAULT //
@@ -2410,6 +2465,9 @@ public class NodeImpl implements Node, RaftServerService {
 
     @SuppressWarnings({"LoopStatementThatDoesntLoop", "ConstantConditions"})
     private void handleStepDownTimeout() {
+        if (this.raftOptions.getQuiescenceTimeoutMs() > 0 && checkQuiescence()) {
+            return;
+        }
         do {
             this.readLock.lock();
             try {
@@ -2452,6 +2510,103 @@ public class NodeImpl implements Node, RaftServerService {
         }
     }
 
+    /**
+     * Quiesces the group led by this node once it has been idle for {@link RaftOptions#getQuiescenceTimeoutMs()}, all the
+     * followers are alive and caught up.
+     *
+     * @return {@code True} if the heartbeats are slowed down or have just been resumed, so the dead nodes must not be checked.
+     */
+    private boolean checkQuiescence() {
+        this.writeLock.lock();
+        try {
+            if (this.state != State.STATE_LEADER) {
+                return false;
+            }
+            final long monotonicNowMs = Utils.monotonicMs();
+            if (this.quiesced) {
+                for (final PeerId peer : this.conf.getConf().listPeers()) {
+                    if (!peer.equals(this.serverId)
+                        && monotonicNowMs - this.replicatorGroup.getLastRpcSendTimestamp(peer) > quiescedLeaderLeaseMs()) {
+                        // The follower doesn't answer the liveness heartbeats, resume the heartbeats and the dead nodes check.
+                        wakeUpUnsafe();
+                        break;
+                    }
+                }
+                return true;
+            }
+            if (monotonicNowMs - this.lastWakeUpTimestamp < this.options.getLeaderLeaseTimeoutMs()) {
+                // Followers haven't answered the resumed heartbeats yet.
+                return true;
+            }
+            if (monotonicNowMs - this.lastActiveTimestamp < this.raftOptions.getQuiescenceTimeoutMs()
+                || this.confCtx.isBusy() || !this.conf.isStable()
+                || this.ballotBox.getLastCommittedIndex() < this.logManager.getLastLogIndex()) {
+                return false;
+            }
+            this.quiescing = true;
+            if (!this.replicatorGroup.quiesce()) {
+                return false;
+            }
+            this.quiesced = true;
+            LOG.info("Node {} quiesced idle group, term={}, lastLogIndex={}.", getNodeId(), this.currTerm,
+                this.logManager.getLastLogIndex());
+            return true;
+        }
+        finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void wakeUp() {
+        this.writeLock.lock();
+        try {
+            wakeUpUnsafe();
+        }
+        finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    // should be in writeLock
+    private void wakeUpUnsafe() {
+        if (this.state == State.STATE_LEADER || this.state == State.STATE_TRANSFERRING) {
+            this.lastActiveTimestamp = Utils.monotonicMs();
+            if (!this.quiescing) {
+                return;
+            }
+            if (this.quiesced) {
+                LOG.info("Node {} wakes up quiesced group, term={}.", getNodeId(), this.currTerm);
+                this.lastWakeUpTimestamp = this.lastActiveTimestamp;
+            }
+            this.quiescing = false;
+            this.quiesced = false;
+            this.replicatorGroup.wakeUp();
+        }
+        else if (this.quiesced && this.state == State.STATE_FOLLOWER) {
+            // The leader may have been silent since the last heartbeat, the election timer will tell if it's still alive.
+            LOG.debug("Node {} wakes up, leader={}, term={}.", getNodeId(), this.leaderId, this.currTerm);
+            resetQuiescedUnsafe();
+            if (!isLearner()) {
+                this.electionTimer.restart();
+            }
+        }
+    }
+
+    // should be in writeLock
+    private void resetQuiescedUnsafe() {
+        if (this.quiesced) {
+            this.quiesced = false;
+            // Restore the election timeout extended by a quiescing heartbeat.
+            this.electionTimer.reset(this.options.getElectionTimeoutMs());
+        }
+    }
+
+    @OnlyForTest
+    boolean isQuiesced() {
+        return this.quiesced;
+    }
+
     /**
      * Configuration changed callback.
      */
@@ -2550,6 +2705,7 @@ public class NodeImpl implements Node, RaftServerService {
             Utils.runClosureInThread(this.getOptions().getCommonExecutor(), newDone);
             return;
         }
+        wakeUpUnsafe();
         this.confCtx.start(oldConf, newConf, done, async);
     }
 
@@ -3462,6 +3618,7 @@ public class NodeImpl implements Node, RaftServerService {
                 return new Status(RaftError.EINVAL, "Not in current configuration");
             }
 
+            wakeUpUnsafe();
             final long lastLogIndex = this.logManager.getLastLogIndex();
             if (!this.replicatorGroup.transferLeadershipTo(peerId, lastLogIndex)) {
                 LOG.warn("No such peer {}.", peer);
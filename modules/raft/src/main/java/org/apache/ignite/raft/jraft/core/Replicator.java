@@ -111,6 +111,14 @@ public class Replicator implements ThreadId.OnError {
     private final Scheduler timerManager;
     private final NodeMetrics nodeMetrics;
     private volatile State state;
+    // Adaptive in-flight window and batch sizing, null if disabled.
+    private final ReplicatorFlowControl flowControl;
+    // Heartbeats ask the follower to quiesce, see RaftOptions#getQuiescenceTimeoutMs().
+    private boolean quiescing;
+    // The follower has acknowledged a heartbeat asking it to quiesce.
+    private boolean quiescenceAcked;
+    // Only the liveness heartbeats are sent until the replicator is woken up.
+    private boolean quiesced;
 
     // Request sequence
     private int reqSeq = 0;
@@ -158,6 +166,7 @@ public class Replicator implements ThreadId.OnError {
         this.timerManager = replicatorOptions.getTimerManager();
         this.raftOptions = raftOptions;
         this.rpcService = replicatorOptions.getRaftRpcService();
+        this.flowControl = raftOptions.isAdaptiveReplicatorFlowControl() ? new ReplicatorFlowControl(raftOptions) : null;
     }
 
     /**
@@ -181,6 +190,15 @@ public class Replicator implements ThreadId.OnError {
             gauges.put("heartbeat-times", (Gauge<Long>) () -> this.r.heartbeatCounter);
             gauges.put("install-snapshot-times", (Gauge<Long>) () -> this.r.installSnapshotCounter);
             gauges.put("append-entries-times", (Gauge<Long>) () -> this.r.appendEntriesCounter);
+            final ReplicatorFlowControl flowControl = this.r.flowControl;
+            if (flowControl != null) {
+                gauges.put("inflight-window", (Gauge<Integer>) flowControl::window);
+                gauges.put("batch-max-entries", (Gauge<Integer>) flowControl::batchEntries);
+                gauges.put("batch-max-bytes", (Gauge<Integer>) flowControl::batchBytes);
+                gauges.put("rtt-min-ms", (Gauge<Long>) flowControl::minRttMs);
+                gauges.put("rtt-smoothed-ms", (Gauge<Long>) flowControl::smoothedRttMs);
+                gauges.put("bandwidth-bytes-per-second", (Gauge<Long>) flowControl::bandwidth);
+            }
             return gauges;
         }
     }
@@ -495,7 +513,8 @@ public class Replicator implements ThreadId.OnError {
             return this.nextIndex;
         }
         // Too many in-flight requests.
-        if (this.inflights.size() > this.raftOptions.getMaxReplicatorInflightMsgs()) {
+        if (this.flowControl != null ? !this.flowControl.canSend(this.inflights.size())
+            : this.inflights.size() > this.raftOptions.getMaxReplicatorInflightMsgs()) {
             return -1L;
         }
         // Last request should be a AppendEntries request and has some entries.
@@ -510,7 +529,9 @@ public class Replicator implements ThreadId.OnError {
     }
 
     private void startHeartbeatTimer(final long startMs) {
-        final long dueTime = startMs + this.options.getDynamicHeartBeatTimeoutMs();
+        // The group is idle, the liveness heartbeats keep the follower from electing a new leader.
+        final long dueTime = startMs + (this.quiesced ? this.raftOptions.getQuiescenceTimeoutMs()
+            : this.options.getDynamicHeartBeatTimeoutMs());
         try {
             this.heartbeatTimer = this.timerManager.schedule(() -> onTimeout(this.id), dueTime - Utils.nowMs(),
                 TimeUnit.MILLISECONDS);
@@ -685,7 +706,7 @@ public class Replicator implements ThreadId.OnError {
 
             final AppendEntriesRequest request;
             if (isHeartbeat) {
-                request = rb.build();
+                request = rb.quiesce(this.quiescing).build();
                 // Sending a heartbeat request
                 this.heartbeatCounter++;
                 RpcResponseClosure<AppendEntriesResponse> heartbeatDone;
@@ -701,8 +722,12 @@ public class Replicator implements ThreadId.OnError {
                         }
                     };
                 }
-                this.heartbeatInFly = this.rpcService.appendEntries(this.options.getPeerId().getEndpoint(), request,
-                    this.options.getElectionTimeoutMs() / 2, heartbeatDone);
+                // Periodic heartbeats of all groups may be coalesced, the ones confirming the leadership go out immediately.
+                this.heartbeatInFly = heartBeatClosure == null
+                    ? this.rpcService.heartbeat(this.options.getPeerId().getEndpoint(), request,
+                        this.options.getElectionTimeoutMs() / 2, heartbeatDone)
+                    : this.rpcService.appendEntries(this.options.getPeerId().getEndpoint(), request,
+                        this.options.getElectionTimeoutMs() / 2, heartbeatDone);
             }
             else {
                 // No entries and has empty data means a probe request.
@@ -738,7 +763,8 @@ public class Replicator implements ThreadId.OnError {
 
     boolean prepareEntry(final long nextSendingIndex, final int offset, final EntryMetaBuilder emb,
         final RecyclableByteBufferList dateBuffer) {
-        if (dateBuffer.getCapacity() >= this.raftOptions.getMaxBodySize()) {
+        final int maxBodySize = this.flowControl != null ? this.flowControl.batchBytes() : this.raftOptions.getMaxBodySize();
+        if (dateBuffer.getCapacity() >= maxBodySize) {
             return false;
         }
         final long logIndex = nextSendingIndex + offset;
@@ -1158,6 +1184,9 @@ public class Replicator implements ThreadId.OnError {
             if (rpcSendTime > r.lastRpcSendTimestamp) {
                 r.lastRpcSendTimestamp = rpcSendTime;
             }
+            if (request.quiesce() && r.quiescing) {
+                r.quiescenceAcked = true;
+            }
             r.startHeartbeatTimer(startTimeMs);
         }
         finally {
@@ -1194,6 +1223,9 @@ public class Replicator implements ThreadId.OnError {
         if (holdingQueue.size() > r.raftOptions.getMaxReplicatorInflightMsgs()) {
             LOG.warn("Too many pending responses {} for replicator {}, maxReplicatorInflightMsgs={}",
                 holdingQueue.size(), r.options.getPeerId(), r.raftOptions.getMaxReplicatorInflightMsgs());
+            if (r.flowControl != null) {
+                r.flowControl.onFailure();
+            }
             r.resetInflights();
             r.state = State.Probe;
             r.sendEmptyEntries(false);
@@ -1260,6 +1292,11 @@ public class Replicator implements ThreadId.OnError {
                             continueSendEntries = onAppendEntriesReturned(id, inflight, queuedPipelinedResponse.status,
                                 (AppendEntriesRequest) queuedPipelinedResponse.request,
                                 (AppendEntriesResponse) queuedPipelinedResponse.response, rpcSendTime, startTimeMs, r);
+                            if (continueSendEntries && r.flowControl != null && inflight.count > 0) {
+                                final long nowMs = Utils.monotonicMs();
+                                r.flowControl.onAck(nowMs, nowMs - queuedPipelinedResponse.rpcSendTime, inflight.count,
+                                    inflight.size);
+                            }
                             break;
                         case Snapshot:
                             continueSendEntries = onInstallSnapshotReturned(id, r, queuedPipelinedResponse.status,
@@ -1358,6 +1395,9 @@ public class Replicator implements ThreadId.OnError {
                 LOG.warn("Fail to issue RPC to {}, consecutiveErrorTimes={}, error={}", r.options.getPeerId(),
                     r.consecutiveErrorTimes, status);
             }
+            if (r.flowControl != null) {
+                r.flowControl.onFailure();
+            }
             r.resetInflights();
             r.state = State.Probe;
             // unlock in in block
@@ -1542,7 +1582,8 @@ public class Replicator implements ThreadId.OnError {
         }
 
         ByteBufferCollector dataBuf = null;
-        final int maxEntriesSize = this.raftOptions.getMaxEntriesSize();
+        final int maxEntriesSize = this.flowControl != null ? this.flowControl.batchEntries()
+            : this.raftOptions.getMaxEntriesSize();
         final RecyclableByteBufferList byteBufList = RecyclableByteBufferList.newInstance();
         try {
             List<RaftOutter.EntryMeta> entries = new ArrayList<>();
@@ -1767,6 +1808,70 @@ public class Replicator implements ThreadId.OnError {
         return r.lastRpcSendTimestamp;
     }
 
+    /**
+     * Makes the following heartbeats ask the follower to quiesce.
+     *
+     * @param id Replicator id.
+     * @return {@code True} if the follower is caught up and has acknowledged a heartbeat asking it to quiesce.
+     */
+    public static boolean quiesce(final ThreadId id) {
+        final Replicator r = (Replicator) id.lock();
+        if (r == null) {
+            return false;
+        }
+        try {
+            r.quiescing = true;
+            return r.quiescenceAcked && r.hasSucceeded && r.state == State.Replicate && r.inflights.isEmpty()
+                && r.nextIndex > r.options.getLogManager().getLastLogIndex();
+        }
+        finally {
+            id.unlock();
+        }
+    }
+
+    /**
+     * Slows down the heartbeats of a replicator, whose follower has acknowledged quiescence, to the liveness ones sent every
+     * {@link RaftOptions#getQuiescenceTimeoutMs()}.
+     *
+     * @param id Replicator id.
+     */
+    public static void slowDownHeartbeats(final ThreadId id) {
+        final Replicator r = (Replicator) id.lock();
+        if (r == null) {
+            return;
+        }
+        r.quiesced = true;
+        if (r.heartbeatTimer != null) {
+            r.heartbeatTimer.cancel(false);
+        }
+        r.startHeartbeatTimer(Utils.nowMs());
+        id.unlock();
+    }
+
+    /**
+     * Cancels quiescence and resumes the heartbeats, the first one is sent right away if they are slowed down.
+     *
+     * @param id Replicator id.
+     */
+    public static void wakeUp(final ThreadId id) {
+        final Replicator r = (Replicator) id.lock();
+        if (r == null) {
+            return;
+        }
+        final boolean wasQuiesced = r.quiesced;
+        r.quiescing = false;
+        r.quiescenceAcked = false;
+        r.quiesced = false;
+        if (wasQuiesced && r.heartbeatTimer != null) {
+            r.heartbeatTimer.cancel(false);
+        }
+        id.unlock();
+        if (wasQuiesced) {
+            // The response to the heartbeat restarts the heartbeat timer.
+            onTimeout(id);
+        }
+    }
+
     public static boolean transferLeadership(final ThreadId id, final long logIndex) {
         final Replicator r = (Replicator) id.lock();
         if (r == null) {
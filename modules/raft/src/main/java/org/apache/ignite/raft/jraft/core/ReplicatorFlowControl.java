@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.raft.jraft.core;
+
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+
+/**
+ * Adaptive flow control of a {@link Replicator}, sizes the window of in-flight AppendEntries requests and the batch of entries per request
+ * the way a model-based TCP congestion control (BBR) sizes its window:
+ * <ul>
+ *     <li>the bandwidth to the follower is the maximal rate of acknowledged bytes over the last rounds, so it reflects both the link
+ *     and how fast the follower appends entries; the base delay is the minimal round-trip time over the last
+ *     {@link #MIN_RTT_PERIOD_MS}, refreshed by briefly draining the window when it expires;</li>
+ *     <li>at start, and after a failure, the window grows by a request per acknowledged request, i.e. doubles every round trip, until the
+ *     bandwidth stops growing;</li>
+ *     <li>afterwards the window holds twice the bandwidth-delay product, which keeps the link busy but bounds queueing to one base
+ *     round-trip time, and a batch is a quarter of the bandwidth-delay product, so that batches are pipelined on any link.</li>
+ * </ul>
+ *
+ * <p>{@link RaftOptions#getMaxReplicatorInflightMsgs()}, {@link RaftOptions#getMaxEntriesSize()} and {@link RaftOptions#getMaxBodySize()}
+ * remain the upper bounds. Not thread safe, guarded by the replicator lock; the getters used by metrics tolerate stale values.
+ */
+public final class ReplicatorFlowControl {
+    /** Minimal window. */
+    static final int MIN_WINDOW = 1;
+
+    /** Initial window. */
+    static final int INITIAL_WINDOW = 8;
+
+    /** Minimal limit of entries per request. */
+    static final int MIN_BATCH_ENTRIES = 16;
+
+    /** Initial limit of entries per request. */
+    static final int INITIAL_BATCH_ENTRIES = 128;
+
+    /** Minimal limit of bytes per request. */
+    static final int MIN_BATCH_BYTES = 16 * 1024;
+
+    /** Initial limit of bytes per request. */
+    static final int INITIAL_BATCH_BYTES = 64 * 1024;
+
+    /** Period the minimal RTT is taken over, so that it follows changes of the route. */
+    static final long MIN_RTT_PERIOD_MS = 10_000;
+
+    /** Minimal duration of the window drain that refreshes the minimal RTT. */
+    static final long PROBE_RTT_MS = 200;
+
+    /** Number of rounds the bandwidth is the maximum over. */
+    static final int BANDWIDTH_ROUNDS = 10;
+
+    /** Number of rounds without bandwidth growth that end the start-up. */
+    static final int FULL_BANDWIDTH_ROUNDS = 3;
+
+    private final int maxWindow;
+    private final int minBatchEntries;
+    private final int maxBatchEntries;
+    private final int minBatchBytes;
+    private final int maxBatchBytes;
+
+    private int window;
+    private int batchEntries;
+    private int batchBytes;
+
+    // Whether the last send attempt was stopped by the window, rate samples of an idle replicator say nothing about the bandwidth.
+    private boolean windowLimited;
+
+    private boolean startup = true;
+    private double fullBandwidth;
+    private int roundsWithoutGrowth;
+
+    private long minRttMs = -1;
+    private long minRttTimestamp;
+    private long probeRttEnd = -1;
+    private double smoothedRttMs = -1;
+
+    // Rate samples of the last rounds, bytes per ms.
+    private final double[] roundRates = new double[BANDWIDTH_ROUNDS];
+    private int roundIdx;
+    private double bandwidth;
+    private long roundStart = -1;
+    private long roundBytes;
+    private boolean roundWindowLimited;
+
+    private double avgRequestBytes;
+    private double avgEntryBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param raftOptions raft options with the upper bounds
+     */
+    public ReplicatorFlowControl(final RaftOptions raftOptions) {
+        this.maxWindow = Math.max(MIN_WINDOW, raftOptions.getMaxReplicatorInflightMsgs());
+        this.maxBatchEntries = Math.max(1, raftOptions.getMaxEntriesSize());
+        this.minBatchEntries = Math.min(MIN_BATCH_ENTRIES, this.maxBatchEntries);
+        this.maxBatchBytes = Math.max(1, raftOptions.getMaxBodySize());
+        this.minBatchBytes = Math.min(MIN_BATCH_BYTES, this.maxBatchBytes);
+
+        this.window = Math.min(INITIAL_WINDOW, this.maxWindow);
+        this.batchEntries = Math.min(INITIAL_BATCH_ENTRIES, this.maxBatchEntries);
+        this.batchBytes = Math.min(INITIAL_BATCH_BYTES, this.maxBatchBytes);
+    }
+
+    /**
+     * Returns {@code true} if one more request may be sent.
+     *
+     * @param inflights number of in-flight requests
+     */
+    public boolean canSend(final int inflights) {
+        this.windowLimited = inflights >= this.window;
+
+        return !this.windowLimited;
+    }
+
+    /**
+     * Returns the current limit of entries per request.
+     */
+    public int batchEntries() {
+        return this.batchEntries;
+    }
+
+    /**
+     * Returns the current limit of bytes per request.
+     */
+    public int batchBytes() {
+        return this.batchBytes;
+    }
+
+    /**
+     * Returns the current window of in-flight requests.
+     */
+    public int window() {
+        return this.window;
+    }
+
+    /**
+     * Returns the minimal RTT, {@code -1} if not measured yet.
+     */
+    public long minRttMs() {
+        return this.minRttMs;
+    }
+
+    /**
+     * Returns the smoothed RTT, {@code -1} if not measured yet.
+     */
+    public long smoothedRttMs() {
+        return Math.round(this.smoothedRttMs);
+    }
+
+    /**
+     * Returns the estimated bandwidth to the follower, bytes per second.
+     */
+    public long bandwidth() {
+        return Math.round(this.bandwidth * 1000);
+    }
+
+    /**
+     * Handles a successful AppendEntries response with entries.
+     *
+     * @param nowMs current monotonic time
+     * @param rttMs round-trip time of the request
+     * @param entries number of entries in the request
+     * @param bytes size of the entries data in the request
+     */
+    public void onAck(final long nowMs, final long rttMs, final int entries, final int bytes) {
+        updateRtt(nowMs, Math.max(0, rttMs));
+
+        this.avgRequestBytes = this.avgRequestBytes == 0 ? bytes : this.avgRequestBytes * 7 / 8 + bytes / 8.0;
+        this.avgEntryBytes = this.avgEntryBytes == 0
+            ? (double) bytes / entries
+            : this.avgEntryBytes * 7 / 8 + (double) bytes / entries / 8;
+
+        updateBandwidth(nowMs, bytes);
+
+        if (this.probeRttEnd >= 0) {
+            this.window = MIN_WINDOW;
+        }
+        else if (this.startup) {
+            if (this.windowLimited) {
+                this.window = Math.min(this.maxWindow, this.window + 1);
+            }
+        }
+        else {
+            this.window = (int) Math.max(MIN_WINDOW, Math.min(this.maxWindow, Math.ceil(2 * bdpBytes() / this.avgRequestBytes)));
+        }
+
+        if (this.bandwidth > 0) {
+            final double bytesTarget = bdpBytes() / 4;
+
+            // Only grow at start-up, when the bandwidth is not known yet.
+            if (!this.startup || bytesTarget > this.batchBytes) {
+                this.batchBytes = (int) Math.max(this.minBatchBytes, Math.min(this.maxBatchBytes, bytesTarget));
+                this.batchEntries = (int) Math.max(this.minBatchEntries,
+                    Math.min(this.maxBatchEntries, Math.ceil(this.batchBytes / Math.max(1, this.avgEntryBytes))));
+            }
+        }
+    }
+
+    /**
+     * Handles a failed request, the window starts over.
+     */
+    public void onFailure() {
+        this.window = MIN_WINDOW;
+        this.startup = true;
+        this.fullBandwidth = 0;
+        this.roundsWithoutGrowth = 0;
+        this.roundStart = -1;
+    }
+
+    private double bdpBytes() {
+        // Round-trip times below the clock resolution are measured as zero.
+        return this.bandwidth * Math.max(1, this.minRttMs);
+    }
+
+    private void updateRtt(final long nowMs, final long rttMs) {
+        this.smoothedRttMs = this.smoothedRttMs < 0 ? rttMs : this.smoothedRttMs * 7 / 8 + rttMs / 8.0;
+
+        if (this.probeRttEnd >= 0) {
+            this.minRttMs = Math.min(this.minRttMs, rttMs);
+
+            if (nowMs >= this.probeRttEnd) {
+                this.probeRttEnd = -1;
+                this.minRttTimestamp = nowMs;
+            }
+        }
+        else if (this.minRttMs < 0 || rttMs <= this.minRttMs) {
+            this.minRttMs = rttMs;
+            this.minRttTimestamp = nowMs;
+        }
+        else if (nowMs - this.minRttTimestamp > MIN_RTT_PERIOD_MS) {
+            // Requests queued behind the window hide the base delay, drain them to measure it again.
+            this.minRttMs = rttMs;
+            this.probeRttEnd = nowMs + Math.max(PROBE_RTT_MS, Math.round(this.smoothedRttMs));
+        }
+    }
+
+    private void updateBandwidth(final long nowMs, final int bytes) {
+        if (this.roundStart < 0) {
+            this.roundStart = nowMs;
+            this.roundBytes = 0;
+            this.roundWindowLimited = false;
+        }
+
+        this.roundBytes += bytes;
+        this.roundWindowLimited |= this.windowLimited;
+
+        final long elapsed = nowMs - this.roundStart;
+
+        if (elapsed < Math.max(1, Math.round(this.smoothedRttMs))) {
+            return;
+        }
+
+        final double rate = (double) this.roundBytes / elapsed;
+
+        // A round the replicator was idle in tells nothing about the bandwidth, unless it has been even faster.
+        if (this.roundWindowLimited || rate > this.bandwidth) {
+            this.roundRates[this.roundIdx] = rate;
+            this.roundIdx = (this.roundIdx + 1) % BANDWIDTH_ROUNDS;
+
+            double max = 0;
+
+            for (final double r : this.roundRates) {
+                max = Math.max(max, r);
+            }
+
+            this.bandwidth = max;
+        }
+
+        if (this.startup) {
+            if (this.bandwidth >= this.fullBandwidth * 1.25) {
+                this.fullBandwidth = this.bandwidth;
+                this.roundsWithoutGrowth = 0;
+            }
+            else if (++this.roundsWithoutGrowth >= FULL_BANDWIDTH_ROUNDS) {
+                this.startup = false;
+            }
+        }
+
+        this.roundStart = nowMs;
+        this.roundBytes = 0;
+        this.roundWindowLimited = false;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicatorFlowControl [window=" + this.window + ", batchEntries=" + this.batchEntries + ", batchBytes="
+            + this.batchBytes + ", minRttMs=" + this.minRttMs + ", smoothedRttMs=" + smoothedRttMs() + ", bandwidth="
+            + bandwidth() + ", startup=" + this.startup + "]";
+    }
+}
@@ -185,6 +185,30 @@ public class ReplicatorGroupImpl implements ReplicatorGroup {
         return true;
     }
 
+    @Override
+    public boolean quiesce() {
+        final List<ThreadId> rids = new ArrayList<>(this.replicatorMap.values());
+        boolean acked = true;
+        for (final ThreadId rid : rids) {
+            // Ask every follower, not only until the first one that hasn't acknowledged yet.
+            acked &= Replicator.quiesce(rid);
+        }
+        if (!acked || !this.failureReplicators.isEmpty()) {
+            return false;
+        }
+        for (final ThreadId rid : rids) {
+            Replicator.slowDownHeartbeats(rid);
+        }
+        return true;
+    }
+
+    @Override
+    public void wakeUp() {
+        for (final ThreadId rid : this.replicatorMap.values()) {
+            Replicator.wakeUp(rid);
+        }
+    }
+
     @Override
     public void checkReplicator(final PeerId peer, final boolean lockNode) {
         final ThreadId rid = this.replicatorMap.get(peer);
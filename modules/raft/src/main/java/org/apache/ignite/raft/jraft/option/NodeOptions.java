@@ -29,6 +29,7 @@ import org.apache.ignite.raft.jraft.core.ReadOnlyServiceImpl;
 import org.apache.ignite.raft.jraft.core.Replicator;
 import org.apache.ignite.raft.jraft.core.Scheduler;
 import org.apache.ignite.raft.jraft.disruptor.StripedDisruptor;
+import org.apache.ignite.raft.jraft.rpc.impl.core.HeartbeatCoalescer;
 import org.apache.ignite.raft.jraft.storage.SnapshotThrottle;
 import org.apache.ignite.raft.jraft.storage.impl.LogManagerImpl;
 import org.apache.ignite.raft.jraft.util.Copiable;
@@ -187,6 +188,11 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
      */
     private Scheduler scheduler;
 
+    /**
+     * Coalescer of the heartbeats of all groups, {@code null} to send every heartbeat alone.
+     */
+    private HeartbeatCoalescer heartbeatCoalescer;
+
     /**
      * The election timer.
      */
@@ -513,6 +519,14 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
         this.scheduler = scheduler;
     }
 
+    public HeartbeatCoalescer getHeartbeatCoalescer() {
+        return heartbeatCoalescer;
+    }
+
+    public void setHeartbeatCoalescer(HeartbeatCoalescer heartbeatCoalescer) {
+        this.heartbeatCoalescer = heartbeatCoalescer;
+    }
+
     public Timer getElectionTimer() {
         return electionTimer;
     }
@@ -607,6 +621,7 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
         nodeOptions.setStripedExecutor(this.getStripedExecutor());
         nodeOptions.setServerName(this.getServerName());
         nodeOptions.setScheduler(this.getScheduler());
+        nodeOptions.setHeartbeatCoalescer(this.getHeartbeatCoalescer());
         nodeOptions.setClientExecutor(this.getClientExecutor());
         nodeOptions.setNodeApplyDisruptor(this.getNodeApplyDisruptor());
         nodeOptions.setfSMCallerExecutorDisruptor(this.getfSMCallerExecutorDisruptor());
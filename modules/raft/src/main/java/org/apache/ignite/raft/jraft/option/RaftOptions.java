@@ -35,6 +35,11 @@ public class RaftOptions implements Copiable<RaftOptions> {
      */
     private int maxByteCountPerRpc = 128 * 1024;
 
+    /**
+     * Maximum number of snapshot files downloaded from the leader in parallel when a snapshot is installed
+     */
+    private int maxSnapshotFileCopiesInFlight = 4;
+
     /**
      * File service check hole switch, default disable
      */
@@ -94,6 +99,21 @@ public class RaftOptions implements Copiable<RaftOptions> {
      * The maximum replicator pipeline in-flight requests/responses, only valid when enable replicator pipeline.
      */
     private int maxReplicatorInflightMsgs = 256;
+
+    /**
+     * Whether the replicator sizes the in-flight window and the AppendEntries batches adaptively, by the measured round-trip time and
+     * follower throughput. maxReplicatorInflightMsgs, maxEntriesSize and maxBodySize remain the upper bounds. Disabled by default:
+     * the replicator starts with smaller batches and drains the pipeline periodically to re-measure the round-trip time.
+     */
+    private boolean adaptiveReplicatorFlowControl = false;
+
+    /**
+     * Idle time after which the leader quiesces the group until the next command, a configuration change or a change of the
+     * cluster topology. 0 disables quiescence. The heartbeats of a quiesced group are only sent once per this period to
+     * bound it, a follower elects a new leader if it doesn't hear from the leader for two periods and an election timeout.
+     */
+    private int quiescenceTimeoutMs = 0;
+
     /**
      * Internal disruptor buffers size for Node/FSMCaller/LogManager etc.
      */
@@ -167,6 +187,22 @@ public class RaftOptions implements Copiable<RaftOptions> {
         this.replicatorPipeline = replicatorPipeline;
     }
 
+    public boolean isAdaptiveReplicatorFlowControl() {
+        return this.adaptiveReplicatorFlowControl;
+    }
+
+    public void setAdaptiveReplicatorFlowControl(final boolean adaptiveReplicatorFlowControl) {
+        this.adaptiveReplicatorFlowControl = adaptiveReplicatorFlowControl;
+    }
+
+    public int getQuiescenceTimeoutMs() {
+        return this.quiescenceTimeoutMs;
+    }
+
+    public void setQuiescenceTimeoutMs(final int quiescenceTimeoutMs) {
+        this.quiescenceTimeoutMs = quiescenceTimeoutMs;
+    }
+
     public int getMaxReplicatorInflightMsgs() {
         return this.maxReplicatorInflightMsgs;
     }
@@ -191,6 +227,14 @@ public class RaftOptions implements Copiable<RaftOptions> {
         this.maxByteCountPerRpc = maxByteCountPerRpc;
     }
 
+    public int getMaxSnapshotFileCopiesInFlight() {
+        return this.maxSnapshotFileCopiesInFlight;
+    }
+
+    public void setMaxSnapshotFileCopiesInFlight(final int maxSnapshotFileCopiesInFlight) {
+        this.maxSnapshotFileCopiesInFlight = maxSnapshotFileCopiesInFlight;
+    }
+
     public boolean isFileCheckHole() {
         return this.fileCheckHole;
     } // TODO asch review properties https://issues.apache.org/jira/browse/IGNITE-14832
@@ -290,6 +334,7 @@ public class RaftOptions implements Copiable<RaftOptions> {
     public RaftOptions copy() {
         final RaftOptions raftOptions = new RaftOptions();
         raftOptions.setMaxByteCountPerRpc(this.maxByteCountPerRpc);
+        raftOptions.setMaxSnapshotFileCopiesInFlight(this.maxSnapshotFileCopiesInFlight);
         raftOptions.setFileCheckHole(this.fileCheckHole);
         raftOptions.setMaxEntriesSize(this.maxEntriesSize);
         raftOptions.setMaxBodySize(this.maxBodySize);
@@ -302,6 +347,8 @@ public class RaftOptions implements Copiable<RaftOptions> {
         raftOptions.setOpenStatistics(this.openStatistics);
         raftOptions.setReplicatorPipeline(this.replicatorPipeline);
         raftOptions.setMaxReplicatorInflightMsgs(this.maxReplicatorInflightMsgs);
+        raftOptions.setAdaptiveReplicatorFlowControl(this.adaptiveReplicatorFlowControl);
+        raftOptions.setQuiescenceTimeoutMs(this.quiescenceTimeoutMs);
         raftOptions.setDisruptorBufferSize(this.disruptorBufferSize);
         raftOptions.setDisruptorPublishEventWaitTimeoutSecs(this.disruptorPublishEventWaitTimeoutSecs);
         raftOptions.setEnableLogEntryChecksum(this.enableLogEntryChecksum);
@@ -313,13 +360,15 @@ public class RaftOptions implements Copiable<RaftOptions> {
     /** {@inheritDoc} */
     @Override
     public String toString() {
-        return "RaftOptions{" + "maxByteCountPerRpc=" + this.maxByteCountPerRpc + ", fileCheckHole="
+        return "RaftOptions{" + "maxByteCountPerRpc=" + this.maxByteCountPerRpc + ", maxSnapshotFileCopiesInFlight="
+            + this.maxSnapshotFileCopiesInFlight + ", fileCheckHole="
             + this.fileCheckHole + ", maxEntriesSize=" + this.maxEntriesSize + ", maxBodySize=" + this.maxBodySize
             + ", maxAppendBufferSize=" + this.maxAppendBufferSize + ", maxElectionDelayMs="
             + this.maxElectionDelayMs + ", electionHeartbeatFactor=" + this.electionHeartbeatFactor
             + ", applyBatch=" + this.applyBatch + ", sync=" + this.sync + ", syncMeta=" + this.syncMeta
             + ", openStatistics=" + this.openStatistics + ", replicatorPipeline=" + this.replicatorPipeline
-            + ", maxReplicatorInflightMsgs=" + this.maxReplicatorInflightMsgs + ", disruptorBufferSize="
+            + ", maxReplicatorInflightMsgs=" + this.maxReplicatorInflightMsgs + ", adaptiveReplicatorFlowControl="
+            + this.adaptiveReplicatorFlowControl + ", quiescenceTimeoutMs=" + this.quiescenceTimeoutMs + ", disruptorBufferSize="
             + this.disruptorBufferSize + ", disruptorPublishEventWaitTimeoutSecs="
             + this.disruptorPublishEventWaitTimeoutSecs + ", enableLogEntryChecksum=" + this.enableLogEntryChecksum
             + ", readOnlyOptions=" + this.readOnlyOptions + '}';
@@ -57,6 +57,19 @@ public interface RaftClientService extends ClientService {
     Future<Message> appendEntries(final Endpoint endpoint, final RpcRequests.AppendEntriesRequest request,
         final int timeoutMs, final RpcResponseClosure<RpcRequests.AppendEntriesResponse> done);
 
+    /**
+     * Sends a heartbeat, an append-entries request without entries, and handle the response with done. Heartbeats of different groups
+     * to the same endpoint may be coalesced into one message.
+     *
+     * @param endpoint destination address (ip, port)
+     * @param request request data
+     * @param timeoutMs timeout millis
+     * @param done callback
+     * @return a future with result
+     */
+    Future<Message> heartbeat(final Endpoint endpoint, final RpcRequests.AppendEntriesRequest request,
+        final int timeoutMs, final RpcResponseClosure<RpcRequests.AppendEntriesResponse> done);
+
     /**
      * Sends a install-snapshot request and handle the response with done.
      *
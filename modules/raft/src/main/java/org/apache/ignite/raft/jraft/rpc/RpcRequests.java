@@ -174,6 +174,12 @@ public final class RpcRequests {
 
         @Marshallable
         ByteString data();
+
+        /**
+         * @return {@code True} if the leader asks the follower of an idle group to stop its election timer until the next request
+         * without this flag.
+         */
+        boolean quiesce();
     }
 
     @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.APPEND_ENTRIES_RESPONSE)
@@ -185,6 +191,28 @@ public final class RpcRequests {
         long lastLogIndex();
     }
 
+    /**
+     * Heartbeats of all RAFT groups led by one node to the followers on another node.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.COALESCED_HEARTBEAT_REQUEST)
+    public interface CoalescedHeartbeatRequest extends Message {
+        /**
+         * @return Heartbeats, one per group.
+         */
+        Collection<AppendEntriesRequest> heartbeatsList();
+    }
+
+    /**
+     * Responses to a {@link CoalescedHeartbeatRequest}.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.COALESCED_HEARTBEAT_RESPONSE)
+    public interface CoalescedHeartbeatResponse extends Message {
+        /**
+         * @return {@link AppendEntriesResponse} or {@link ErrorResponse} per heartbeat, in the order of the heartbeats.
+         */
+        Collection<Message> responsesList();
+    }
+
     @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.GET_FILE_REQUEST)
     public interface GetFileRequest extends Message {
         long readerId();
@@ -31,9 +31,11 @@ import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.network.NetworkMessage;
 import org.apache.ignite.network.NetworkMessageHandler;
 import org.apache.ignite.network.TopologyEventHandler;
+import org.apache.ignite.raft.jraft.Node;
 import org.apache.ignite.raft.jraft.NodeManager;
 import org.apache.ignite.raft.jraft.RaftMessageGroup;
 import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.entity.PeerId;
 import org.apache.ignite.raft.jraft.rpc.RpcContext;
 import org.apache.ignite.raft.jraft.rpc.RpcProcessor;
 import org.apache.ignite.raft.jraft.rpc.RpcServer;
@@ -50,11 +52,13 @@ import org.apache.ignite.raft.jraft.rpc.impl.cli.ResetPeerRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.cli.SnapshotRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.cli.TransferLeaderRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.AppendEntriesRequestProcessor;
+import org.apache.ignite.raft.jraft.rpc.impl.core.CoalescedHeartbeatRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.GetFileRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.InstallSnapshotRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.ReadIndexRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.RequestVoteRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.TimeoutNowRequestProcessor;
+import org.apache.ignite.raft.jraft.util.Endpoint;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -101,6 +105,7 @@ public class IgniteRpcServer implements RpcServer<Void> {
         registerProcessor(new PingRequestProcessor(rpcExecutor, raftMessagesFactory));
         registerProcessor(new TimeoutNowRequestProcessor(rpcExecutor, raftMessagesFactory));
         registerProcessor(new ReadIndexRequestProcessor(rpcExecutor, raftMessagesFactory));
+        registerProcessor(new CoalescedHeartbeatRequestProcessor(rpcExecutor, raftMessagesFactory));
         // raft native cli service
         registerProcessor(new AddPeerRequestProcessor(rpcExecutor, raftMessagesFactory));
         registerProcessor(new RemovePeerRequestProcessor(rpcExecutor, raftMessagesFactory));
@@ -125,15 +130,46 @@ public class IgniteRpcServer implements RpcServer<Void> {
         service.topologyService().addEventHandler(new TopologyEventHandler() {
             @Override public void onAppeared(ClusterNode member) {
                 // TODO asch optimize start replicator https://issues.apache.org/jira/browse/IGNITE-14843
+                // Quiesced leaders resume the heartbeats to let a restarted follower know them.
+                wakeUpQuiescedNodes(null);
             }
 
             @Override public void onDisappeared(ClusterNode member) {
                 for (ConnectionClosedEventListener listener : listeners)
                     listener.onClosed(service.topologyService().localMember().name(), member.name());
+
+                wakeUpQuiescedNodes(new Endpoint(member.address()));
             }
         });
     }
 
+    /**
+     * Wakes up the quiesced RAFT groups on a topology change, the topology events are the liveness signal of the groups
+     * that don't exchange heartbeats.
+     *
+     * @param leftMember Address of the member that has left, {@code null} if a member has joined.
+     */
+    private void wakeUpQuiescedNodes(@Nullable Endpoint leftMember) {
+        try {
+            rpcExecutor.execute(() -> {
+                for (Node node : nodeManager.getAllNodes()) {
+                    if (node.getRaftOptions().getQuiescenceTimeoutMs() <= 0) {
+                        continue;
+                    }
+
+                    PeerId leaderId = node.getLeaderId();
+
+                    // Followers of the live leaders stay quiesced, a leader checks its followers with heartbeats.
+                    if (node.isLeader(false) || leftMember != null && leaderId != null && leftMember.equals(leaderId.getEndpoint()))
+                        node.wakeUp();
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            // The node is being stopped.
+        }
+    }
+
     /**
      * Implementation of a message handler that dispatches the incoming requests to a suitable {@link RpcProcessor}.
      */
@@ -526,7 +526,25 @@ public class RaftGroupServiceImpl implements RaftGroupService {
         ActionRequest req = factory.actionRequest().command(cmd).groupId(groupId).readOnlySafe(false).build();
 
         return cluster.messagingService().invoke(peer.address(), req, rpcTimeout)
-                .thenApply(resp -> (R) ((ActionResponse) resp).result());
+                .handle((resp, err) -> {
+                    if (err == null && resp instanceof ActionResponse) {
+                        return CompletableFuture.completedFuture((R) ((ActionResponse) resp).result());
+                    }
+                    else if (err == null && resp instanceof RpcRequests.SMErrorResponse) {
+                        return CompletableFuture.<R>failedFuture(stateMachineError(((RpcRequests.SMErrorResponse) resp).error()));
+                    }
+
+                    // The peer is unavailable or can't serve the command (not started, busy, not a member): fall back to the leader.
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Read command can't be executed on a peer, retrying on a leader [peer={}, resp={}, err={}]",
+                                peer.address(),
+                                S.toString(resp),
+                                err == null ? null : err.getMessage());
+                    }
+
+                    return this.<R>run(cmd);
+                })
+                .thenCompose(Function.identity());
     }
 
     /** {@inheritDoc} */
@@ -635,27 +653,7 @@ public class RaftGroupServiceImpl implements RaftGroupService {
                     }
                 }
                 else if (resp instanceof RpcRequests.SMErrorResponse) {
-                    SMThrowable th = ((RpcRequests.SMErrorResponse)resp).error();
-                    if (th instanceof SMCompactedThrowable) {
-                        SMCompactedThrowable compactedThrowable = (SMCompactedThrowable)th;
-
-                        try {
-                            Throwable restoredTh = (Throwable)Class.forName(compactedThrowable.throwableClassName())
-                                .getConstructor(String.class)
-                                .newInstance(compactedThrowable.throwableMessage());
-
-                            fut.completeExceptionally(restoredTh);
-                        }
-                        catch (Exception e) {
-                            LOG.warn("Cannot restore throwable from user's state machine. " +
-                                "Check if throwable " + compactedThrowable.throwableClassName() +
-                                " is presented in the classpath.");
-
-                            fut.completeExceptionally(new IgniteException(compactedThrowable.throwableMessage()));
-                        }
-                    }
-                    else if (th instanceof SMFullThrowable)
-                        fut.completeExceptionally(((SMFullThrowable)th).throwable());
+                    fut.completeExceptionally(stateMachineError(((RpcRequests.SMErrorResponse)resp).error()));
                 }
                 else {
                     leader = peer; // The OK response was received from a leader.
@@ -666,6 +664,35 @@ public class RaftGroupServiceImpl implements RaftGroupService {
         });
     }
 
+    /**
+     * Restores an error thrown by a user's state machine.
+     *
+     * @param th The error received from the state machine.
+     * @return The error.
+     */
+    private static Throwable stateMachineError(SMThrowable th) {
+        if (th instanceof SMCompactedThrowable) {
+            SMCompactedThrowable compactedThrowable = (SMCompactedThrowable)th;
+
+            try {
+                return (Throwable)Class.forName(compactedThrowable.throwableClassName())
+                    .getConstructor(String.class)
+                    .newInstance(compactedThrowable.throwableMessage());
+            }
+            catch (Exception e) {
+                LOG.warn("Cannot restore throwable from user's state machine. " +
+                    "Check if throwable " + compactedThrowable.throwableClassName() +
+                    " is presented in the classpath.");
+
+                return new IgniteException(compactedThrowable.throwableMessage());
+            }
+        }
+
+        assert th instanceof SMFullThrowable : th;
+
+        return ((SMFullThrowable)th).throwable();
+    }
+
     /**
      * Checks if an error is recoverable, for example, {@link java.net.ConnectException}.
      * @param t The throwable.
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.raft.jraft.Node;
+import org.apache.ignite.raft.jraft.NodeManager;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RaftRpcFactory;
+import org.apache.ignite.raft.jraft.rpc.RaftServerService;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestClosure;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestProcessor;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatRequest;
+
+/**
+ * Coalesced heartbeats request processor, hands every heartbeat to the node of its group and responds once all of them are handled.
+ */
+public class CoalescedHeartbeatRequestProcessor extends RpcRequestProcessor<CoalescedHeartbeatRequest> {
+    public CoalescedHeartbeatRequestProcessor(Executor executor, RaftMessagesFactory msgFactory) {
+        super(executor, msgFactory);
+    }
+
+    @Override
+    public Message processRequest(final CoalescedHeartbeatRequest request, final RpcRequestClosure done) {
+        final Collection<AppendEntriesRequest> heartbeats = request.heartbeatsList();
+
+        if (heartbeats == null || heartbeats.isEmpty()) {
+            return msgFactory().coalescedHeartbeatResponse().responsesList(List.of()).build();
+        }
+
+        final Message[] responses = new Message[heartbeats.size()];
+        final AtomicInteger remaining = new AtomicInteger(responses.length);
+
+        int idx = 0;
+
+        for (final AppendEntriesRequest heartbeat : heartbeats) {
+            final int heartbeatIdx = idx++;
+
+            final RpcRequestClosure heartbeatDone = new RpcRequestClosure(done.getRpcCtx(), msgFactory()) {
+                @Override
+                public void sendResponse(final Message msg) {
+                    responses[heartbeatIdx] = msg;
+
+                    if (remaining.decrementAndGet() == 0) {
+                        done.sendResponse(msgFactory().coalescedHeartbeatResponse()
+                            .responsesList(Arrays.asList(responses))
+                            .build());
+                    }
+                }
+            };
+
+            Message response;
+
+            try {
+                response = processHeartbeat(done.getRpcCtx().getNodeManager(), heartbeat, heartbeatDone);
+            }
+            catch (final Throwable t) {
+                LOG.error("handleRequest {} failed", t, heartbeat);
+
+                response = RaftRpcFactory.DEFAULT.newResponse(msgFactory(), -1, "handleRequest internal error");
+            }
+
+            if (response != null) {
+                heartbeatDone.sendResponse(response);
+            }
+        }
+
+        return null;
+    }
+
+    private Message processHeartbeat(final NodeManager nodeManager, final AppendEntriesRequest request,
+        final RpcRequestClosure done) {
+        final PeerId peer = new PeerId();
+
+        if (!peer.parse(request.peerId())) {
+            return RaftRpcFactory.DEFAULT //
+                .newResponse(msgFactory(), RaftError.EINVAL, "Fail to parse peerId: %s", request.peerId());
+        }
+
+        final Node node = nodeManager.get(request.groupId(), peer);
+
+        if (node == null) {
+            return RaftRpcFactory.DEFAULT //
+                .newResponse(msgFactory(), RaftError.ENOENT, "Peer id not found: %s, group: %s", request.peerId(),
+                    request.groupId());
+        }
+
+        return ((RaftServerService) node).handleAppendEntriesRequest(request, done);
+    }
+
+    @Override
+    public String interest() {
+        return CoalescedHeartbeatRequest.class.getName();
+    }
+}
@@ -91,6 +91,25 @@ public class DefaultRaftClientService extends AbstractClientService implements R
         return failedFuture(executor, request, done, endpoint);
     }
 
+    @Override
+    public Future<Message> heartbeat(final Endpoint endpoint, final AppendEntriesRequest request,
+        final int timeoutMs, final RpcResponseClosure<AppendEntriesResponse> done) {
+        final HeartbeatCoalescer coalescer = this.nodeOptions.getHeartbeatCoalescer();
+
+        if (coalescer == null) {
+            return appendEntries(endpoint, request, timeoutMs, done);
+        }
+
+        final Executor executor = this.appendEntriesExecutorMap.computeIfAbsent(endpoint,
+            k -> nodeOptions.getStripedExecutor().next());
+
+        if (connect(endpoint)) {
+            return coalescer.heartbeat(endpoint, request, timeoutMs, done, executor);
+        }
+
+        return failedFuture(executor, request, done, endpoint);
+    }
+
     @Override
     public Future<Message> getFile(final Endpoint endpoint, final GetFileRequest request, final int timeoutMs,
         final RpcResponseClosure<GetFileResponse> done) {
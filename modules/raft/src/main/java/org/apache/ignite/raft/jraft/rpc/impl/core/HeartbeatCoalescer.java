@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.Status;
+import org.apache.ignite.raft.jraft.core.Scheduler;
+import org.apache.ignite.raft.jraft.error.InvokeTimeoutException;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.InvokeCallback;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RpcClient;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.ErrorResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcResponseClosure;
+import org.apache.ignite.raft.jraft.util.Endpoint;
+
+/**
+ * Coalesces heartbeats of the RAFT groups of a node: heartbeats to the same endpoint, sent within the coalescing delay, go in one
+ * {@link CoalescedHeartbeatRequest}, which is processed by {@link CoalescedHeartbeatRequestProcessor}. The response of every heartbeat
+ * is handled by its own closure, as if it has been sent alone. Shared by all RAFT groups of a node, see
+ * {@link org.apache.ignite.raft.jraft.option.NodeOptions#getHeartbeatCoalescer()}.
+ */
+public class HeartbeatCoalescer {
+    private static final IgniteLogger LOG = Loggers.forClass(HeartbeatCoalescer.class);
+
+    private final RpcClient rpcClient;
+
+    private final Scheduler scheduler;
+
+    private final Executor rpcExecutor;
+
+    private final RaftMessagesFactory msgFactory;
+
+    private final long delayMs;
+
+    private final int defaultTimeoutMs;
+
+    /** Heartbeats waiting to be sent, by destination. */
+    private final ConcurrentMap<Endpoint, List<PendingHeartbeat>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * @param rpcClient RPC client to send coalesced heartbeats with.
+     * @param scheduler Scheduler of the sends.
+     * @param rpcExecutor Executor to handle responses in.
+     * @param msgFactory Message factory.
+     * @param delayMs Maximal delay of a heartbeat, waiting for the heartbeats of other groups.
+     * @param defaultTimeoutMs Timeout of coalesced heartbeats without a timeout of their own.
+     */
+    public HeartbeatCoalescer(final RpcClient rpcClient, final Scheduler scheduler, final Executor rpcExecutor,
+        final RaftMessagesFactory msgFactory, final long delayMs, final int defaultTimeoutMs) {
+        this.rpcClient = rpcClient;
+        this.scheduler = scheduler;
+        this.rpcExecutor = rpcExecutor;
+        this.msgFactory = msgFactory;
+        this.delayMs = delayMs;
+        this.defaultTimeoutMs = defaultTimeoutMs;
+    }
+
+    /**
+     * Enqueues a heartbeat to be sent with the other heartbeats to the endpoint.
+     *
+     * @param endpoint Destination.
+     * @param request Heartbeat.
+     * @param timeoutMs Timeout of the heartbeat.
+     * @param done Heartbeat closure.
+     * @param executor Executor to run the closure in.
+     * @return Future of the heartbeat response.
+     */
+    public CompletableFuture<Message> heartbeat(final Endpoint endpoint, final AppendEntriesRequest request, final int timeoutMs,
+        final RpcResponseClosure<AppendEntriesResponse> done, final Executor executor) {
+        final PendingHeartbeat heartbeat = new PendingHeartbeat(request, timeoutMs, done, executor);
+
+        final boolean[] first = new boolean[1];
+
+        this.pending.compute(endpoint, (k, heartbeats) -> {
+            if (heartbeats == null) {
+                heartbeats = new ArrayList<>();
+                first[0] = true;
+            }
+
+            heartbeats.add(heartbeat);
+
+            return heartbeats;
+        });
+
+        if (first[0]) {
+            try {
+                this.scheduler.schedule(() -> send(endpoint), this.delayMs, TimeUnit.MILLISECONDS);
+            }
+            catch (final RejectedExecutionException e) {
+                // The node is being stopped.
+                final List<PendingHeartbeat> rejected = this.pending.remove(endpoint);
+
+                if (rejected != null) {
+                    onResponse(endpoint, rejected, null, e);
+                }
+            }
+        }
+
+        return heartbeat.future;
+    }
+
+    private void send(final Endpoint endpoint) {
+        final List<PendingHeartbeat> heartbeats = this.pending.remove(endpoint);
+
+        if (heartbeats == null) {
+            return;
+        }
+
+        // A replicator cancels its heartbeat when it is stopped.
+        heartbeats.removeIf(heartbeat -> heartbeat.future.isCancelled());
+
+        if (heartbeats.isEmpty()) {
+            return;
+        }
+
+        final List<AppendEntriesRequest> requests = new ArrayList<>(heartbeats.size());
+        int timeoutMs = Integer.MAX_VALUE;
+
+        for (final PendingHeartbeat heartbeat : heartbeats) {
+            requests.add(heartbeat.request);
+
+            if (heartbeat.timeoutMs > 0) {
+                timeoutMs = Math.min(timeoutMs, heartbeat.timeoutMs);
+            }
+        }
+
+        final CoalescedHeartbeatRequest request = this.msgFactory.coalescedHeartbeatRequest()
+            .heartbeatsList(requests)
+            .build();
+
+        try {
+            this.rpcClient.invokeAsync(endpoint, request, null, new InvokeCallback() {
+                @Override
+                public void complete(final Object result, final Throwable err) {
+                    onResponse(endpoint, heartbeats, result, err);
+                }
+
+                @Override
+                public Executor executor() {
+                    return HeartbeatCoalescer.this.rpcExecutor;
+                }
+            }, timeoutMs == Integer.MAX_VALUE ? this.defaultTimeoutMs : timeoutMs);
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            onResponse(endpoint, heartbeats, null, e);
+        }
+        catch (final Throwable t) {
+            onResponse(endpoint, heartbeats, null, t);
+        }
+    }
+
+    private void onResponse(final Endpoint endpoint, final List<PendingHeartbeat> heartbeats, final Object result,
+        final Throwable err) {
+        if (err != null) {
+            LOG.debug("Fail to send {} coalesced heartbeats to {}: {}.", heartbeats.size(), endpoint, err.getMessage());
+
+            final Status status = new Status(err instanceof InvokeTimeoutException ? RaftError.ETIMEDOUT : RaftError.EINTERNAL,
+                "RPC exception:" + err.getMessage());
+
+            for (final PendingHeartbeat heartbeat : heartbeats) {
+                heartbeat.complete(status, null, err);
+            }
+        }
+        else if (result instanceof CoalescedHeartbeatResponse) {
+            final Iterator<Message> responses = ((CoalescedHeartbeatResponse) result).responsesList().iterator();
+
+            for (final PendingHeartbeat heartbeat : heartbeats) {
+                if (!responses.hasNext()) {
+                    heartbeat.complete(new Status(RaftError.EINTERNAL, "No response to the coalesced heartbeat"), null,
+                        null);
+
+                    continue;
+                }
+
+                final Message response = responses.next();
+
+                heartbeat.complete(statusOf(response), response, null);
+            }
+        }
+        else {
+            // The whole request has failed, e.g. with an ErrorResponse of the RPC server.
+            Status status = result instanceof ErrorResponse ? statusOf((ErrorResponse) result) : null;
+
+            if (status == null || status.isOk()) {
+                status = new Status(RaftError.EINTERNAL, "Unexpected response to coalesced heartbeats: %s", result);
+            }
+
+            for (final PendingHeartbeat heartbeat : heartbeats) {
+                heartbeat.complete(status, null, null);
+            }
+        }
+    }
+
+    private static Status statusOf(final Message response) {
+        if (response instanceof ErrorResponse) {
+            final ErrorResponse eResp = (ErrorResponse) response;
+
+            return new Status(eResp.errorCode(), eResp.errorMsg());
+        }
+
+        return Status.OK();
+    }
+
+    /**
+     * Heartbeat waiting to be sent.
+     */
+    private static class PendingHeartbeat {
+        final AppendEntriesRequest request;
+
+        final int timeoutMs;
+
+        final RpcResponseClosure<AppendEntriesResponse> done;
+
+        final Executor executor;
+
+        final CompletableFuture<Message> future = new CompletableFuture<>();
+
+        PendingHeartbeat(final AppendEntriesRequest request, final int timeoutMs,
+            final RpcResponseClosure<AppendEntriesResponse> done, final Executor executor) {
+            this.request = request;
+            this.timeoutMs = timeoutMs;
+            this.done = done;
+            this.executor = executor;
+        }
+
+        void complete(final Status status, final Message response, final Throwable err) {
+            this.executor.execute(() -> {
+                if (this.done != null) {
+                    try {
+                        if (status.isOk()) {
+                            this.done.setResponse((AppendEntriesResponse) response);
+                        }
+
+                        this.done.run(status);
+                    }
+                    catch (final Throwable t) {
+                        LOG.error("Fail to run RpcResponseClosure, the request is {}.", t, this.request);
+                    }
+                }
+
+                if (err != null) {
+                    this.future.completeExceptionally(err);
+                }
+                else {
+                    this.future.complete(response);
+                }
+            });
+        }
+    }
+}
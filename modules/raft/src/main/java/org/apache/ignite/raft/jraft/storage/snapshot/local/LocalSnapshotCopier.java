@@ -21,9 +21,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.internal.logger.IgniteLogger;
@@ -33,6 +37,7 @@ import org.apache.ignite.raft.jraft.entity.LocalFileMetaOutter.FileSource;
 import org.apache.ignite.raft.jraft.entity.LocalFileMetaOutter.LocalFileMeta;
 import org.apache.ignite.raft.jraft.error.RaftError;
 import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
 import org.apache.ignite.raft.jraft.option.SnapshotCopierOptions;
 import org.apache.ignite.raft.jraft.storage.SnapshotStorage;
 import org.apache.ignite.raft.jraft.storage.SnapshotThrottle;
@@ -52,6 +57,11 @@ import org.apache.ignite.raft.jraft.util.Utils;
 public class LocalSnapshotCopier extends SnapshotCopier {
     private static final IgniteLogger LOG = Loggers.forClass(LocalSnapshotCopier.class);
 
+    /**
+     * Interval of copy progress logging
+     */
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
     private final Lock lock = new ReentrantLock();
     /**
      * The copy job future object
@@ -84,14 +94,43 @@ public class LocalSnapshotCopier extends SnapshotCopier {
      */
     private RemoteFileCopier copier;
     /**
-     * current copying session
+     * current copying sessions
      */
-    private Session curSession;
+    private final Set<Session> curSessions = new HashSet<>();
 
     private SnapshotThrottle snapshotThrottle;
 
     private NodeOptions nodeOptions;
 
+    private RaftOptions raftOptions;
+
+    private String uri;
+
+    /**
+     * copy progress: start time, number of files and bytes copied so far, time of the last progress report
+     */
+    private long copyStartNanos;
+    private int copiedFiles;
+    private long copiedBytes;
+    private long lastProgressLogNanos;
+
+    /**
+     * File being copied from the remote snapshot.
+     */
+    private static class FileCopy {
+        final String fileName;
+        final String filePath;
+        final LocalFileMeta meta;
+        final Session session;
+
+        FileCopy(final String fileName, final String filePath, final LocalFileMeta meta, final Session session) {
+            this.fileName = fileName;
+            this.filePath = filePath;
+            this.meta = meta;
+            this.session = session;
+        }
+    }
+
     public void setSnapshotThrottle(final SnapshotThrottle snapshotThrottle) {
         this.snapshotThrottle = snapshotThrottle;
     }
@@ -119,10 +158,7 @@ public class LocalSnapshotCopier extends SnapshotCopier {
             if (!isOk()) {
                 break;
             }
-            final Set<String> files = this.remoteSnapshot.listFiles();
-            for (final String file : files) {
-                copyFile(file);
-            }
+            copyFiles(this.remoteSnapshot.listFiles());
         }
         while (false);
         if (!isOk() && this.writer != null && this.writer.isOk()) {
@@ -137,13 +173,65 @@ public class LocalSnapshotCopier extends SnapshotCopier {
         }
     }
 
-    void copyFile(final String fileName) throws IOException, InterruptedException {
+    /**
+     * Copies files of the remote snapshot. Up to {@link RaftOptions#getMaxSnapshotFileCopiesInFlight()} files are downloaded
+     * concurrently, so that reading the files on the remote peer, transferring them and writing them locally overlap instead of
+     * being serialized file by file.
+     */
+    private void copyFiles(final Set<String> files) throws IOException, InterruptedException {
+        final int maxInFlight = Math.max(1, this.raftOptions.getMaxSnapshotFileCopiesInFlight());
+        final Queue<FileCopy> inFlight = new LinkedList<>();
+        this.copyStartNanos = System.nanoTime();
+        this.lastProgressLogNanos = this.copyStartNanos;
+        try {
+            for (final String fileName : files) {
+                final FileCopy copy = startCopyFile(fileName);
+                if (!isOk()) {
+                    break;
+                }
+                if (copy == null) {
+                    this.copiedFiles++;
+                    continue;
+                }
+                inFlight.add(copy);
+                if (inFlight.size() >= maxInFlight) {
+                    finishCopyFile(inFlight.poll(), files.size());
+                    if (!isOk()) {
+                        break;
+                    }
+                }
+            }
+            while (!inFlight.isEmpty() && isOk()) {
+                finishCopyFile(inFlight.poll(), files.size());
+            }
+        }
+        finally {
+            // Copies that are left after a failure are not needed anymore.
+            for (final FileCopy copy : inFlight) {
+                copy.session.cancel();
+                removeSession(copy.session);
+                Utils.closeQuietly(copy.session);
+            }
+        }
+        if (isOk() && !files.isEmpty()) {
+            final long elapsedNanos = System.nanoTime() - this.copyStartNanos;
+            LOG.info("Copied snapshot files from {}: files={}, bytes={}, duration={}ms, rate={}KB/s", this.uri, this.copiedFiles,
+                this.copiedBytes, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rateKbPerSecond(this.copiedBytes, elapsedNanos));
+        }
+    }
+
+    /**
+     * Starts downloading of a file.
+     *
+     * @return file copy or {@code null} if the file does not need to be downloaded or the copy could not be started
+     */
+    private FileCopy startCopyFile(final String fileName) throws IOException {
         if (this.writer.getFileMeta(fileName) != null) {
             LOG.info("Skipped downloading {}", fileName);
-            return;
+            return null;
         }
         if (!checkFile(fileName)) {
-            return;
+            return null;
         }
         final String filePath = this.writer.getPath() + File.separator + fileName;
         final Path subPath = Paths.get(filePath);
@@ -152,57 +240,89 @@ public class LocalSnapshotCopier extends SnapshotCopier {
             if (!parentDir.exists() && !parentDir.mkdirs()) {
                 LOG.error("Fail to create directory for {}", filePath);
                 setError(RaftError.EIO, "Fail to create directory");
-                return;
+                return null;
             }
         }
 
         final LocalFileMeta meta = (LocalFileMeta) this.remoteSnapshot.getFileMeta(fileName);
-        Session session = null;
+        this.lock.lock();
         try {
-            this.lock.lock();
-            try {
-                if (this.cancelled) {
-                    if (isOk()) {
-                        setError(RaftError.ECANCELED, "ECANCELED");
-                    }
-                    return;
-                }
-                session = this.copier.startCopyToFile(fileName, filePath, null);
-                if (session == null) {
-                    LOG.error("Fail to copy {}", fileName);
-                    setError(-1, "Fail to copy %s", fileName);
-                    return;
+            if (this.cancelled) {
+                if (isOk()) {
+                    setError(RaftError.ECANCELED, "ECANCELED");
                 }
-                this.curSession = session;
-
+                return null;
             }
-            finally {
-                this.lock.unlock();
+            final Session session = this.copier.startCopyToFile(fileName, filePath, null);
+            if (session == null) {
+                LOG.error("Fail to copy {}", fileName);
+                setError(-1, "Fail to copy %s", fileName);
+                return null;
             }
+            this.curSessions.add(session);
+            return new FileCopy(fileName, filePath, meta, session);
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for a file to be downloaded and adds it to the snapshot being written.
+     */
+    private void finishCopyFile(final FileCopy copy, final int totalFiles) throws IOException, InterruptedException {
+        final Session session = copy.session;
+        try {
             session.join(); // join out of lock
-            this.lock.lock();
-            try {
-                this.curSession = null;
-            }
-            finally {
-                this.lock.unlock();
-            }
+            removeSession(session);
             if (!session.status().isOk() && isOk()) {
                 setError(session.status().getCode(), session.status().getErrorMsg());
                 return;
             }
-            if (!this.writer.addFile(fileName, meta)) {
+            if (!this.writer.addFile(copy.fileName, copy.meta)) {
                 setError(RaftError.EIO, "Fail to add file to writer");
                 return;
             }
             if (!this.writer.sync()) {
                 setError(RaftError.EIO, "Fail to sync writer");
+                return;
             }
+            this.copiedFiles++;
+            this.copiedBytes += new File(copy.filePath).length();
+            logProgress(totalFiles);
         }
         finally {
-            if (session != null) {
-                Utils.closeQuietly(session);
-            }
+            Utils.closeQuietly(session);
+        }
+    }
+
+    /**
+     * Periodically reports the progress of the copy. Snapshot file metas carry no sizes, so the remaining time is estimated by the
+     * number of files left.
+     */
+    private void logProgress(final int totalFiles) {
+        final long nowNanos = System.nanoTime();
+        if (nowNanos - this.lastProgressLogNanos < PROGRESS_LOG_INTERVAL_NANOS || this.copiedFiles >= totalFiles) {
+            return;
+        }
+        this.lastProgressLogNanos = nowNanos;
+        final long elapsedNanos = nowNanos - this.copyStartNanos;
+        final long etaMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos * (totalFiles - this.copiedFiles) / this.copiedFiles);
+        LOG.info("Copying snapshot files from {}: files={}/{}, bytes={}, rate={}KB/s, eta={}ms", this.uri, this.copiedFiles,
+            totalFiles, this.copiedBytes, rateKbPerSecond(this.copiedBytes, elapsedNanos), etaMs);
+    }
+
+    private static long rateKbPerSecond(final long bytes, final long elapsedNanos) {
+        return elapsedNanos == 0 ? 0 : bytes * TimeUnit.SECONDS.toNanos(1) / elapsedNanos / 1024;
+    }
+
+    private void removeSession(final Session session) {
+        this.lock.lock();
+        try {
+            this.curSessions.remove(session);
+        }
+        finally {
+            this.lock.unlock();
         }
     }
 
@@ -242,19 +362,13 @@ public class LocalSnapshotCopier extends SnapshotCopier {
                     return;
                 }
                 session = this.copier.startCopy2IoBuffer(Snapshot.JRAFT_SNAPSHOT_META_FILE, metaBuf, null);
-                this.curSession = session;
+                this.curSessions.add(session);
             }
             finally {
                 this.lock.unlock();
             }
             session.join(); //join out of lock.
-            this.lock.lock();
-            try {
-                this.curSession = null;
-            }
-            finally {
-                this.lock.unlock();
-            }
+            removeSession(session);
             if (!session.status().isOk() && isOk()) {
                 LOG.warn("Fail to copy meta file: {}", session.status());
                 setError(session.status().getCode(), session.status().getErrorMsg());
@@ -387,6 +501,8 @@ public class LocalSnapshotCopier extends SnapshotCopier {
         this.filterBeforeCopyRemote = opts.getNodeOptions().isFilterBeforeCopyRemote();
         this.remoteSnapshot = new LocalSnapshot(opts.getRaftOptions());
         this.nodeOptions = opts.getNodeOptions();
+        this.raftOptions = opts.getRaftOptions();
+        this.uri = uri;
 
         return this.copier.init(uri, this.snapshotThrottle, opts);
     }
@@ -434,8 +550,8 @@ public class LocalSnapshotCopier extends SnapshotCopier {
                 setError(RaftError.ECANCELED, "Cancel the copier manually.");
             }
             this.cancelled = true;
-            if (this.curSession != null) {
-                this.curSession.cancel();
+            for (final Session session : this.curSessions) {
+                session.cancel();
             }
             if (this.future != null) {
                 this.future.cancel(true);
@@ -212,6 +212,12 @@ public class RaftServerImpl implements RaftServer {
         return new Peer(service.topologyService().localMember().address());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLeader(String groupId) {
+        return listeners.containsKey(groupId);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Set<String> startedGroups() {
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.ignite.raft.jraft.JRaftUtils;
+import org.apache.ignite.raft.jraft.conf.ConfigurationManager;
+import org.apache.ignite.raft.jraft.entity.EnumOutter;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.entity.LogId;
+import org.apache.ignite.raft.jraft.entity.codec.v1.LogEntryV1CodecFactory;
+import org.apache.ignite.raft.jraft.option.LogStorageOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.storage.LogStorage;
+import org.apache.ignite.raft.jraft.storage.impl.BaseLogStorageTest;
+import org.apache.ignite.raft.jraft.test.TestUtils;
+import org.junit.jupiter.api.Test;
+
+/** Segment file log storage test. */
+public class SegmentFileLogStorageTest extends BaseLogStorageTest {
+    /** Segment size small enough for the tests to span several segments. */
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    /** {@inheritDoc} */
+    @Override
+    protected LogStorage newLogStorage() {
+        return new SegmentFileLogStorage(path.resolve("log"), SEGMENT_SIZE, new RaftOptions());
+    }
+
+    @Test
+    public void testRestart() {
+        List<LogEntry> entries = TestUtils.mockEntries();
+
+        assertEquals(10, logStorage.appendEntries(entries));
+
+        restart();
+
+        assertEquals(0, logStorage.getFirstLogIndex());
+        assertEquals(9, logStorage.getLastLogIndex());
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(entries.get(i), logStorage.getEntry(i));
+        }
+    }
+
+    @Test
+    public void testRestartLoadsConfiguration() {
+        LogEntry confEntry1 = new LogEntry(EnumOutter.EntryType.ENTRY_TYPE_CONFIGURATION);
+        confEntry1.setId(new LogId(99, 1));
+        confEntry1.setPeers(JRaftUtils.getConfiguration("localhost:8081,localhost:8082").listPeers());
+
+        LogEntry confEntry2 = new LogEntry(EnumOutter.EntryType.ENTRY_TYPE_CONFIGURATION);
+        confEntry2.setId(new LogId(100, 2));
+        confEntry2.setPeers(JRaftUtils.getConfiguration("localhost:8081,localhost:8082,localhost:8083").listPeers());
+
+        assertTrue(logStorage.appendEntry(confEntry1));
+        assertTrue(logStorage.appendEntry(confEntry2));
+
+        logStorage.shutdown();
+
+        ConfigurationManager confManager = new ConfigurationManager();
+
+        LogStorageOptions opts = new LogStorageOptions();
+        opts.setConfigurationManager(confManager);
+        opts.setLogEntryCodecFactory(LogEntryV1CodecFactory.getInstance());
+
+        logStorage = newLogStorage();
+        assertTrue(logStorage.init(opts));
+
+        assertEquals("localhost:8081,localhost:8082,localhost:8083", confManager.getLastConfiguration().getConf().toString());
+        assertEquals("localhost:8081,localhost:8082", confManager.get(99).getConf().toString());
+    }
+
+    @Test
+    public void testTruncatePrefixDeletesSegments() throws Exception {
+        appendLargeEntries(100, 16 * 1024);
+
+        long segments = segmentFiles().size();
+
+        assertTrue(segments > 1);
+
+        assertTrue(logStorage.truncatePrefix(90));
+
+        assertEquals(90, logStorage.getFirstLogIndex());
+        assertTrue(segmentFiles().size() < segments);
+
+        restart();
+
+        assertEquals(90, logStorage.getFirstLogIndex());
+        assertEquals(99, logStorage.getLastLogIndex());
+
+        for (int i = 0; i < 100; i++) {
+            if (i < 90) {
+                assertNull(logStorage.getEntry(i));
+            } else {
+                assertNotNull(logStorage.getEntry(i));
+            }
+        }
+    }
+
+    @Test
+    public void testTruncateSuffixAcrossSegments() {
+        appendLargeEntries(100, 16 * 1024);
+
+        assertTrue(logStorage.truncateSuffix(10));
+        assertTrue(logStorage.appendEntry(TestUtils.mockEntry(11, 100)));
+
+        restart();
+
+        assertEquals(11, logStorage.getLastLogIndex());
+        assertEquals(100, logStorage.getTerm(11));
+        assertNull(logStorage.getEntry(12));
+    }
+
+    @Test
+    public void testTornRecordIsDiscarded() throws Exception {
+        List<LogEntry> entries = TestUtils.mockEntries();
+
+        assertEquals(10, logStorage.appendEntries(entries));
+
+        logStorage.shutdown();
+
+        // Corrupt the data of the last record.
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buf = channel.map(MapMode.READ_WRITE, 0, channel.size());
+
+            int pos = SegmentFile.HEADER_SIZE;
+            int last = pos;
+
+            while (buf.getInt(pos) > 0) {
+                last = pos;
+                pos += SegmentFile.RECORD_HEADER_SIZE + buf.getInt(pos);
+            }
+
+            buf.put(last + SegmentFile.RECORD_HEADER_SIZE, (byte) ~buf.get(last + SegmentFile.RECORD_HEADER_SIZE));
+            buf.force();
+        }
+
+        logStorage = newLogStorage();
+        logStorage.init(newLogStorageOptions());
+
+        assertEquals(8, logStorage.getLastLogIndex());
+        assertNull(logStorage.getEntry(9));
+
+        assertTrue(logStorage.appendEntry(TestUtils.mockEntry(9, 100)));
+
+        restart();
+
+        assertEquals(100, logStorage.getTerm(9));
+    }
+
+    private void appendLargeEntries(int count, int size) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(logStorage.appendEntry(TestUtils.mockEntry(i, i, size)));
+        }
+    }
+
+    private void restart() {
+        logStorage.shutdown();
+
+        logStorage = newLogStorage();
+        logStorage.init(newLogStorageOptions());
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(path.resolve("log"))) {
+            return files.filter(SegmentFile::isSegmentFile).sorted().collect(Collectors.toList());
+        }
+    }
+}
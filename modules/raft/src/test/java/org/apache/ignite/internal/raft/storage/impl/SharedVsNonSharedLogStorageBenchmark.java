@@ -177,6 +177,14 @@ public class SharedVsNonSharedLogStorageBenchmark {
 
         testShared(batchSize, logSize, totalLogs, grps);
         testIsolated(batchSize, logSize, totalLogs, grps);
+
+        // Many groups with small appends, which is where group commit of the shared storage pays off.
+        // Isolated storages are not run here, a thousand RocksDB instances is not a practical setup.
+        int manyGroups = 1000;
+
+        List<String> manyGrps = IntStream.range(0, manyGroups).mapToObj(cnt -> randomUuid + "_many_" + cnt).collect(toList());
+
+        testShared(10, 1024, 1000, manyGrps);
     }
 
     private static void testShared(int batchSize, int logSize, int totalLogs, List<String> grps) throws Exception {
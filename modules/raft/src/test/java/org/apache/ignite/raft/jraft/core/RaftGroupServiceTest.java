@@ -30,6 +30,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.ConnectException;
@@ -54,7 +56,9 @@ import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.network.MessagingService;
 import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.network.NetworkMessage;
 import org.apache.ignite.raft.client.Peer;
+import org.apache.ignite.raft.client.ReadCommand;
 import org.apache.ignite.raft.client.WriteCommand;
 import org.apache.ignite.raft.client.service.RaftGroupService;
 import org.apache.ignite.raft.jraft.RaftMessagesFactory;
@@ -68,6 +72,7 @@ import org.apache.ignite.raft.jraft.rpc.CliRequests.GetLeaderResponse;
 import org.apache.ignite.raft.jraft.rpc.RaftRpcFactory;
 import org.apache.ignite.raft.jraft.rpc.impl.RaftException;
 import org.apache.ignite.raft.jraft.rpc.impl.RaftGroupServiceImpl;
+import org.apache.ignite.raft.jraft.rpc.impl.SMFullThrowable;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -438,6 +443,81 @@ public class RaftGroupServiceTest {
         assertEquals(newLeader, service.leader());
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadCommandOnPeer() throws Exception {
+        String groupId = "test";
+
+        mockReadRequest(null);
+
+        RaftGroupService service =
+            RaftGroupServiceImpl.start(groupId, cluster, FACTORY, TIMEOUT, NODES, false, DELAY, executor).get(3, TimeUnit.SECONDS);
+
+        Peer peer = NODES.get(1);
+
+        TestResponse resp = service.<TestResponse>run(peer, new TestReadCommand()).get();
+
+        assertNotNull(resp);
+
+        verify(messagingService, never()).invoke(eq(leader.address()), any(NetworkMessage.class), anyLong());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadCommandOnBusyPeerRetriedOnLeader() throws Exception {
+        String groupId = "test";
+
+        mockLeaderRequest(false);
+        mockReadRequest(FACTORY.errorResponse().errorCode(RaftError.EBUSY.getNumber()).build());
+
+        RaftGroupService service =
+            RaftGroupServiceImpl.start(groupId, cluster, FACTORY, TIMEOUT, NODES, true, DELAY, executor).get(3, TimeUnit.SECONDS);
+
+        Peer peer = NODES.get(1);
+
+        TestResponse resp = service.<TestResponse>run(peer, new TestReadCommand()).get();
+
+        assertNotNull(resp);
+
+        verify(messagingService).invoke(
+            eq(leader.address()),
+            argThat(new ArgumentMatcher<ActionRequest>() {
+                @Override public boolean matches(ActionRequest arg) {
+                    return arg.command() instanceof TestReadCommand && arg.readOnlySafe();
+                }
+            }),
+            anyLong()
+        );
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadCommandOnPeerStateMachineError() throws Exception {
+        String groupId = "test";
+
+        mockReadRequest(FACTORY.sMErrorResponse().error(new SMFullThrowable(new IllegalStateException("Very bad"))).build());
+
+        RaftGroupService service =
+            RaftGroupServiceImpl.start(groupId, cluster, FACTORY, TIMEOUT, NODES, false, DELAY, executor).get(3, TimeUnit.SECONDS);
+
+        Peer peer = NODES.get(1);
+
+        try {
+            service.run(peer, new TestReadCommand()).get();
+
+            fail();
+        }
+        catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
     /**
      * @throws Exception If failed.
      */
@@ -824,6 +904,28 @@ public class RaftGroupServiceTest {
         });
     }
 
+    /**
+     * @param peerResp The response of the peers other than the leader to a read command, {@code null} to respond with a result.
+     */
+    private void mockReadRequest(@Nullable Object peerResp) {
+        when(messagingService.invoke(
+            any(NetworkAddress.class),
+            argThat(new ArgumentMatcher<ActionRequest>() {
+                @Override public boolean matches(ActionRequest arg) {
+                    return arg.command() instanceof TestReadCommand;
+                }
+            }),
+            anyLong()
+        )).then(invocation -> {
+            NetworkAddress target = invocation.getArgument(0);
+
+            if (peerResp != null && !target.equals(leader.address()))
+                return completedFuture(peerResp);
+
+            return completedFuture(FACTORY.actionResponse().result(new TestResponse()).build());
+        });
+    }
+
     /**
      * @param delay {@code True} to delay response.
      */
@@ -883,6 +985,10 @@ public class RaftGroupServiceTest {
     private static class TestCommand implements WriteCommand {
     }
 
+    /** */
+    private static class TestReadCommand implements ReadCommand {
+    }
+
     /** */
     private static class TestResponse {
     }
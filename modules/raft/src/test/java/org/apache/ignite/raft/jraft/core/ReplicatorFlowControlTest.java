@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.raft.jraft.core;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplicatorFlowControlTest {
+    @Test
+    public void testInitialLimits() {
+        final ReplicatorFlowControl fc = new ReplicatorFlowControl(new RaftOptions());
+
+        assertEquals(ReplicatorFlowControl.INITIAL_WINDOW, fc.window());
+        assertEquals(ReplicatorFlowControl.INITIAL_BATCH_ENTRIES, fc.batchEntries());
+        assertEquals(ReplicatorFlowControl.INITIAL_BATCH_BYTES, fc.batchBytes());
+        assertEquals(-1, fc.minRttMs());
+
+        assertTrue(fc.canSend(ReplicatorFlowControl.INITIAL_WINDOW - 1));
+        assertFalse(fc.canSend(ReplicatorFlowControl.INITIAL_WINDOW));
+    }
+
+    @Test
+    public void testLimitsNeverExceedOptions() {
+        final RaftOptions opts = new RaftOptions();
+        opts.setMaxReplicatorInflightMsgs(4);
+        opts.setMaxEntriesSize(10);
+        opts.setMaxBodySize(1024);
+
+        final ReplicatorFlowControl fc = new ReplicatorFlowControl(opts);
+
+        // A fast link with a large bandwidth-delay product.
+        for (long now = 0; now < 10_000; now++) {
+            fc.canSend(fc.window());
+            fc.onAck(now, 50, 10, 1024 * 1024);
+
+            assertTrue(fc.window() <= 4);
+            assertTrue(fc.batchEntries() <= 10);
+            assertTrue(fc.batchBytes() <= 1024);
+        }
+    }
+
+    @Test
+    public void testWindowGrowsOnlyWhenLimited() {
+        final ReplicatorFlowControl fc = new ReplicatorFlowControl(new RaftOptions());
+
+        fc.canSend(0);
+        fc.onAck(0, 10, 1, 1024);
+
+        assertEquals(ReplicatorFlowControl.INITIAL_WINDOW, fc.window());
+
+        fc.canSend(fc.window());
+        fc.onAck(1, 10, 1, 1024);
+
+        assertEquals(ReplicatorFlowControl.INITIAL_WINDOW + 1, fc.window());
+    }
+
+    @Test
+    public void testFailureResetsWindow() {
+        final ReplicatorFlowControl fc = new ReplicatorFlowControl(new RaftOptions());
+
+        fc.onFailure();
+
+        assertEquals(ReplicatorFlowControl.MIN_WINDOW, fc.window());
+    }
+
+    @Test
+    public void testConvergesToBandwidthDelayProduct() {
+        // 100 ms RTT, 1 MB/s: the bandwidth-delay product is 100 KB.
+        final double delayMs = 50;
+        final double bytesPerMs = 1000;
+        final int entrySize = 1024;
+
+        final ReplicatorFlowControl fc = new ReplicatorFlowControl(new RaftOptions());
+
+        final PriorityQueue<double[]> responses = new PriorityQueue<>(Comparator.comparingDouble(r -> r[0]));
+
+        double now = 0;
+        double linkFree = 0;
+        int inflights = 0;
+        long acked = 0;
+
+        while (now < 60_000) {
+            while (fc.canSend(inflights)) {
+                final int entries = Math.max(1, Math.min(fc.batchEntries(), fc.batchBytes() / entrySize));
+
+                linkFree = Math.max(now, linkFree) + entries * entrySize / bytesPerMs;
+                responses.add(new double[] {linkFree + 2 * delayMs, now, entries});
+                inflights++;
+            }
+
+            final double[] resp = responses.poll();
+
+            now = resp[0];
+            inflights--;
+
+            final int bytes = (int) resp[2] * entrySize;
+
+            if (now > 30_000) {
+                acked += bytes;
+            }
+
+            fc.onAck(Math.round(now), Math.round(now - resp[1]), (int) resp[2], bytes);
+        }
+
+        // The link is kept busy, the round trip is bounded by the queue of one bandwidth-delay product.
+        assertTrue(acked / (now - 30_000) > 0.9 * bytesPerMs, fc.toString());
+        assertTrue(fc.smoothedRttMs() < 4 * 2 * delayMs, fc.toString());
+        assertTrue(Math.abs(fc.bandwidth() - bytesPerMs * 1000) < 0.1 * bytesPerMs * 1000, fc.toString());
+    }
+}
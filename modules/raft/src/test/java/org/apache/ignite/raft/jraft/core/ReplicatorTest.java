@@ -25,6 +25,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.raft.jraft.JRaftUtils;
 import org.apache.ignite.raft.jraft.Status;
 import org.apache.ignite.raft.jraft.closure.CatchUpClosure;
@@ -65,6 +66,7 @@ import org.mockito.quality.Strictness;
 import org.mockito.stubbing.Answer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -141,6 +143,10 @@ public class ReplicatorTest {
     }
 
     private RpcRequests.AppendEntriesRequest createEmptyEntriesRequest(final boolean isHeartbeat) {
+        return this.createEmptyEntriesRequest(isHeartbeat, false);
+    }
+
+    private RpcRequests.AppendEntriesRequest createEmptyEntriesRequest(final boolean isHeartbeat, final boolean quiesce) {
         AppendEntriesRequestBuilder rb = raftOptions.getRaftMessagesFactory().appendEntriesRequest()
             .groupId("test")
             .serverId(new PeerId("localhost", 8082).toString())
@@ -148,7 +154,8 @@ public class ReplicatorTest {
             .term(1)
             .prevLogIndex(10)
             .prevLogTerm(1)
-            .committedIndex(0);
+            .committedIndex(0)
+            .quiesce(quiesce);
         if (!isHeartbeat) {
             rb.data(ByteString.EMPTY);
         }
@@ -190,6 +197,24 @@ public class ReplicatorTest {
         assertEquals(1, metrics.size());
     }
 
+    @Test
+    public void testFlowControlMetricRemoveOnDestroy() {
+        final Replicator r = getReplicator();
+        r.destroy();
+
+        final RaftOptions adaptiveOptions = this.raftOptions.copy();
+        adaptiveOptions.setAdaptiveReplicatorFlowControl(true);
+        this.id = Replicator.start(this.opts, adaptiveOptions);
+        assertNotNull(this.id);
+
+        // Six more gauges of the adaptive flow control.
+        Set<String> metrics = this.opts.getNode().getNodeMetrics().getMetricRegistry().getNames();
+        assertEquals(12, metrics.size());
+        getReplicator().destroy();
+        metrics = this.opts.getNode().getNodeMetrics().getMetricRegistry().getNames();
+        assertEquals(1, metrics.size());
+    }
+
     private Replicator getReplicator() {
         return (Replicator) this.id.lock();
     }
@@ -492,7 +517,7 @@ public class ReplicatorTest {
         assertNull(r.getHeartbeatInFly());
         final RpcRequests.AppendEntriesRequest request = createEmptyEntriesRequest(true);
         Mockito.when(
-            this.rpcService.appendEntries(eq(this.peerId.getEndpoint()), eq(request),
+            this.rpcService.heartbeat(eq(this.peerId.getEndpoint()), eq(request),
                 eq(this.opts.getElectionTimeoutMs() / 2), Mockito.any())).thenReturn(new CompletableFuture<>());
         this.id.setError(RaftError.ETIMEDOUT.getNumber());
         Thread.sleep(this.opts.getElectionTimeoutMs() + 1000);
@@ -549,6 +574,48 @@ public class ReplicatorTest {
         assertTrue(r.id.isDestroyed());
     }
 
+    @Test
+    public void testQuiesce() {
+        final Replicator r = getReplicator();
+        this.id.unlock();
+        Mockito.when(this.logManager.wait(eq(10L), Mockito.any(), same(this.id))).thenReturn(99L);
+
+        final RpcRequests.AppendEntriesResponse response = raftOptions.getRaftMessagesFactory()
+            .appendEntriesResponse()
+            .success(true)
+            .lastLogIndex(10)
+            .term(1)
+            .build();
+        // The follower is caught up.
+        Replicator.onRpcReturned(this.id, Replicator.RequestType.AppendEntries, Status.OK(), createEmptyEntriesRequest(),
+            response, 0, 0, Utils.monotonicMs());
+        this.id.unlock(); // TODO asch fix bad unlock IGNITE-14832
+
+        // No heartbeat asking to quiesce has been acknowledged yet.
+        assertFalse(Replicator.quiesce(this.id));
+
+        Replicator.onHeartbeatReturned(this.id, Status.OK(), createEmptyEntriesRequest(true, true), response,
+            Utils.monotonicMs());
+        assertTrue(Replicator.quiesce(this.id));
+
+        // Only the liveness heartbeats are sent.
+        this.raftOptions.setQuiescenceTimeoutMs(60_000);
+        Replicator.slowDownHeartbeats(this.id);
+        assertTrue(r.getHeartbeatTimer().getDelay(TimeUnit.MILLISECONDS) > this.opts.getDynamicHeartBeatTimeoutMs());
+        Replicator.onHeartbeatReturned(this.id, Status.OK(), createEmptyEntriesRequest(true, true), response,
+            Utils.monotonicMs());
+        assertTrue(r.getHeartbeatTimer().getDelay(TimeUnit.MILLISECONDS) > this.opts.getDynamicHeartBeatTimeoutMs());
+
+        // The heartbeat is sent right away on wake up and doesn't ask the follower to quiesce.
+        final RpcRequests.AppendEntriesRequest request = createEmptyEntriesRequest(true);
+        Mockito.when(
+            this.rpcService.heartbeat(eq(this.peerId.getEndpoint()), eq(request),
+                eq(this.opts.getElectionTimeoutMs() / 2), Mockito.any())).thenReturn(new CompletableFuture<>());
+        Replicator.wakeUp(this.id);
+        Mockito.verify(this.rpcService, Mockito.timeout(5000).atLeastOnce()).heartbeat(eq(this.peerId.getEndpoint()), eq(request),
+            eq(this.opts.getElectionTimeoutMs() / 2), Mockito.any());
+    }
+
     @Test
     public void testTransferLeadership() {
         final Replicator r = getReplicator();
@@ -17,9 +17,13 @@
 package org.apache.ignite.raft.jraft.rpc;
 
 import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.PriorityQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.core.ReplicatorFlowControl;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
 import org.apache.ignite.raft.jraft.util.AdaptiveBufAllocator;
 import org.apache.ignite.raft.jraft.util.ByteBufferCollector;
 import org.apache.ignite.raft.jraft.util.ByteString;
@@ -106,6 +110,12 @@ public class AppendEntriesBenchmark {
     }
 
     public static void main(String[] args) throws RunnerException {
+        if (args.length > 0 && "slow-link".equals(args[0])) {
+            slowLink();
+
+            return;
+        }
+
         final int size = ThreadLocalRandom.current().nextInt(100, 1000);
 
         AppendEntriesBenchmark benchmark = new AppendEntriesBenchmark();
@@ -238,6 +248,88 @@ public class AppendEntriesBenchmark {
         }
     }
 
+    /**
+     * Replicates over simulated links with the static limits of {@link RaftOptions} and with {@link ReplicatorFlowControl}, the follower
+     * always has entries to catch up with. Sample output:
+     *
+     * <pre>
+     * LAN 1ms rtt 1GB/s       static   throughput 1000.0 MB/s (link 1000.0), mean rtt   133.8 ms (base   1.0)
+     * LAN 1ms rtt 1GB/s       adaptive throughput  990.3 MB/s (link 1000.0), mean rtt     2.3 ms (base   1.0)
+     * WAN 50ms rtt 10MB/s     static   throughput   10.0 MB/s (link   10.0), mean rtt 11937.1 ms (base  50.0)
+     * WAN 50ms rtt 10MB/s     adaptive throughput    9.9 MB/s (link   10.0), mean rtt   170.2 ms (base  50.0)
+     * WAN 200ms rtt 100MB/s   static   throughput   99.7 MB/s (link  100.0), mean rtt  1331.7 ms (base 200.0)
+     * WAN 200ms rtt 100MB/s   adaptive throughput   95.4 MB/s (link  100.0), mean rtt   469.9 ms (base 200.0)
+     * slow 100ms rtt 1MB/s    static   throughput    1.0 MB/s (link    1.0), mean rtt 60393.1 ms (base 100.0)
+     * slow 100ms rtt 1MB/s    adaptive throughput    1.0 MB/s (link    1.0), mean rtt   380.2 ms (base 100.0)
+     * </pre>
+     */
+    private static void slowLink() {
+        for (boolean adaptive : new boolean[] {false, true}) {
+            simulate("LAN 1ms rtt 1GB/s", adaptive, 0.5, 1_000_000, 1024, 20_000);
+            simulate("WAN 50ms rtt 10MB/s", adaptive, 25, 10_000, 1024, 60_000);
+            simulate("WAN 200ms rtt 100MB/s", adaptive, 100, 100_000, 1024, 60_000);
+            simulate("slow 100ms rtt 1MB/s", adaptive, 50, 1_000, 1024, 120_000);
+        }
+    }
+
+    /**
+     * Simulates replication over a link.
+     *
+     * @param name Link name.
+     * @param adaptive Whether to use {@link ReplicatorFlowControl}.
+     * @param delayMs One-way delay of the link.
+     * @param bytesPerMs Bandwidth of the link.
+     * @param sizeOfEntry Size of an entry.
+     * @param durationMs Simulated duration.
+     */
+    private static void simulate(String name, boolean adaptive, double delayMs, double bytesPerMs, int sizeOfEntry, double durationMs) {
+        final RaftOptions opts = new RaftOptions();
+        final ReplicatorFlowControl flowControl = adaptive ? new ReplicatorFlowControl(opts) : null;
+
+        // Responses ordered by arrival: arrival time, send time, entries, bytes.
+        final PriorityQueue<double[]> responses = new PriorityQueue<>(Comparator.comparingDouble(r -> r[0]));
+
+        double now = 0;
+        double linkFree = 0;
+        int inflights = 0;
+        long ackedBytes = 0;
+        double rttSum = 0;
+        long rttCnt = 0;
+
+        while (now < durationMs) {
+            while (adaptive ? flowControl.canSend(inflights) : inflights < opts.getMaxReplicatorInflightMsgs()) {
+                final int maxEntries = adaptive ? flowControl.batchEntries() : opts.getMaxEntriesSize();
+                final int maxBytes = adaptive ? flowControl.batchBytes() : opts.getMaxBodySize();
+                final int entries = Math.max(1, Math.min(maxEntries, maxBytes / sizeOfEntry));
+                final int bytes = entries * sizeOfEntry;
+
+                linkFree = Math.max(now, linkFree) + bytes / bytesPerMs;
+
+                responses.add(new double[] {linkFree + 2 * delayMs, now, entries, bytes});
+
+                inflights++;
+            }
+
+            final double[] resp = responses.poll();
+
+            now = resp[0];
+            inflights--;
+
+            final double rtt = now - resp[1];
+
+            rttSum += rtt;
+            rttCnt++;
+            ackedBytes += (long) resp[3];
+
+            if (adaptive) {
+                flowControl.onAck(Math.round(now), Math.round(rtt), (int) resp[2], (int) resp[3]);
+            }
+        }
+
+        System.out.printf("%-23s %-8s throughput %6.1f MB/s (link %6.1f), mean rtt %7.1f ms (base %5.1f)%n", name,
+            adaptive ? "adaptive" : "static", ackedBytes / now / 1000.0, bytesPerMs / 1000.0, rttSum / rttCnt, 2 * delayMs);
+    }
+
     private static void fillCommonFields(final AppendEntriesRequestBuilder rb) {
         rb.term(1)
             .groupId("1")
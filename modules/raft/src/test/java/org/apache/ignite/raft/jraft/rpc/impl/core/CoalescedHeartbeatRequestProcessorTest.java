@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.raft.jraft.Node;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.entity.NodeId;
+import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RaftServerService;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestClosure;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.ErrorResponse;
+import org.apache.ignite.raft.jraft.test.MockAsyncContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+public class CoalescedHeartbeatRequestProcessorTest {
+    @Mock(extraInterfaces = {RaftServerService.class})
+    private Node node;
+
+    private final String groupId = "test";
+
+    private final String peerIdStr = "localhost:8081";
+
+    private final RaftMessagesFactory msgFactory = new RaftMessagesFactory();
+
+    private MockAsyncContext asyncContext;
+
+    private CoalescedHeartbeatRequestProcessor processor;
+
+    @BeforeEach
+    public void setup() {
+        this.asyncContext = new MockAsyncContext();
+        this.processor = new CoalescedHeartbeatRequestProcessor(null, this.msgFactory);
+
+        final PeerId peerId = new PeerId();
+        peerId.parse(this.peerIdStr);
+
+        Mockito.when(this.node.getGroupId()).thenReturn(this.groupId);
+        Mockito.when(this.node.getNodeId()).thenReturn(new NodeId(this.groupId, peerId));
+
+        this.asyncContext.getNodeManager().add(this.node);
+    }
+
+    @Test
+    public void testResponsesInOrderOfHeartbeats() {
+        final AppendEntriesRequest known = createHeartbeat(this.groupId);
+        final AppendEntriesRequest unknown = createHeartbeat("unknown");
+
+        final AppendEntriesResponse response = this.msgFactory.appendEntriesResponse()
+            .term(1)
+            .success(true)
+            .lastLogIndex(10)
+            .build();
+
+        Mockito.when(((RaftServerService) this.node).handleAppendEntriesRequest(eq(known), any())).thenReturn(response);
+
+        this.processor.handleRequest(this.asyncContext, createRequest(known, unknown, known));
+
+        final List<Message> responses = new ArrayList<>(this.asyncContext.as(CoalescedHeartbeatResponse.class).responsesList());
+
+        assertEquals(3, responses.size());
+        assertSame(response, responses.get(0));
+        assertInstanceOf(ErrorResponse.class, responses.get(1));
+        assertEquals(RaftError.ENOENT.getNumber(), ((ErrorResponse) responses.get(1)).errorCode());
+        assertSame(response, responses.get(2));
+    }
+
+    @Test
+    public void testRespondsWhenAllHeartbeatsAreHandled() {
+        final AppendEntriesRequest heartbeat = createHeartbeat(this.groupId);
+
+        final AtomicReference<RpcRequestClosure> delayed = new AtomicReference<>();
+
+        Mockito.when(((RaftServerService) this.node).handleAppendEntriesRequest(eq(heartbeat), any())).thenAnswer(invocation -> {
+            delayed.set(invocation.getArgument(1));
+
+            return null;
+        });
+
+        this.processor.handleRequest(this.asyncContext, createRequest(heartbeat));
+
+        assertNull(this.asyncContext.getResponseObject());
+
+        final AppendEntriesResponse response = this.msgFactory.appendEntriesResponse()
+            .term(1)
+            .success(true)
+            .lastLogIndex(10)
+            .build();
+
+        delayed.get().sendResponse(response);
+
+        final List<Message> responses = new ArrayList<>(this.asyncContext.as(CoalescedHeartbeatResponse.class).responsesList());
+
+        assertEquals(List.of(response), responses);
+    }
+
+    @Test
+    public void testEmptyRequest() {
+        this.processor.handleRequest(this.asyncContext, createRequest());
+
+        assertEquals(0, this.asyncContext.as(CoalescedHeartbeatResponse.class).responsesList().size());
+    }
+
+    private CoalescedHeartbeatRequest createRequest(final AppendEntriesRequest... heartbeats) {
+        return this.msgFactory.coalescedHeartbeatRequest()
+            .heartbeatsList(List.of(heartbeats))
+            .build();
+    }
+
+    private AppendEntriesRequest createHeartbeat(final String groupId) {
+        return this.msgFactory.appendEntriesRequest()
+            .committedIndex(0)
+            .groupId(groupId)
+            .peerId(this.peerIdStr)
+            .serverId("localhost:8082")
+            .prevLogIndex(0)
+            .term(1)
+            .prevLogTerm(0)
+            .build();
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.ignite.raft.jraft.storage.impl;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import org.apache.ignite.internal.raft.storage.impl.SegmentFileLogStorage;
+import org.apache.ignite.internal.raft.storage.impl.SegmentFileLogStorageFactory;
 import org.apache.ignite.raft.jraft.conf.ConfigurationManager;
 import org.apache.ignite.raft.jraft.entity.LogEntry;
 import org.apache.ignite.raft.jraft.entity.codec.v1.LogEntryV1CodecFactory;
@@ -128,7 +130,10 @@ public class LogStorageBenchmark {
         int logSize = 16 * 1024;
         int totalLogs = 30 * 1024;
 
-        LogStorage logStorage = new RocksDBLogStorage(testPath, new RaftOptions());
+        // Pass "segment" to run against the segment file storage instead of RocksDB.
+        LogStorage logStorage = args.length > 0 && "segment".equals(args[0])
+            ? new SegmentFileLogStorage(Paths.get(testPath), SegmentFileLogStorageFactory.DEFAULT_SEGMENT_SIZE, new RaftOptions())
+            : new RocksDBLogStorage(testPath, new RaftOptions());
         //LogStorage logStorage = new LocalLogStorage(testPath, new RaftOptions());
 
         LogStorageOptions opts = new LogStorageOptions();
@@ -231,4 +231,69 @@ public class LocalSnapshotCopierTest extends BaseStorageTest {
         assertEquals(1, this.writer.listFiles().size());
         assertTrue(this.writer.listFiles().contains("testFile"));
     }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void testFilesAreCopiedInParallel() throws Exception {
+        this.table.addFile("testFile2", raftOptions.getRaftMessagesFactory().localFileMeta().checksum("test2").build());
+
+        final CompletableFuture<Message> future = new CompletableFuture<>();
+        final GetFileRequestBuilder rb = raftOptions.getRaftMessagesFactory().getFileRequest()
+            .readerId(99)
+            .filename(Snapshot.JRAFT_SNAPSHOT_META_FILE)
+            .count(Integer.MAX_VALUE)
+            .offset(0)
+            .readPartly(true);
+
+        //mock get metadata
+        ArgumentCaptor<RpcResponseClosure> argument = ArgumentCaptor.forClass(RpcResponseClosure.class);
+        Mockito.when(
+            this.raftClientService.getFile(eq(new Endpoint("localhost", 8081)), eq(rb.build()),
+                eq(this.copyOpts.getTimeoutMs()), argument.capture())).thenReturn(future);
+        this.copier.start();
+        assertTrue(TestUtils.waitForArgumentCapture(argument, 5_000));
+        final RpcResponseClosure<RpcRequests.GetFileResponse> metaClosure = argument.getValue();
+        final ByteBuffer metaBuf = this.table.saveToByteBufferAsRemote();
+
+        metaClosure.setResponse(raftOptions.getRaftMessagesFactory()
+            .getFileResponse()
+            .readSize(metaBuf.remaining())
+            .eof(true)
+            .data(new ByteString(metaBuf))
+            .build());
+
+        //mock get files
+        final ArgumentCaptor<RpcResponseClosure> argument1 = ArgumentCaptor.forClass(RpcResponseClosure.class);
+        rb.count(this.raftOptions.getMaxByteCountPerRpc());
+        Mockito.when(
+            this.raftClientService.getFile(eq(new Endpoint("localhost", 8081)), eq(rb.filename("testFile").build()),
+                eq(this.copyOpts.getTimeoutMs()), argument1.capture())).thenReturn(future);
+        final ArgumentCaptor<RpcResponseClosure> argument2 = ArgumentCaptor.forClass(RpcResponseClosure.class);
+        Mockito.when(
+            this.raftClientService.getFile(eq(new Endpoint("localhost", 8081)), eq(rb.filename("testFile2").build()),
+                eq(this.copyOpts.getTimeoutMs()), argument2.capture())).thenReturn(future);
+
+        metaClosure.run(Status.OK());
+
+        // Both files are requested before any of them is received.
+        assertTrue(TestUtils.waitForArgumentCapture(argument1, 5_000));
+        assertTrue(TestUtils.waitForArgumentCapture(argument2, 5_000));
+
+        for (RpcResponseClosure<RpcRequests.GetFileResponse> closure : new RpcResponseClosure[] {argument2.getValue(),
+            argument1.getValue()}) {
+            closure.setResponse(raftOptions.getRaftMessagesFactory()
+                .getFileResponse()
+                .readSize(100)
+                .eof(true)
+                .data(new ByteString(new byte[100]))
+                .build());
+            closure.run(Status.OK());
+        }
+
+        this.copier.join();
+        assertSame(this.reader, this.copier.getReader());
+        assertEquals(2, this.writer.listFiles().size());
+        assertTrue(this.writer.listFiles().contains("testFile"));
+        assertTrue(this.writer.listFiles().contains("testFile2"));
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.schema;
 
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import org.apache.ignite.internal.binarytuple.BinaryTupleReader;
 import org.apache.ignite.internal.schema.row.InternalTuple;
 
 /**
@@ -17,41 +17,12 @@
 
 package org.apache.ignite.internal.schema;
 
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.UUID;
-import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.internal.binarytuple.BinaryTupleCommon;
 
 /**
  * Description of a binary tuple.
  */
 public class BinaryTupleSchema {
-    /** Size of a tuple header, in bytes. */
-    public static int HEADER_SIZE = 1;
-
-    /** Mask for size of entries in variable-length offset table. */
-    public static final int VARSIZE_MASK = 0b011;
-
-    /** Flag that indicates null map presence. */
-    public static final int NULLMAP_FLAG = 0b100;
-
-    /** Default value for UUID elements. */
-    public static final UUID DEFAULT_UUID = new UUID(0, 0);
-
-    /** Default value for Date elements (Jan 1st 1 BC). */
-    public static final LocalDate DEFAULT_DATE = LocalDate.of(0, 1, 1);
-
-    /** Default value for Time elements (00:00:00). */
-    public static final LocalTime DEFAULT_TIME = LocalTime.of(0, 0);
-
-    /** Default value for DateTime elements (Jan 1st 1 BC, 00:00:00). */
-    public static final LocalDateTime DEFAULT_DATE_TIME = LocalDateTime.of(0, 1, 1, 0, 0);
-
-    /** Default value for Timestamp elements. */
-    public static final Instant DEFAULT_TIMESTAMP = Instant.EPOCH;
-
     /**
      * Tuple element description used for tuple parsing and building.
      *
@@ -249,50 +220,11 @@ public class BinaryTupleSchema {
         return new SparseRowSchema(elements, columns.clone(), hasNullables);
     }
 
-    /**
-     * Calculate flags for a given size of variable-length area.
-     *
-     * @param size Variable-length area size.
-     * @return Flags value.
-     */
-    public static byte valueSizeToFlags(long size) {
-        if (size <= 0xff) {
-            return 0b00;
-        }
-        if (size <= 0xffff) {
-            return 0b01;
-        }
-        if (size <= Integer.MAX_VALUE) {
-            return 0b10;
-        }
-        throw new IgniteInternalException("Too big binary tuple size");
-    }
-
-    /**
-     * Calculate the size of entry in variable-length offset table for given flags.
-     *
-     * @param flags Flags value.
-     * @return Size of entry in variable-length offset table.
-     */
-    public static int flagsToEntrySize(byte flags) {
-        return 1 << (flags & VARSIZE_MASK);
-    }
-
-    /**
-     * Calculate the null map size.
-     *
-     * @param numElements Number of tuple elements.
-     * @return Null map size in bytes.
-     */
-    public static int nullMapSize(int numElements) {
-        return (numElements + 7) / 8;
-    }
-
     /**
      * Returns the null map size in bytes if there are nullable elements, zero otherwise.
      */
     public int nullMapSize() {
-        return hasNullableElements() ? nullMapSize(elementCount()) : 0;
+        return hasNullableElements() ? BinaryTupleCommon.nullMapSize(elementCount()) : 0;
     }
 
     /**
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.schema;
 import java.util.Collection;
 import org.apache.ignite.internal.schema.registry.SchemaRegistryException;
 import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.schema.row.RowAssembler;
 
 /**
  * Table schema registry interface.
@@ -88,4 +89,51 @@ public interface SchemaRegistry {
      * @return Schema-aware rows.
      */
     Collection<Row> resolve(Collection<BinaryRow> rows);
+
+    /**
+     * Converts the row to the format of the latest schema, so that it can be resolved without column mapping.
+     *
+     * @param row Binary row.
+     * @return Binary row of the latest schema, or the given row if it already has the latest schema or has no value.
+     */
+    default BinaryRow upgrade(BinaryRow row) {
+        if (row.schemaVersion() == 0 || !row.hasValue()) {
+            return row;
+        }
+
+        Row resolved = resolve(row);
+
+        SchemaDescriptor schema = resolved.schema();
+
+        if (schema.version() == row.schemaVersion()) {
+            return row;
+        }
+
+        Object[] values = new Object[schema.length()];
+
+        int nonNullVarlenKeyCols = 0;
+        int nonNullVarlenValCols = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            Object value = resolved.value(i);
+
+            values[i] = value;
+
+            if (value != null && !schema.column(i).type().spec().fixedLength()) {
+                if (schema.isKeyColumn(i)) {
+                    nonNullVarlenKeyCols++;
+                } else {
+                    nonNullVarlenValCols++;
+                }
+            }
+        }
+
+        RowAssembler rowAssembler = new RowAssembler(schema, nonNullVarlenKeyCols, nonNullVarlenValCols);
+
+        for (int i = 0; i < values.length; i++) {
+            RowAssembler.writeValue(rowAssembler, schema.column(i), values[i]);
+        }
+
+        return rowAssembler.build();
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.schema.marshaller;
+
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.asm.AsmMarshallerGenerator;
+import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
+import org.apache.ignite.table.mapper.Mapper;
+
+/**
+ * Marshaller factory, which creates generated marshallers and falls back to reflection-based ones for the mappings the code generator
+ * doesn't support, e.g. type converters or POJOs that don't have a field for every column.
+ */
+public class DefaultMarshallerFactory implements MarshallerFactory {
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(DefaultMarshallerFactory.class);
+
+    /** Generated marshaller factory. */
+    private final MarshallerFactory generatedFactory = new AsmMarshallerGenerator();
+
+    /** Reflection-based marshaller factory. */
+    private final MarshallerFactory reflectionFactory = new ReflectionMarshallerFactory();
+
+    /** {@inheritDoc} */
+    @Override
+    public <K, V> KvMarshaller<K, V> create(SchemaDescriptor schema, Mapper<K> keyMapper, Mapper<V> valueMapper) {
+        try {
+            return generatedFactory.create(schema, keyMapper, valueMapper);
+        } catch (IllegalArgumentException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Falling back to reflection-based marshaller [schemaVer={}, keyClass={}, valueClass={}]", e,
+                        schema.version(), keyMapper.targetType().getName(), valueMapper.targetType().getName());
+            }
+
+            return reflectionFactory.create(schema, keyMapper, valueMapper);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> RecordMarshaller<R> create(SchemaDescriptor schema, Mapper<R> mapper) {
+        try {
+            return generatedFactory.create(schema, mapper);
+        } catch (IllegalArgumentException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Falling back to reflection-based marshaller [schemaVer={}, recordClass={}]", e,
+                        schema.version(), mapper.targetType().getName());
+            }
+
+            return reflectionFactory.create(schema, mapper);
+        }
+    }
+}
@@ -31,10 +31,12 @@ import com.facebook.presto.bytecode.control.IfStatement;
 import com.facebook.presto.bytecode.control.TryCatch;
 import com.facebook.presto.bytecode.expression.BytecodeExpressions;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import javax.annotation.processing.Generated;
-import jdk.jfr.Experimental;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.schema.BinaryRow;
@@ -52,11 +54,13 @@ import org.apache.ignite.internal.schema.row.RowAssembler;
 import org.apache.ignite.internal.util.ObjectFactory;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.table.mapper.Mapper;
+import org.apache.ignite.table.mapper.OneColumnMapper;
+import org.apache.ignite.table.mapper.PojoMapper;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * {@link org.apache.ignite.internal.schema.marshaller.reflection.Marshaller} code generator.
  */
-@Experimental
 public class AsmMarshallerGenerator implements MarshallerFactory {
     /** The logger. */
     private static final IgniteLogger LOG = Loggers.forClass(AsmMarshallerGenerator.class);
@@ -66,6 +70,10 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
 
     /** Marshaller package name prefix. */
     public static final String MARSHALLER_CLASS_NAME_PREFIX = "MarshallerForSchema_";
+
+    /** Record marshaller class name prefix. */
+    public static final String RECORD_MARSHALLER_CLASS_NAME_PREFIX = "RecordMarshallerForSchema_";
+
     /** Dump generated code. */
     private final boolean dumpCode = LOG.isTraceEnabled();
 
@@ -76,34 +84,12 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
 
         Class<K> keyClass = keyMapper.targetType();
         Class<V> valClass = valueMapper.targetType();
-        final StringWriter writer = new StringWriter();
-        try {
-            // Generate Marshaller code.
-            long generation = System.nanoTime();
-
-            final ClassDefinition classDef = generateMarshallerClass(className, schema, keyClass, valClass);
-            long compilationTime = System.nanoTime();
-            generation = compilationTime - generation;
-
-            final ClassGenerator generator = ClassGenerator.classGenerator(getClassLoader());
-
-            if (dumpCode) {
-                generator.outputTo(writer)
-                        .fakeLineNumbers(true)
-                        .runAsmVerifier(true)
-                        .dumpRawBytecode(true);
-            }
 
-            final Class<? extends KvMarshaller> aClass = generator.defineClass(classDef, KvMarshaller.class);
-            compilationTime = System.nanoTime() - compilationTime;
-
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("ASM marshaller created: codeGenStage={}us, compileStage={}us. Code: {}",
-                        TimeUnit.NANOSECONDS.toMicros(generation), TimeUnit.NANOSECONDS.toMicros(compilationTime), writer);
-            } else if (LOG.isDebugEnabled()) {
-                LOG.debug("ASM marshaller created: codeGenStage={}us, compileStage={}us.",
-                        TimeUnit.NANOSECONDS.toMicros(generation), TimeUnit.NANOSECONDS.toMicros(compilationTime));
-            }
+        try {
+            final Class<? extends KvMarshaller> aClass = defineClass(
+                    () -> generateMarshallerClass(className, schema, keyMapper, valueMapper),
+                    KvMarshaller.class
+            );
 
             // Instantiate marshaller.
             //noinspection unchecked
@@ -126,26 +112,90 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
     /** {@inheritDoc} */
     @Override
     public <R> RecordMarshaller<R> create(SchemaDescriptor schema, Mapper<R> mapper) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        final String className = RECORD_MARSHALLER_CLASS_NAME_PREFIX + schema.version();
+
+        Class<R> recClass = mapper.targetType();
+
+        try {
+            final Class<? extends RecordMarshaller> aClass = defineClass(
+                    () -> generateRecordMarshallerClass(className, schema, mapper),
+                    RecordMarshaller.class
+            );
+
+            ObjectFactory<R> factory = MarshallerUtil.factoryForClass(recClass);
+
+            // Instantiate marshaller.
+            //noinspection unchecked
+            return aClass
+                    .getDeclaredConstructor(
+                            SchemaDescriptor.class,
+                            ObjectFactory.class,
+                            ObjectFactory.class)
+                    .newInstance(schema, factory, factory);
+
+        } catch (Exception | LinkageError e) {
+            throw new IllegalArgumentException("Failed to create marshaller for record: schemaVer=" + schema.version()
+                    + ", recordClass=" + recClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Generates and loads a marshaller class.
+     *
+     * @param classDefSupplier Marshaller class definition supplier.
+     * @param iface            Marshaller interface.
+     * @return Marshaller class.
+     */
+    private <T> Class<? extends T> defineClass(Supplier<ClassDefinition> classDefSupplier, Class<T> iface) {
+        final StringWriter writer = new StringWriter();
+
+        // Generate Marshaller code.
+        long generation = System.nanoTime();
+
+        final ClassDefinition classDef = classDefSupplier.get();
+        long compilationTime = System.nanoTime();
+        generation = compilationTime - generation;
+
+        final ClassGenerator generator = ClassGenerator.classGenerator(getClassLoader());
+
+        if (dumpCode) {
+            generator.outputTo(writer)
+                    .fakeLineNumbers(true)
+                    .runAsmVerifier(true)
+                    .dumpRawBytecode(true);
+        }
+
+        final Class<? extends T> aClass = generator.defineClass(classDef, iface);
+        compilationTime = System.nanoTime() - compilationTime;
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ASM marshaller created: codeGenStage={}us, compileStage={}us. Code: {}",
+                    TimeUnit.NANOSECONDS.toMicros(generation), TimeUnit.NANOSECONDS.toMicros(compilationTime), writer);
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("ASM marshaller created: codeGenStage={}us, compileStage={}us.",
+                    TimeUnit.NANOSECONDS.toMicros(generation), TimeUnit.NANOSECONDS.toMicros(compilationTime));
+        }
+
+        return aClass;
     }
 
     /**
      * Generates marshaller class definition.
      *
-     * @param className Marshaller class name.
-     * @param schema    Schema descriptor.
-     * @param keyClass  Key class.
-     * @param valClass  Value class.
+     * @param className   Marshaller class name.
+     * @param schema      Schema descriptor.
+     * @param keyMapper   Key mapper.
+     * @param valueMapper Value mapper.
      * @return Generated java class definition.
      */
     private ClassDefinition generateMarshallerClass(
             String className,
             SchemaDescriptor schema,
-            Class<?> keyClass,
-            Class<?> valClass
+            Mapper<?> keyMapper,
+            Mapper<?> valueMapper
     ) {
-        MarshallerCodeGenerator keyMarsh = createMarshaller(keyClass, schema.keyColumns(), 0);
-        MarshallerCodeGenerator valMarsh = createMarshaller(valClass, schema.valueColumns(), schema.keyColumns().length());
+        MarshallerCodeGenerator keyMarsh = createMarshaller(keyMapper, schema.keyColumns(), 0);
+        MarshallerCodeGenerator valMarsh = createMarshaller(valueMapper, schema.valueColumns(), schema.keyColumns().length());
 
         final ClassDefinition classDef = new ClassDefinition(
                 EnumSet.of(Access.PUBLIC),
@@ -169,12 +219,58 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
 
         generateSchemaVersionMethod(classDef, schema);
 
-        generateMarshalMethod(classDef, keyMarsh, valMarsh);
+        generateMarshalMethod(classDef, "marshal", keyMarsh, valMarsh, "key", "val");
+        generateMarshalMethod(classDef, "marshal", keyMarsh, null, "key", null);
         generateUnmarshalKeyMethod(classDef, keyMarsh);
         generateUnmarshalValueMethod(classDef, valMarsh);
         return classDef;
     }
 
+    /**
+     * Generates record marshaller class definition.
+     *
+     * @param className Marshaller class name.
+     * @param schema    Schema descriptor.
+     * @param mapper    Record mapper.
+     * @return Generated java class definition.
+     */
+    private ClassDefinition generateRecordMarshallerClass(String className, SchemaDescriptor schema, Mapper<?> mapper) {
+        MarshallerCodeGenerator keyMarsh = createMarshaller(mapper, schema.keyColumns(), 0);
+        MarshallerCodeGenerator valMarsh = createMarshaller(mapper, schema.valueColumns(), schema.keyColumns().length());
+
+        if (!(keyMarsh instanceof ObjectMarshallerCodeGenerator) || !(valMarsh instanceof ObjectMarshallerCodeGenerator)) {
+            throw new IgniteInternalException("Record class must be a POJO [class=" + mapper.targetType().getName() + ']');
+        }
+
+        final ClassDefinition classDef = new ClassDefinition(
+                EnumSet.of(Access.PUBLIC),
+                MARSHALLER_PACKAGE_NAME.replace('.', '/') + '/' + className,
+                ParameterizedType.type(Object.class),
+                ParameterizedType.type(RecordMarshaller.class)
+        );
+
+        classDef.declareAnnotation(Generated.class).setValue("value", getClass().getCanonicalName());
+
+        // Key and value code generators share the target class, but each of them initializes its own handlers.
+        final FieldDefinition keyClassField = classDef.declareField(EnumSet.of(Access.PRIVATE, Access.STATIC, Access.FINAL),
+                "KEY_CLASS", Class.class);
+        final FieldDefinition valueClassField = classDef.declareField(EnumSet.of(Access.PRIVATE, Access.STATIC, Access.FINAL),
+                "VALUE_CLASS", Class.class);
+
+        keyMarsh.initStaticHandlers(classDef, keyClassField);
+        valMarsh.initStaticHandlers(classDef, valueClassField);
+
+        generateFieldsAndConstructor(classDef);
+        generateAssemblerFactoryMethod(classDef, schema, keyMarsh, valMarsh);
+
+        generateSchemaVersionMethod(classDef, schema);
+
+        generateMarshalMethod(classDef, "marshal", keyMarsh, valMarsh, "rec", "rec");
+        generateMarshalMethod(classDef, "marshalKey", keyMarsh, null, "rec", null);
+        generateUnmarshalRecordMethod(classDef, (ObjectMarshallerCodeGenerator) keyMarsh, (ObjectMarshallerCodeGenerator) valMarsh);
+        return classDef;
+    }
+
     /**
      * Creates interface method.
      *
@@ -196,22 +292,41 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
     /**
      * Creates marshaller code generator for given class.
      *
-     * @param cls         Target class.
+     * @param mapper      Target class mapper.
      * @param columns     Columns that cls mapped to.
      * @param firstColIdx First column absolute index in schema.
      * @return Marshaller code generator.
      */
     private static MarshallerCodeGenerator createMarshaller(
-            Class<?> cls,
+            Mapper<?> mapper,
             Columns columns,
             int firstColIdx
     ) {
+        final Class<?> cls = mapper.targetType();
         final BinaryMode mode = MarshallerUtil.mode(cls);
 
-        if (mode == BinaryMode.POJO) {
-            return new ObjectMarshallerCodeGenerator(columns, cls, firstColIdx);
+        if (mode == BinaryMode.POJO && mapper instanceof PojoMapper) {
+            return new ObjectMarshallerCodeGenerator(columns, cls, (PojoMapper<?>) mapper, firstColIdx);
+        } else if (mode != BinaryMode.POJO && mapper instanceof OneColumnMapper) {
+            final OneColumnMapper<?> oneColMapper = (OneColumnMapper<?>) mapper;
+
+            if (oneColMapper.converter() != null) {
+                throw new IgniteInternalException("Type converters are not supported [class=" + cls.getName() + ']');
+            }
+
+            if (columns.length() != 1
+                    || (oneColMapper.mappedColumn() != null && !oneColMapper.mappedColumn().equals(columns.column(0).name()))) {
+                throw new IgniteInternalException("Object of natively supported type must be mapped to a single column [class="
+                        + cls.getName() + ']');
+            }
+
+            return new IdentityMarshallerCodeGenerator(
+                    ColumnAccessCodeGenerator.createAccessor(mode, null, firstColIdx),
+                    columns.column(0).nullable()
+            );
         } else {
-            return new IdentityMarshallerCodeGenerator(ColumnAccessCodeGenerator.createAccessor(mode, null, firstColIdx));
+            throw new IgniteInternalException("Unsupported mapper [class=" + cls.getName()
+                    + ", mapper=" + mapper.getClass().getSimpleName() + ']');
         }
     }
 
@@ -296,15 +411,19 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
         columns = schema.valueColumns();
         if (columns.hasVarlengthColumns()) {
             final Variable tmp = scope.createTempVariable(Object.class);
+            final BytecodeBlock valBlock = new BytecodeBlock();
 
             for (int i = columns.firstVarlengthColumn(); i < columns.length(); i++) {
                 assert !columns.column(i).type().spec().fixedLength();
 
-                body.append(valMarsh.getValue(classDef.getType(), scope.getVariable("val"), i)).putVariable(tmp);
-                body.append(new IfStatement().condition(BytecodeExpressions.isNotNull(tmp)).ifTrue(
+                valBlock.append(valMarsh.getValue(classDef.getType(), scope.getVariable("val"), i)).putVariable(tmp);
+                valBlock.append(new IfStatement().condition(BytecodeExpressions.isNotNull(tmp)).ifTrue(
                         new BytecodeBlock().append(varlenValueCols.increment()))
                 );
             }
+
+            // Value is null when only the key part is marshalled.
+            body.append(new IfStatement().condition(BytecodeExpressions.isNotNull(scope.getVariable("val"))).ifTrue(valBlock));
         }
 
         body.append(BytecodeExpressions.newInstance(RowAssembler.class,
@@ -318,32 +437,52 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
     /**
      * Generates marshal method.
      *
-     * @param classDef Marshaller class definition.
-     * @param keyMarsh Key marshaller code generator.
-     * @param valMarsh Value marshaller code generator.
+     * <p>The same argument name for key and value declares a single argument, which is the case for record marshallers,
+     * and {@code null} value marshaller means that only the key part is written.
+     *
+     * @param classDef   Marshaller class definition.
+     * @param methodName Method name.
+     * @param keyMarsh   Key marshaller code generator.
+     * @param valMarsh   Value marshaller code generator or {@code null} to marshal the key part only.
+     * @param keyArgName Key argument name.
+     * @param valArgName Value argument name or {@code null} to marshal the key part only.
      */
     private void generateMarshalMethod(
             ClassDefinition classDef,
+            String methodName,
             MarshallerCodeGenerator keyMarsh,
-            MarshallerCodeGenerator valMarsh
+            @Nullable MarshallerCodeGenerator valMarsh,
+            String keyArgName,
+            @Nullable String valArgName
     ) {
+        assert (valMarsh == null) == (valArgName == null);
+
+        final List<Parameter> args = new ArrayList<>(2);
+
+        args.add(Parameter.arg(keyArgName, Object.class));
+
+        if (valArgName != null && !valArgName.equals(keyArgName)) {
+            args.add(Parameter.arg(valArgName, Object.class));
+        }
+
         final MethodDefinition methodDef = classDef.declareMethod(
                 EnumSet.of(Access.PUBLIC),
-                "marshal",
+                methodName,
                 ParameterizedType.type(Row.class),
-                Parameter.arg("key", Object.class),
-                Parameter.arg("val", Object.class)
+                args
         ).addException(MarshallerException.class);
 
         methodDef.declareAnnotation(Override.class);
 
-        final Variable asm = methodDef.getScope().createTempVariable(RowAssembler.class);
+        final Scope scope = methodDef.getScope();
+        final Variable key = scope.getVariable(keyArgName);
+        final Variable asm = scope.createTempVariable(RowAssembler.class);
 
         methodDef.getBody()
-                .append(asm.set(methodDef.getScope().getThis().invoke("createAssembler",
+                .append(asm.set(scope.getThis().invoke("createAssembler",
                         RowAssembler.class,
-                        methodDef.getScope().getVariable("key"),
-                        methodDef.getScope().getVariable("val"))))
+                        key,
+                        valArgName == null ? BytecodeExpressions.constantNull(Object.class) : scope.getVariable(valArgName))))
                 .append(new IfStatement().condition(BytecodeExpressions.isNull(asm)).ifTrue(
                         new BytecodeBlock()
                                 .append(BytecodeExpressions.newInstance(IgniteInternalException.class,
@@ -352,19 +491,13 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
                 ));
 
         final BytecodeBlock block = new BytecodeBlock();
+        block.append(keyMarsh.marshallObject(classDef.getType(), asm, key));
+
+        if (valMarsh != null) {
+            block.append(valMarsh.marshallObject(classDef.getType(), asm, scope.getVariable(valArgName)));
+        }
+
         block.append(
-                        keyMarsh.marshallObject(
-                                classDef.getType(),
-                                asm,
-                                methodDef.getScope().getVariable("key"))
-                )
-                .append(
-                        valMarsh.marshallObject(
-                                classDef.getType(),
-                                asm,
-                                methodDef.getScope().getVariable("val"))
-                )
-                .append(
                         BytecodeExpressions.newInstance(Row.class,
                                 methodDef.getThis().getField("schema", SchemaDescriptor.class),
                                 BytecodeExpressions.newInstance(ByteBufferRow.class,
@@ -372,7 +505,7 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
                 )
                 .retObject();
 
-        final Variable ex = methodDef.getScope().createTempVariable(Throwable.class);
+        final Variable ex = scope.createTempVariable(Throwable.class);
         methodDef.getBody().append(new TryCatch(
                 block,
                 new BytecodeBlock()
@@ -426,12 +559,47 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
 
         methodDef.declareAnnotation(Override.class);
 
+        final Variable row = methodDef.getScope().getVariable("row");
         final Variable obj = methodDef.getScope().declareVariable(Object.class, "obj");
         final Variable objFactory = methodDef.getScope().declareVariable("factory",
                 methodDef.getBody(), methodDef.getThis().getField("valFactory", ObjectFactory.class));
 
         methodDef.getBody()
-                .append(valMarsh.unmarshallObject(classDef.getType(), methodDef.getScope().getVariable("row"), obj, objFactory))
+                .append(new IfStatement().condition(BytecodeExpressions.not(row.invoke("hasValue", boolean.class))).ifTrue(
+                        new BytecodeBlock().append(BytecodeExpressions.constantNull(Object.class)).retObject()))
+                .append(valMarsh.unmarshallObject(classDef.getType(), row, obj, objFactory))
+                .append(obj)
+                .retObject();
+    }
+
+    /**
+     * Generates unmarshal method of a record marshaller.
+     *
+     * @param classDef Marshaller class definition.
+     * @param keyMarsh Key columns code generator.
+     * @param valMarsh Value columns code generator.
+     */
+    private void generateUnmarshalRecordMethod(
+            ClassDefinition classDef,
+            ObjectMarshallerCodeGenerator keyMarsh,
+            ObjectMarshallerCodeGenerator valMarsh
+    ) {
+        final MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PUBLIC),
+                "unmarshal",
+                ParameterizedType.type(Object.class),
+                Parameter.arg("row", Row.class)
+        ).addException(MarshallerException.class);
+
+        methodDef.declareAnnotation(Override.class);
+
+        final Variable row = methodDef.getScope().getVariable("row");
+        final Variable obj = methodDef.getScope().declareVariable(Object.class, "obj");
+
+        methodDef.getBody()
+                .append(obj.set(methodDef.getThis().getField("keyFactory", ObjectFactory.class).invoke("create", Object.class)))
+                .append(keyMarsh.unmarshallFields(classDef.getType(), row, obj))
+                .append(valMarsh.unmarshallFields(classDef.getType(), row, obj))
                 .append(obj)
                 .retObject();
     }
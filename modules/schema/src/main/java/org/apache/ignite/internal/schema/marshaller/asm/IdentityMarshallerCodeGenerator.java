@@ -20,6 +20,8 @@ package org.apache.ignite.internal.schema.marshaller.asm;
 import com.facebook.presto.bytecode.BytecodeNode;
 import com.facebook.presto.bytecode.ParameterizedType;
 import com.facebook.presto.bytecode.Variable;
+import com.facebook.presto.bytecode.control.IfStatement;
+import com.facebook.presto.bytecode.expression.BytecodeExpression;
 import com.facebook.presto.bytecode.expression.BytecodeExpressions;
 import org.apache.ignite.internal.schema.row.RowAssembler;
 
@@ -30,13 +32,18 @@ class IdentityMarshallerCodeGenerator implements MarshallerCodeGenerator {
     /** Object field access expression generator. */
     private final ColumnAccessCodeGenerator columnAccessor;
 
+    /** Whether the column is nullable. */
+    private final boolean nullable;
+
     /**
      * Constructor.
      *
      * @param columnAccessor Row column code generator.
+     * @param nullable       Whether the column is nullable.
      */
-    IdentityMarshallerCodeGenerator(ColumnAccessCodeGenerator columnAccessor) {
+    IdentityMarshallerCodeGenerator(ColumnAccessCodeGenerator columnAccessor, boolean nullable) {
         this.columnAccessor = columnAccessor;
+        this.nullable = nullable;
     }
 
     /** {@inheritDoc} */
@@ -48,7 +55,19 @@ class IdentityMarshallerCodeGenerator implements MarshallerCodeGenerator {
     /** {@inheritDoc} */
     @Override
     public BytecodeNode marshallObject(ParameterizedType marshallerClass, Variable asm, Variable obj) {
-        return asm.invoke(columnAccessor.writeMethodName(), RowAssembler.class, obj.cast(columnAccessor.writeArgType()));
+        BytecodeExpression marshallNonNulExpr = asm.invoke(
+                columnAccessor.writeMethodName(),
+                RowAssembler.class,
+                obj.cast(columnAccessor.writeArgType())
+        );
+
+        if (!nullable) {
+            return marshallNonNulExpr;
+        }
+
+        return new IfStatement().condition(BytecodeExpressions.isNull(obj))
+                .ifTrue(asm.invoke("appendNull", RowAssembler.class))
+                .ifFalse(marshallNonNulExpr);
     }
 
     /** {@inheritDoc} */
@@ -37,10 +37,12 @@ import java.util.EnumSet;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.Columns;
 import org.apache.ignite.internal.schema.marshaller.MarshallerUtil;
 import org.apache.ignite.internal.schema.row.RowAssembler;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.table.mapper.PojoMapper;
 
 /**
  * Generates marshaller methods code.
@@ -55,9 +57,18 @@ class ObjectMarshallerCodeGenerator implements MarshallerCodeGenerator {
     /** Object field access expression generators. */
     private final ColumnAccessCodeGenerator[] columnAccessors;
 
+    /**
+     * Constructor.
+     *
+     * @param columns     Columns that the target class is mapped to.
+     * @param targetClass Target class.
+     * @param mapper      Target class mapper.
+     * @param firstColIdx First column absolute index in schema.
+     */
     ObjectMarshallerCodeGenerator(
             Columns columns,
             Class<?> targetClass,
+            PojoMapper<?> mapper,
             int firstColIdx
     ) {
         this.columns = columns;
@@ -65,13 +76,19 @@ class ObjectMarshallerCodeGenerator implements MarshallerCodeGenerator {
         columnAccessors = new ColumnAccessCodeGenerator[columns.length()];
 
         Map<String, Field> flds = Arrays.stream(targetClass.getDeclaredFields())
-                .collect(Collectors.toMap(f -> f.getName().toUpperCase(), Function.identity()));
+                .collect(Collectors.toMap(Field::getName, Function.identity()));
 
         for (int i = 0; i < columns.length(); i++) {
-            final Field field = flds.get(columns.column(i).name());
+            final Column col = columns.column(i);
+            final String fieldName = mapper.fieldForColumn(col.name());
+            final Field field = fieldName == null ? null : flds.get(fieldName);
 
             if (field == null) {
-                throw new IgniteInternalException("Field not found for column [col=" + columns.column(i) + ']');
+                throw new IgniteInternalException("Field not found for column [col=" + col + ']');
+            }
+
+            if (mapper.converterForColumn(col.name()) != null) {
+                throw new IgniteInternalException("Type converters are not supported [col=" + col + ']');
             }
 
             columnAccessors[i] = ColumnAccessCodeGenerator.createAccessor(MarshallerUtil.mode(field.getType()), field.getName(),
@@ -128,9 +145,21 @@ class ObjectMarshallerCodeGenerator implements MarshallerCodeGenerator {
     /** {@inheritDoc} */
     @Override
     public BytecodeBlock unmarshallObject(ParameterizedType marshallerClass, Variable row, Variable objVar, Variable objFactory) {
-        final BytecodeBlock block = new BytecodeBlock();
+        return new BytecodeBlock()
+                .append(objVar.set(objFactory.invoke("create", Object.class)))
+                .append(unmarshallFields(marshallerClass, row, objVar));
+    }
 
-        block.append(objVar.set(objFactory.invoke("create", Object.class)));
+    /**
+     * Returns a code that reads the mapped columns of a {@code row} into the fields of an already created object.
+     *
+     * @param marshallerClass Marshaller class.
+     * @param row             Row.
+     * @param objVar          Target object variable.
+     * @return Unmarshall fields code.
+     */
+    BytecodeBlock unmarshallFields(ParameterizedType marshallerClass, Variable row, Variable objVar) {
+        final BytecodeBlock block = new BytecodeBlock();
 
         for (int i = 0; i < columns.length(); i++) {
             final ColumnAccessCodeGenerator columnAccessor = columnAccessors[i];
@@ -29,6 +29,7 @@ import com.facebook.presto.bytecode.ParameterizedType;
 import com.facebook.presto.bytecode.Variable;
 import com.facebook.presto.bytecode.expression.BytecodeExpressions;
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +38,7 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
+import org.apache.ignite.internal.schema.marshaller.RecordMarshaller;
 import org.apache.ignite.internal.schema.marshaller.asm.AsmMarshallerGenerator;
 import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
 import org.apache.ignite.internal.schema.row.Row;
@@ -75,6 +77,9 @@ public class SerializerBenchmarkTest {
     /** Key-value marshaller. */
     private KvMarshaller<Object, Object> marshaller;
 
+    /** Record marshaller, {@code null} if there are not enough fields to map both key and value columns. */
+    private RecordMarshaller<Object> recMarshaller;
+
     /** Test object factory. */
     private Factory<?> objectFactory;
 
@@ -89,6 +94,9 @@ public class SerializerBenchmarkTest {
     /** Schema. */
     private SchemaDescriptor schema;
 
+    /** Record schema. */
+    private SchemaDescriptor recSchema;
+
     /**
      * Benchmark run method.
      */
@@ -132,6 +140,16 @@ public class SerializerBenchmarkTest {
                 : new AsmMarshallerGenerator().create(schema, Long.class, valClass);
 
         this.marshaller = (KvMarshaller<Object, Object>) marshaller;
+
+        if (fieldsCount > 1) {
+            Column[] cols = mapFieldsToColumns(valClass);
+
+            recSchema = new SchemaDescriptor(1, Arrays.copyOf(cols, 1), Arrays.copyOfRange(cols, 1, cols.length));
+
+            recMarshaller = ("Java".equals(serializerName))
+                    ? new ReflectionMarshallerFactory().create(recSchema, (Class<Object>) valClass)
+                    : new AsmMarshallerGenerator().create(recSchema, (Class<Object>) valClass);
+        }
     }
 
     /**
@@ -154,6 +172,26 @@ public class SerializerBenchmarkTest {
         bh.consume(restoredKey);
     }
 
+    /**
+     * Measure record serialization-deserialization operation cost.
+     *
+     * @param bh Black hole.
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public void measureRecordSerializeDeserializeCost(Blackhole bh) throws Exception {
+        if (recMarshaller == null) {
+            return;
+        }
+
+        Object rec = objectFactory.create();
+        BinaryRow row = recMarshaller.marshal(rec);
+
+        Object restoredRec = recMarshaller.unmarshal(new Row(recSchema, row));
+
+        bh.consume(restoredRec);
+    }
+
     /**
      * Map fields to columns.
      *
@@ -162,7 +200,7 @@ public class SerializerBenchmarkTest {
      */
     private Column[] mapFieldsToColumns(Class<?> cls) {
         if (cls == Long.class) {
-            return new Column[]{new Column("col0", INT64, true)};
+            return new Column[]{new Column("COL0", INT64, true)};
         }
 
         final Field[] fields = cls.getDeclaredFields();
@@ -171,7 +209,7 @@ public class SerializerBenchmarkTest {
         for (int i = 0; i < fields.length; i++) {
             assert fields[i].getType() == Long.TYPE : "Only 'long' field type is supported.";
 
-            cols[i] = new Column("col" + i, INT64, false);
+            cols[i] = new Column("COL" + i, INT64, false);
         }
 
         return cols;
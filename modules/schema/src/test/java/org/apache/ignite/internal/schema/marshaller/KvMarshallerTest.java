@@ -143,6 +143,24 @@ public class KvMarshallerTest {
                 ));
     }
 
+    @ParameterizedTest
+    @MethodSource("marshallerFactoryProvider")
+    public void nullValueOfBasicType(MarshallerFactory factory) throws MarshallerException {
+        Column[] keyCols = new Column[]{new Column("key", INT64, false)};
+        Column[] valCols = new Column[]{new Column("val", INT64, true)};
+
+        SchemaDescriptor schema = new SchemaDescriptor(1, keyCols, valCols);
+
+        KvMarshaller<Long, Long> marshaller = factory.create(schema,
+                Mapper.of(Long.class, "\"key\""),
+                Mapper.of(Long.class, "\"val\""));
+
+        BinaryRow row = marshaller.marshal(1L, null);
+
+        assertEquals(1L, marshaller.unmarshalKey(new Row(schema, row)));
+        assertNull(marshaller.unmarshalValue(new Row(schema, row)));
+    }
+
     @ParameterizedTest
     @MethodSource("marshallerFactoryProvider")
     public void pojoWithFieldsOfAllTypes(MarshallerFactory factory) throws MarshallerException {
@@ -32,6 +32,7 @@ import static org.apache.ignite.internal.schema.NativeTypes.timestamp;
 import static org.apache.ignite.internal.schema.SchemaManager.INITIAL_SCHEMA_VERSION;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -44,6 +45,7 @@ import java.util.BitSet;
 import java.util.List;
 import java.util.Random;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ByteBufferRow;
 import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.NativeType;
@@ -79,7 +81,57 @@ public class UpgradingRowAdapterTest {
 
     @Test
     public void testVariousColumnTypes() {
-        SchemaDescriptor schema = new SchemaDescriptor(1,
+        SchemaDescriptor schema = schema();
+        SchemaDescriptor schema2 = schemaWithAddedColumn();
+
+        int addedColumnIndex = schema2.column("added").schemaIndex();
+
+        List<Object> values = generateRowValues(schema);
+
+        ByteBufferRow row = new ByteBufferRow(serializeValuesToRow(schema, values));
+
+        // Validate row.
+        validateRow(values, new SchemaRegistryImpl(v -> v == 1 ? schema : schema2, () -> INITIAL_SCHEMA_VERSION, schema), row);
+
+        // Validate upgraded row.
+        values.add(addedColumnIndex, null);
+
+        validateRow(values, new SchemaRegistryImpl(v -> v == 1 ? schema : schema2, () -> schema2.version(), schema2), row);
+    }
+
+    @Test
+    public void testUpgrade() {
+        SchemaDescriptor schema = schema();
+        SchemaDescriptor schema2 = schemaWithAddedColumn();
+
+        List<Object> values = generateRowValues(schema);
+
+        ByteBufferRow row = new ByteBufferRow(serializeValuesToRow(schema, values));
+
+        var schemaRegistry = new SchemaRegistryImpl(v -> v == 1 ? schema : schema2, () -> schema2.version(), schema2);
+
+        BinaryRow upgradedRow = schemaRegistry.upgrade(row);
+
+        assertEquals(schema2.version(), upgradedRow.schemaVersion());
+
+        values.add(schema2.column("added").schemaIndex(), null);
+
+        validateRow(values, schemaRegistry, new ByteBufferRow(upgradedRow.bytes()));
+
+        // Rows of the latest schema are not converted again.
+        assertSame(upgradedRow, schemaRegistry.upgrade(upgradedRow));
+
+        // Rows of the latest schema are not converted by a registry that has no newer schemas.
+        assertSame(row, new SchemaRegistryImpl(v -> schema, () -> INITIAL_SCHEMA_VERSION, schema).upgrade(row));
+    }
+
+    /**
+     * Creates the initial schema.
+     *
+     * @return Schema of version 1.
+     */
+    private static SchemaDescriptor schema() {
+        return new SchemaDescriptor(1,
                 new Column[]{new Column("keyUuidCol", NativeTypes.UUID, false)},
                 new Column[]{
                         new Column("valByteCol", INT8, true),
@@ -99,7 +151,14 @@ public class UpgradingRowAdapterTest {
                         new Column("valDecimalCol", NativeTypes.decimalOf(25, 5), false),
                 }
         );
+    }
 
+    /**
+     * Creates the schema of version 2, which is the initial schema with a column added.
+     *
+     * @return Schema of version 2.
+     */
+    private static SchemaDescriptor schemaWithAddedColumn() {
         SchemaDescriptor schema2 = new SchemaDescriptor(2,
                 new Column[]{new Column("keyUuidCol", NativeTypes.UUID, false)},
                 new Column[]{
@@ -146,17 +205,7 @@ public class UpgradingRowAdapterTest {
             }
         });
 
-        List<Object> values = generateRowValues(schema);
-
-        ByteBufferRow row = new ByteBufferRow(serializeValuesToRow(schema, values));
-
-        // Validate row.
-        validateRow(values, new SchemaRegistryImpl(v -> v == 1 ? schema : schema2, () -> INITIAL_SCHEMA_VERSION, schema), row);
-
-        // Validate upgraded row.
-        values.add(addedColumnIndex, null);
-
-        validateRow(values, new SchemaRegistryImpl(v -> v == 1 ? schema : schema2, () -> schema2.version(), schema2), row);
+        return schema2;
     }
 
     private void validateRow(List<Object> values, SchemaRegistryImpl schemaRegistry, ByteBufferRow binaryRow) {
@@ -22,6 +22,7 @@ import static org.apache.ignite.lang.ErrorGroups.Sql.QUERY_INVALID_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Sql.SESSION_NOT_FOUND_ERR;
 import static org.apache.ignite.lang.IgniteStringFormatter.format;
 
+import com.codahale.metrics.MetricRegistry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -108,6 +109,9 @@ public class SqlQueryProcessor implements QueryProcessor {
 
     private final List<LifecycleAware> services = new ArrayList<>();
 
+    /** Registry of the SQL engine metrics. */
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+
     private volatile QueryTaskExecutor taskExecutor;
 
     private volatile ExecutionService executionSrvc;
@@ -145,7 +149,8 @@ public class SqlQueryProcessor implements QueryProcessor {
                 nodeName,
                 PLAN_CACHE_SIZE,
                 dataStorageManager,
-                dataStorageFieldsSupplier.get()
+                dataStorageFieldsSupplier.get(),
+                metricRegistry
         ));
 
         var msgSrvc = registerService(new MessageServiceImpl(
@@ -180,6 +185,8 @@ public class SqlQueryProcessor implements QueryProcessor {
                 dataStorageManager
         ));
 
+        sqlSchemaManager.registerListener(executionSrvc);
+
         clusterSrvc.topologyService().addEventHandler(executionSrvc);
         clusterSrvc.topologyService().addEventHandler(mailboxRegistry);
 
@@ -271,6 +278,13 @@ public class SqlQueryProcessor implements QueryProcessor {
         }
     }
 
+    /**
+     * Returns the registry of the SQL engine metrics, e.g. the query plan cache hits and misses.
+     */
+    public MetricRegistry metricRegistry() {
+        return metricRegistry;
+    }
+
     private <T extends LifecycleAware> T registerService(T service) {
         services.add(service);
 
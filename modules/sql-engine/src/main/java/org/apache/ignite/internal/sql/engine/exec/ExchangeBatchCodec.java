@@ -0,0 +1,474 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.binarytuple.BinaryTupleReader;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.lang.IgniteSystemProperties;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Binary encoding of the rows of exchange batches.
+ *
+ * <p>Rows sent from an {@code Outbox} to an {@code Inbox} are arrays of internal SQL values. Instead of marshalling them as user
+ * objects, with type information written for every value, a batch is encoded as a header with a single type code per column, followed
+ * by the rows encoded as binary tuples. Batches bigger than {@link #COMPRESSION_THRESHOLD} bytes are compressed.
+ *
+ * <p>Column types are derived from the values of the batch, so the receiving side does not need to know the row type of the exchange.
+ * A batch can not be encoded if a column contains values of different or unsupported classes, such batches are sent as is.
+ */
+public final class ExchangeBatchCodec {
+    /** Minimal size of encoded rows to compress them, {@code 0} disables compression. */
+    public static final int COMPRESSION_THRESHOLD =
+            IgniteSystemProperties.getInteger("IGNITE_SQL_EXCHANGE_COMPRESSION_THRESHOLD", 64 * 1024);
+
+    /** Flag of compressed batches. */
+    private static final byte COMPRESSED_FLAG = 1;
+
+    /** Batch header size: flags, number of rows and number of columns. */
+    private static final int HEADER_SIZE = 1 + Integer.BYTES + Integer.BYTES;
+
+    /** Column types. */
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte INT8 = 2;
+    private static final byte INT16 = 3;
+    private static final byte INT32 = 4;
+    private static final byte INT64 = 5;
+    private static final byte FLOAT = 6;
+    private static final byte DOUBLE = 7;
+    private static final byte DECIMAL = 8;
+    private static final byte STRING = 9;
+    private static final byte BYTE_STRING = 10;
+    private static final byte BYTES = 11;
+    private static final byte UUID_TYPE = 12;
+
+    /** Deflater for the compression of batches. */
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+
+    /** Inflater for the decompression of batches. */
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private ExchangeBatchCodec() {
+        // No-op.
+    }
+
+    /**
+     * Encodes rows of a batch.
+     *
+     * @param rows Rows.
+     * @return Encoded rows or {@code null} if the rows can not be encoded.
+     */
+    public static byte @Nullable [] encode(List<?> rows) {
+        if (rows.isEmpty() || !(rows.get(0) instanceof Object[])) {
+            return null;
+        }
+
+        int columns = ((Object[]) rows.get(0)).length;
+
+        byte[] types = new byte[columns];
+
+        for (Object row : rows) {
+            if (!(row instanceof Object[]) || ((Object[]) row).length != columns) {
+                return null;
+            }
+
+            Object[] values = (Object[]) row;
+
+            for (int i = 0; i < columns; i++) {
+                if (values[i] == null) {
+                    continue;
+                }
+
+                byte type = type(values[i]);
+
+                if (type == NULL || (types[i] != NULL && types[i] != type)) {
+                    return null;
+                }
+
+                types[i] = type;
+            }
+        }
+
+        ByteBuffer[] tuples = new ByteBuffer[rows.size()];
+
+        int size = HEADER_SIZE + columns;
+
+        for (int r = 0; r < tuples.length; r++) {
+            tuples[r] = encodeRow((Object[]) rows.get(r), types);
+
+            size += Integer.BYTES + tuples[r].remaining();
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+
+        buf.put((byte) 0);
+        buf.putInt(rows.size());
+        buf.putInt(columns);
+        buf.put(types);
+
+        for (ByteBuffer tuple : tuples) {
+            buf.putInt(tuple.remaining());
+            buf.put(tuple);
+        }
+
+        byte[] bytes = buf.array();
+
+        if (COMPRESSION_THRESHOLD > 0 && bytes.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = compress(bytes);
+
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Decodes rows of a batch.
+     *
+     * @param bytes Rows encoded by {@link #encode(List)}.
+     * @return Rows.
+     */
+    public static List<Object> decode(byte[] bytes) {
+        if ((bytes[0] & COMPRESSED_FLAG) != 0) {
+            bytes = decompress(bytes);
+        }
+
+        ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        buf.position(1);
+
+        int rowCount = buf.getInt();
+        int columns = buf.getInt();
+
+        byte[] types = new byte[columns];
+
+        buf.get(types);
+
+        List<Object> rows = new ArrayList<>(rowCount);
+
+        for (int r = 0; r < rowCount; r++) {
+            int len = buf.getInt();
+
+            ByteBuffer tuple = buf.slice().limit(len).order(ByteOrder.LITTLE_ENDIAN);
+
+            rows.add(decodeRow(new BinaryTupleReader(columns, tuple), types));
+
+            buf.position(buf.position() + len);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Returns the type code of a value, {@link #NULL} if values of its class are not supported.
+     */
+    private static byte type(Object val) {
+        Class<?> cls = val.getClass();
+
+        if (cls == Integer.class) {
+            return INT32;
+        } else if (cls == Long.class) {
+            return INT64;
+        } else if (cls == String.class) {
+            return STRING;
+        } else if (cls == BigDecimal.class) {
+            return DECIMAL;
+        } else if (cls == Double.class) {
+            return DOUBLE;
+        } else if (cls == Boolean.class) {
+            return BOOLEAN;
+        } else if (cls == ByteString.class) {
+            return BYTE_STRING;
+        } else if (cls == Float.class) {
+            return FLOAT;
+        } else if (cls == Short.class) {
+            return INT16;
+        } else if (cls == Byte.class) {
+            return INT8;
+        } else if (cls == UUID.class) {
+            return UUID_TYPE;
+        } else if (cls == byte[].class) {
+            return BYTES;
+        } else {
+            return NULL;
+        }
+    }
+
+    private static ByteBuffer encodeRow(Object[] row, byte[] types) {
+        BinaryTupleBuilder builder = BinaryTupleBuilder.create(row.length, true, maxValueSize(row, types));
+
+        for (int i = 0; i < row.length; i++) {
+            Object val = row[i];
+
+            if (val == null) {
+                builder.appendNull();
+
+                continue;
+            }
+
+            switch (types[i]) {
+                case BOOLEAN:
+                    builder.appendByte((byte) ((Boolean) val ? 1 : 0));
+                    break;
+                case INT8:
+                    builder.appendByte((Byte) val);
+                    break;
+                case INT16:
+                    builder.appendShort((Short) val);
+                    break;
+                case INT32:
+                    builder.appendInt((Integer) val);
+                    break;
+                case INT64:
+                    builder.appendLong((Long) val);
+                    break;
+                case FLOAT:
+                    builder.appendFloat((Float) val);
+                    break;
+                case DOUBLE:
+                    builder.appendDouble((Double) val);
+                    break;
+                case DECIMAL:
+                    builder.appendBytesNotNull(encodeDecimal((BigDecimal) val));
+                    break;
+                case STRING:
+                    builder.appendStringNotNull((String) val);
+                    break;
+                case BYTE_STRING:
+                    builder.appendBytesNotNull(((ByteString) val).getBytes());
+                    break;
+                case BYTES:
+                    builder.appendBytesNotNull((byte[]) val);
+                    break;
+                case UUID_TYPE:
+                    builder.appendUuidNotNull((UUID) val);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected column type: " + types[i]);
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the upper bound of the size of the row values in a binary tuple, which lets the builder allocate the buffer and choose the
+     * size of the offset table upfront.
+     */
+    private static int maxValueSize(Object[] row, byte[] types) {
+        int size = 0;
+
+        for (int i = 0; i < row.length; i++) {
+            Object val = row[i];
+
+            if (val == null) {
+                continue;
+            }
+
+            switch (types[i]) {
+                case BOOLEAN:
+                case INT8:
+                    size += Byte.BYTES;
+                    break;
+                case INT16:
+                    size += Short.BYTES;
+                    break;
+                case INT32:
+                case FLOAT:
+                    size += Integer.BYTES;
+                    break;
+                case INT64:
+                case DOUBLE:
+                    size += Long.BYTES;
+                    break;
+                case DECIMAL:
+                    size += Integer.BYTES + ((BigDecimal) val).unscaledValue().bitLength() / Byte.SIZE + 1;
+                    break;
+                case STRING:
+                    // A UTF-16 char takes at most 3 bytes in UTF-8.
+                    size += ((String) val).length() * 3;
+                    break;
+                case BYTE_STRING:
+                    size += ((ByteString) val).length();
+                    break;
+                case BYTES:
+                    size += ((byte[]) val).length;
+                    break;
+                case UUID_TYPE:
+                    size += 2 * Long.BYTES;
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected column type: " + types[i]);
+            }
+        }
+
+        return size;
+    }
+
+    private static Object[] decodeRow(BinaryTupleReader reader, byte[] types) {
+        Object[] row = new Object[types.length];
+
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == NULL || reader.hasNullValue(i)) {
+                continue;
+            }
+
+            switch (types[i]) {
+                case BOOLEAN:
+                    row[i] = reader.byteValue(i) != 0;
+                    break;
+                case INT8:
+                    row[i] = reader.byteValue(i);
+                    break;
+                case INT16:
+                    row[i] = reader.shortValue(i);
+                    break;
+                case INT32:
+                    row[i] = reader.intValue(i);
+                    break;
+                case INT64:
+                    row[i] = reader.longValue(i);
+                    break;
+                case FLOAT:
+                    row[i] = reader.floatValue(i);
+                    break;
+                case DOUBLE:
+                    row[i] = reader.doubleValue(i);
+                    break;
+                case DECIMAL:
+                    row[i] = decodeDecimal(reader.bytesValue(i));
+                    break;
+                case STRING:
+                    row[i] = reader.stringValue(i);
+                    break;
+                case BYTE_STRING:
+                    row[i] = new ByteString(reader.bytesValue(i));
+                    break;
+                case BYTES:
+                    row[i] = reader.bytesValue(i);
+                    break;
+                case UUID_TYPE:
+                    row[i] = reader.uuidValue(i);
+                    break;
+                default:
+                    throw new IgniteInternalException("Unexpected column type: " + types[i]);
+            }
+        }
+
+        return row;
+    }
+
+    /**
+     * Encodes a decimal as its scale followed by the unscaled value, the scale may differ from value to value.
+     */
+    private static byte[] encodeDecimal(BigDecimal val) {
+        byte[] unscaled = val.unscaledValue().toByteArray();
+
+        return ByteBuffer.allocate(Integer.BYTES + unscaled.length).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(val.scale())
+                .put(unscaled)
+                .array();
+    }
+
+    private static BigDecimal decodeDecimal(byte[] bytes) {
+        int scale = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getInt();
+
+        return new BigDecimal(new BigInteger(bytes, Integer.BYTES, bytes.length - Integer.BYTES), scale);
+    }
+
+    /**
+     * Compresses an encoded batch, the header is kept, and the size of the uncompressed rows is written after it.
+     *
+     * @return Compressed batch or {@code null} if the compression does not reduce its size.
+     */
+    private static byte @Nullable [] compress(byte[] bytes) {
+        Deflater deflater = DEFLATER.get();
+
+        try {
+            deflater.setInput(bytes, 1, bytes.length - 1);
+            deflater.finish();
+
+            // Skip compression if it would not save at least 1/8 of the size.
+            byte[] out = new byte[bytes.length - (bytes.length >>> 3)];
+
+            out[0] = COMPRESSED_FLAG;
+
+            int len = 1 + Integer.BYTES;
+
+            while (!deflater.finished() && len < out.length) {
+                len += deflater.deflate(out, len, out.length - len);
+            }
+
+            if (!deflater.finished()) {
+                return null;
+            }
+
+            ByteBuffer.wrap(out, 1, Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(bytes.length - 1);
+
+            return Arrays.copyOf(out, len);
+        } finally {
+            deflater.reset();
+        }
+    }
+
+    private static byte[] decompress(byte[] bytes) {
+        Inflater inflater = INFLATER.get();
+
+        try {
+            int len = ByteBuffer.wrap(bytes, 1, Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).getInt();
+
+            byte[] out = new byte[1 + len];
+
+            inflater.setInput(bytes, 1 + Integer.BYTES, bytes.length - 1 - Integer.BYTES);
+
+            int off = 1;
+
+            while (off < out.length) {
+                int n = inflater.inflate(out, off, out.length - off);
+
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IgniteInternalException("Corrupted exchange batch");
+                }
+
+                off += n;
+            }
+
+            return out;
+        } catch (DataFormatException e) {
+            throw new IgniteInternalException("Corrupted exchange batch", e);
+        } finally {
+            inflater.reset();
+        }
+    }
+}
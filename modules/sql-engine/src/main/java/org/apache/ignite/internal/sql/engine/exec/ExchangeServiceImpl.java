@@ -83,6 +83,9 @@ public class ExchangeServiceImpl implements ExchangeService {
     @Override
     public <RowT> void sendBatch(String nodeId, UUID qryId, long fragmentId, long exchangeId, int batchId,
             boolean last, List<RowT> rows) throws IgniteInternalCheckedException {
+        // Batches of local exchanges are never serialized.
+        byte[] encodedRows = localNodeId.equals(nodeId) ? null : ExchangeBatchCodec.encode(rows);
+
         msgSrvc.send(
                 nodeId,
                 FACTORY.queryBatchMessage()
@@ -91,7 +94,8 @@ public class ExchangeServiceImpl implements ExchangeService {
                         .exchangeId(exchangeId)
                         .batchId(batchId)
                         .last(last)
-                        .rows(Commons.cast(rows))
+                        .rows(encodedRows == null ? Commons.cast(rows) : null)
+                        .encodedRows(encodedRows)
                         .build()
         );
     }
@@ -198,7 +202,9 @@ public class ExchangeServiceImpl implements ExchangeService {
 
         if (inbox != null) {
             try {
-                inbox.onBatchReceived(nodeId, msg.batchId(), msg.last(), Commons.cast(msg.rows()));
+                List<Object> rows = msg.encodedRows() != null ? ExchangeBatchCodec.decode(msg.encodedRows()) : msg.rows();
+
+                inbox.onBatchReceived(nodeId, msg.batchId(), msg.last(), Commons.cast(rows));
             } catch (Throwable e) {
                 inbox.onError(e);
 
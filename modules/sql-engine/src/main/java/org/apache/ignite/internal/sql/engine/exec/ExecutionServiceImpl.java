@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.sql.engine.externalize.RelJsonReader.fr
 import static org.apache.ignite.internal.sql.engine.util.Commons.FRAMEWORK_CONFIG;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -28,12 +29,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import org.apache.calcite.tools.Frameworks;
 import org.apache.ignite.internal.logger.IgniteLogger;
@@ -61,6 +65,7 @@ import org.apache.ignite.internal.sql.engine.prepare.FragmentPlan;
 import org.apache.ignite.internal.sql.engine.prepare.MappingQueryContext;
 import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
 import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
+import org.apache.ignite.internal.sql.engine.schema.SchemaUpdateListener;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -68,8 +73,10 @@ import org.apache.ignite.internal.sql.engine.util.TypeUtils;
 import org.apache.ignite.internal.storage.DataStorageManager;
 import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.util.Pair;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.lang.IgniteSystemProperties;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.network.TopologyEventHandler;
 import org.apache.ignite.network.TopologyService;
@@ -78,11 +85,14 @@ import org.jetbrains.annotations.Nullable;
 /**
  * ExecutionServiceImpl. TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
  */
-public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEventHandler {
+public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEventHandler, SchemaUpdateListener {
     private static final IgniteLogger LOG = Loggers.forClass(ExecutionServiceImpl.class);
 
     private static final SqlQueryMessagesFactory FACTORY = new SqlQueryMessagesFactory();
 
+    /** Maximum number of deserialized fragments received from the remote initiators to keep. */
+    public static final int FRAGMENT_CACHE_SIZE = IgniteSystemProperties.getInteger("IGNITE_SQL_FRAGMENT_CACHE_SIZE", 1024);
+
     private final MessageService msgSrvc;
 
     private final String locNodeId;
@@ -103,6 +113,18 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
     private final Map<UUID, DistributedQueryManager> queryManagerMap = new ConcurrentHashMap<>();
 
+    /** Deserialized fragments received from the initiators, by the local schema version and the hash of the serialized fragment. */
+    private final ConcurrentMap<FragmentCacheKey, FragmentPlan> fragmentCache = Caffeine.newBuilder()
+            .maximumSize(FRAGMENT_CACHE_SIZE)
+            .<FragmentCacheKey, FragmentPlan>build()
+            .asMap();
+
+    /** Local schema version, incremented on every schema change to invalidate the fragments cached under the previous schema. */
+    private final AtomicLong schemaVer = new AtomicLong();
+
+    /** Hashes of the fragments known to be cached on the remote nodes, by the remote node id. */
+    private final Map<String, Set<UUID>> remotelyCachedFragments = new ConcurrentHashMap<>();
+
     /**
      * Creates the execution services.
      *
@@ -206,8 +228,48 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                 .build();
     }
 
-    private QueryPlan prepareFragment(String jsonFragment) {
-        return new FragmentPlan(fromJson(sqlSchemaManager, jsonFragment));
+    /**
+     * Returns a plan of the fragment with the given hash, deserializing it if the fragment is not cached yet.
+     *
+     * @param hash Hash of the serialized fragment.
+     * @param jsonFragment Serialized fragment, or {@code null} if the initiator expects the fragment to be cached.
+     * @return Fragment plan, or {@code null} if the fragment was not serialized and is not found in the cache.
+     */
+    private @Nullable FragmentPlan prepareFragment(UUID hash, @Nullable String jsonFragment) {
+        FragmentCacheKey key = new FragmentCacheKey(schemaVer.get(), hash);
+
+        FragmentPlan plan = fragmentCache.get(key);
+
+        if (plan == null && jsonFragment != null) {
+            plan = new FragmentPlan(fromJson(sqlSchemaManager, jsonFragment));
+
+            fragmentCache.putIfAbsent(key, plan);
+        }
+
+        return plan;
+    }
+
+    /** Returns {@code true} if the fragment with the given hash is expected to be cached on the given node. */
+    private boolean isCachedOn(String nodeId, UUID fragmentHash) {
+        Set<UUID> cached = remotelyCachedFragments.get(nodeId);
+
+        return cached != null && cached.contains(fragmentHash);
+    }
+
+    /**
+     * Drops the cached fragments, as they may reference the tables of the previous schema version.
+     *
+     * @param changedTables Identifiers of the tables that were created, altered or dropped.
+     */
+    @Override
+    public void onSchemaUpdated(Set<UUID> changedTables) {
+        if (changedTables.isEmpty()) {
+            return;
+        }
+
+        schemaVer.incrementAndGet();
+
+        fragmentCache.clear();
     }
 
     /** {@inheritDoc} */
@@ -270,7 +332,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             return new DistributedQueryManager(ctx);
         });
 
-        queryManager.submitFragment(nodeId, msg.root(), msg.fragmentDescription());
+        queryManager.submitFragment(nodeId, msg.rootHash(), msg.root(), msg.fragmentDescription());
     }
 
     private void onMessage(String nodeId, QueryStartResponse msg) {
@@ -279,7 +341,11 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         DistributedQueryManager dqm = queryManagerMap.get(msg.queryId());
 
         if (dqm != null) {
-            dqm.acknowledgeFragment(nodeId, msg.fragmentId(), msg.error());
+            if (msg.fragmentNotCached()) {
+                dqm.resendFragment(nodeId, msg.fragmentId());
+            } else {
+                dqm.acknowledgeFragment(nodeId, msg.fragmentId(), msg.error());
+            }
         }
     }
 
@@ -324,6 +390,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
     /** {@inheritDoc} */
     @Override
     public void onDisappeared(ClusterNode member) {
+        remotelyCachedFragments.remove(member.id());
+
         queryManagerMap.values().forEach(qm -> qm.onNodeLeft(member.id()));
     }
 
@@ -352,6 +420,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
         private final Queue<AbstractNode<RowT>> localFragments = new LinkedBlockingQueue<>();
 
+        /** Fragments sent to the remote nodes along with their descriptions, by the fragment id. */
+        private final Map<Long, Pair<Fragment, FragmentDescription>> sentFragments = new ConcurrentHashMap<>();
+
         private final CompletableFuture<AsyncRootNode<RowT, List<Object>>> root;
 
         private volatile Long rootFragmentId = null;
@@ -383,20 +454,13 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         }
 
         private void sendFragment(String targetNodeId, Fragment fragment, FragmentDescription desc) throws IgniteInternalCheckedException {
-            QueryStartRequest req = FACTORY.queryStartRequest()
-                    .queryId(ctx.queryId())
-                    .fragmentId(fragment.fragmentId())
-                    .schema(ctx.schemaName())
-                    .root(fragment.serialized())
-                    .fragmentDescription(desc)
-                    .parameters(ctx.parameters())
-                    .build();
+            sentFragments.putIfAbsent(fragment.fragmentId(), new Pair<>(fragment, desc));
 
             var fut = new CompletableFuture<Void>();
             remoteFragmentInitCompletion.put(new RemoteFragmentKey(targetNodeId, fragment.fragmentId()), fut);
 
             try {
-                msgSrvc.send(targetNodeId, req);
+                sendStartRequest(targetNodeId, fragment, desc, !isCachedOn(targetNodeId, fragment.serializedHash()));
             } catch (Exception ex) {
                 fut.complete(null);
 
@@ -408,6 +472,70 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             }
         }
 
+        /**
+         * Sends the fragment to the remote node.
+         *
+         * @param targetNodeId Remote node id.
+         * @param fragment Fragment to send.
+         * @param desc Fragment description.
+         * @param withRoot Whether to send the serialized fragment, or only its hash if the fragment is cached on the remote node.
+         */
+        private void sendStartRequest(
+                String targetNodeId,
+                Fragment fragment,
+                FragmentDescription desc,
+                boolean withRoot
+        ) throws IgniteInternalCheckedException {
+            QueryStartRequest req = FACTORY.queryStartRequest()
+                    .queryId(ctx.queryId())
+                    .fragmentId(fragment.fragmentId())
+                    .schema(ctx.schemaName())
+                    .root(withRoot ? fragment.serialized() : null)
+                    .rootHash(fragment.serializedHash())
+                    .fragmentDescription(desc)
+                    .parameters(ctx.parameters())
+                    .build();
+
+            msgSrvc.send(targetNodeId, req);
+
+            if (withRoot) {
+                // The remote node caches the fragment once it is deserialized, so the subsequent queries may omit the fragment body.
+                // If the fragment is evicted meanwhile, the remote node asks to resend it.
+                remotelyCachedFragments.computeIfAbsent(targetNodeId, id -> Collections.newSetFromMap(Caffeine.newBuilder()
+                        .maximumSize(FRAGMENT_CACHE_SIZE)
+                        .<UUID, Boolean>build()
+                        .asMap())
+                ).add(fragment.serializedHash());
+            }
+        }
+
+        /**
+         * Sends the fragment to the remote node once again, this time along with the serialized fragment, since the remote node has not
+         * found the fragment in its cache.
+         *
+         * @param nodeId Remote node id.
+         * @param fragmentId Fragment id.
+         */
+        private void resendFragment(String nodeId, long fragmentId) {
+            Pair<Fragment, FragmentDescription> sent = sentFragments.get(fragmentId);
+
+            assert sent != null : "Unknown fragment [nodeId=" + nodeId + ", fragmentId=" + fragmentId + ']';
+
+            Fragment fragment = sent.getFirst();
+
+            Set<UUID> cached = remotelyCachedFragments.get(nodeId);
+
+            if (cached != null) {
+                cached.remove(fragment.serializedHash());
+            }
+
+            try {
+                sendStartRequest(nodeId, fragment, sent.getSecond(), true);
+            } catch (Exception ex) {
+                acknowledgeFragment(nodeId, fragmentId, ex);
+            }
+        }
+
         private void acknowledgeFragment(String nodeId, long fragmentId, @Nullable Throwable ex) {
             if (ex != null) {
                 Long rootFragmentId0 = rootFragmentId;
@@ -499,11 +627,22 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             );
         }
 
-        private void submitFragment(String initiatorNode, String fragmentString, FragmentDescription desc) {
+        private void submitFragment(String initiatorNode, UUID fragmentHash, @Nullable String fragmentString, FragmentDescription desc) {
             try {
-                QueryPlan qryPlan = prepareFragment(fragmentString);
+                FragmentPlan plan = prepareFragment(fragmentHash, fragmentString);
+
+                if (plan == null) {
+                    msgSrvc.send(
+                            initiatorNode,
+                            FACTORY.queryStartResponse()
+                                    .queryId(ctx.queryId())
+                                    .fragmentId(desc.fragmentId())
+                                    .fragmentNotCached(true)
+                                    .build()
+                    );
 
-                FragmentPlan plan = (FragmentPlan) qryPlan;
+                    return;
+                }
 
                 executeFragment(plan, createContext(initiatorNode, desc));
             } catch (Throwable ex) {
@@ -662,6 +801,41 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         }
     }
 
+    /**
+     * Key of the cached fragment.
+     */
+    private static class FragmentCacheKey {
+        private final long schemaVer;
+
+        private final UUID hash;
+
+        private FragmentCacheKey(long schemaVer, UUID hash) {
+            this.schemaVer = schemaVer;
+            this.hash = hash;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            FragmentCacheKey that = (FragmentCacheKey) o;
+
+            return schemaVer == that.schemaVer && hash.equals(that.hash);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(schemaVer) + hash.hashCode();
+        }
+    }
+
     @FunctionalInterface
     interface ImplementorFactory<RowT> {
         LogicalRelImplementor<RowT> create(ExecutionContext<RowT> ctx);
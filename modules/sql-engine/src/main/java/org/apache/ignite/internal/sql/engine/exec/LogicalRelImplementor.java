@@ -30,6 +30,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.Intersect;
@@ -341,7 +342,8 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
                 group.partitions(ctx.localNodeId()),
                 filters,
                 prj,
-                requiredColumns
+                requiredColumns,
+                condition == null ? null : RelOptUtil.InputFinder.bits(condition)
         );
     }
 
@@ -47,6 +47,7 @@ import org.apache.calcite.rel.RelFieldCollation;
 import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexCorrelVariable;
 import org.apache.calcite.rex.RexFieldAccess;
@@ -398,12 +399,40 @@ public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
         b.append(']');
 
         if (type != null) {
-            b.append(':').append(type.getFullTypeString());
+            b.append(':');
+
+            appendInputType(b, type);
         }
 
         return b.toString();
     }
 
+    /**
+     * Appends the digest of the input row type. Generated code accesses input fields by position only, so field names are
+     * left out of the digest, and identical expressions over differently named columns share the compiled class.
+     */
+    private static void appendInputType(StringBuilder b, RelDataType type) {
+        if (!type.isStruct()) {
+            b.append(type.getFullTypeString());
+
+            return;
+        }
+
+        b.append('(');
+
+        List<RelDataTypeField> fields = type.getFieldList();
+
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                b.append(", ");
+            }
+
+            b.append(fields.get(i).getType().getFullTypeString());
+        }
+
+        b.append(')');
+    }
+
     private abstract class AbstractScalarPredicate<T extends Scalar> {
         protected final T scalar;
 
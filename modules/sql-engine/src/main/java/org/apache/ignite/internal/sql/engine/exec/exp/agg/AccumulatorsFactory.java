@@ -57,8 +57,12 @@ import org.jetbrains.annotations.NotNull;
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
  */
 public class AccumulatorsFactory<RowT> implements Supplier<List<AccumulatorWrapper<RowT>>> {
+    private static final int CACHE_SIZE = 1024;
+
     private static final LoadingCache<Pair<RelDataType, RelDataType>, Function<Object, Object>> CACHE =
-            Caffeine.newBuilder().build(AccumulatorsFactory::cast0);
+            Caffeine.newBuilder()
+                    .maximumSize(CACHE_SIZE)
+                    .build(AccumulatorsFactory::cast0);
 
     /**
      * CastFunction interface.
@@ -29,6 +29,7 @@ import java.util.function.Predicate;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
@@ -52,7 +53,7 @@ public class TableScanNode<RowT> extends AbstractNode<RowT> {
 
     private final int[] parts;
 
-    private final Queue<RowT> inBuff = new LinkedBlockingQueue<>(inBufSize);
+    private final Queue<BinaryRow> inBuff = new LinkedBlockingQueue<>(inBufSize);
 
     private final @Nullable Predicate<RowT> filters;
 
@@ -61,6 +62,12 @@ public class TableScanNode<RowT> extends AbstractNode<RowT> {
     /** Participating columns. */
     private final @Nullable ImmutableBitSet requiredColumns;
 
+    /** Fields of the scanned row the filter depends on, or {@code null} if the row is decoded at once. */
+    private final @Nullable ImmutableBitSet filterFields;
+
+    /** Fields of the scanned row that are decoded only after the row has passed the filter. */
+    private final @Nullable ImmutableBitSet remainingFields;
+
     private int requested;
 
     private int waiting;
@@ -81,6 +88,8 @@ public class TableScanNode<RowT> extends AbstractNode<RowT> {
      * @param filters         Optional filter to filter out rows.
      * @param rowTransformer  Optional projection function.
      * @param requiredColumns Optional set of column of interest.
+     * @param filterFields    Optional set of fields of the scanned row the filter depends on. If specified, only
+     *                        these fields are decoded before the filter is applied.
      */
     public TableScanNode(
             ExecutionContext<RowT> ctx,
@@ -89,7 +98,8 @@ public class TableScanNode<RowT> extends AbstractNode<RowT> {
             int[] parts,
             @Nullable Predicate<RowT> filters,
             @Nullable Function<RowT, RowT> rowTransformer,
-            @Nullable ImmutableBitSet requiredColumns
+            @Nullable ImmutableBitSet requiredColumns,
+            @Nullable ImmutableBitSet filterFields
     ) {
         super(ctx, rowType);
 
@@ -103,6 +113,16 @@ public class TableScanNode<RowT> extends AbstractNode<RowT> {
         this.requiredColumns = requiredColumns;
 
         factory = ctx.rowHandler().factory(ctx.getTypeFactory(), rowType);
+
+        ImmutableBitSet allFields = ImmutableBitSet.range(rowType.getFieldCount());
+
+        if (filters != null && filterFields != null && !filterFields.contains(allFields)) {
+            this.filterFields = filterFields;
+            this.remainingFields = allFields.except(filterFields);
+        } else {
+            this.filterFields = null;
+            this.remainingFields = null;
+        }
     }
 
     /** {@inheritDoc} */
@@ -168,9 +188,9 @@ public class TableScanNode<RowT> extends AbstractNode<RowT> {
                 while (requested > 0 && !inBuff.isEmpty()) {
                     checkState();
 
-                    RowT row = inBuff.poll();
+                    RowT row = convert(inBuff.poll());
 
-                    if (filters != null && !filters.test(row)) {
+                    if (row == null) {
                         continue;
                     }
 
@@ -234,9 +254,7 @@ public class TableScanNode<RowT> extends AbstractNode<RowT> {
         /** {@inheritDoc} */
         @Override
         public void onNext(BinaryRow binRow) {
-            RowT row = convert(binRow);
-
-            inBuff.add(row);
+            inBuff.add(binRow);
 
             if (++received == inBufSize) {
                 received = 0;
@@ -268,7 +286,34 @@ public class TableScanNode<RowT> extends AbstractNode<RowT> {
         }
     }
 
-    private RowT convert(BinaryRow binRow) {
-        return schemaTable.toRow(context(), binRow, factory, requiredColumns);
+    /**
+     * Converts the stored row to the row of the node and applies the filter to it.
+     *
+     * <p>If the filter depends only on a subset of the fields, the remaining fields are decoded only for the rows
+     * that passed the filter, so the rows that are filtered out never pay for the columns the filter doesn't need.
+     *
+     * @param binRow Stored row.
+     * @return Converted row, or {@code null} if the row doesn't satisfy the filter.
+     */
+    private @Nullable RowT convert(BinaryRow binRow) {
+        if (filterFields == null) {
+            RowT row = schemaTable.toRow(context(), binRow, factory, requiredColumns);
+
+            return filters == null || filters.test(row) ? row : null;
+        }
+
+        Row tableRow = schemaTable.resolve(binRow);
+
+        RowT row = factory.create();
+
+        schemaTable.fillRow(context(), tableRow, row, requiredColumns, filterFields);
+
+        if (!filters.test(row)) {
+            return null;
+        }
+
+        schemaTable.fillRow(context(), tableRow, row, requiredColumns, remainingFields);
+
+        return row;
     }
 }
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.sql.engine.message;
 import java.util.List;
 import org.apache.ignite.network.annotations.Marshallable;
 import org.apache.ignite.network.annotations.Transferable;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * QueryBatchMessage interface.
@@ -43,8 +44,15 @@ public interface QueryBatchMessage extends ExecutionContextAwareMessage {
     boolean last();
 
     /**
-     * Get rows.
+     * Get rows, {@code null} if the rows are sent in the {@link #encodedRows() encoded} form.
      */
     @Marshallable
+    @Nullable
     List<Object> rows();
+
+    /**
+     * Get rows encoded with {@link org.apache.ignite.internal.sql.engine.exec.ExchangeBatchCodec}, {@code null} if the rows could not be
+     * encoded and are sent as is.
+     */
+    byte @Nullable [] encodedRows();
 }
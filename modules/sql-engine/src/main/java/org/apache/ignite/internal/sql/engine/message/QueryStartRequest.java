@@ -17,9 +17,11 @@
 
 package org.apache.ignite.internal.sql.engine.message;
 
+import java.util.UUID;
 import org.apache.ignite.internal.sql.engine.metadata.FragmentDescription;
 import org.apache.ignite.network.annotations.Marshallable;
 import org.apache.ignite.network.annotations.Transferable;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * QueryStartRequest interface.
@@ -38,10 +40,17 @@ public interface QueryStartRequest extends ExecutionContextAwareMessage {
     FragmentDescription fragmentDescription();
 
     /**
-     * Get fragment plan.
+     * Get fragment plan, or {@code null} if the initiator expects the target node to have the fragment with the
+     * {@link #rootHash() given hash} cached already.
      */
+    @Nullable
     String root();
 
+    /**
+     * Get content hash of the fragment plan.
+     */
+    UUID rootHash();
+
     /**
      * Get query parameters.
      */
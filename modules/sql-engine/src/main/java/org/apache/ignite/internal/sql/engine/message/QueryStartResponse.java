@@ -44,4 +44,10 @@ public interface QueryStartResponse extends NetworkMessage, Serializable {
      */
     @Marshallable
     Throwable error();
+
+    /**
+     * Returns {@code true} if the request came without a fragment plan and the plan was not found in the cache, so the request has
+     * to be repeated with the plan.
+     */
+    boolean fragmentNotCached();
 }
@@ -19,7 +19,9 @@ package org.apache.ignite.internal.sql.engine.prepare;
 
 import static org.apache.ignite.internal.sql.engine.externalize.RelJsonWriter.toJson;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 import org.apache.calcite.plan.RelOptCluster;
@@ -52,6 +54,10 @@ public class Fragment {
     @IgniteToStringExclude
     private final String rootSer;
 
+    /** Hash of the serialized root representation. */
+    @IgniteToStringExclude
+    private final UUID rootSerHash;
+
     private final FragmentMapping mapping;
 
     private final List<IgniteReceiver> remotes;
@@ -64,18 +70,20 @@ public class Fragment {
      * @param remotes Remote sources of the fragment.
      */
     public Fragment(long id, IgniteRel root, List<IgniteReceiver> remotes) {
-        this(id, root, remotes, null, null);
+        this(id, root, remotes, null, null, null);
     }
 
     /**
      * Constructor.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
      */
-    Fragment(long id, IgniteRel root, List<IgniteReceiver> remotes, @Nullable String rootSer, @Nullable FragmentMapping mapping) {
+    Fragment(long id, IgniteRel root, List<IgniteReceiver> remotes, @Nullable String rootSer, @Nullable UUID rootSerHash,
+            @Nullable FragmentMapping mapping) {
         this.id = id;
         this.root = root;
         this.remotes = List.copyOf(remotes);
         this.rootSer = rootSer != null ? rootSer : toJson(root);
+        this.rootSerHash = rootSerHash != null ? rootSerHash : UUID.nameUUIDFromBytes(this.rootSer.getBytes(StandardCharsets.UTF_8));
         this.mapping = mapping;
     }
 
@@ -102,6 +110,16 @@ public class Fragment {
         return rootSer;
     }
 
+    /**
+     * Returns a content hash of the {@link #serialized() serialized root representation}. Remote nodes cache the deserialized
+     * fragments by this hash, so the fragment body has to be shipped to a node only once.
+     *
+     * @return Hash of the serialized form.
+     */
+    public UUID serializedHash() {
+        return rootSerHash;
+    }
+
     public FragmentMapping mapping() {
         return mapping;
     }
@@ -156,7 +174,7 @@ public class Fragment {
             return this;
         }
 
-        return new Fragment(id, root, remotes, rootSer, mapping(ctx, mq, nodesSource(mappingSrvc, ctx)));
+        return new Fragment(id, root, remotes, rootSer, rootSerHash, mapping(ctx, mq, nodesSource(mappingSrvc, ctx)));
     }
 
     @NotNull
@@ -19,16 +19,28 @@ package org.apache.ignite.internal.sql.engine.prepare;
 
 import static org.apache.ignite.internal.sql.engine.prepare.PlannerHelper.optimize;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.runtime.CalciteContextException;
@@ -44,6 +56,7 @@ import org.apache.ignite.internal.sql.api.ColumnMetadataImpl;
 import org.apache.ignite.internal.sql.api.ResultSetMetadataImpl;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DdlSqlToCommandConverter;
 import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.apache.ignite.internal.sql.engine.schema.SchemaUpdateListener;
 import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
@@ -64,9 +77,32 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
 
     private static final int THREAD_COUNT = 4;
 
+    /** Name of the counter of queries whose plan was taken from the cache. */
+    public static final String PLAN_CACHE_HITS = "plan-cache.hits";
+
+    /** Name of the counter of queries that had to be planned. */
+    public static final String PLAN_CACHE_MISSES = "plan-cache.misses";
+
+    /** Name of the gauge of the number of cached plans. */
+    public static final String PLAN_CACHE_SIZE = "plan-cache.size";
+
+    /** Name of the timer of the planning of queries that missed the cache. */
+    public static final String PLANNING_TIME = "planning-time";
+
     private final DdlSqlToCommandConverter ddlConverter;
 
-    private final ConcurrentMap<CacheKey, CompletableFuture<QueryPlan>> cache;
+    private final ConcurrentMap<CacheKey, CompletableFuture<CachedPlan>> cache;
+
+    private final MetricRegistry metricRegistry;
+
+    /** Number of queries whose plan was taken from the cache. */
+    private final Counter cacheHits;
+
+    /** Number of queries that had to be planned. */
+    private final Counter cacheMisses;
+
+    /** Time spent planning the queries that missed the cache. */
+    private final Timer planningTime;
 
     private final String nodeName;
 
@@ -79,17 +115,20 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
      * @param cacheSize Size of the cache of query plans. Should be non negative.
      * @param dataStorageManager Data storage manager.
      * @param dataStorageFields Data storage fields. Mapping: Data storage name -> field name -> field type.
+     * @param metricRegistry Registry to register the plan cache metrics in.
      */
     public static PrepareServiceImpl create(
             String nodeName,
             int cacheSize,
             DataStorageManager dataStorageManager,
-            Map<String, Map<String, Class<?>>> dataStorageFields
+            Map<String, Map<String, Class<?>>> dataStorageFields,
+            MetricRegistry metricRegistry
     ) {
         return new PrepareServiceImpl(
                 nodeName,
                 cacheSize,
-                new DdlSqlToCommandConverter(dataStorageFields, dataStorageManager::defaultDataStorage)
+                new DdlSqlToCommandConverter(dataStorageFields, dataStorageManager::defaultDataStorage),
+                metricRegistry
         );
     }
 
@@ -99,19 +138,26 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
      * @param nodeName Name of the current Ignite node. Will be used in thread factory as part of the thread name.
      * @param cacheSize Size of the cache of query plans. Should be non negative.
      * @param ddlConverter A converter of the DDL-related AST to the actual command.
+     * @param metricRegistry Registry to register the plan cache metrics in.
      */
     public PrepareServiceImpl(
             String nodeName,
             int cacheSize,
-            DdlSqlToCommandConverter ddlConverter
+            DdlSqlToCommandConverter ddlConverter,
+            MetricRegistry metricRegistry
     ) {
         this.nodeName = nodeName;
         this.ddlConverter = ddlConverter;
+        this.metricRegistry = metricRegistry;
 
         cache = Caffeine.newBuilder()
                 .maximumSize(cacheSize)
-                .<CacheKey, CompletableFuture<QueryPlan>>build()
+                .<CacheKey, CompletableFuture<CachedPlan>>build()
                 .asMap();
+
+        cacheHits = metricRegistry.counter(PLAN_CACHE_HITS);
+        cacheMisses = metricRegistry.counter(PLAN_CACHE_MISSES);
+        planningTime = metricRegistry.timer(PLANNING_TIME);
     }
 
     /** {@inheritDoc} */
@@ -127,11 +173,15 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
         );
 
         planningPool.allowCoreThreadTimeOut(true);
+
+        metricRegistry.register(PLAN_CACHE_SIZE, (Gauge<Integer>) cache::size);
     }
 
     /** {@inheritDoc} */
     @Override
     public void stop() throws Exception {
+        metricRegistry.remove(PLAN_CACHE_SIZE);
+
         planningPool.shutdownNow();
     }
 
@@ -178,10 +228,21 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
         }
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Evicts the plans that reference any of the changed tables. Plans that are still being prepared or have failed are evicted
+     * as well, since they may have been validated against the previous version of the schema.
+     *
+     * @param changedTables Identifiers of the tables that were created, altered or dropped.
+     */
     @Override
-    public void onSchemaUpdated() {
-        cache.clear();
+    public void onSchemaUpdated(Set<UUID> changedTables) {
+        if (changedTables.isEmpty()) {
+            return;
+        }
+
+        cache.values().removeIf(fut -> !fut.isDone()
+                || fut.isCompletedExceptionally()
+                || !Collections.disjoint(fut.join().tables, changedTables));
     }
 
     private CompletableFuture<QueryPlan> prepareDdl(SqlNode sqlNode, PlanningContext ctx) {
@@ -215,7 +276,7 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
     private CompletableFuture<QueryPlan> prepareQuery(SqlNode sqlNode, PlanningContext ctx) {
         var key = new CacheKey(ctx.schemaName(), sqlNode.toString());
 
-        var planFut = cache.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(() -> {
+        return cachedPlan(key, () -> {
             IgnitePlanner planner = ctx.planner();
 
             // Validate
@@ -230,16 +291,17 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
 
             QueryTemplate template = new QueryTemplate(fragments);
 
-            return new MultiStepQueryPlan(template, resultSetMetadata(validated.dataType(), validated.origins()));
-        }, planningPool));
-
-        return planFut.thenApply(QueryPlan::copy);
+            return new CachedPlan(
+                    new MultiStepQueryPlan(template, resultSetMetadata(validated.dataType(), validated.origins())),
+                    tables(igniteRel)
+            );
+        });
     }
 
     private CompletableFuture<QueryPlan> prepareDml(SqlNode sqlNode, PlanningContext ctx) {
         var key = new CacheKey(ctx.schemaName(), sqlNode.toString());
 
-        var planFut = cache.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(() -> {
+        return cachedPlan(key, () -> {
             IgnitePlanner planner = ctx.planner();
 
             // Validate
@@ -253,10 +315,64 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
 
             QueryTemplate template = new QueryTemplate(fragments);
 
-            return new MultiStepDmlPlan(template);
-        }, planningPool));
+            return new CachedPlan(new MultiStepDmlPlan(template), tables(igniteRel));
+        });
+    }
+
+    /**
+     * Returns a copy of the cached plan for the given key, preparing the plan in the planning pool if the cache has none.
+     *
+     * @param key Cache key.
+     * @param planner Prepares the plan on cache miss.
+     */
+    private CompletableFuture<QueryPlan> cachedPlan(CacheKey key, Supplier<CachedPlan> planner) {
+        CompletableFuture<CachedPlan> planFut = cache.get(key);
+
+        if (planFut != null) {
+            cacheHits.inc();
+        } else {
+            planFut = cache.computeIfAbsent(key, k -> {
+                cacheMisses.inc();
+
+                return CompletableFuture.supplyAsync(() -> {
+                    long start = System.nanoTime();
+
+                    try {
+                        return planner.get();
+                    } finally {
+                        planningTime.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }, planningPool);
+            });
+        }
+
+        return planFut.thenApply(cached -> cached.plan.copy());
+    }
+
+    /**
+     * Collects identifiers of the tables the given relational tree reads or modifies.
+     *
+     * @param rel Root of the relational tree.
+     */
+    private static Set<UUID> tables(RelNode rel) {
+        Set<UUID> tables = new HashSet<>();
+
+        new RelVisitor() {
+            @Override
+            public void visit(RelNode node, int ordinal, @Nullable RelNode parent) {
+                RelOptTable relOptTable = node.getTable();
+
+                IgniteTable table = relOptTable == null ? null : relOptTable.unwrap(IgniteTable.class);
 
-        return planFut.thenApply(QueryPlan::copy);
+                if (table != null) {
+                    tables.add(table.id());
+                }
+
+                super.visit(node, ordinal, parent);
+            }
+        }.go(rel);
+
+        return tables;
     }
 
     private ResultSetMetadata resultSetMetadata(
@@ -286,4 +402,18 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
                 }
         );
     }
+
+    /**
+     * Cached plan along with the identifiers of the tables it depends on.
+     */
+    private static class CachedPlan {
+        private final QueryPlan plan;
+
+        private final Set<UUID> tables;
+
+        private CachedPlan(QueryPlan plan, Set<UUID> tables) {
+            this.plan = plan;
+            this.tables = tables;
+        }
+    }
 }
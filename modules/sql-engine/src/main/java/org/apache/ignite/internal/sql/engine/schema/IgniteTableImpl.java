@@ -247,7 +247,7 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
 
         assert handler.columnCount(res) == (requiredColumns == null ? desc.columnsCount() : requiredColumns.cardinality());
 
-        Row row = schemaRegistry.resolve(binaryRow, schemaDescriptor);
+        Row row = resolve(binaryRow);
 
         if (requiredColumns == null) {
             for (int i = 0; i < desc.columnsCount(); i++) {
@@ -266,6 +266,42 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
         return res;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Row resolve(BinaryRow binaryRow) {
+        return schemaRegistry.resolve(binaryRow, schemaDescriptor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <RowT> void fillRow(
+            ExecutionContext<RowT> ectx,
+            Row row,
+            RowT res,
+            @Nullable ImmutableBitSet requiredColumns,
+            ImmutableBitSet fields
+    ) {
+        RowHandler<RowT> handler = ectx.rowHandler();
+
+        if (requiredColumns == null) {
+            for (int i = fields.nextSetBit(0); i != -1; i = fields.nextSetBit(i + 1)) {
+                ColumnDescriptor colDesc = desc.columnDescriptor(i);
+
+                handler.set(i, res, TypeUtils.toInternal(ectx, row.value(colDesc.physicalIndex())));
+            }
+        } else {
+            for (int i = 0, j = requiredColumns.nextSetBit(0); j != -1; j = requiredColumns.nextSetBit(j + 1), i++) {
+                if (!fields.get(i)) {
+                    continue;
+                }
+
+                ColumnDescriptor colDesc = desc.columnDescriptor(j);
+
+                handler.set(i, res, TypeUtils.toInternal(ectx, row.value(colDesc.physicalIndex())));
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public <RowT> ModifyRow toModifyRow(
@@ -25,6 +25,7 @@ import org.apache.calcite.rel.core.TableModify;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.metadata.ColocationGroup;
@@ -97,6 +98,33 @@ public interface InternalIgniteTable extends IgniteTable {
             @Nullable ImmutableBitSet requiredColumns
     );
 
+    /**
+     * Resolves a tuple against the schema of the table without decoding any of its columns.
+     *
+     * @param row Tuple to resolve.
+     * @return Row that decodes column values on demand.
+     */
+    Row resolve(BinaryRow row);
+
+    /**
+     * Decodes the given subset of fields of the resolved tuple into the relational node row. Fields not
+     * in the subset are left untouched, so a row may be materialized in several steps, e.g. the columns
+     * of a filter first, and the rest only for the rows that passed it.
+     *
+     * @param ectx            Execution context.
+     * @param row             Resolved tuple.
+     * @param res             Relational node row to fill.
+     * @param requiredColumns Participating columns.
+     * @param fields          Fields of the relational node row to decode.
+     */
+    <RowT> void fillRow(
+            ExecutionContext<RowT> ectx,
+            Row row,
+            RowT res,
+            @Nullable ImmutableBitSet requiredColumns,
+            ImmutableBitSet fields
+    );
+
     /**
      * Converts a relational node row to internal tuple.
      *
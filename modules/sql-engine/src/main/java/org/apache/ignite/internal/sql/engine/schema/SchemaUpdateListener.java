@@ -17,6 +17,9 @@
 
 package org.apache.ignite.internal.sql.engine.schema;
 
+import java.util.Set;
+import java.util.UUID;
+
 /**
  * A schema change listener.
  */
@@ -24,6 +27,8 @@ package org.apache.ignite.internal.sql.engine.schema;
 public interface SchemaUpdateListener {
     /**
      * A callback that will be fired when the SQL schema changes.
+     *
+     * @param changedTables Identifiers of the tables that were created, altered or dropped by the update.
      */
-    void onSchemaUpdated();
+    void onSchemaUpdated(Set<UUID> changedTables);
 }
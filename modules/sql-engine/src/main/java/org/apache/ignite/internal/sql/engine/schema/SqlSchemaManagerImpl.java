@@ -22,6 +22,7 @@ import static java.util.concurrent.CompletableFuture.failedFuture;
 
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,6 +33,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.Table;
 import org.apache.calcite.tools.Frameworks;
 import org.apache.ignite.internal.causality.VersionedValue;
 import org.apache.ignite.internal.schema.Column;
@@ -66,6 +68,9 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
 
     private final Set<SchemaUpdateListener> listeners = new CopyOnWriteArraySet<>();
 
+    /** Tables the listeners were notified about the last time. Accessed from the schemas completion callback only. */
+    private Map<UUID, Table> lastNotifiedTables = Map.of();
+
     /**
      * Constructor.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -98,7 +103,9 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
 
             SchemaPlus newCalciteSchema = rebuild(stringIgniteSchemaMap);
 
-            listeners.forEach(SchemaUpdateListener::onSchemaUpdated);
+            Set<UUID> changedTables = changedTables(stringIgniteSchemaMap);
+
+            listeners.forEach(lsnr -> lsnr.onSchemaUpdated(changedTables));
 
             calciteSchemaVv.complete(token, newCalciteSchema);
         });
@@ -337,6 +344,43 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         return newCalciteSchema;
     }
 
+    /**
+     * Collects identifiers of the tables that were created, replaced or removed since the last notification.
+     *
+     * @param schemas Ignite schemas.
+     */
+    private Set<UUID> changedTables(Map<String, IgniteSchema> schemas) {
+        Map<UUID, Table> tables = new HashMap<>();
+
+        for (IgniteSchema schema : schemas.values()) {
+            for (String tableName : schema.getTableNames()) {
+                Table table = schema.getTable(tableName);
+
+                if (table instanceof IgniteTable) {
+                    tables.put(((IgniteTable) table).id(), table);
+                }
+            }
+        }
+
+        Set<UUID> changed = new HashSet<>();
+
+        lastNotifiedTables.forEach((id, table) -> {
+            if (tables.get(id) != table) {
+                changed.add(id);
+            }
+        });
+
+        tables.forEach((id, table) -> {
+            if (lastNotifiedTables.get(id) != table) {
+                changed.add(id);
+            }
+        });
+
+        lastNotifiedTables = tables;
+
+        return changed;
+    }
+
     private CompletableFuture<IgniteTableImpl> convert(long causalityToken, TableImpl table) {
         return schemaManager.schemaRegistry(causalityToken, table.tableId())
             .thenApply(schemaRegistry -> convert(table, schemaRegistry));
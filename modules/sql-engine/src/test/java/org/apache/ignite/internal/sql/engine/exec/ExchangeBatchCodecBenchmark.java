@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorFactory;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
+import org.apache.ignite.internal.network.serialization.marshal.DefaultUserObjectMarshaller;
+import org.apache.ignite.internal.network.serialization.marshal.UserObjectMarshaller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the transfer of exchange batches: rows per second passed through serialization and deserialization of a batch with
+ * {@link ExchangeBatchCodec} and with the user object marshaller, which was used for all batches before.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ExchangeBatchCodecBenchmark {
+    /** Rows in a batch, the default size of exchange batches. */
+    private static final int BATCH_SIZE = 512;
+
+    /** Row types: a few numeric columns or a wide row with strings and decimals. */
+    @Param({"numeric", "mixed"})
+    private String rowType;
+
+    private List<Object> rows;
+
+    private ClassDescriptorRegistry registry;
+
+    private UserObjectMarshaller marshaller;
+
+    /**
+     * Prepares the batch.
+     */
+    @Setup
+    public void setUp() {
+        registry = new ClassDescriptorRegistry();
+        marshaller = new DefaultUserObjectMarshaller(registry, new ClassDescriptorFactory(registry));
+
+        rows = new ArrayList<>(BATCH_SIZE);
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            if ("numeric".equals(rowType)) {
+                rows.add(new Object[]{i, i * 31L, i * 1.5d});
+            } else {
+                rows.add(new Object[]{i, i * 31L, "name-" + i, BigDecimal.valueOf(i * 100L, 2), i % 3 == 0 ? null : "city-" + i % 100,
+                        i % 2 == 0, i * 1.5d});
+            }
+        }
+    }
+
+    /**
+     * Encodes and decodes a batch with the codec.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Object> codec() {
+        return ExchangeBatchCodec.decode(ExchangeBatchCodec.encode(rows));
+    }
+
+    /**
+     * Marshals and unmarshals a batch with the user object marshaller.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Object> marshaller() throws Exception {
+        return marshaller.unmarshal(marshaller.marshal(rows).bytes(), registry);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(ExchangeBatchCodecBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
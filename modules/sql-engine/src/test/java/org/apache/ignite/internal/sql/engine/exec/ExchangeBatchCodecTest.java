@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.apache.calcite.avatica.util.ByteString;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ExchangeBatchCodec}.
+ */
+public class ExchangeBatchCodecTest {
+    @Test
+    public void testRoundTrip() {
+        checkRoundTrip(rows(1));
+        checkRoundTrip(rows(100));
+    }
+
+    @Test
+    public void testLargeBatchIsCompressed() {
+        List<Object> rows = rows(10_000);
+
+        byte[] bytes = ExchangeBatchCodec.encode(rows);
+
+        assertNotNull(bytes);
+        assertTrue((bytes[0] & 1) != 0);
+
+        assertRowsEqual(rows, ExchangeBatchCodec.decode(bytes));
+    }
+
+    @Test
+    public void testUnsupportedBatchesAreNotEncoded() {
+        assertNull(ExchangeBatchCodec.encode(List.of()));
+        assertNull(ExchangeBatchCodec.encode(List.of(new Object[]{1}, new Object[]{1L})));
+        assertNull(ExchangeBatchCodec.encode(List.of(new Object[]{1}, new Object[]{1, 2})));
+        assertNull(ExchangeBatchCodec.encode(List.<Object>of(new Object[]{new Object()})));
+    }
+
+    private static List<Object> rows(int cnt) {
+        Random rnd = new Random(cnt);
+
+        List<Object> rows = new ArrayList<>(cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            rows.add(new Object[]{
+                    i,
+                    rnd.nextLong(),
+                    rnd.nextBoolean() ? null : "val" + rnd.nextInt(1000),
+                    BigDecimal.valueOf(rnd.nextLong(), rnd.nextInt(10) - 2),
+                    rnd.nextDouble(),
+                    rnd.nextFloat(),
+                    rnd.nextBoolean(),
+                    (byte) i,
+                    (short) i,
+                    new ByteString(new byte[]{(byte) i, 1, 2}),
+                    new byte[]{(byte) i},
+                    UUID.randomUUID(),
+                    null
+            });
+        }
+
+        return rows;
+    }
+
+    private static void checkRoundTrip(List<Object> rows) {
+        byte[] bytes = ExchangeBatchCodec.encode(rows);
+
+        assertNotNull(bytes);
+
+        assertRowsEqual(rows, ExchangeBatchCodec.decode(bytes));
+    }
+
+    private static void assertRowsEqual(List<Object> expected, List<Object> actual) {
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals((Object[]) expected.get(i), (Object[]) actual.get(i));
+        }
+    }
+}
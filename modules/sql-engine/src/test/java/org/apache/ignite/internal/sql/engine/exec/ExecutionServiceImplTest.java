@@ -34,10 +34,12 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.codahale.metrics.MetricRegistry;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
@@ -116,7 +118,7 @@ public class ExecutionServiceImplTest {
     public void init() {
         testCluster = new TestCluster();
         executionServices = nodeIds.stream().map(this::create).collect(Collectors.toList());
-        prepareService = new PrepareServiceImpl("test", 0, null);
+        prepareService = new PrepareServiceImpl("test", 0, null, new MetricRegistry());
 
         prepareService.start();
     }
@@ -325,6 +327,64 @@ public class ExecutionServiceImplTest {
                         .mapToInt(i -> i).sum() == 0, TIMEOUT_IN_MS));
     }
 
+    /**
+     * The fragments are shipped to every node only once, the subsequent executions of the same plan send the fragment hash only. A node
+     * that has dropped its cached fragments asks the initiator to send the fragment once again.
+     */
+    @Test
+    public void testFragmentIsSentOnlyOnce() throws InterruptedException {
+        var execService = executionServices.get(0);
+        var plan = prepare("SELECT *  FROM test_tbl", createContext());
+
+        Queue<QueryStartRequest> requests = new LinkedBlockingQueue<>();
+
+        for (String nodeId : nodeIds) {
+            testCluster.node(nodeId).interceptor((senderNodeId, msg, original) -> {
+                if (msg instanceof QueryStartRequest) {
+                    requests.add((QueryStartRequest) msg);
+                }
+
+                original.onMessage(senderNodeId, msg);
+            });
+        }
+
+        readAll(execService, plan);
+
+        assertEquals(4, requests.size());
+        assertTrue(requests.stream().allMatch(req -> req.root() != null));
+
+        requests.clear();
+
+        readAll(execService, plan);
+
+        assertEquals(4, requests.size());
+        assertTrue(requests.stream().allMatch(req -> req.root() == null));
+
+        requests.clear();
+
+        executionServices.forEach(es -> es.onSchemaUpdated(Set.of(table.id())));
+
+        readAll(execService, plan);
+
+        assertEquals(8, requests.size());
+        assertEquals(4, requests.stream().filter(req -> req.root() != null).count());
+    }
+
+    private void readAll(ExecutionServiceImpl<?> execService, QueryPlan plan) throws InterruptedException {
+        var ctx = createContext();
+
+        var cursor = execService.executePlan(plan.copy(), ctx);
+
+        BatchedResult<?> res = await(cursor.requestNextAsync(9));
+        assertNotNull(res);
+        assertFalse(res.hasMore());
+        assertEquals(9, res.items().size());
+
+        assertTrue(waitForCondition(
+                () -> executionServices.stream().map(es -> es.localFragments(ctx.queryId()).size())
+                        .mapToInt(i -> i).sum() == 0, TIMEOUT_IN_MS));
+    }
+
     /** Creates an execution service instance for the node with given id. */
     public ExecutionServiceImpl<Object[]> create(String nodeId) {
         if (!nodeIds.contains(nodeId)) {
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.engine.exec.exp;
 
 import static org.apache.ignite.internal.sql.engine.util.BaseQueryContext.CALCITE_CONNECTION_CONFIG;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,6 +28,7 @@ import org.apache.calcite.rel.type.RelDataTypeFieldImpl;
 import org.apache.calcite.rel.type.RelDataTypeSystem;
 import org.apache.calcite.rel.type.RelRecordType;
 import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.sql.validate.SqlConformanceEnum;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
@@ -74,4 +76,31 @@ public class ExpressionFactoryImplTest {
 
         assertNotSame(scalar1, scalar2);
     }
+
+    @Test
+    public void testScalarSharedAcrossDifferentlyNamedInputs() {
+        RelRecordType type1 = new RelRecordType(Collections.singletonList(
+                new RelDataTypeFieldImpl("ID", 0, typeFactory.createSqlType(SqlTypeName.INTEGER))
+        ));
+
+        RelRecordType type2 = new RelRecordType(Collections.singletonList(
+                new RelDataTypeFieldImpl("VAL", 0, typeFactory.createSqlType(SqlTypeName.INTEGER))
+        ));
+
+        RelRecordType type3 = new RelRecordType(Collections.singletonList(
+                new RelDataTypeFieldImpl("ID", 0, typeFactory.createSqlType(SqlTypeName.BIGINT))
+        ));
+
+        SingleScalar scalar1 = expFactory.scalar(
+                Collections.singletonList(new RexInputRef(0, typeFactory.createSqlType(SqlTypeName.INTEGER))), type1);
+
+        SingleScalar scalar2 = expFactory.scalar(
+                Collections.singletonList(new RexInputRef(0, typeFactory.createSqlType(SqlTypeName.INTEGER))), type2);
+
+        SingleScalar scalar3 = expFactory.scalar(
+                Collections.singletonList(new RexInputRef(0, typeFactory.createSqlType(SqlTypeName.BIGINT))), type3);
+
+        assertSame(scalar1, scalar2);
+        assertNotSame(scalar1, scalar3);
+    }
 }
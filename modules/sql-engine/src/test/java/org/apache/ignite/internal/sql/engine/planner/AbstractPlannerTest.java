@@ -75,6 +75,7 @@ import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.Util;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.NativeType;
+import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.externalize.RelJsonReader;
@@ -919,6 +920,19 @@ public abstract class AbstractPlannerTest extends IgniteAbstractTest {
             throw new AssertionError();
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public Row resolve(BinaryRow row) {
+            throw new AssertionError();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public <RowT> void fillRow(ExecutionContext<RowT> ectx, Row row, RowT res, @Nullable ImmutableBitSet requiredColumns,
+                ImmutableBitSet fields) {
+            throw new AssertionError();
+        }
+
         /** {@inheritDoc} */
         @Override
         public <RowT> ModifyRow toModifyRow(ExecutionContext<RowT> ectx, RowT row, Operation op, @Nullable List<String> arg) {
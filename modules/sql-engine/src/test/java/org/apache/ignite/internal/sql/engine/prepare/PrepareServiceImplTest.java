@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import static org.apache.ignite.internal.sql.engine.util.Commons.FRAMEWORK_CONFIG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.codahale.metrics.MetricRegistry;
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.ignite.internal.sql.engine.planner.AbstractPlannerTest;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the query plan cache of {@link PrepareServiceImpl}.
+ */
+public class PrepareServiceImplTest extends AbstractPlannerTest {
+    private final TestTable table1 = createTable("T1", IgniteDistributions.single(), "ID", Integer.class, "VAL", Integer.class);
+
+    private final TestTable table2 = createTable("T2", IgniteDistributions.single(), "ID", Integer.class, "VAL", Integer.class);
+
+    private final IgniteSchema schema = createSchema(table1, table2);
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+
+    private PrepareServiceImpl prepareService;
+
+    @BeforeEach
+    public void init() {
+        prepareService = new PrepareServiceImpl("test", 100, null, metricRegistry);
+
+        prepareService.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        prepareService.stop();
+    }
+
+    @Test
+    public void testCachedPlanIsReused() {
+        prepare("SELECT * FROM T1");
+        prepare("SELECT * FROM T1");
+        prepare("SELECT * FROM T1 WHERE ID = 1");
+
+        assertEquals(1, hits());
+        assertEquals(2, misses());
+        assertEquals(2, metricRegistry.timer(PrepareServiceImpl.PLANNING_TIME).getCount());
+        assertEquals(2, metricRegistry.getGauges().get(PrepareServiceImpl.PLAN_CACHE_SIZE).getValue());
+    }
+
+    @Test
+    public void testSchemaUpdateEvictsPlansOfChangedTablesOnly() {
+        prepare("SELECT * FROM T1");
+        prepare("SELECT * FROM T2");
+        prepare("SELECT * FROM T1 JOIN T2 ON T1.ID = T2.ID");
+        prepare("INSERT INTO T2 VALUES (1, 1)");
+
+        assertEquals(4, misses());
+
+        prepareService.onSchemaUpdated(Set.of(table1.id()));
+
+        prepare("SELECT * FROM T2");
+        prepare("INSERT INTO T2 VALUES (1, 1)");
+
+        assertEquals(2, hits());
+        assertEquals(4, misses());
+
+        prepare("SELECT * FROM T1");
+        prepare("SELECT * FROM T1 JOIN T2 ON T1.ID = T2.ID");
+
+        assertEquals(2, hits());
+        assertEquals(6, misses());
+
+        prepareService.onSchemaUpdated(Set.of(table2.id()));
+
+        prepare("SELECT * FROM T1");
+        prepare("INSERT INTO T2 VALUES (1, 1)");
+
+        assertEquals(3, hits());
+        assertEquals(7, misses());
+    }
+
+    @Test
+    public void testEmptySchemaUpdateKeepsPlans() {
+        prepare("SELECT * FROM T1");
+
+        prepareService.onSchemaUpdated(Set.of());
+
+        prepare("SELECT * FROM T1");
+
+        assertEquals(1, hits());
+        assertEquals(1, misses());
+    }
+
+    @Test
+    public void testSizeGaugeIsRemovedOnStop() throws Exception {
+        prepareService.stop();
+
+        assertNull(metricRegistry.getGauges().get(PrepareServiceImpl.PLAN_CACHE_SIZE));
+
+        // The counters survive the restart of the service.
+        prepareService = new PrepareServiceImpl("test", 100, null, metricRegistry);
+
+        prepareService.start();
+
+        prepare("SELECT * FROM T1");
+        prepare("SELECT * FROM T1");
+
+        assertEquals(1, hits());
+        assertEquals(1, misses());
+    }
+
+    private void prepare(String query) {
+        SqlNodeList nodes = Commons.parse(query, FRAMEWORK_CONFIG.getParserConfig());
+
+        BaseQueryContext ctx = baseQueryContext(List.of(schema));
+
+        assertInstanceOf(QueryPlan.class, prepareService.prepareAsync(nodes.get(0), ctx).join());
+    }
+
+    private long hits() {
+        return metricRegistry.counter(PrepareServiceImpl.PLAN_CACHE_HITS).getCount();
+    }
+
+    private long misses() {
+        return metricRegistry.counter(PrepareServiceImpl.PLAN_CACHE_MISSES).getCount();
+    }
+}
@@ -149,6 +149,17 @@ public interface MvPartitionStorage extends AutoCloseable {
      */
     void commitWrite(RowId rowId, Timestamp timestamp) throws StorageException;
 
+    /**
+     * Replaces the newest committed version of a row with the given one, keeping its commit timestamp. Meant for rewriting a row in
+     * another format without changing its value, so that no row version is added. Does nothing if the row has no committed versions.
+     *
+     * @param rowId Row id.
+     * @param row Binary row to replace the newest committed version with.
+     * @throws TxIdMismatchException If the row has an uncommitted version.
+     * @throws StorageException If failed to write data to the storage.
+     */
+    void replaceNewestCommitted(RowId rowId, BinaryRow row) throws TxIdMismatchException, StorageException;
+
     /**
      * Scans the partition and returns a cursor of values. All filtered values must either be uncommitted in current transaction
      * or already committed in different transaction.
@@ -109,6 +109,17 @@ public abstract class AbstractMvPartitionStorageTest<S extends MvPartitionStorag
         });
     }
 
+    /**
+     * Replaces the newest committed version inside of consistency closure.
+     */
+    protected void replaceNewestCommitted(RowId rowId, BinaryRow binaryRow) {
+        storage.runConsistently(() -> {
+            storage.replaceNewestCommitted(rowId, binaryRow);
+
+            return null;
+        });
+    }
+
     /**
      * Aborts write-intent inside of consistency closure.
      */
@@ -642,6 +653,23 @@ public abstract class AbstractMvPartitionStorageTest<S extends MvPartitionStorag
         assertRowMatches(foundRow, binaryRow);
     }
 
+    @Test
+    void abortWriteKeepsPreviousCommittedVersionsAccessibleByTimestamp() {
+        RowId rowId = insert(binaryRow, newTransactionId());
+        Timestamp firstVersionTs = Timestamp.nextVersion();
+        commitWrite(rowId, firstVersionTs);
+
+        addWrite(rowId, binaryRow2, newTransactionId());
+        commitWrite(rowId, Timestamp.nextVersion());
+
+        addWrite(rowId, binaryRow, txId);
+
+        abortWrite(rowId);
+
+        assertRowMatches(read(rowId, firstVersionTs), binaryRow);
+        assertRowMatches(read(rowId, Timestamp.nextVersion()), binaryRow2);
+    }
+
     @Test
     void abortOfInsertMakesRowNonExistentForReadByTimestamp() {
         RowId rowId = insert(binaryRow, newTransactionId());
@@ -679,4 +707,51 @@ public abstract class AbstractMvPartitionStorageTest<S extends MvPartitionStorag
 
         assertThrows(TxIdMismatchException.class, cursor::next);
     }
+
+    @Test
+    void replaceNewestCommittedKeepsCommitTimestampAndOlderVersions() {
+        RowId rowId = insert(binaryRow, newTransactionId());
+        Timestamp firstVersionTs = Timestamp.nextVersion();
+        commitWrite(rowId, firstVersionTs);
+
+        addWrite(rowId, binaryRow2, newTransactionId());
+        Timestamp secondVersionTs = Timestamp.nextVersion();
+        commitWrite(rowId, secondVersionTs);
+
+        BinaryRow replacement = binaryRow(key, new TestValue(22, "bar3"));
+
+        replaceNewestCommitted(rowId, replacement);
+
+        assertRowMatches(read(rowId, secondVersionTs), replacement);
+        assertRowMatches(read(rowId, Timestamp.nextVersion()), replacement);
+        assertRowMatches(read(rowId, newTransactionId()), replacement);
+        assertRowMatches(read(rowId, firstVersionTs), binaryRow);
+    }
+
+    @Test
+    void replaceNewestCommittedWithUncommittedVersionThrows() {
+        RowId rowId = insert(binaryRow, newTransactionId());
+        commitWrite(rowId, Timestamp.nextVersion());
+
+        addWrite(rowId, binaryRow2, txId);
+
+        assertThrows(TxIdMismatchException.class, () -> replaceNewestCommitted(rowId, binaryRow));
+
+        assertRowMatches(read(rowId, txId), binaryRow2);
+    }
+
+    @Test
+    void writesAfterReplaceNewestCommittedAddVersions() {
+        RowId rowId = insert(binaryRow, newTransactionId());
+        Timestamp firstVersionTs = Timestamp.nextVersion();
+        commitWrite(rowId, firstVersionTs);
+
+        replaceNewestCommitted(rowId, binaryRow2);
+
+        addWrite(rowId, binaryRow, txId);
+        commitWrite(rowId, Timestamp.nextVersion());
+
+        assertRowMatches(read(rowId, firstVersionTs), binaryRow2);
+        assertRowMatches(read(rowId, Timestamp.nextVersion()), binaryRow);
+    }
 }
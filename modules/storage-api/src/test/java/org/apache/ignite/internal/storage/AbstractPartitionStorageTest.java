@@ -490,6 +490,25 @@ public abstract class AbstractPartitionStorageTest {
         rows.forEach(this::checkHasSameEntry);
     }
 
+    /**
+     * Tests that {@link PartitionStorage#writeAll(List)} operation overwrites existing rows, and that the last of the rows with the same key
+     * wins.
+     */
+    @Test
+    public void testWriteAllOverwrite() {
+        List<DataRow> oldRows = insertBulk(100);
+
+        List<DataRow> rows = IntStream.range(0, 200)
+                .mapToObj(i -> dataRow(KEY + "_" + (i % 100), VALUE + "_new_" + i))
+                .collect(Collectors.toList());
+
+        storage.writeAll(rows);
+
+        rows.subList(100, 200).forEach(this::checkHasSameEntry);
+
+        assertEquals(oldRows.size(), storage.rowsCount());
+    }
+
     /**
      * Tests that {@link PartitionStorage#insertAll(List)} operation doesn't insert data rows which keys are already present in the storage.
      * This operation must also return the list of such data rows.
@@ -192,6 +192,22 @@ public class TestMvPartitionStorage implements MvPartitionStorage {
         });
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void replaceNewestCommitted(RowId rowId, BinaryRow row) throws TxIdMismatchException {
+        map.computeIfPresent(rowId, (ignored, versionChain) -> {
+            if (!versionChain.notContainsWriteIntent()) {
+                throw new TxIdMismatchException();
+            }
+
+            return new VersionChain(row, versionChain.begin, null, versionChain.next);
+        });
+
+        for (TestSortedIndexMvStorage index : indexes) {
+            index.append(row, rowId);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public @Nullable BinaryRow read(RowId rowId, UUID txId) throws TxIdMismatchException, StorageException {
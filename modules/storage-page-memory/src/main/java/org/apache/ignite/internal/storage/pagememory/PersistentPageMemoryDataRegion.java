@@ -20,6 +20,7 @@ package org.apache.ignite.internal.storage.pagememory;
 import static org.apache.ignite.internal.util.Constants.GiB;
 import static org.apache.ignite.internal.util.Constants.MiB;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import org.apache.ignite.internal.pagememory.DataRegion;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfiguration;
@@ -29,12 +30,19 @@ import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
+import org.apache.ignite.internal.pagememory.persistence.warmup.PageMemoryWarmUp;
 import org.apache.ignite.internal.storage.StorageException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link DataRegion} for persistent case.
  */
 class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory> {
+    /** Template of the name of the file with the hot pages recorded for the warm-up. */
+    static final String HOT_PAGES_FILE_TEMPLATE = "hot-pages-%s.bin";
+
+    private final String igniteInstanceName;
+
     private final PersistentPageMemoryDataRegionConfiguration cfg;
 
     private final PageIoRegistry ioRegistry;
@@ -47,26 +55,36 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
 
     private final CheckpointManager checkpointManager;
 
+    private final Path storagePath;
+
     private volatile PersistentPageMemory pageMemory;
 
+    @Nullable
+    private volatile PageMemoryWarmUp warmUp;
+
     /**
      * Constructor.
      *
+     * @param igniteInstanceName Ignite instance name.
      * @param cfg Data region configuration.
      * @param ioRegistry IO registry.
      * @param filePageStoreManager File page store manager.
      * @param partitionMetaManager Partition meta information manager.
      * @param checkpointManager Checkpoint manager.
+     * @param storagePath Storage path.
      * @param pageSize Page size in bytes.
      */
     public PersistentPageMemoryDataRegion(
+            String igniteInstanceName,
             PersistentPageMemoryDataRegionConfiguration cfg,
             PageIoRegistry ioRegistry,
             FilePageStoreManager filePageStoreManager,
             PartitionMetaManager partitionMetaManager,
             CheckpointManager checkpointManager,
+            Path storagePath,
             int pageSize
     ) {
+        this.igniteInstanceName = igniteInstanceName;
         this.cfg = cfg;
         this.ioRegistry = ioRegistry;
         this.pageSize = pageSize;
@@ -74,6 +92,7 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
         this.filePageStoreManager = filePageStoreManager;
         this.partitionMetaManager = partitionMetaManager;
         this.checkpointManager = checkpointManager;
+        this.storagePath = storagePath;
     }
 
     /**
@@ -97,12 +116,35 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
         pageMemoryImpl.start();
 
         pageMemory = pageMemoryImpl;
+
+        if (dataRegionConfigView.warmUp()) {
+            PageMemoryWarmUp warmUp = new PageMemoryWarmUp(
+                    igniteInstanceName,
+                    dataRegionConfigView.name(),
+                    pageMemoryImpl,
+                    filePageStoreManager,
+                    partitionMetaManager,
+                    storagePath.resolve(String.format(HOT_PAGES_FILE_TEMPLATE, dataRegionConfigView.name())),
+                    dataRegionConfigView.warmUpRecordFrequency(),
+                    dataRegionConfigView.warmUpPagesPerSecond()
+            );
+
+            warmUp.start();
+
+            this.warmUp = warmUp;
+        }
     }
 
     /**
      * Stops a persistent data region.
      */
     public void stop() throws Exception {
+        PageMemoryWarmUp warmUp = this.warmUp;
+
+        if (warmUp != null) {
+            warmUp.stop();
+        }
+
         if (pageMemory != null) {
             pageMemory.stop(true);
         }
@@ -116,6 +158,21 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
         return pageMemory;
     }
 
+    /**
+     * Loads the pages of the group partitions that were hot before the restart in background, if the warm-up is enabled.
+     *
+     * <p>Must be called when the file page stores of the group have been initialized, but before its partitions are started.
+     *
+     * @param grpId Group ID.
+     */
+    public void warmUp(int grpId) {
+        PageMemoryWarmUp warmUp = this.warmUp;
+
+        if (warmUp != null) {
+            warmUp.warmUp(grpId);
+        }
+    }
+
     /**
      * Returns file page store manager.
      */
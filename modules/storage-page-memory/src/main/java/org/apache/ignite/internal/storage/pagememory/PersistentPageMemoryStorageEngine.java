@@ -208,11 +208,13 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
         String name = dataRegionConfig.name().value();
 
         PersistentPageMemoryDataRegion dataRegion = new PersistentPageMemoryDataRegion(
+                igniteInstanceName,
                 dataRegionConfig,
                 ioRegistry,
                 filePageStoreManager,
                 partitionMetaManager,
                 checkpointManager,
+                storagePath,
                 pageSize
         );
 
@@ -75,6 +75,8 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error initializing file page stores for table: " + tableView.name(), e);
         }
+
+        dataRegion.warmUp(tableView.tableId());
     }
 
     /** {@inheritDoc} */
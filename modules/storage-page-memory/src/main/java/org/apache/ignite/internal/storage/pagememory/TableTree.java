@@ -27,6 +27,7 @@ import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
 
 import java.nio.ByteBuffer;
+import java.util.Comparator;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.io.DataPagePayload;
@@ -46,6 +47,11 @@ import org.jetbrains.annotations.Nullable;
  * {@link BplusTree} implementation for storage-page-memory module.
  */
 public class TableTree extends BplusTree<TableSearchRow, TableDataRow> {
+    /** Order of the rows in the tree: by key hash, then by key length, then by key bytes. */
+    public static final Comparator<TableSearchRow> ROW_ORDER = Comparator.comparingInt(TableSearchRow::hash)
+            .thenComparingInt(row -> row.key().limit())
+            .thenComparing(TableSearchRow::key);
+
     /**
      * Constructor.
      *
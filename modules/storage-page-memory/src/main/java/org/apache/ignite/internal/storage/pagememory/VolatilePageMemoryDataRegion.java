@@ -18,21 +18,36 @@
 package org.apache.ignite.internal.storage.pagememory;
 
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfigurationSchema.DISABLED_EVICTION_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfigurationSchema.RANDOM_2_LRU_EVICTION_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfigurationSchema.RANDOM_LRU_EVICTION_MODE;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.apache.ignite.internal.pagememory.DataRegion;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.evict.PageAbstractEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTracker;
 import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
+import org.apache.ignite.internal.pagememory.evict.Random2LruPageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.RandomLruPageEvictionTracker;
 import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.reuse.ReuseList;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.pagememory.mv.PageMemoryMvPartitionStorage;
 import org.apache.ignite.internal.storage.pagememory.mv.RowVersionFreeList;
 import org.apache.ignite.internal.storage.pagememory.mv.VersionChainFreeList;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link DataRegion} for in-memory case.
@@ -56,6 +71,12 @@ class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemory> {
 
     private volatile RowVersionFreeList rowVersionFreeList;
 
+    /** Eviction tracker of the data pages with version chains, {@code null} if the eviction is disabled. */
+    private volatile PageAbstractEvictionTracker evictionTracker;
+
+    /** MV partition storages that keep their rows in this region, by partition ID, to evict rows from. */
+    private final ConcurrentMap<Integer, Set<PageMemoryMvPartitionStorage>> mvPartitionStorages = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      *
@@ -82,6 +103,14 @@ class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemory> {
 
         pageMemory.start();
 
+        PageAbstractEvictionTracker evictionTracker = createEvictionTracker(pageMemory, cfg.value());
+
+        if (evictionTracker != null) {
+            evictionTracker.start();
+        }
+
+        this.evictionTracker = evictionTracker;
+
         try {
             this.tableFreeList = createTableFreeList(pageMemory);
         } catch (IgniteInternalCheckedException e) {
@@ -89,13 +118,16 @@ class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemory> {
         }
 
         try {
-            versionChainFreeList = createVersionChainFreeList(pageMemory, null);
+            versionChainFreeList = createVersionChainFreeList(pageMemory, null, evictionTracker());
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error creating a VersionChainFreeList", e);
         }
 
         try {
-            rowVersionFreeList = createRowVersionFreeList(pageMemory, tableFreeList);
+            // Pages emptied by the removal of row versions (e.g. by eviction) are recycled into the version chain free list rather than
+            // into the table free list used by the legacy storages: this way they can be reused by both version chains and row versions,
+            // and they are counted by the eviction tracker as free pages, otherwise the eviction would never reach its empty pages pool.
+            rowVersionFreeList = createRowVersionFreeList(pageMemory, versionChainFreeList);
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error creating a RowVersionFreeList", e);
         }
@@ -119,9 +151,86 @@ class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemory> {
         );
     }
 
+    private @Nullable PageAbstractEvictionTracker createEvictionTracker(
+            VolatilePageMemory pageMemory,
+            VolatilePageMemoryDataRegionView cfg
+    ) {
+        switch (cfg.evictionMode()) {
+            case DISABLED_EVICTION_MODE:
+                return null;
+
+            case RANDOM_LRU_EVICTION_MODE:
+                return new RandomLruPageEvictionTracker(
+                        pageMemory,
+                        cfg.evictionThreshold(),
+                        cfg.emptyPagesPoolSize(),
+                        this::emptyDataPages,
+                        this::evictRows
+                );
+
+            case RANDOM_2_LRU_EVICTION_MODE:
+                return new Random2LruPageEvictionTracker(
+                        pageMemory,
+                        cfg.evictionThreshold(),
+                        cfg.emptyPagesPoolSize(),
+                        this::emptyDataPages,
+                        this::evictRows
+                );
+
+            default:
+                throw new StorageException("Unknown eviction mode: " + cfg.evictionMode());
+        }
+    }
+
+    /**
+     * Returns the number of empty data pages ready to be reused by the MV storages: row versions and version chains are recycled into the
+     * version chain free list, so that the pages freed by eviction can be taken by any of them.
+     */
+    private int emptyDataPages() {
+        VersionChainFreeList versionChainFreeList = this.versionChainFreeList;
+
+        return versionChainFreeList == null ? 0 : versionChainFreeList.emptyDataPages();
+    }
+
+    /**
+     * Evicts the rows whose version chains live on the given data page.
+     *
+     * @param pageId Version chain data page ID.
+     * @param links Links to the version chains.
+     * @return {@code True} if at least one row has been evicted.
+     * @throws IgniteInternalCheckedException In case of page memory error.
+     */
+    private boolean evictRows(long pageId, List<Long> links) throws IgniteInternalCheckedException {
+        Set<PageMemoryMvPartitionStorage> storages = mvPartitionStorages.get(PageIdUtils.partitionId(pageId));
+
+        if (storages == null) {
+            return false;
+        }
+
+        boolean evicted = false;
+
+        for (long link : links) {
+            for (PageMemoryMvPartitionStorage storage : storages) {
+                if (storage.evictVersionChain(link)) {
+                    evicted = true;
+
+                    break;
+                }
+            }
+        }
+
+        if (evicted) {
+            // The rest of the rows are in use and will touch the page again.
+            evictionTracker.forgetPage(pageId);
+        }
+
+        return evicted;
+    }
+
     private static VersionChainFreeList createVersionChainFreeList(
             PageMemory pageMemory,
-            ReuseList reuseList
+            ReuseList reuseList,
+            PageEvictionTracker evictionTracker
     ) throws IgniteInternalCheckedException {
         long metaPageId = pageMemory.allocatePage(FREE_LIST_GROUP_ID, FREE_LIST_PARTITION_ID, FLAG_AUX);
 
@@ -134,7 +243,7 @@ class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemory> {
                 metaPageId,
                 true,
                 null,
-                PageEvictionTrackerNoOp.INSTANCE,
+                evictionTracker,
                 IoStatisticsHolderNoOp.INSTANCE
         );
     }
@@ -171,7 +280,8 @@ class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemory> {
                 pageMemory != null ? () -> pageMemory.stop(true) : null,
                 tableFreeList != null ? tableFreeList::close : null,
                 versionChainFreeList != null ? versionChainFreeList::close : null,
-                rowVersionFreeList != null ? rowVersionFreeList::close : null
+                rowVersionFreeList != null ? rowVersionFreeList::close : null,
+                evictionTracker != null ? evictionTracker::stop : null
         );
     }
 
@@ -216,6 +326,39 @@ class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemory> {
         return rowVersionFreeList;
     }
 
+    /**
+     * Returns the eviction tracker for the MV partition storages, {@link PageEvictionTrackerNoOp} if the eviction is disabled.
+     */
+    public PageEvictionTracker evictionTracker() {
+        PageAbstractEvictionTracker evictionTracker = this.evictionTracker;
+
+        return evictionTracker == null ? PageEvictionTrackerNoOp.INSTANCE : evictionTracker;
+    }
+
+    /**
+     * Registers an MV partition storage whose rows may be evicted, does nothing if the eviction is disabled.
+     *
+     * @param storage MV partition storage.
+     */
+    void addMvPartitionStorage(PageMemoryMvPartitionStorage storage) {
+        if (evictionTracker != null) {
+            mvPartitionStorages.computeIfAbsent(storage.partitionId(), partId -> ConcurrentHashMap.newKeySet()).add(storage);
+        }
+    }
+
+    /**
+     * Unregisters an MV partition storage.
+     *
+     * @param storage MV partition storage.
+     */
+    void removeMvPartitionStorage(PageMemoryMvPartitionStorage storage) {
+        Set<PageMemoryMvPartitionStorage> storages = mvPartitionStorages.get(storage.partitionId());
+
+        if (storages != null) {
+            storages.remove(storage);
+        }
+    }
+
     /**
      * Checks that the data region has started.
      *
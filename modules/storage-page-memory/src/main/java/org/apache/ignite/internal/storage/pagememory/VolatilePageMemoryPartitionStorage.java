@@ -124,13 +124,21 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
     @Override
     public void writeAll(List<? extends DataRow> rows) throws StorageException {
         try {
+            List<TableDataRow> dataRows = new ArrayList<>(rows.size());
+
             for (DataRow row : rows) {
                 TableDataRow dataRow = wrap(row);
 
                 freeList.insertDataRow(dataRow);
 
-                tree.put(dataRow);
+                dataRows.add(dataRow);
             }
+
+            // Sorted rows are mostly put into the leaf that received the previous row, without descending from the root. The sort is
+            // stable, so the last of the rows with the same key wins, as if they were written one by one.
+            dataRows.sort(TableTree.ROW_ORDER);
+
+            tree.putAll(dataRows.iterator());
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error writing rows", e);
         }
@@ -19,10 +19,12 @@ package org.apache.ignite.internal.storage.pagememory;
 
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.configuration.schemas.table.TableView;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.pagememory.mv.PageMemoryMvPartitionStorage;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -73,13 +75,44 @@ class VolatilePageMemoryTableStorage extends AbstractPageMemoryTableStorage {
     /** {@inheritDoc} */
     @Override
     public PageMemoryMvPartitionStorage createMvPartitionStorage(int partitionId) {
-        return new PageMemoryMvPartitionStorage(
+        PageMemoryMvPartitionStorage partition = new PageMemoryMvPartitionStorage(
                 partitionId,
                 tableCfg.value(),
                 dataRegion,
                 dataRegion.versionChainFreeList(),
-                dataRegion.rowVersionFreeList()
+                dataRegion.rowVersionFreeList(),
+                dataRegion.evictionTracker()
         );
+
+        dataRegion.addMvPartitionStorage(partition);
+
+        return partition;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<?> destroyPartition(int partitionId) throws StorageException {
+        MvPartitionStorage partition = getMvPartition(partitionId);
+
+        if (partition != null) {
+            dataRegion.removeMvPartitionStorage((PageMemoryMvPartitionStorage) partition);
+        }
+
+        return super.destroyPartition(partitionId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void close(boolean destroy) throws StorageException {
+        for (int i = 0; i < mvPartitions.length(); i++) {
+            MvPartitionStorage partition = mvPartitions.get(i);
+
+            if (partition != null) {
+                dataRegion.removeMvPartitionStorage((PageMemoryMvPartitionStorage) partition);
+            }
+        }
+
+        super.close(destroy);
     }
 
     /**
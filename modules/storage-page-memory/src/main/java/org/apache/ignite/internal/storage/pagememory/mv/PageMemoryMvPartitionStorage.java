@@ -24,12 +24,19 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.ignite.configuration.schemas.table.TableView;
 import org.apache.ignite.internal.pagememory.DataRegion;
 import org.apache.ignite.internal.pagememory.datapage.DataPageReader;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ByteBufferRow;
@@ -55,7 +62,9 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
 
     private static final Predicate<Timestamp> ALWAYS_LOAD_VALUE = timestamp -> true;
     private static final Predicate<Timestamp> NEVER_LOAD_VALUE = timestamp -> false;
-    private static final Predicate<Timestamp> LOAD_VALUE_WHEN_UNCOMMITTED = RowVersion::isUncommitted;
+
+    /** Maximum number of data pages evicted before a single write, so that writes do not spin when nothing can be evicted. */
+    private static final int MAX_EVICTED_PAGES_PER_WRITE = 16;
 
     private final int partId;
     private final int groupId;
@@ -66,6 +75,17 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
     private final RowVersionFreeList rowVersionFreeList;
     private final DataPageReader rowVersionDataPageReader;
 
+    private final PageEvictionTracker evictionTracker;
+
+    /**
+     * Lock that prevents eviction of the version chains that are being read or modified: operations hold the read lock, eviction tries
+     * to take the write lock. {@code null} if the data region does not evict pages.
+     */
+    private final @Nullable ReadWriteLock evictionLock;
+
+    /** Whether the storage has been closed, guarded by the write lock of {@link #evictionLock}. */
+    private boolean closed;
+
     private final ThreadLocal<ReadRowVersion> readRowVersionCache = ThreadLocal.withInitial(ReadRowVersion::new);
     private final ThreadLocal<ScanVersionChainByTimestamp> scanVersionChainByTimestampCache = ThreadLocal.withInitial(
             ScanVersionChainByTimestamp::new
@@ -85,8 +105,27 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
             DataRegion<?> dataRegion,
             VersionChainFreeList versionChainFreeList,
             RowVersionFreeList rowVersionFreeList
+    ) {
+        this(partId, tableConfig, dataRegion, versionChainFreeList, rowVersionFreeList, PageEvictionTrackerNoOp.INSTANCE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param evictionTracker Eviction tracker of the data region, the storage evicts rows before writes if the tracker requires so.
+     */
+    public PageMemoryMvPartitionStorage(
+            int partId,
+            TableView tableConfig,
+            DataRegion<?> dataRegion,
+            VersionChainFreeList versionChainFreeList,
+            RowVersionFreeList rowVersionFreeList,
+            PageEvictionTracker evictionTracker
     ) {
         this.partId = partId;
+        this.evictionTracker = evictionTracker;
+
+        evictionLock = evictionTracker == PageEvictionTrackerNoOp.INSTANCE ? null : new ReentrantReadWriteLock();
 
         this.versionChainFreeList = versionChainFreeList;
         this.rowVersionFreeList = rowVersionFreeList;
@@ -128,6 +167,13 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
         );
     }
 
+    /**
+     * Returns the partition ID.
+     */
+    public int partitionId() {
+        return partId;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long lastAppliedIndex() {
@@ -149,23 +195,31 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
     /** {@inheritDoc} */
     @Override
     public @Nullable BinaryRow read(RowId rowId, UUID txId) throws TxIdMismatchException, StorageException {
-        VersionChain versionChain = findVersionChain(rowId);
-        if (versionChain == null) {
-            return null;
-        }
+        return withEvictionReadLock(() -> {
+            VersionChain versionChain = findVersionChain(rowId);
+            if (versionChain == null) {
+                return null;
+            }
+
+            touchVersionChainPage(versionChain);
 
-        return findLatestRowVersion(versionChain, txId, MATCH_ALL);
+            return findLatestRowVersion(versionChain, txId, MATCH_ALL);
+        });
     }
 
     /** {@inheritDoc} */
     @Override
     public @Nullable BinaryRow read(RowId rowId, Timestamp timestamp) throws StorageException {
-        VersionChain versionChain = findVersionChain(rowId);
-        if (versionChain == null) {
-            return null;
-        }
+        return withEvictionReadLock(() -> {
+            VersionChain versionChain = findVersionChain(rowId);
+            if (versionChain == null) {
+                return null;
+            }
+
+            touchVersionChainPage(versionChain);
 
-        return findRowVersionByTimestamp(versionChain, timestamp);
+            return findRowVersionByTimestamp(versionChain, timestamp);
+        });
     }
 
     private @Nullable VersionChain findVersionChain(RowId rowId) {
@@ -188,6 +242,10 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
     }
 
     private @Nullable ByteBufferRow findLatestRowVersion(VersionChain versionChain, UUID txId, Predicate<BinaryRow> keyFilter) {
+        if (versionChain.isEvicted()) {
+            return null;
+        }
+
         RowVersion rowVersion = findLatestRowVersion(versionChain, ALWAYS_LOAD_VALUE);
         ByteBufferRow row = rowVersionToBinaryRow(rowVersion);
 
@@ -255,17 +313,36 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
     }
 
     private @Nullable ByteBufferRow findRowVersionByTimestamp(VersionChain versionChain, Timestamp timestamp) {
-        if (!versionChain.hasCommittedVersions()) {
+        Timestamp newestCommittedTimestamp = versionChain.newestCommittedTimestamp();
+
+        if (!versionChain.hasCommittedVersions() || newestCommittedTimestamp == null) {
             return null;
         }
 
         long newestCommittedRowPartitionlessLink = versionChain.newestCommittedPartitionlessLink();
         long newestCommittedLink = PartitionlessLinks.addPartitionIdToPartititionlessLink(newestCommittedRowPartitionlessLink, partId);
 
+        if (newestCommittedTimestamp.beforeOrEquals(timestamp)) {
+            // The newest committed version is visible, so it is read directly without scanning the chain.
+            return rowVersionToBinaryRow(readRowVersion(newestCommittedLink, ALWAYS_LOAD_VALUE));
+        }
+
+        long scanStartLink;
+
+        if (versionChain.isUncommitted()) {
+            // The link to the version preceding the newest committed one is only stored in the newest committed version itself.
+            scanStartLink = newestCommittedLink;
+        } else if (versionChain.nextLink() != RowVersion.NULL_LINK) {
+            // The newest committed version is the head, the scan starts right from its predecessor.
+            scanStartLink = PartitionlessLinks.addPartitionIdToPartititionlessLink(versionChain.nextLink(), partId);
+        } else {
+            return null;
+        }
+
         ScanVersionChainByTimestamp scanByTimestamp = freshScanByTimestamp();
 
         try {
-            rowVersionDataPageReader.traverse(newestCommittedLink, scanByTimestamp, timestamp);
+            rowVersionDataPageReader.traverse(scanStartLink, scanByTimestamp, timestamp);
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Cannot search for a row version", e);
         }
@@ -282,11 +359,18 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
     /** {@inheritDoc} */
     @Override
     public LinkRowId insert(BinaryRow row, UUID txId) throws StorageException {
+        ensureFreeSpace();
+
+        return withEvictionReadLock(() -> insert0(row, txId));
+    }
+
+    private LinkRowId insert0(BinaryRow row, UUID txId) {
         RowVersion rowVersion = insertRowVersion(Objects.requireNonNull(row), RowVersion.NULL_LINK);
 
         VersionChain versionChain = new VersionChain(
                 partId,
                 txId,
+                null,
                 PartitionlessLinks.removePartitionIdFromLink(rowVersion.link()),
                 RowVersion.NULL_LINK
         );
@@ -307,53 +391,95 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
     }
 
     private RowVersion insertRowVersion(@Nullable BinaryRow row, long nextPartitionlessLink) {
+        return insertRowVersion(row, null, nextPartitionlessLink);
+    }
+
+    private RowVersion insertRowVersion(@Nullable BinaryRow row, @Nullable Timestamp timestamp, long nextPartitionlessLink) {
         // TODO IGNITE-16913 Add proper way to write row bytes into array without allocations.
         byte[] rowBytes = row == null ? TOMBSTONE_PAYLOAD : row.bytes();
 
-        RowVersion rowVersion = new RowVersion(partId, nextPartitionlessLink, ByteBuffer.wrap(rowBytes));
+        RowVersion rowVersion = new RowVersion(partId, 0, timestamp, nextPartitionlessLink, ByteBuffer.wrap(rowBytes));
 
-        insertRowVersion(rowVersion);
+        // Versions of a row are placed on the same data page where possible, so that reads of older versions touch fewer pages.
+        long previousVersionLink = nextPartitionlessLink == RowVersion.NULL_LINK
+                ? RowVersion.NULL_LINK
+                : PartitionlessLinks.addPartitionIdToPartititionlessLink(nextPartitionlessLink, partId);
 
-        return rowVersion;
-    }
-
-    private void insertRowVersion(RowVersion rowVersion) {
         try {
-            rowVersionFreeList.insertDataRow(rowVersion);
+            rowVersionFreeList.insertDataRow(rowVersion, previousVersionLink);
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Cannot store a row version", e);
         }
+
+        return rowVersion;
     }
 
     /** {@inheritDoc} */
     @Override
     public @Nullable BinaryRow addWrite(RowId rowId, @Nullable BinaryRow row, UUID txId) throws TxIdMismatchException, StorageException {
+        ensureFreeSpace();
+
+        return withEvictionReadLock(() -> addWrite0(rowId, row, txId));
+    }
+
+    private @Nullable BinaryRow addWrite0(RowId rowId, @Nullable BinaryRow row, UUID txId) {
         VersionChain currentChain = findVersionChainForModification(rowId);
 
         throwIfChainBelongsToAnotherTx(currentChain, txId);
 
-        RowVersion currentVersion = findLatestRowVersion(currentChain, LOAD_VALUE_WHEN_UNCOMMITTED);
-        RowVersion newVersion = insertRowVersion(row, currentVersion.isUncommitted() ? currentVersion.nextLink() : currentChain.headLink());
+        if (currentChain.isEvicted()) {
+            // All versions of the row have been evicted, so it is written as if it was new.
+            RowVersion newVersion = insertRowVersion(row, RowVersion.NULL_LINK);
+
+            VersionChain chainReplacement = new VersionChain(
+                    partId,
+                    txId,
+                    null,
+                    PartitionlessLinks.removePartitionIdFromLink(newVersion.link()),
+                    RowVersion.NULL_LINK
+            );
+
+            updateVersionChain(currentChain, chainReplacement);
 
-        if (currentVersion.isUncommitted()) {
-            // as we replace an uncommitted version with new one, we need to remove old uncommitted version
-            removeRowVersion(currentVersion);
+            return null;
         }
 
+        if (!currentChain.isUncommitted()) {
+            // The head is the newest committed version, it becomes the predecessor of the write intent without being read.
+            RowVersion newVersion = insertRowVersion(row, currentChain.headLink());
+
+            VersionChain chainReplacement = new VersionChain(
+                    partId,
+                    txId,
+                    currentChain.newestCommittedTimestamp(),
+                    PartitionlessLinks.removePartitionIdFromLink(newVersion.link()),
+                    currentChain.headLink()
+            );
+
+            updateVersionChain(currentChain, chainReplacement);
+
+            return null;
+        }
+
+        RowVersion currentVersion = findLatestRowVersion(currentChain, ALWAYS_LOAD_VALUE);
+        assert currentVersion.isUncommitted();
+
+        RowVersion newVersion = insertRowVersion(row, currentVersion.nextLink());
+
+        // as we replace an uncommitted version with new one, we need to remove old uncommitted version
+        removeRowVersion(currentVersion);
+
         VersionChain chainReplacement = new VersionChain(
                 partId,
                 txId,
+                currentChain.newestCommittedTimestamp(),
                 PartitionlessLinks.removePartitionIdFromLink(newVersion.link()),
-                currentChain.headLink()
+                currentVersion.nextLink()
         );
 
         updateVersionChain(currentChain, chainReplacement);
 
-        if (currentVersion.isUncommitted()) {
-            return rowVersionToBinaryRow(currentVersion);
-        } else {
-            return null;
-        }
+        return rowVersionToBinaryRow(currentVersion);
     }
 
     private VersionChain findVersionChainForModification(RowId rowId) {
@@ -367,6 +493,10 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
     /** {@inheritDoc} */
     @Override
     public @Nullable BinaryRow abortWrite(RowId rowId) throws StorageException {
+        return withEvictionReadLock(() -> abortWrite0(rowId));
+    }
+
+    private @Nullable BinaryRow abortWrite0(RowId rowId) {
         VersionChain currentVersionChain = findVersionChainForModification(rowId);
 
         if (currentVersionChain.transactionId() == null) {
@@ -380,22 +510,20 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
         removeRowVersion(latestVersion);
 
         if (latestVersion.hasNextLink()) {
-            // This load can be avoided, see the comment below.
             RowVersion latestCommittedVersion = readNextInChainOrderHeaderOnly(latestVersion);
 
             VersionChain versionChainReplacement = VersionChain.withoutTxId(
                     partId,
                     currentVersionChain.link(),
+                    currentVersionChain.newestCommittedTimestamp(),
                     latestVersion.nextLink(),
-                    // Next can be safely replaced with any value (like -1), because this field is only used when there
-                    // is some uncommitted value, but when we add an uncommitted value, we 'fix' such placeholder value
-                    // (like -1) by replacing it with a valid value. But it seems that this optimization is not critical
-                    // as aborts are pretty rare; let's strive for internal consistency for now and write the correct value.
+                    // The head is the newest committed version now, reads by timestamp that do not see it start the scan from
+                    // the next link of the chain, so it must point to the version preceding the head.
                     latestCommittedVersion.nextLink()
             );
             updateVersionChain(currentVersionChain, versionChainReplacement);
         } else {
-            // it was the only version, let's remove the chain as well
+            // it was the only version (the committed ones, if any, have been evicted), let's remove the chain as well
             removeVersionChain(currentVersionChain);
         }
 
@@ -414,6 +542,10 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
         return readRowVersion(preLatestVersionLink, NEVER_LOAD_VALUE);
     }
 
+    private VersionChain evictedVersionChain(VersionChain versionChain) {
+        return VersionChain.withoutTxId(partId, versionChain.link(), null, RowVersion.NULL_LINK, RowVersion.NULL_LINK);
+    }
+
     private void removeVersionChain(VersionChain currentVersionChain) {
         try {
             versionChainFreeList.removeDataRowByLink(currentVersionChain.link());
@@ -425,6 +557,14 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
     /** {@inheritDoc} */
     @Override
     public void commitWrite(RowId rowId, Timestamp timestamp) throws StorageException {
+        withEvictionReadLock(() -> {
+            commitWrite0(rowId, timestamp);
+
+            return null;
+        });
+    }
+
+    private void commitWrite0(RowId rowId, Timestamp timestamp) {
         VersionChain currentVersionChain = findVersionChainForModification(rowId);
         long chainLink = PartitionlessLinks.addPartitionIdToPartititionlessLink(currentVersionChain.headLink(), partId);
 
@@ -440,12 +580,52 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
         }
 
         try {
-            versionChainFreeList.updateTransactionId(currentVersionChain.link(), null);
+            versionChainFreeList.markCommitted(currentVersionChain.link(), timestamp);
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Cannot update transaction ID", e);
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void replaceNewestCommitted(RowId rowId, BinaryRow row) throws TxIdMismatchException, StorageException {
+        ensureFreeSpace();
+
+        withEvictionReadLock(() -> {
+            replaceNewestCommitted0(rowId, row);
+
+            return null;
+        });
+    }
+
+    private void replaceNewestCommitted0(RowId rowId, BinaryRow row) {
+        VersionChain currentChain = findVersionChainForModification(rowId);
+
+        if (currentChain.isUncommitted()) {
+            throw new TxIdMismatchException();
+        }
+
+        if (currentChain.isEvicted()) {
+            return;
+        }
+
+        RowVersion currentVersion = findLatestRowVersion(currentChain, NEVER_LOAD_VALUE);
+
+        RowVersion newVersion = insertRowVersion(row, currentVersion.timestamp(), currentVersion.nextLink());
+
+        VersionChain chainReplacement = new VersionChain(
+                partId,
+                null,
+                currentChain.newestCommittedTimestamp(),
+                PartitionlessLinks.removePartitionIdFromLink(newVersion.link()),
+                currentVersion.nextLink()
+        );
+
+        updateVersionChain(currentChain, chainReplacement);
+
+        removeRowVersion(currentVersion);
+    }
+
     private void removeRowVersion(RowVersion currentVersion) {
         try {
             rowVersionFreeList.removeDataRowByLink(currentVersion.link());
@@ -509,9 +689,113 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
     /** {@inheritDoc} */
     @Override
     public void close() {
+        if (evictionLock != null) {
+            evictionLock.writeLock().lock();
+
+            try {
+                closed = true;
+            } finally {
+                evictionLock.writeLock().unlock();
+            }
+        }
+
         versionChainTree.close();
     }
 
+    /**
+     * Evicts all versions of a committed row, if the version chain with the given link belongs to this storage. The version chain itself
+     * is kept, so that the row ID stays valid: the row reads as absent and can be written again.
+     *
+     * <p>Rows that are being read or modified concurrently, as well as rows with a pending write intent, are not evicted.
+     *
+     * @param link Version chain link.
+     * @return {@code True} if the row has been evicted.
+     * @throws IgniteInternalCheckedException In case of page memory error.
+     */
+    public boolean evictVersionChain(long link) throws IgniteInternalCheckedException {
+        assert evictionLock != null : "Eviction is disabled";
+
+        Lock lock = evictionLock.writeLock();
+
+        if (!lock.tryLock()) {
+            return false;
+        }
+
+        try {
+            if (closed || versionChainTree.findOne(new VersionChainLink(link)) == null) {
+                // The version chain belongs to another storage or has been removed.
+                return false;
+            }
+
+            VersionChain versionChain = versionChainDataPageReader.getRowByLink(link);
+
+            if (versionChain == null || versionChain.transactionId() != null || versionChain.isEvicted()) {
+                return false;
+            }
+
+            updateVersionChain(versionChain, evictedVersionChain(versionChain));
+
+            long rowVersionLink = PartitionlessLinks.addPartitionIdToPartititionlessLink(versionChain.headLink(), partId);
+
+            while (rowVersionLink != RowVersion.NULL_LINK) {
+                RowVersion rowVersion = readRowVersion(rowVersionLink, NEVER_LOAD_VALUE);
+
+                rowVersionFreeList.removeDataRowByLink(rowVersionLink);
+
+                rowVersionLink = rowVersion.hasNextLink()
+                        ? PartitionlessLinks.addPartitionIdToPartititionlessLink(rowVersion.nextLink(), partId)
+                        : RowVersion.NULL_LINK;
+            }
+
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evicts rows until the eviction tracker no longer requires it, but no more than {@link #MAX_EVICTED_PAGES_PER_WRITE} pages. Must be
+     * called without the eviction read lock held, so that the rows of this storage can be evicted as well.
+     */
+    private void ensureFreeSpace() {
+        try {
+            for (int i = 0; i < MAX_EVICTED_PAGES_PER_WRITE && evictionTracker.evictionRequired(); i++) {
+                evictionTracker.evictDataPage();
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error occurred while evicting rows", e);
+        }
+    }
+
+    private void touchVersionChainPage(VersionChain versionChain) {
+        if (versionChain.isEvicted()) {
+            // There is nothing to evict, the page must not look like an eviction candidate because of it.
+            return;
+        }
+
+        try {
+            evictionTracker.touchPage(PageIdUtils.pageId(versionChain.link()));
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error occurred while tracking a page access", e);
+        }
+    }
+
+    private <V> V withEvictionReadLock(Supplier<V> action) {
+        if (evictionLock == null) {
+            return action.get();
+        }
+
+        Lock lock = evictionLock.readLock();
+
+        lock.lock();
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private class ScanCursor implements Cursor<BinaryRow> {
         private final IgniteCursor<VersionChain> treeCursor;
         private final Predicate<BinaryRow> keyFilter;
@@ -552,7 +836,9 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
                 }
 
                 VersionChain chain = getCurrentChainFromTreeCursor();
-                ByteBufferRow row = findRowVersionInChain(chain, transactionId, timestamp, keyFilter);
+                ByteBufferRow row = evictionLock == null
+                        ? findRowVersionInChain(chain, transactionId, timestamp, keyFilter)
+                        : withEvictionReadLock(() -> findRowVersionInActualChain(chain.link()));
 
                 if (row != null) {
                     nextRow = row;
@@ -561,6 +847,28 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
             }
         }
 
+        /**
+         * Reads the row from the version chain by its link rather than from the chain buffered by the tree cursor, as the rows of the
+         * latter might have been evicted since it was read.
+         */
+        private @Nullable ByteBufferRow findRowVersionInActualChain(long link) {
+            VersionChain chain;
+
+            try {
+                chain = versionChainDataPageReader.getRowByLink(link);
+            } catch (IgniteInternalCheckedException e) {
+                throw new StorageException("Version chain lookup failed", e);
+            }
+
+            if (chain == null) {
+                return null;
+            }
+
+            touchVersionChainPage(chain);
+
+            return findRowVersionInChain(chain, transactionId, timestamp, keyFilter);
+        }
+
         private boolean tryAdvanceTreeCursor() {
             try {
                 return treeCursor.next();
@@ -101,6 +101,18 @@ public class RowVersionFreeList extends AbstractFreeList<RowVersion> {
         super.insertDataRow(row, statHolder);
     }
 
+    /**
+     * Inserts a row trying to place it on the same data page as the previous version of the row, so that the versions of a row are kept
+     * together.
+     *
+     * @param row Row.
+     * @param previousVersionLink Link of the previous version of the row, {@link RowVersion#NULL_LINK} if there is no such version.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void insertDataRow(RowVersion row, long previousVersionLink) throws IgniteInternalCheckedException {
+        super.insertDataRow(row, previousVersionLink, statHolder);
+    }
+
     /**
      * Updates row version's timestamp.
      *
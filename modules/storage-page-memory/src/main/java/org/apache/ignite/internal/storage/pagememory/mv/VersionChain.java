@@ -23,12 +23,16 @@ import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
 import org.apache.ignite.internal.pagememory.io.IoVersions;
 import org.apache.ignite.internal.storage.pagememory.mv.io.VersionChainDataIo;
 import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents row version chain: that is, all versions of the row plus some row-level metadata.
  *
  * <p>NB: this represents the whole set of versions, not just one version in the chain.
+ *
+ * <p>Besides the links to the versions, the chain stores the write intent transaction ID and the timestamp of the newest committed
+ * version, so that reads can decide which version to load without decoding the versions one by one.
  */
 public class VersionChain extends VersionChainLink implements Storable {
     public static long NULL_UUID_COMPONENT = 0;
@@ -36,13 +40,23 @@ public class VersionChain extends VersionChainLink implements Storable {
     private static final int TRANSACTION_ID_STORE_SIZE_BYTES = 2 * Long.BYTES;
     private static final int HEAD_LINK_STORE_SIZE_BYTES = PartitionlessLinks.PARTITIONLESS_LINK_SIZE_BYTES;
     private static final int NEXT_LINK_STORE_SIZE_BYTES = PartitionlessLinks.PARTITIONLESS_LINK_SIZE_BYTES;
+    private static final int NEWEST_COMMITTED_TIMESTAMP_STORE_SIZE_BYTES = 2 * Long.BYTES;
 
     public static final int TRANSACTION_ID_OFFSET = 0;
+    public static final int HEAD_LINK_OFFSET = TRANSACTION_ID_OFFSET + TRANSACTION_ID_STORE_SIZE_BYTES;
+    public static final int NEXT_LINK_OFFSET = HEAD_LINK_OFFSET + HEAD_LINK_STORE_SIZE_BYTES;
+    public static final int NEWEST_COMMITTED_TIMESTAMP_OFFSET = NEXT_LINK_OFFSET + NEXT_LINK_STORE_SIZE_BYTES;
 
     private final int partitionId;
     @Nullable
     private final UUID transactionId;
 
+    /**
+     * Timestamp of the newest committed version ({@code null} if there are no committed versions).
+     */
+    @Nullable
+    private final Timestamp newestCommittedTimestamp;
+
     /**
      * Link to the latest version.
      */
@@ -56,16 +70,29 @@ public class VersionChain extends VersionChainLink implements Storable {
     /**
      * Constructs a VersionChain without a transaction ID.
      */
-    public static VersionChain withoutTxId(int partitionId, long link, long headLink, long nextLink) {
-        return new VersionChain(partitionId, link, null, headLink, nextLink);
+    public static VersionChain withoutTxId(
+            int partitionId,
+            long link,
+            @Nullable Timestamp newestCommittedTimestamp,
+            long headLink,
+            long nextLink
+    ) {
+        return new VersionChain(partitionId, link, null, newestCommittedTimestamp, headLink, nextLink);
     }
 
     /**
      * Constructor.
      */
-    public VersionChain(int partitionId, @Nullable UUID transactionId, long headLink, long nextLink) {
+    public VersionChain(
+            int partitionId,
+            @Nullable UUID transactionId,
+            @Nullable Timestamp newestCommittedTimestamp,
+            long headLink,
+            long nextLink
+    ) {
         this.partitionId = partitionId;
         this.transactionId = transactionId;
+        this.newestCommittedTimestamp = newestCommittedTimestamp;
         this.headLink = headLink;
         this.nextLink = nextLink;
     }
@@ -73,10 +100,18 @@ public class VersionChain extends VersionChainLink implements Storable {
     /**
      * Constructor.
      */
-    public VersionChain(int partitionId, long link, @Nullable UUID transactionId, long headLink, long nextLink) {
+    public VersionChain(
+            int partitionId,
+            long link,
+            @Nullable UUID transactionId,
+            @Nullable Timestamp newestCommittedTimestamp,
+            long headLink,
+            long nextLink
+    ) {
         super(link);
         this.partitionId = partitionId;
         this.transactionId = transactionId;
+        this.newestCommittedTimestamp = newestCommittedTimestamp;
         this.headLink = headLink;
         this.nextLink = nextLink;
     }
@@ -86,6 +121,14 @@ public class VersionChain extends VersionChainLink implements Storable {
         return transactionId;
     }
 
+    /**
+     * Returns the timestamp of the newest committed version, {@code null} if there are no committed versions.
+     */
+    @Nullable
+    public Timestamp newestCommittedTimestamp() {
+        return newestCommittedTimestamp;
+    }
+
     public long headLink() {
         return headLink;
     }
@@ -98,7 +141,10 @@ public class VersionChain extends VersionChainLink implements Storable {
         return isUncommitted() ? nextLink : headLink;
     }
 
-    private boolean isUncommitted() {
+    /**
+     * Returns {@code true} if the latest version is a write intent.
+     */
+    public boolean isUncommitted() {
         return transactionId != null;
     }
 
@@ -106,6 +152,13 @@ public class VersionChain extends VersionChainLink implements Storable {
         return newestCommittedPartitionlessLink() != RowVersion.NULL_LINK;
     }
 
+    /**
+     * Returns {@code true} if the chain has no versions at all, which happens when the row has been evicted from an in-memory data region.
+     */
+    public boolean isEvicted() {
+        return transactionId == null && headLink == RowVersion.NULL_LINK;
+    }
+
     @Override
     public final int partition() {
         return partitionId;
@@ -113,7 +166,8 @@ public class VersionChain extends VersionChainLink implements Storable {
 
     @Override
     public int size() {
-        return TRANSACTION_ID_STORE_SIZE_BYTES + HEAD_LINK_STORE_SIZE_BYTES + NEXT_LINK_STORE_SIZE_BYTES;
+        return TRANSACTION_ID_STORE_SIZE_BYTES + HEAD_LINK_STORE_SIZE_BYTES + NEXT_LINK_STORE_SIZE_BYTES
+                + NEWEST_COMMITTED_TIMESTAMP_STORE_SIZE_BYTES;
     }
 
     @Override
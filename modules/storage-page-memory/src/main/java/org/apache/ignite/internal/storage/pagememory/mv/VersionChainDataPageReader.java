@@ -26,6 +26,7 @@ import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.datapage.DataPageReader;
 import org.apache.ignite.internal.pagememory.datapage.NonFragmentableDataPageReader;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -68,7 +69,9 @@ class VersionChainDataPageReader extends NonFragmentableDataPageReader<VersionCh
         long nextLink = PartitionlessLinks.readFromMemory(pageAddr, offset);
         offset += PartitionlessLinks.PARTITIONLESS_LINK_SIZE_BYTES;
 
-        return new VersionChain(partitionOfLink(link), link, txId, headLink, nextLink);
+        Timestamp newestCommittedTimestamp = Timestamps.readTimestamp(pageAddr, offset);
+
+        return new VersionChain(partitionOfLink(link), link, txId, newestCommittedTimestamp, headLink, nextLink);
     }
 
     private int partitionOfLink(long link) {
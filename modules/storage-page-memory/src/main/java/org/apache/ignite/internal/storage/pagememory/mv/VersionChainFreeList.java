@@ -17,7 +17,6 @@
 
 package org.apache.ignite.internal.storage.pagememory.mv;
 
-import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
@@ -30,6 +29,7 @@ import org.apache.ignite.internal.pagememory.reuse.ReuseList;
 import org.apache.ignite.internal.pagememory.util.PageHandler;
 import org.apache.ignite.internal.pagememory.util.PageLockListener;
 import org.apache.ignite.internal.storage.pagememory.mv.io.VersionChainDataIo;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.jetbrains.annotations.Nullable;
 
@@ -43,7 +43,7 @@ public class VersionChainFreeList extends AbstractFreeList<VersionChain> {
 
     private final IoStatisticsHolder statHolder;
 
-    private final UpdateTransactionIdHandler updateTransactionHandler = new UpdateTransactionIdHandler();
+    private final MarkCommittedHandler markCommittedHandler = new MarkCommittedHandler();
 
     /**
      * Constructor.
@@ -113,14 +113,14 @@ public class VersionChainFreeList extends AbstractFreeList<VersionChain> {
     }
 
     /**
-     * Updates version chain's transactionId.
+     * Marks version chain's write intent as committed: clears the transaction ID and updates the newest committed timestamp.
      *
-     * @param link         link to the slot containing row version
-     * @param transactionId transaction ID to set
+     * @param link      link to the slot containing version chain
+     * @param timestamp commit timestamp to set
      * @throws IgniteInternalCheckedException if something fails
      */
-    public void updateTransactionId(long link, @Nullable UUID transactionId) throws IgniteInternalCheckedException {
-        updateDataRow(link, updateTransactionHandler, transactionId, statHolder);
+    public void markCommitted(long link, Timestamp timestamp) throws IgniteInternalCheckedException {
+        updateDataRow(link, markCommittedHandler, timestamp, statHolder);
     }
 
     /**
@@ -133,7 +133,7 @@ public class VersionChainFreeList extends AbstractFreeList<VersionChain> {
         super.removeDataRowByLink(link, statHolder);
     }
 
-    private class UpdateTransactionIdHandler implements PageHandler<UUID, Object> {
+    private class MarkCommittedHandler implements PageHandler<Timestamp, Object> {
         /** {@inheritDoc} */
         @Override
         public Object run(
@@ -142,13 +142,13 @@ public class VersionChainFreeList extends AbstractFreeList<VersionChain> {
                 long page,
                 long pageAddr,
                 PageIo io,
-                UUID arg,
+                Timestamp arg,
                 int itemId,
                 IoStatisticsHolder statHolder
         ) throws IgniteInternalCheckedException {
             VersionChainDataIo dataIo = (VersionChainDataIo) io;
 
-            dataIo.updateTransactionId(pageAddr, itemId, pageSize(), arg);
+            dataIo.markCommitted(pageAddr, itemId, pageSize(), arg);
 
             evictionTracker.touchPage(pageId);
 
@@ -20,14 +20,14 @@ package org.apache.ignite.internal.storage.pagememory.mv.io;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.putShort;
 
 import java.nio.ByteBuffer;
-import java.util.UUID;
 import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
 import org.apache.ignite.internal.pagememory.io.IoVersions;
 import org.apache.ignite.internal.storage.pagememory.mv.PartitionlessLinks;
+import org.apache.ignite.internal.storage.pagememory.mv.Timestamps;
 import org.apache.ignite.internal.storage.pagememory.mv.TransactionIds;
 import org.apache.ignite.internal.storage.pagememory.mv.VersionChain;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.lang.IgniteStringBuilder;
-import org.jetbrains.annotations.Nullable;
 
 /**
  * {@link AbstractDataPageIo} for {@link VersionChain} instances.
@@ -36,8 +36,11 @@ public class VersionChainDataIo extends AbstractDataPageIo<VersionChain> {
     /** Page IO type. */
     public static final short T_VERSION_CHAIN_IO = 8;
 
-    /** I/O versions. */
-    public static final IoVersions<VersionChainDataIo> VERSIONS = new IoVersions<>(new VersionChainDataIo(1));
+    /**
+     * I/O versions. Items of version 1 are 40 bytes long and have no newest committed timestamp, items of version 2 are 56 bytes long.
+     * Version chains are only stored in volatile page memory, so pages of version 1 never have to be read.
+     */
+    public static final IoVersions<VersionChainDataIo> VERSIONS = new IoVersions<>(new VersionChainDataIo(1), new VersionChainDataIo(2));
 
     /**
      * Constructor.
@@ -59,6 +62,7 @@ public class VersionChainDataIo extends AbstractDataPageIo<VersionChain> {
     @Override
     protected void writeRowData(long pageAddr, int dataOff, int payloadSize, VersionChain row, boolean newRow) {
         assertPageType(pageAddr);
+        assert getVersion() >= 2 : "Version chains are not written to pages of version " + getVersion();
 
         long addr = pageAddr + dataOff;
 
@@ -69,6 +73,8 @@ public class VersionChainDataIo extends AbstractDataPageIo<VersionChain> {
 
         addr += PartitionlessLinks.writeToMemory(addr, row.headLink());
         addr += PartitionlessLinks.writeToMemory(addr, row.nextLink());
+
+        addr += Timestamps.writeTimestampToMemory(addr, 0, row.newestCommittedTimestamp());
     }
 
     /** {@inheritDoc} */
@@ -81,17 +87,21 @@ public class VersionChainDataIo extends AbstractDataPageIo<VersionChain> {
     }
 
     /**
-     * Writes transaction ID leaving everything else untouched.
+     * Marks the write intent of the version chain as committed: clears the transaction ID and sets the newest committed timestamp, leaving
+     * everything else untouched.
      *
      * @param pageAddr page address
      * @param itemId   number of the item representing the slot where the row of interest resides
      * @param pageSize size of the page
-     * @param txId     transaction ID to write
+     * @param timestamp commit timestamp of the write intent
      */
-    public void updateTransactionId(long pageAddr, int itemId, int pageSize, @Nullable UUID txId) {
+    public void markCommitted(long pageAddr, int itemId, int pageSize, Timestamp timestamp) {
+        assertPageType(pageAddr);
+
         int dataOff = getDataOffset(pageAddr, itemId, pageSize);
         int payloadOffset = dataOff + Short.BYTES;
 
-        TransactionIds.writeTransactionId(pageAddr, payloadOffset + VersionChain.TRANSACTION_ID_OFFSET, txId);
+        TransactionIds.writeTransactionId(pageAddr, payloadOffset + VersionChain.TRANSACTION_ID_OFFSET, null);
+        Timestamps.writeTimestampToMemory(pageAddr, payloadOffset + VersionChain.NEWEST_COMMITTED_TIMESTAMP_OFFSET, timestamp);
     }
 }
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.nio.file.Path;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import org.apache.ignite.configuration.schemas.store.UnknownDataStorageConfigurationSchema;
@@ -265,4 +266,42 @@ class PageMemoryMvPartitionStorageTest extends AbstractMvPartitionStorageTest<Pa
 
         assertThat(foundRow, is(nullValue()));
     }
+
+    @Test
+    void readByTimestampReturnsOlderCommittedVersions() {
+        Timestamp beforeInsert = Timestamp.nextVersion();
+
+        RowId rowId = storage.insert(binaryRow, txId);
+        Timestamp firstCommitTs = Timestamp.nextVersion();
+        storage.commitWrite(rowId, firstCommitTs);
+
+        storage.addWrite(rowId, binaryRow2, newTransactionId());
+        Timestamp secondCommitTs = Timestamp.nextVersion();
+        storage.commitWrite(rowId, secondCommitTs);
+
+        assertThat(storage.read(rowId, beforeInsert), is(nullValue()));
+        assertRowMatches(storage.read(rowId, firstCommitTs), binaryRow);
+        assertRowMatches(storage.read(rowId, secondCommitTs), binaryRow2);
+        assertRowMatches(storage.read(rowId, Timestamp.nextVersion()), binaryRow2);
+    }
+
+    @Test
+    void readByTimestampWorksCorrectlyAfterUncommittedWriteIsReplaced() {
+        RowId rowId = storage.insert(binaryRow, txId);
+        Timestamp firstCommitTs = Timestamp.nextVersion();
+        storage.commitWrite(rowId, firstCommitTs);
+
+        UUID newTxId = newTransactionId();
+
+        storage.addWrite(rowId, binaryRow2, newTxId);
+        storage.addWrite(rowId, binaryRow3, newTxId);
+
+        assertRowMatches(storage.read(rowId, Timestamp.nextVersion()), binaryRow);
+
+        Timestamp secondCommitTs = Timestamp.nextVersion();
+        storage.commitWrite(rowId, secondCommitTs);
+
+        assertRowMatches(storage.read(rowId, firstCommitTs), binaryRow);
+        assertRowMatches(storage.read(rowId, secondCommitTs), binaryRow3);
+    }
 }
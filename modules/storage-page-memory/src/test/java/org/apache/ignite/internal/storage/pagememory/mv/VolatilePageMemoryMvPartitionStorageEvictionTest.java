@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import static org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfigurationSchema.RANDOM_2_LRU_EVICTION_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfigurationSchema.RANDOM_LRU_EVICTION_MODE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.configuration.schemas.store.UnknownDataStorageConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.ConstantValueDefaultConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.FunctionCallDefaultConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.HashIndexConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.NullValueDefaultConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.TableConfiguration;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorConfigurationSchema;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.BaseMvStoragesTest;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.pagememory.AbstractPageMemoryTableStorage;
+import org.apache.ignite.internal.storage.pagememory.VolatilePageMemoryStorageEngine;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.VolatilePageMemoryDataStorageChange;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.VolatilePageMemoryDataStorageConfigurationSchema;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.VolatilePageMemoryStorageEngineConfiguration;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the eviction of rows from the {@link PageMemoryMvPartitionStorage} in an in-memory data region.
+ */
+@ExtendWith(ConfigurationExtension.class)
+class VolatilePageMemoryMvPartitionStorageEvictionTest extends BaseMvStoragesTest {
+    private static final long REGION_SIZE = 16L * 1024 * 1024;
+
+    private static final int ROWS = 100_000;
+
+    private final PageIoRegistry ioRegistry = new PageIoRegistry();
+
+    {
+        ioRegistry.loadFromServiceLoader();
+    }
+
+    @InjectConfiguration(polymorphicExtensions = UnsafeMemoryAllocatorConfigurationSchema.class)
+    private VolatilePageMemoryStorageEngineConfiguration engineConfig;
+
+    @InjectConfiguration(
+            name = "table",
+            polymorphicExtensions = {
+                    HashIndexConfigurationSchema.class,
+                    UnknownDataStorageConfigurationSchema.class,
+                    VolatilePageMemoryDataStorageConfigurationSchema.class,
+                    ConstantValueDefaultConfigurationSchema.class,
+                    FunctionCallDefaultConfigurationSchema.class,
+                    NullValueDefaultConfigurationSchema.class,
+            }
+    )
+    private TableConfiguration tableCfg;
+
+    private VolatilePageMemoryStorageEngine engine;
+
+    private AbstractPageMemoryTableStorage table;
+
+    private PageMemoryMvPartitionStorage storage;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        IgniteUtils.closeAll(
+                storage,
+                table == null ? null : table::stop,
+                engine == null ? null : engine::stop
+        );
+    }
+
+    private void startStorage(String evictionMode) throws Exception {
+        engineConfig.defaultRegion()
+                .change(c -> c.changeInitSize(REGION_SIZE).changeMaxSize(REGION_SIZE).changeEvictionMode(evictionMode))
+                .get(1, TimeUnit.SECONDS);
+
+        engine = new VolatilePageMemoryStorageEngine(engineConfig, ioRegistry);
+
+        engine.start();
+
+        tableCfg
+                .change(c -> c.changeDataStorage(dsc -> dsc.convert(VolatilePageMemoryDataStorageChange.class)))
+                .get(1, TimeUnit.SECONDS);
+
+        table = engine.createTable(tableCfg);
+        table.start();
+
+        storage = table.createMvPartitionStorage(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {RANDOM_LRU_EVICTION_MODE, RANDOM_2_LRU_EVICTION_MODE})
+    void testRowsAreEvictedInsteadOfRunningOutOfMemory(String evictionMode) throws Exception {
+        startStorage(evictionMode);
+
+        List<RowId> rowIds = new ArrayList<>(ROWS);
+
+        for (int i = 0; i < ROWS; i++) {
+            RowId rowId = storage.insert(row(i), UUID.randomUUID());
+
+            storage.commitWrite(rowId, Timestamp.nextVersion());
+
+            rowIds.add(rowId);
+
+            // Keep the first row hot.
+            assertNotNull(storage.read(rowIds.get(0), Timestamp.nextVersion()));
+        }
+
+        int present = 0;
+
+        for (int i = 0; i < ROWS; i++) {
+            BinaryRow row = storage.read(rowIds.get(i), Timestamp.nextVersion());
+
+            if (row != null) {
+                assertEquals(i, value(row).intVal);
+
+                present++;
+            }
+        }
+
+        assertTrue(present > 0 && present < ROWS, "present=" + present);
+
+        assertEquals(present, scanCount());
+
+        // Evicted rows read as absent, but their row IDs stay valid.
+        for (int i = 0; i < ROWS; i++) {
+            RowId rowId = rowIds.get(i);
+
+            if (storage.read(rowId, Timestamp.nextVersion()) == null) {
+                UUID txId = UUID.randomUUID();
+
+                assertNull(storage.addWrite(rowId, row(-i), txId));
+                assertEquals(-i, value(storage.read(rowId, txId)).intVal);
+
+                storage.commitWrite(rowId, Timestamp.nextVersion());
+
+                assertEquals(-i, value(storage.read(rowId, Timestamp.nextVersion())).intVal);
+
+                break;
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {RANDOM_LRU_EVICTION_MODE, RANDOM_2_LRU_EVICTION_MODE})
+    void testAbortedInsertRemovesVersionChain(String evictionMode) throws Exception {
+        startStorage(evictionMode);
+
+        UUID txId = UUID.randomUUID();
+
+        RowId rowId = storage.insert(row(0), txId);
+
+        assertEquals(0, value(storage.abortWrite(rowId)).intVal);
+
+        assertNull(storage.read(rowId, Timestamp.nextVersion()));
+
+        assertEquals(0, scanCount());
+
+        assertThrows(RowIdIsInvalidForModificationsException.class, () -> storage.addWrite(rowId, row(1), txId));
+    }
+
+    private int scanCount() throws Exception {
+        int count = 0;
+
+        try (Cursor<BinaryRow> cursor = storage.scan(row -> true, Timestamp.nextVersion())) {
+            while (cursor.hasNext()) {
+                cursor.next();
+
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private static BinaryRow row(int i) {
+        return binaryRow(new TestKey(i, "key-" + i), new TestValue(i, "value-".repeat(40) + i));
+    }
+}
@@ -417,6 +417,44 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void replaceNewestCommitted(RowId rowId, BinaryRow row) throws TxIdMismatchException, StorageException {
+        assert rowId.partitionId() == partitionId : rowId;
+
+        WriteBatchWithIndex writeBatch = requireWriteBatch();
+
+        ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
+
+        try (
+                var readOpts = new ReadOptions().setIterateUpperBound(upperBound);
+                RocksIterator baseIterator = db.newIterator(cf, readOpts);
+                RocksIterator seekIterator = writeBatch.count() > 0 ? writeBatch.newIteratorWithBase(cf, baseIterator) : baseIterator
+        ) {
+            // Timestamps are sorted from newest to oldest, so the first key of the row is either the write intent or the newest version.
+            seekIterator.seek(copyOf(keyBuf.array(), keyBuf.position()));
+
+            if (invalid(seekIterator)) {
+                return;
+            }
+
+            byte[] key = seekIterator.key();
+
+            if (!((UuidRowId) rowId).matches(ByteBuffer.wrap(key))) {
+                return;
+            }
+
+            if (key.length == ROW_PREFIX_SIZE) {
+                throw new TxIdMismatchException();
+            }
+
+            //TODO IGNITE-16913 Add proper way to write row bytes into array without allocations.
+            writeBatch.put(cf, key, row.bytes());
+        } catch (RocksDBException e) {
+            throw new StorageException("Failed to replace a row in storage", e);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public @Nullable BinaryRow read(RowId rowId, UUID txId) throws TxIdMismatchException, StorageException {
@@ -32,6 +32,7 @@ import org.apache.ignite.internal.schema.SchemaMismatchException;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.table.TableRow;
 import org.apache.ignite.table.Tuple;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -63,6 +64,12 @@ public class TupleMarshallerImpl implements TupleMarshaller {
         try {
             SchemaDescriptor schema = schemaReg.schema();
 
+            Row row = unmodifiedRow(tuple, schema);
+
+            if (row != null && row.hasValue()) {
+                return row;
+            }
+
             InternalTuple keyTuple0 = toInternalTuple(schema, tuple, true);
             InternalTuple valTuple0 = toInternalTuple(schema, tuple, false);
 
@@ -145,6 +152,12 @@ public class TupleMarshallerImpl implements TupleMarshaller {
         try {
             final SchemaDescriptor schema = schemaReg.schema();
 
+            Row row = unmodifiedRow(keyTuple, schema);
+
+            if (row != null && !row.hasValue()) {
+                return row;
+            }
+
             InternalTuple keyTuple0 = toInternalTuple(schema, keyTuple, true);
 
             if (keyTuple0.knownColumns() < keyTuple.columnCount()) {
@@ -167,6 +180,23 @@ public class TupleMarshallerImpl implements TupleMarshaller {
         }
     }
 
+    /**
+     * Returns the row behind a tuple, if the tuple is an unmodified table row of the given schema and can be used without re-marshalling.
+     *
+     * @param tuple  Tuple.
+     * @param schema Schema.
+     * @return Row or {@code null}.
+     */
+    private static @Nullable Row unmodifiedRow(Tuple tuple, SchemaDescriptor schema) {
+        if (!(tuple instanceof TableRow)) {
+            return null;
+        }
+
+        Row row = ((TableRow) tuple).unmodifiedRow();
+
+        return row != null && Objects.equals(row.schema(), schema) ? row : null;
+    }
+
     /**
      * Analyze tuple and wrap into internal tuple.
      *
@@ -19,9 +19,15 @@ package org.apache.ignite.internal.table;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
+import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.streamer.StreamerSubscriber;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.table.DataStreamerOptions;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Base class for Table views.
@@ -65,6 +71,38 @@ abstract class AbstractTableView {
         }
     }
 
+    /**
+     * Streams items into the table: the items are marshalled, buffered per partition and upserted in batches outside of any
+     * transaction.
+     *
+     * @param publisher Producer of the items.
+     * @param options Options, or {@code null} to use the defaults.
+     * @param marshaller Marshals an item into a row.
+     * @param <T> Item type.
+     * @return Future that completes when all the items are written.
+     */
+    protected <T> CompletableFuture<Void> streamRows(
+            Publisher<T> publisher,
+            @Nullable DataStreamerOptions options,
+            Function<T, BinaryRowEx> marshaller
+    ) {
+        DataStreamerOptions opts = options == null ? new DataStreamerOptions() : options;
+
+        var subscriber = new StreamerSubscriber<T, BinaryRowEx, Integer>(
+                marshaller,
+                tbl::partition,
+                (partId, rows) -> tbl.upsertAllDirect(rows),
+                tbl.partitions(),
+                opts.batchSize(),
+                opts.perPartitionParallelOperations(),
+                opts.autoFlushFrequency()
+        );
+
+        publisher.subscribe(subscriber);
+
+        return subscriber.completionFuture();
+    }
+
     /**
      * Converts an internal exception to a public one.
      *
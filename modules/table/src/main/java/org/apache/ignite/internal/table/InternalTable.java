@@ -27,6 +27,7 @@ import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.LockException;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.raft.client.service.RaftGroupService;
 import org.jetbrains.annotations.Nullable;
@@ -58,7 +59,8 @@ public interface InternalTable extends AutoCloseable {
     String name();
 
     /**
-     * Asynchronously gets a row with same key columns values as given one from the table.
+     * Asynchronously gets a row with same key columns values as given one from the table. A read-only transaction reads the row with
+     * {@link #readOnlyGet}.
      *
      * @param keyRow Row with key columns set.
      * @param tx     The transaction.
@@ -68,7 +70,7 @@ public interface InternalTable extends AutoCloseable {
     CompletableFuture<BinaryRow> get(BinaryRowEx keyRow, @Nullable InternalTransaction tx);
 
     /**
-     * Asynchronously get rows from the table.
+     * Asynchronously get rows from the table. A read-only transaction reads the rows with {@link #readOnlyGetAll}.
      *
      * @param keyRows Rows with key columns set.
      * @param tx      The transaction.
@@ -76,6 +78,30 @@ public interface InternalTable extends AutoCloseable {
      */
     CompletableFuture<Collection<BinaryRow>> getAll(Collection<BinaryRowEx> keyRows, @Nullable InternalTransaction tx);
 
+    /**
+     * Asynchronously gets a row with same key columns values as given one from the table as of the given read timestamp.
+     *
+     * <p>The read is not a part of any transaction and is served by the nearest replica of the partition, not necessarily the
+     * leader. Hence it observes the data committed at or before the read timestamp that has been replicated to that replica.
+     *
+     * @param keyRow        Row with key columns set.
+     * @param readTimestamp Timestamp the data is read at.
+     * @return Future representing pending completion of the operation.
+     */
+    CompletableFuture<BinaryRow> readOnlyGet(BinaryRowEx keyRow, Timestamp readTimestamp);
+
+    /**
+     * Asynchronously gets rows from the table as of the given read timestamp.
+     *
+     * <p>The read is not a part of any transaction and is served by the nearest replica of every partition, not necessarily the
+     * leader. Hence it observes the data committed at or before the read timestamp that has been replicated to that replica.
+     *
+     * @param keyRows       Rows with key columns set.
+     * @param readTimestamp Timestamp the data is read at.
+     * @return Future representing pending completion of the operation.
+     */
+    CompletableFuture<Collection<BinaryRow>> readOnlyGetAll(Collection<BinaryRowEx> keyRows, Timestamp readTimestamp);
+
     /**
      * Asynchronously inserts a row into the table if does not exist or replaces the existed one.
      *
@@ -94,6 +120,18 @@ public interface InternalTable extends AutoCloseable {
      */
     CompletableFuture<Void> upsertAll(Collection<BinaryRowEx> rows, @Nullable InternalTransaction tx);
 
+    /**
+     * Asynchronously inserts rows into the table or replaces the existing ones outside of any transaction.
+     *
+     * <p>The operation takes no locks and every row is committed on its own, so other transactions may observe a part of the rows,
+     * and a failed operation may leave a part of the rows written. Rows that have pending updates of transactions are retried a few
+     * times before the operation fails. Writing the same rows again has no visible effect, so the operation can be safely retried.
+     *
+     * @param rows Rows to insert into the table.
+     * @return Future representing pending completion of the operation.
+     */
+    CompletableFuture<Void> upsertAllDirect(Collection<BinaryRowEx> rows);
+
     /**
      * Asynchronously inserts a row into the table or replaces if exists and return replaced previous row.
      *
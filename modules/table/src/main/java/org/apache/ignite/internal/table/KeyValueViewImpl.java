@@ -25,14 +25,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.marshaller.DefaultMarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
 import org.apache.ignite.internal.schema.marshaller.MarshallerException;
-import org.apache.ignite.internal.schema.marshaller.reflection.KvMarshallerImpl;
+import org.apache.ignite.internal.schema.marshaller.MarshallerFactory;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -50,9 +52,15 @@ import org.jetbrains.annotations.Nullable;
  * Key-value view implementation.
  */
 public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValueView<K, V> {
+    /** Factory of generated marshallers, which falls back to reflection-based ones for unsupported mappings. */
+    private static final MarshallerFactory MARSHALLER_FACTORY = new DefaultMarshallerFactory();
+
     /** Marshaller factory. */
     private final Function<SchemaDescriptor, KvMarshaller<K, V>> marshallerFactory;
 
+    /** Marshallers by schema version. */
+    private final Map<Integer, KvMarshaller<K, V>> marshallers = new ConcurrentHashMap<>();
+
     /** Key-value marshaller. */
     private volatile KvMarshaller<K, V> marsh;
 
@@ -72,7 +80,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     ) {
         super(tbl, schemaReg);
 
-        marshallerFactory = (schema) -> new KvMarshallerImpl<>(schema, keyMapper, valueMapper);
+        marshallerFactory = (schema) -> MARSHALLER_FACTORY.create(schema, keyMapper, valueMapper);
     }
 
     /** {@inheritDoc} */
@@ -405,9 +413,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
             return marsh;
         }
 
-        // TODO: Cache marshaller for schema version or upgrade row?
-
-        return this.marsh = marshallerFactory.apply(schemaReg.schema(schemaVersion));
+        return this.marsh = marshallers.computeIfAbsent(schemaVersion, ver -> marshallerFactory.apply(schemaReg.schema(ver)));
     }
 
     /**
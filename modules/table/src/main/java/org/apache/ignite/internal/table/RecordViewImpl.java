@@ -25,17 +25,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.marshaller.DefaultMarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.MarshallerException;
+import org.apache.ignite.internal.schema.marshaller.MarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.RecordMarshaller;
-import org.apache.ignite.internal.schema.marshaller.reflection.RecordMarshallerImpl;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.mapper.Mapper;
@@ -47,9 +51,15 @@ import org.jetbrains.annotations.Nullable;
  * Record view implementation.
  */
 public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R> {
+    /** Factory of generated marshallers, which falls back to reflection-based ones for unsupported mappings. */
+    private static final MarshallerFactory MARSHALLER_FACTORY = new DefaultMarshallerFactory();
+
     /** Marshaller factory. */
     private final Function<SchemaDescriptor, RecordMarshaller<R>> marshallerFactory;
 
+    /** Marshallers by schema version. */
+    private final Map<Integer, RecordMarshaller<R>> marshallers = new ConcurrentHashMap<>();
+
     /** Record marshaller. */
     private volatile RecordMarshaller<R> marsh;
 
@@ -63,7 +73,7 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
     public RecordViewImpl(InternalTable tbl, SchemaRegistry schemaReg, Mapper<R> mapper) {
         super(tbl, schemaReg);
 
-        marshallerFactory = (schema) -> new RecordMarshallerImpl<>(schema, mapper);
+        marshallerFactory = (schema) -> MARSHALLER_FACTORY.create(schema, mapper);
     }
 
     /** {@inheritDoc} */
@@ -122,6 +132,14 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
         return tbl.upsertAll(marshal(recs), (InternalTransaction) tx);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull CompletableFuture<Void> streamData(@NotNull Publisher<R> publisher, @Nullable DataStreamerOptions options) {
+        Objects.requireNonNull(publisher);
+
+        return streamRows(publisher, options, rec -> marshal(rec));
+    }
+
     /** {@inheritDoc} */
     @Override
     public R getAndUpsert(@Nullable Transaction tx, @NotNull R rec) {
@@ -326,9 +344,7 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
             return marsh;
         }
 
-        // TODO: Cache marshaller for schema version or upgrade row?
-
-        return this.marsh = marshallerFactory.apply(schemaReg.schema(schemaVersion));
+        return this.marsh = marshallers.computeIfAbsent(schemaVersion, ver -> marshallerFactory.apply(schemaReg.schema(ver)));
     }
 
     /**
@@ -22,6 +22,7 @@ import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.table.Tuple;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Row to Tuple adapter.
@@ -68,6 +69,15 @@ public class TableRow extends MutableRowTupleAdapter {
         super(row);
     }
 
+    /**
+     * Returns the underlying row, if the tuple wasn't modified after it had been created.
+     *
+     * @return Row or {@code null} if the tuple was modified.
+     */
+    public @Nullable Row unmodifiedRow() {
+        return tuple == null ? row : null;
+    }
+
     /**
      * Key column chunk.
      */
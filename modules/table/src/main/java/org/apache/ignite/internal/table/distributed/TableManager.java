@@ -102,6 +102,7 @@ import org.apache.ignite.internal.table.distributed.raft.PartitionListener;
 import org.apache.ignite.internal.table.distributed.raft.RebalanceRaftGroupEventsListener;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionSnapshotStorageFactory;
 import org.apache.ignite.internal.table.distributed.storage.InternalTableImpl;
+import org.apache.ignite.internal.table.distributed.storage.PartitionRowUpgrader;
 import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
 import org.apache.ignite.internal.table.event.TableEvent;
 import org.apache.ignite.internal.table.event.TableEventParameters;
@@ -125,6 +126,7 @@ import org.apache.ignite.network.TopologyService;
 import org.apache.ignite.raft.client.Peer;
 import org.apache.ignite.raft.client.service.RaftGroupListener;
 import org.apache.ignite.raft.client.service.RaftGroupService;
+import org.apache.ignite.raft.jraft.Status;
 import org.apache.ignite.raft.jraft.entity.PeerId;
 import org.apache.ignite.raft.jraft.storage.impl.VolatileRaftMetaStorage;
 import org.apache.ignite.raft.jraft.util.Utils;
@@ -205,6 +207,12 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
      */
     private final ExecutorService ioExecutor;
 
+    /** Executor for the background upgrade of rows to the latest schema. */
+    private final ScheduledExecutorService rowUpgradeExecutor;
+
+    /** Row upgraders of the local partitions, by partition RAFT group name. */
+    private final Map<String, PartitionRowUpgrader> rowUpgraders = new ConcurrentHashMap<>();
+
     /** Rebalance scheduler pool size. */
     private static final int REBALANCE_SCHEDULER_POOL_SIZE = Math.min(Utils.cpus() * 3, 20);
 
@@ -278,6 +286,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                 TimeUnit.MILLISECONDS,
                 new LinkedBlockingQueue<>(),
                 new NamedThreadFactory("tableManager-io", LOG));
+
+        rowUpgradeExecutor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("row-upgrader", LOG));
     }
 
     /** {@inheritDoc} */
@@ -317,6 +327,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                             TableEvent.ALTER,
                             new TableEventParameters(parameters.causalityToken(), tablesByIdVv.latest().get(parameters.tableId())), null
                     );
+
+                    scheduleRowUpgrade(tablesByIdVv.latest().get(parameters.tableId()));
                 }
 
                 return completedFuture(false);
@@ -521,14 +533,18 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                                             grpId,
                                             newPartAssignment,
                                             new PartitionListener(tblId, new VersionedRowStore(partitionStorage, txManager)),
-                                            new RebalanceRaftGroupEventsListener(
-                                                    metaStorageMgr,
-                                                    tablesCfg.tables().get(tablesById.get(tblId).name()),
-                                                    grpId,
-                                                    partId,
-                                                    busyLock,
-                                                    movePartition(() -> internalTbl.partitionRaftGroupService(partId)),
-                                                    rebalanceScheduler
+                                            withRowUpgrade(
+                                                    new RebalanceRaftGroupEventsListener(
+                                                            metaStorageMgr,
+                                                            tablesCfg.tables().get(tablesById.get(tblId).name()),
+                                                            grpId,
+                                                            partId,
+                                                            busyLock,
+                                                            movePartition(() -> internalTbl.partitionRaftGroupService(partId)),
+                                                            rebalanceScheduler
+                                                    ),
+                                                    tablesById.get(tblId),
+                                                    partId
                                             ),
                                             groupOptions
                                     );
@@ -579,6 +595,9 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
             raftGroupOptions = RaftGroupOptions.forPersistentStores();
         }
 
+        // Partition reads are served by the leader without a quorum round trip while its lease is valid.
+        raftGroupOptions.leaseBasedReads(true);
+
         //TODO Revisit peers String representation: https://issues.apache.org/jira/browse/IGNITE-17420
         raftGroupOptions.snapshotStorageFactory(new PartitionSnapshotStorageFactory(
                 partitionStorage,
@@ -598,6 +617,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
         busyLock.block();
 
+        rowUpgraders.values().forEach(PartitionRowUpgrader::stop);
+
         Map<UUID, TableImpl> tables = tablesByIdVv.latest();
 
         for (TableImpl table : tables.values()) {
@@ -615,6 +636,115 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
         shutdownAndAwaitTermination(rebalanceScheduler, 10, TimeUnit.SECONDS);
         shutdownAndAwaitTermination(ioExecutor, 10, TimeUnit.SECONDS);
+        shutdownAndAwaitTermination(rowUpgradeExecutor, 10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Schedules the background upgrade of the rows of the local partitions of a table to the latest schema.
+     *
+     * @param table Table.
+     */
+    private void scheduleRowUpgrade(TableImpl table) {
+        for (int p = 0; p < table.internalTable().partitions(); p++) {
+            PartitionRowUpgrader upgrader = rowUpgrader(table, p);
+
+            if (upgrader != null) {
+                upgrader.schedule();
+            }
+        }
+    }
+
+    /**
+     * Returns the row upgrader of a local partition, creating it if needed.
+     *
+     * @param table Table.
+     * @param partId Partition ID.
+     * @return Row upgrader, or {@code null} if the partition is not stored locally.
+     */
+    private @Nullable PartitionRowUpgrader rowUpgrader(TableImpl table, int partId) {
+        InternalTable internalTbl = table.internalTable();
+
+        MvPartitionStorage partitionStorage = internalTbl.storage().getMvPartition(partId);
+
+        if (partitionStorage == null) {
+            return null;
+        }
+
+        return rowUpgraders.computeIfAbsent(
+                partitionRaftGroupName(table.tableId(), partId),
+                grpId -> new PartitionRowUpgrader(
+                        table.name(),
+                        partId,
+                        partitionStorage,
+                        table.schemaView(),
+                        () -> isLocalLeader(grpId),
+                        cmd -> internalTbl.partitionRaftGroupService(partId).<Integer>run(cmd).join(),
+                        rowUpgradeExecutor
+                )
+        );
+    }
+
+    /**
+     * Wraps the events listener of the RAFT group of a partition to start the upgrade of the rows of the partition to the latest schema
+     * when the local node becomes the leader of the partition.
+     *
+     * @param lsnr Events listener.
+     * @param table Table.
+     * @param partId Partition ID.
+     * @return Events listener.
+     */
+    private RaftGroupEventsListener withRowUpgrade(RaftGroupEventsListener lsnr, TableImpl table, int partId) {
+        return new RaftGroupEventsListener() {
+            /** {@inheritDoc} */
+            @Override
+            public void onLeaderElected(long term) {
+                lsnr.onLeaderElected(term);
+
+                if (!busyLock.enterBusy()) {
+                    return;
+                }
+
+                try {
+                    PartitionRowUpgrader upgrader = rowUpgrader(table, partId);
+
+                    if (upgrader != null) {
+                        upgrader.onLeaderElected();
+                    }
+                } finally {
+                    busyLock.leaveBusy();
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onNewPeersConfigurationApplied(List<PeerId> peers) {
+                lsnr.onNewPeersConfigurationApplied(peers);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onReconfigurationError(Status status, List<PeerId> peers, long term) {
+                lsnr.onReconfigurationError(status, peers, term);
+            }
+        };
+    }
+
+    /**
+     * Checks whether the local node is the leader of a RAFT group.
+     *
+     * @param grpId RAFT group name.
+     * @return {@code True} if the local node is the leader, {@code false} if it is not or if the node is stopping.
+     */
+    private boolean isLocalLeader(String grpId) {
+        if (!busyLock.enterBusy()) {
+            return false;
+        }
+
+        try {
+            return raftMgr.server().isLeader(grpId);
+        } finally {
+            busyLock.leaveBusy();
+        }
     }
 
     /**
@@ -688,6 +818,12 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
             int partitions = assignment.size();
 
             for (int p = 0; p < partitions; p++) {
+                PartitionRowUpgrader upgrader = rowUpgraders.remove(partitionRaftGroupName(tblId, p));
+
+                if (upgrader != null) {
+                    upgrader.stop();
+                }
+
                 raftMgr.stopRaftGroup(partitionRaftGroupName(tblId, p));
             }
 
@@ -1307,6 +1443,10 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
      * Register the new meta storage listener for changes in the rebalance-specific keys.
      */
     private void registerRebalanceListeners() {
+        // The listeners read assignments at the revision of the event being processed, such reads are served by the local cache.
+        metaStorageMgr.registerLocalCachePrefix(ByteArray.fromString(PENDING_ASSIGNMENTS_PREFIX));
+        metaStorageMgr.registerLocalCachePrefix(ByteArray.fromString(STABLE_ASSIGNMENTS_PREFIX));
+
         metaStorageMgr.registerWatchByPrefix(ByteArray.fromString(PENDING_ASSIGNMENTS_PREFIX), new WatchListener() {
             @Override
             public boolean onUpdate(@NotNull WatchEvent evt) {
@@ -1375,14 +1515,18 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                                     new VersionedRowStore(partitionStorage, txManager)
                             );
 
-                            RaftGroupEventsListener raftGrpEvtsLsnr = new RebalanceRaftGroupEventsListener(
-                                    metaStorageMgr,
-                                    tblCfg,
-                                    partId,
-                                    part,
-                                    busyLock,
-                                    movePartition(() -> tbl.internalTable().partitionRaftGroupService(part)),
-                                    rebalanceScheduler
+                            RaftGroupEventsListener raftGrpEvtsLsnr = withRowUpgrade(
+                                    new RebalanceRaftGroupEventsListener(
+                                            metaStorageMgr,
+                                            tblCfg,
+                                            partId,
+                                            part,
+                                            busyLock,
+                                            movePartition(() -> tbl.internalTable().partitionRaftGroupService(part)),
+                                            rebalanceScheduler
+                                    ),
+                                    tbl,
+                                    part
                             );
 
                             raftMgr.startRaftGroupNode(
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.command;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.raft.client.ReadCommand;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The command gets values by keys as of the given read timestamp. Unlike {@link GetAllCommand}, it's not a part of any
+ * transaction, takes no locks and may be executed by any replica of the partition, so it can see stale data.
+ */
+public class ReadOnlyGetAllCommand implements ReadCommand, Serializable {
+    /** Binary rows. */
+    private transient Collection<BinaryRow> rows;
+
+    /** Read timestamp. */
+    private final @NotNull Timestamp readTimestamp;
+
+    /*
+     * Row bytes.
+     * It is a temporary solution, before network have not implement correct serialization BinaryRow.
+     * TODO: Remove the field after (IGNITE-14793).
+     */
+    private byte[] rowsBytes;
+
+    /**
+     * Creates a new instance of ReadOnlyGetAllCommand with the given keys to be got.
+     *
+     * @param keyRows Binary key rows.
+     * @param readTimestamp Timestamp the data is read at.
+     */
+    public ReadOnlyGetAllCommand(@NotNull Collection<BinaryRow> keyRows, @NotNull Timestamp readTimestamp) {
+        assert keyRows != null && !keyRows.isEmpty();
+
+        this.rows = keyRows;
+        this.readTimestamp = readTimestamp;
+
+        rowsBytes = CommandUtils.rowsToBytes(keyRows);
+    }
+
+    /**
+     * Gets a collection of binary key rows.
+     *
+     * @return Binary rows.
+     */
+    public Collection<BinaryRow> getRows() {
+        if (rows == null && rowsBytes != null) {
+            rows = new ArrayList<>();
+
+            CommandUtils.readRows(rowsBytes, rows::add);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Returns the timestamp the data is read at.
+     *
+     * @return Read timestamp.
+     */
+    public @NotNull Timestamp readTimestamp() {
+        return readTimestamp;
+    }
+}
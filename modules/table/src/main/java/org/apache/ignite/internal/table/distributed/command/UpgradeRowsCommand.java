@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.command;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.raft.client.WriteCommand;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The command replaces rows written under older schema versions with the same rows converted to the latest schema. Like
+ * {@link UpsertAllDirectCommand}, it takes no locks. The newest committed version of a row is rewritten in place, keeping its commit
+ * timestamp, and only if it is still the old row, so that concurrent updates are never overwritten.
+ */
+public class UpgradeRowsCommand implements WriteCommand, Serializable {
+    /** Rows to replace. */
+    private transient List<BinaryRow> oldRows;
+
+    /** Upgraded rows, in the same order as the rows to replace. */
+    private transient List<BinaryRow> rows;
+
+    /*
+     * Row bytes.
+     * It is a temporary solution, before network have not implement correct serialization BinaryRow.
+     * TODO: Remove the fields after (IGNITE-14793).
+     */
+    private byte[] oldRowsBytes;
+
+    private byte[] rowsBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param oldRows Rows to replace.
+     * @param rows Upgraded rows, in the same order as the rows to replace.
+     */
+    public UpgradeRowsCommand(@NotNull List<BinaryRow> oldRows, @NotNull List<BinaryRow> rows) {
+        assert oldRows != null && !oldRows.isEmpty();
+        assert rows != null && rows.size() == oldRows.size();
+
+        this.oldRows = oldRows;
+        this.rows = rows;
+
+        oldRowsBytes = CommandUtils.rowsToBytes(oldRows);
+        rowsBytes = CommandUtils.rowsToBytes(rows);
+    }
+
+    /**
+     * Gets the rows to replace.
+     *
+     * @return Binary rows.
+     */
+    public List<BinaryRow> getOldRows() {
+        if (oldRows == null && oldRowsBytes != null) {
+            oldRows = new ArrayList<>();
+
+            CommandUtils.readRows(oldRowsBytes, oldRows::add);
+        }
+
+        return oldRows;
+    }
+
+    /**
+     * Gets the upgraded rows, in the same order as the rows to replace.
+     *
+     * @return Binary rows.
+     */
+    public List<BinaryRow> getRows() {
+        if (rows == null && rowsBytes != null) {
+            rows = new ArrayList<>();
+
+            CommandUtils.readRows(rowsBytes, rows::add);
+        }
+
+        return rows;
+    }
+}
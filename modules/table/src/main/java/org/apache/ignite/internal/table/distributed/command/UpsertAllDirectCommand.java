@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.command;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.raft.client.WriteCommand;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The command puts a batch of rows outside of any transaction. Unlike {@link UpsertAllCommand}, it takes no locks and every row is
+ * committed at once with the timestamp of the command. Rows that have pending updates of transactions are skipped and returned
+ * to the caller. Applying the command again has no visible effect, so it can be safely retried.
+ */
+public class UpsertAllDirectCommand implements WriteCommand, Serializable {
+    /** Binary rows. */
+    private transient Collection<BinaryRow> rows;
+
+    /** Commit timestamp. */
+    private final @NotNull Timestamp timestamp;
+
+    /*
+     * Row bytes.
+     * It is a temporary solution, before network have not implement correct serialization BinaryRow.
+     * TODO: Remove the field after (IGNITE-14793).
+     */
+    private byte[] rowsBytes;
+
+    /**
+     * Creates a new instance of UpsertAllDirectCommand with the given rows to be upserted.
+     *
+     * @param rows Binary rows.
+     * @param timestamp Commit timestamp.
+     */
+    public UpsertAllDirectCommand(@NotNull Collection<BinaryRow> rows, @NotNull Timestamp timestamp) {
+        assert rows != null && !rows.isEmpty();
+
+        this.rows = rows;
+        this.timestamp = timestamp;
+
+        rowsBytes = CommandUtils.rowsToBytes(rows);
+    }
+
+    /**
+     * Gets a collection of binary rows.
+     *
+     * @return Binary rows.
+     */
+    public Collection<BinaryRow> getRows() {
+        if (rows == null && rowsBytes != null) {
+            rows = new ArrayList<>();
+
+            CommandUtils.readRows(rowsBytes, rows::add);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Returns the commit timestamp.
+     *
+     * @return Commit timestamp.
+     */
+    public @NotNull Timestamp timestamp() {
+        return timestamp;
+    }
+}
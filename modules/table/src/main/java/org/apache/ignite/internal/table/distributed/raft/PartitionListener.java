@@ -50,11 +50,15 @@ import org.apache.ignite.internal.table.distributed.command.GetCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertAllCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertCommand;
 import org.apache.ignite.internal.table.distributed.command.MultiKeyCommand;
+import org.apache.ignite.internal.table.distributed.command.ReadOnlyGetAllCommand;
+import org.apache.ignite.internal.table.distributed.command.ReadOnlyGetCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceIfExistCommand;
 import org.apache.ignite.internal.table.distributed.command.SingleKeyCommand;
 import org.apache.ignite.internal.table.distributed.command.TransactionalCommand;
+import org.apache.ignite.internal.table.distributed.command.UpgradeRowsCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertAllCommand;
+import org.apache.ignite.internal.table.distributed.command.UpsertAllDirectCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.response.MultiRowsResponse;
 import org.apache.ignite.internal.table.distributed.command.response.SingleRowResponse;
@@ -119,6 +123,10 @@ public class PartitionListener implements RaftGroupListener {
                 clo.result(handleGetCommand((GetCommand) command));
             } else if (command instanceof GetAllCommand) {
                 clo.result(handleGetAllCommand((GetAllCommand) command));
+            } else if (command instanceof ReadOnlyGetCommand) {
+                clo.result(handleReadOnlyGetCommand((ReadOnlyGetCommand) command));
+            } else if (command instanceof ReadOnlyGetAllCommand) {
+                clo.result(handleReadOnlyGetAllCommand((ReadOnlyGetAllCommand) command));
             } else {
                 assert false : "Command was not found [cmd=" + clo.command() + ']';
             }
@@ -159,6 +167,10 @@ public class PartitionListener implements RaftGroupListener {
                 handleUpsertAllCommand((UpsertAllCommand) command, commandIndex);
 
                 clo.result(null);
+            } else if (command instanceof UpsertAllDirectCommand) {
+                clo.result(handleUpsertAllDirectCommand((UpsertAllDirectCommand) command, commandIndex));
+            } else if (command instanceof UpgradeRowsCommand) {
+                clo.result(handleUpgradeRowsCommand((UpgradeRowsCommand) command, commandIndex));
             } else if (command instanceof DeleteAllCommand) {
                 clo.result(handleDeleteAllCommand((DeleteAllCommand) command, commandIndex));
             } else if (command instanceof DeleteExactCommand) {
@@ -235,6 +247,30 @@ public class PartitionListener implements RaftGroupListener {
         return new MultiRowsResponse(storage.getAll(keyRows, cmd.getTxId()));
     }
 
+    /**
+     * Handler for the {@link ReadOnlyGetCommand}.
+     *
+     * @param cmd Command.
+     * @return Result.
+     */
+    private SingleRowResponse handleReadOnlyGetCommand(ReadOnlyGetCommand cmd) {
+        return new SingleRowResponse(storage.readOnlyGet(cmd.getRow(), cmd.readTimestamp()));
+    }
+
+    /**
+     * Handler for the {@link ReadOnlyGetAllCommand}.
+     *
+     * @param cmd Command.
+     * @return Result.
+     */
+    private MultiRowsResponse handleReadOnlyGetAllCommand(ReadOnlyGetAllCommand cmd) {
+        Collection<BinaryRow> keyRows = cmd.getRows();
+
+        assert keyRows != null && !keyRows.isEmpty();
+
+        return new MultiRowsResponse(storage.readOnlyGetAll(keyRows, cmd.readTimestamp()));
+    }
+
     /**
      * Handler for the {@link InsertCommand}.
      *
@@ -343,6 +379,44 @@ public class PartitionListener implements RaftGroupListener {
         });
     }
 
+    /**
+     * Handler for the {@link UpgradeRowsCommand}.
+     *
+     * @param cmd Command.
+     * @param commandIndex Index of the RAFT command.
+     * @return Number of replaced rows.
+     */
+    private int handleUpgradeRowsCommand(UpgradeRowsCommand cmd, long commandIndex) {
+        return storage.delegate().runConsistently(() -> {
+            int upgraded = storage.upgradeAll(cmd.getOldRows(), cmd.getRows());
+
+            storage.delegate().lastAppliedIndex(commandIndex);
+
+            return upgraded;
+        });
+    }
+
+    /**
+     * Handler for the {@link UpsertAllDirectCommand}.
+     *
+     * @param cmd Command.
+     * @param commandIndex Index of the RAFT command.
+     * @return Rows that were not written because of pending updates of transactions.
+     */
+    private MultiRowsResponse handleUpsertAllDirectCommand(UpsertAllDirectCommand cmd, long commandIndex) {
+        return storage.delegate().runConsistently(() -> {
+            Collection<BinaryRow> rows = cmd.getRows();
+
+            assert rows != null && !rows.isEmpty();
+
+            List<BinaryRow> skipped = storage.upsertAllDirect(rows, cmd.timestamp());
+
+            storage.delegate().lastAppliedIndex(commandIndex);
+
+            return new MultiRowsResponse(skipped);
+        });
+    }
+
     /**
      * Handler for the {@link DeleteAllCommand}.
      *
@@ -29,9 +29,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -55,9 +58,12 @@ import org.apache.ignite.internal.table.distributed.command.GetAndUpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.GetCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertAllCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertCommand;
+import org.apache.ignite.internal.table.distributed.command.ReadOnlyGetAllCommand;
+import org.apache.ignite.internal.table.distributed.command.ReadOnlyGetCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceIfExistCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertAllCommand;
+import org.apache.ignite.internal.table.distributed.command.UpsertAllDirectCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.response.MultiRowsResponse;
 import org.apache.ignite.internal.table.distributed.command.response.SingleRowResponse;
@@ -65,6 +71,7 @@ import org.apache.ignite.internal.table.distributed.command.scan.ScanCloseComman
 import org.apache.ignite.internal.table.distributed.command.scan.ScanInitCommand;
 import org.apache.ignite.internal.table.distributed.command.scan.ScanRetrieveBatchCommand;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.lang.IgniteInternalException;
@@ -87,6 +94,12 @@ public class InternalTableImpl implements InternalTable {
     /** Log. */
     private static final IgniteLogger LOG = Loggers.forClass(InternalTableImpl.class);
 
+    /** Number of times rows with pending transactional updates are retried by {@link #upsertAllDirect(Collection)}. */
+    private static final int UPSERT_DIRECT_RETRIES = 10;
+
+    /** Base delay between retries of {@link #upsertAllDirect(Collection)}, in milliseconds. */
+    private static final long UPSERT_DIRECT_RETRY_DELAY = 50;
+
     /** IgniteUuid generator. */
     private static final IgniteUuidGenerator UUID_GENERATOR = new IgniteUuidGenerator(UUID.randomUUID(), 0);
 
@@ -195,6 +208,10 @@ public class InternalTableImpl implements InternalTable {
                     "The operation is attempted for completed transaction"));
         }
 
+        if (!implicit && tx.readTimestamp() != null) {
+            return failedFuture(new TransactionException("The write operation is attempted for read-only transaction"));
+        }
+
         final InternalTransaction tx0 = implicit ? txManager.begin() : tx;
 
         Int2ObjectOpenHashMap<List<BinaryRow>> keyRowsByPartition = mapRowsToPartitions(keyRows);
@@ -233,6 +250,10 @@ public class InternalTableImpl implements InternalTable {
     ) {
         final boolean implicit = tx == null;
 
+        if (!implicit && tx.readTimestamp() != null) {
+            return failedFuture(new TransactionException("The write operation is attempted for read-only transaction"));
+        }
+
         final InternalTransaction tx0 = implicit ? txManager.begin() : tx;
 
         int partId = partId(row);
@@ -273,15 +294,52 @@ public class InternalTableImpl implements InternalTable {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<BinaryRow> get(BinaryRowEx keyRow, InternalTransaction tx) {
+        if (tx != null && tx.readTimestamp() != null) {
+            return readOnlyGet(keyRow, tx.readTimestamp());
+        }
+
         return enlistInTx(keyRow, tx, tx0 -> new GetCommand(keyRow, tx0.id()), SingleRowResponse::getValue);
     }
 
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Collection<BinaryRow>> getAll(Collection<BinaryRowEx> keyRows, InternalTransaction tx) {
+        if (tx != null && tx.readTimestamp() != null) {
+            return readOnlyGetAll(keyRows, tx.readTimestamp());
+        }
+
         return enlistInTx(keyRows, tx, (rows0, tx0) -> new GetAllCommand(rows0, tx0.id()), this::collectMultiRowsResponses);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<BinaryRow> readOnlyGet(BinaryRowEx keyRow, Timestamp readTimestamp) {
+        RaftGroupService svc = partitionMap.get(partId(keyRow));
+
+        return readReplica(svc)
+                .thenCompose(peer -> svc.<SingleRowResponse>run(peer, new ReadOnlyGetCommand(keyRow, readTimestamp)))
+                .thenApply(SingleRowResponse::getValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Collection<BinaryRow>> readOnlyGetAll(Collection<BinaryRowEx> keyRows, Timestamp readTimestamp) {
+        Int2ObjectOpenHashMap<List<BinaryRow>> keyRowsByPartition = mapRowsToPartitions(keyRows);
+
+        CompletableFuture<?>[] futures = new CompletableFuture[keyRowsByPartition.size()];
+
+        int batchNum = 0;
+
+        for (Int2ObjectOpenHashMap.Entry<List<BinaryRow>> partToRows : keyRowsByPartition.int2ObjectEntrySet()) {
+            RaftGroupService svc = partitionMap.get(partToRows.getIntKey());
+
+            futures[batchNum++] = readReplica(svc)
+                    .thenCompose(peer -> svc.run(peer, new ReadOnlyGetAllCommand(partToRows.getValue(), readTimestamp)));
+        }
+
+        return collectMultiRowsResponses(futures);
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> upsert(BinaryRowEx row, InternalTransaction tx) {
@@ -294,6 +352,52 @@ public class InternalTableImpl implements InternalTable {
         return enlistInTx(rows, tx, (rows0, tx0) -> new UpsertAllCommand(rows0, tx0.id()), CompletableFuture::allOf);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> upsertAllDirect(Collection<BinaryRowEx> rows) {
+        Int2ObjectOpenHashMap<List<BinaryRow>> rowsByPartition = mapRowsToPartitions(rows);
+
+        CompletableFuture<?>[] futures = new CompletableFuture[rowsByPartition.size()];
+
+        int batchNum = 0;
+
+        for (Int2ObjectOpenHashMap.Entry<List<BinaryRow>> partToRows : rowsByPartition.int2ObjectEntrySet()) {
+            futures[batchNum++] = upsertAllDirect(partToRows.getIntKey(), partToRows.getValue(), 0);
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Upserts rows of a partition outside of any transaction, retrying the rows that have pending updates of transactions.
+     *
+     * @param partId Partition id.
+     * @param rows Rows of the partition.
+     * @param attempt Number of the attempt, starting from zero.
+     * @return Future representing pending completion of the operation.
+     */
+    private CompletableFuture<Void> upsertAllDirect(int partId, Collection<BinaryRow> rows, int attempt) {
+        return partitionMap.get(partId).<MultiRowsResponse>run(new UpsertAllDirectCommand(rows, Timestamp.nextVersion()))
+                .thenCompose(res -> {
+                    List<BinaryRow> skipped = res.getValues();
+
+                    if (skipped.isEmpty()) {
+                        return completedFuture(null);
+                    }
+
+                    if (attempt >= UPSERT_DIRECT_RETRIES) {
+                        return failedFuture(new TransactionException(IgniteStringFormatter.format(
+                                "Failed to upsert rows locked by pending transactions [table={}, partition={}, rows={}]",
+                                tableName, partId, skipped.size())));
+                    }
+
+                    Executor delayed = CompletableFuture.delayedExecutor(UPSERT_DIRECT_RETRY_DELAY * (attempt + 1), TimeUnit.MILLISECONDS);
+
+                    return CompletableFuture.runAsync(() -> {}, delayed)
+                            .thenCompose(ignored -> upsertAllDirect(partId, skipped, attempt + 1));
+                });
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<BinaryRow> getAndUpsert(BinaryRowEx row, InternalTransaction tx) {
@@ -521,6 +625,41 @@ public class InternalTableImpl implements InternalTable {
         }
     }
 
+    /**
+     * Chooses a replica to serve a read-only request: the local one if this node hosts a replica of the partition, or a random one
+     * otherwise, so the read load is spread over all the peers and learners of the group instead of the leader only.
+     *
+     * @param svc Raft group service of the partition.
+     * @return Future that completes with the chosen replica.
+     */
+    private static CompletableFuture<Peer> readReplica(RaftGroupService svc) {
+        if (svc.peers() == null) {
+            return svc.refreshMembers(false).thenApply(ignored -> chooseReadReplica(svc));
+        }
+
+        return completedFuture(chooseReadReplica(svc));
+    }
+
+    private static Peer chooseReadReplica(RaftGroupService svc) {
+        List<Peer> replicas = new ArrayList<>(svc.peers());
+
+        if (svc.learners() != null) {
+            replicas.addAll(svc.learners());
+        }
+
+        assert !replicas.isEmpty() : "No replicas of the partition are known";
+
+        NetworkAddress localAddress = svc.clusterService().topologyService().localMember().address();
+
+        for (Peer replica : replicas) {
+            if (replica.address().equals(localAddress)) {
+                return replica;
+            }
+        }
+
+        return replicas.get(ThreadLocalRandom.current().nextInt(replicas.size()));
+    }
+
     /**
      * Enlists a partition.
      *
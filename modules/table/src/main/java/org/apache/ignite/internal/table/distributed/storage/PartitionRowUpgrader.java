@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.storage;
+
+import static org.apache.ignite.internal.schema.SchemaManager.INITIAL_SCHEMA_VERSION;
+import static org.apache.ignite.lang.IgniteSystemProperties.getInteger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.table.distributed.command.UpgradeRowsCommand;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.raft.client.Command;
+
+/**
+ * Background upgrader of the rows of a partition to the latest schema.
+ *
+ * <p>Rows written under older schema versions are resolved through column mapping on every read. The upgrader scans the partition,
+ * converts such rows to the latest schema and replaces them through the RAFT group with {@link UpgradeRowsCommand}, so that the replicas
+ * stay identical and concurrent updates are never overwritten. The replaced rows keep their commit timestamps, no row versions are added.
+ *
+ * <p>The upgrade is driven by the leader of the partition only: a pass is started when the local node becomes the leader and when the
+ * schema changes, and stops before the next batch once the local node is not the leader anymore. The other replicas do nothing. The
+ * progress is not persisted, it is re-derived by the first pass after the local node becomes the leader, e.g. after a restart, which
+ * only replaces the rows that have not been upgraded yet.
+ *
+ * <p>The upgrade is throttled to {@link #ROWS_PER_SECOND} rows per second. Rows that could not be replaced, because they have pending
+ * updates of transactions, are retried by the next pass.
+ */
+public class PartitionRowUpgrader {
+    /** Logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(PartitionRowUpgrader.class);
+
+    /** Maximum number of rows upgraded per second, {@code 0} disables the upgrade. */
+    public static final int ROWS_PER_SECOND = getInteger("IGNITE_ROW_UPGRADE_ROWS_PER_SECOND", 1000);
+
+    /** Number of rows replaced by a single command. */
+    private static final int BATCH_SIZE = getInteger("IGNITE_ROW_UPGRADE_BATCH_SIZE", 100);
+
+    /** Delay before the next pass, if the previous one has not upgraded all rows, in milliseconds. */
+    private static final long RETRY_DELAY_MILLIS = 10_000;
+
+    /** Progress logging interval in nanoseconds. */
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final String tableName;
+
+    private final int partId;
+
+    private final MvPartitionStorage storage;
+
+    private final SchemaRegistry schemaRegistry;
+
+    /** Returns {@code true} if the local node is the leader of the partition RAFT group. */
+    private final BooleanSupplier leader;
+
+    /** Replicates a command through the partition RAFT group and returns the number of replaced rows. */
+    private final Function<Command, Integer> raftCommandRunner;
+
+    private final ScheduledExecutorService executor;
+
+    /** Schema version, rows of which the partition is known to contain at least. Only maintained on the leader. */
+    private volatile int minSchemaVersion = INITIAL_SCHEMA_VERSION;
+
+    /** Whether a pass is scheduled or running. */
+    private boolean scheduled;
+
+    private volatile boolean stopped;
+
+    /** Number of rows replaced by this node since the upgrader has been created. */
+    private volatile long upgradedRows;
+
+    /**
+     * Constructor.
+     *
+     * @param tableName Table name.
+     * @param partId Partition ID.
+     * @param storage Partition storage.
+     * @param schemaRegistry Schema registry of the table.
+     * @param leader Returns {@code true} if the local node is the leader of the partition RAFT group.
+     * @param raftCommandRunner Replicates a command through the partition RAFT group and returns its result.
+     * @param executor Executor to run the upgrade on.
+     */
+    public PartitionRowUpgrader(
+            String tableName,
+            int partId,
+            MvPartitionStorage storage,
+            SchemaRegistry schemaRegistry,
+            BooleanSupplier leader,
+            Function<Command, Integer> raftCommandRunner,
+            ScheduledExecutorService executor
+    ) {
+        this.tableName = tableName;
+        this.partId = partId;
+        this.storage = storage;
+        this.schemaRegistry = schemaRegistry;
+        this.leader = leader;
+        this.raftCommandRunner = raftCommandRunner;
+        this.executor = executor;
+    }
+
+    /**
+     * Handles the election of the local node as the leader of the partition: schedules a pass that finds out which rows still have to be
+     * upgraded, since the previous leader might have not upgraded all the rows.
+     */
+    public synchronized void onLeaderElected() {
+        minSchemaVersion = INITIAL_SCHEMA_VERSION;
+
+        schedule(0);
+    }
+
+    /**
+     * Schedules the upgrade of the partition to the latest schema, unless it is already scheduled, the local node is not the leader of the
+     * partition or the partition is up-to-date.
+     */
+    public synchronized void schedule() {
+        schedule(0);
+    }
+
+    private synchronized void schedule(long delayMillis) {
+        if (stopped || scheduled || ROWS_PER_SECOND <= 0 || minSchemaVersion >= schemaRegistry.lastSchemaVersion()) {
+            return;
+        }
+
+        if (!leader.getAsBoolean()) {
+            return;
+        }
+
+        scheduled = true;
+
+        executor.schedule(this::run, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the upgrade, a running pass is interrupted after the current batch.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Returns the schema version, rows of which the partition is known to contain at least. Once it is equal to the latest schema version,
+     * reads of the partition do not need column mapping. Only maintained on the leader, the other replicas return the initial version.
+     */
+    public int minSchemaVersion() {
+        return minSchemaVersion;
+    }
+
+    /**
+     * Returns the number of rows replaced by this node since the upgrader has been created.
+     */
+    public long upgradedRows() {
+        return upgradedRows;
+    }
+
+    private void run() {
+        boolean completed = false;
+
+        try {
+            completed = upgrade(schemaRegistry.lastSchemaVersion());
+        } catch (Throwable e) {
+            if (!stopped) {
+                LOG.warn("Failed to upgrade rows to the latest schema [table={}, partition={}]", e, tableName, partId);
+            }
+        } finally {
+            synchronized (this) {
+                scheduled = false;
+            }
+        }
+
+        // Rows might have been skipped or the schema might have been changed again, unless the local node is not the leader anymore.
+        schedule(completed ? 0 : RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Makes a single pass over the partition.
+     *
+     * @param schemaVersion Schema version to upgrade the rows to.
+     * @return {@code True} if the partition contains no rows of older schemas anymore.
+     */
+    private boolean upgrade(int schemaVersion) throws Exception {
+        long startNanos = System.nanoTime();
+        long lastProgressLogNanos = startNanos;
+
+        long scanned = 0;
+        long upgraded = 0;
+
+        try (Cursor<BinaryRow> cursor = storage.scan(row -> isOutdated(row, schemaVersion), Timestamp.nextVersion())) {
+            List<BinaryRow> oldRows = new ArrayList<>(BATCH_SIZE);
+            List<BinaryRow> rows = new ArrayList<>(BATCH_SIZE);
+
+            while (!stopped && cursor.hasNext()) {
+                if (oldRows.isEmpty() && !leader.getAsBoolean()) {
+                    // The new leader upgrades the rest of the rows.
+                    return false;
+                }
+
+                BinaryRow row = cursor.next();
+
+                oldRows.add(row);
+                rows.add(schemaRegistry.upgrade(row));
+
+                scanned++;
+
+                if (oldRows.size() == BATCH_SIZE || !cursor.hasNext()) {
+                    int replaced = raftCommandRunner.apply(new UpgradeRowsCommand(oldRows, rows));
+
+                    upgraded += replaced;
+                    upgradedRows += replaced;
+
+                    oldRows = new ArrayList<>(BATCH_SIZE);
+                    rows = new ArrayList<>(BATCH_SIZE);
+
+                    throttle(startNanos, scanned);
+
+                    long nowNanos = System.nanoTime();
+
+                    if (nowNanos - lastProgressLogNanos >= PROGRESS_LOG_INTERVAL_NANOS) {
+                        lastProgressLogNanos = nowNanos;
+
+                        LOG.info("Upgrading rows to the latest schema [table={}, partition={}, schemaVersion={}, scanned={}, upgraded={}]",
+                                tableName, partId, schemaVersion, scanned, upgraded);
+                    }
+                }
+            }
+        }
+
+        if (stopped) {
+            return false;
+        }
+
+        boolean completed = scanned == upgraded;
+
+        if (completed) {
+            minSchemaVersion = schemaVersion;
+        }
+
+        if (scanned > 0) {
+            LOG.info("Finished upgrading rows to the latest schema [table={}, partition={}, schemaVersion={}, scanned={}, upgraded={}, "
+                    + "duration={}ms]", tableName, partId, schemaVersion, scanned, upgraded,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+
+        return completed;
+    }
+
+    private static boolean isOutdated(BinaryRow row, int schemaVersion) {
+        return row.hasValue() && row.schemaVersion() != 0 && row.schemaVersion() < schemaVersion;
+    }
+
+    private static void throttle(long startNanos, long rows) {
+        long expectedNanos = rows * TimeUnit.SECONDS.toNanos(1) / ROWS_PER_SECOND;
+
+        long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+
+        if (aheadNanos > 0) {
+            LockSupport.parkNanos(aheadNanos);
+        }
+    }
+}
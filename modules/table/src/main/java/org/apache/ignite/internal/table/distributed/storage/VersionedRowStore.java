@@ -34,6 +34,7 @@ import java.util.function.Predicate;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.TxIdMismatchException;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.util.Cursor;
@@ -135,6 +136,44 @@ public class VersionedRowStore {
         return res;
     }
 
+    /**
+     * Gets the latest committed version of a row as of the given timestamp.
+     *
+     * @param row The search row.
+     * @param timestamp Read timestamp.
+     * @return The result row.
+     */
+    public BinaryRow readOnlyGet(@NotNull BinaryRow row, @NotNull Timestamp timestamp) {
+        assert row != null;
+
+        RowId rowId = primaryIndex.get(row.keySlice());
+
+        if (rowId == null) {
+            return null;
+        }
+
+        return storage.read(rowId, timestamp);
+    }
+
+    /**
+     * Gets the latest committed versions of multiple rows as of the given timestamp.
+     *
+     * @param keyRows Search rows.
+     * @param timestamp Read timestamp.
+     * @return The result rows.
+     */
+    public List<BinaryRow> readOnlyGetAll(Collection<BinaryRow> keyRows, @NotNull Timestamp timestamp) {
+        assert keyRows != null && !keyRows.isEmpty();
+
+        List<BinaryRow> res = new ArrayList<>(keyRows.size());
+
+        for (BinaryRow keyRow : keyRows) {
+            res.add(readOnlyGet(keyRow, timestamp));
+        }
+
+        return res;
+    }
+
     /**
      * Upserts a row.
      *
@@ -220,6 +259,104 @@ public class VersionedRowStore {
         }
     }
 
+    /**
+     * Upserts multiple rows outside of any transaction: every row is written and committed at once with the given timestamp.
+     * Rows equal to their latest committed versions are not written again, so retrying the operation neither has a visible effect nor
+     * adds row versions.
+     *
+     * @param rows Rows.
+     * @param timestamp Commit timestamp.
+     * @return Rows that were not written because they have pending updates of transactions.
+     */
+    public List<BinaryRow> upsertAllDirect(Collection<BinaryRow> rows, @NotNull Timestamp timestamp) {
+        assert rows != null && !rows.isEmpty();
+
+        UUID txId = timestamp.toUuid();
+
+        List<BinaryRow> skipped = new ArrayList<>();
+
+        for (BinaryRow row : rows) {
+            ByteBuffer key = row.keySlice();
+
+            RowId rowId = primaryIndex.get(key);
+
+            if (rowId == null) {
+                rowId = storage.insert(row, txId);
+
+                primaryIndex.put(key, rowId);
+            } else {
+                BinaryRow latestRow;
+
+                try {
+                    latestRow = storage.read(rowId, txId);
+                } catch (TxIdMismatchException e) {
+                    skipped.add(row);
+
+                    continue;
+                }
+
+                // A re-sent row must not add one more version of the same row.
+                if (latestRow != null && latestRow.schemaVersion() == row.schemaVersion() && equalValues(latestRow, row)) {
+                    continue;
+                }
+
+                storage.addWrite(rowId, row, txId);
+            }
+
+            storage.commitWrite(rowId, timestamp);
+        }
+
+        return skipped;
+    }
+
+    /**
+     * Replaces rows with their versions converted to another schema, outside of any transaction: the newest committed version of every
+     * replaced row is rewritten in place, so no row versions are added. A row is only replaced if its latest version is still equal to the
+     * old row, so rows that have been updated or removed since, as well as rows with pending updates of transactions, are left as is.
+     * Applying the same upgrade again has no effect, so the operation can be safely retried.
+     *
+     * @param oldRows Rows to replace.
+     * @param rows Upgraded rows, in the same order as the rows to replace.
+     * @return Number of replaced rows.
+     */
+    public int upgradeAll(List<BinaryRow> oldRows, List<BinaryRow> rows) {
+        assert oldRows.size() == rows.size();
+
+        // Doesn't belong to any transaction, so reads fail on rows with pending updates of transactions.
+        UUID txId = new UUID(0, 0);
+
+        int upgraded = 0;
+
+        for (int i = 0; i < rows.size(); i++) {
+            BinaryRow oldRow = oldRows.get(i);
+
+            RowId rowId = primaryIndex.get(oldRow.keySlice());
+
+            if (rowId == null) {
+                continue;
+            }
+
+            BinaryRow latestRow;
+
+            try {
+                latestRow = storage.read(rowId, txId);
+            } catch (TxIdMismatchException e) {
+                continue;
+            }
+
+            if (latestRow == null || latestRow.schemaVersion() != oldRow.schemaVersion() || !equalValues(latestRow, oldRow)) {
+                continue;
+            }
+
+            // The value doesn't change, so the newest version is rewritten in place instead of adding a version of the row.
+            storage.replaceNewestCommitted(rowId, rows.get(i));
+
+            upgraded++;
+        }
+
+        return upgraded;
+    }
+
     /**
      * Inserts a row.
      *
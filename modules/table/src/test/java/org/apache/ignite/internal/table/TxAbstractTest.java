@@ -55,6 +55,7 @@ import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.apache.ignite.internal.testframework.IgniteTestUtils;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.tx.impl.TxManagerImpl;
@@ -351,6 +352,39 @@ public abstract class TxAbstractTest extends IgniteAbstractTest {
         assertEquals(ABORTED, txManager(accounts).state(tx.id()));
     }
 
+    @Test
+    public void testReadOnly() throws TransactionException {
+        accounts.recordView().upsert(null, makeValue(1, 100.));
+        accounts.recordView().upsert(null, makeValue(2, 100.));
+
+        InternalTransaction readOnlyTx = txManager(accounts).beginReadOnly(Timestamp.nextVersion());
+
+        accounts.recordView().upsert(null, makeValue(1, 200.));
+        accounts.recordView().upsert(null, makeValue(3, 200.));
+
+        var table = accounts.recordView();
+
+        assertEquals(100., table.get(readOnlyTx, makeKey(1)).doubleValue("balance"));
+        assertNull(table.get(readOnlyTx, makeKey(3)));
+
+        Collection<Tuple> rows = table.getAll(readOnlyTx, List.of(makeKey(1), makeKey(2), makeKey(3)));
+
+        assertEquals(2, rows.size());
+
+        for (Tuple row : rows) {
+            assertEquals(100., row.doubleValue("balance"));
+        }
+
+        Exception err = assertThrows(Exception.class, () -> table.upsert(readOnlyTx, makeValue(1, 300.)));
+
+        assertTrue(err.getMessage().contains("read-only transaction"), err.getMessage());
+
+        readOnlyTx.commit();
+
+        assertEquals(COMMITED, txManager(accounts).state(readOnlyTx.id()));
+        assertEquals(200., table.get(null, makeKey(1)).doubleValue("balance"));
+    }
+
     @Test
     public void testAbortNoUpdate() throws TransactionException {
         accounts.recordView().upsert(null, makeValue(1, 100.));
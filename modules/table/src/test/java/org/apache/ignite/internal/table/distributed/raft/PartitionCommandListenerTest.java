@@ -23,8 +23,12 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -55,9 +59,12 @@ import org.apache.ignite.internal.table.distributed.command.GetAndUpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.GetCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertAllCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertCommand;
+import org.apache.ignite.internal.table.distributed.command.ReadOnlyGetCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceIfExistCommand;
+import org.apache.ignite.internal.table.distributed.command.UpgradeRowsCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertAllCommand;
+import org.apache.ignite.internal.table.distributed.command.UpsertAllDirectCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.response.MultiRowsResponse;
 import org.apache.ignite.internal.table.distributed.command.response.SingleRowResponse;
@@ -92,6 +99,9 @@ public class PartitionCommandListenerTest {
     /** Table command listener. */
     private PartitionListener commandListener;
 
+    /** Partition storage. */
+    private TestMvPartitionStorage mvPartitionStorage;
+
     /** Versioned row store. */
     private VersionedRowStore versionedRowStore;
 
@@ -107,8 +117,10 @@ public class PartitionCommandListenerTest {
         NetworkAddress addr = new NetworkAddress("127.0.0.1", 5003);
         Mockito.when(clusterService.topologyService().localMember().address()).thenReturn(addr);
 
+        mvPartitionStorage = spy(new TestMvPartitionStorage(List.of(), 0));
+
         versionedRowStore = new VersionedRowStore(
-                new TestMvPartitionStorage(List.of(), 0),
+                mvPartitionStorage,
                 new TxManagerImpl(clusterService, new HeapLockManager())
         );
 
@@ -262,6 +274,69 @@ public class PartitionCommandListenerTest {
         readAll(false);
     }
 
+    /**
+     * Reads rows as of a timestamp taken before the rows were replaced, and checks that the replaced versions are returned.
+     */
+    @Test
+    public void testReadOnlyGetCommand() {
+        upsert();
+
+        Timestamp beforeReplace = Timestamp.nextVersion();
+
+        replaceValues(true);
+
+        readOnlyGetAndCheck(beforeReplace, i -> i);
+
+        readOnlyGetAndCheck(Timestamp.nextVersion(), i -> i + 1);
+    }
+
+    /**
+     * The test checks a non-transactional batch upsert command: rows are committed at once, re-sent rows don't add row versions, and rows
+     * with pending transactional updates are skipped.
+     */
+    @Test
+    public void testUpsertAllDirectCommand() {
+        upsertAllDirect(i -> i, 0);
+
+        readOnlyGetAndCheck(Timestamp.nextVersion(), i -> i);
+
+        clearInvocations(mvPartitionStorage);
+
+        upsertAllDirect(i -> i, 0);
+
+        readOnlyGetAndCheck(Timestamp.nextVersion(), i -> i);
+
+        verify(mvPartitionStorage, never()).addWrite(any(), any(), any());
+
+        commandListener.onWrite(batchIterator(clo -> {
+            when(clo.index()).thenReturn(raftIndex.incrementAndGet());
+
+            when(clo.command()).thenReturn(new UpsertCommand(getTestRow(0, -1), Timestamp.nextVersion().toUuid()));
+        }));
+
+        upsertAllDirect(i -> i + 1, 1);
+
+        readOnlyGetAndCheck(Timestamp.nextVersion(), i -> i == 0 ? 0 : i + 1);
+    }
+
+    /**
+     * The test checks the row upgrade command: rows are replaced only if they have not been changed since they were read.
+     */
+    @Test
+    public void testUpgradeRowsCommand() {
+        upsertAllDirect(i -> i, 0);
+
+        upsertAllDirect(i -> i == 0 ? -1 : i, 0);
+
+        upgradeRows(KEY_COUNT - 1);
+
+        readOnlyGetAndCheck(Timestamp.nextVersion(), i -> i == 0 ? -1 : i + 1);
+
+        upgradeRows(0);
+
+        readOnlyGetAndCheck(Timestamp.nextVersion(), i -> i == 0 ? -1 : i + 1);
+    }
+
     /**
      * Prepares a closure iterator for a specific batch operation.
      *
@@ -405,6 +480,61 @@ public class PartitionCommandListenerTest {
         txs.forEach(tuple -> versionedRowStore.commitWrite(tuple.getKey().keySlice(), tuple.getValue()));
     }
 
+    /**
+     * Upserts all rows outside of a transaction.
+     *
+     * @param keyValueMapper Mapper a key to the value to write.
+     * @param expectedSkipped Expected number of rows skipped because of pending transactional updates.
+     */
+    private void upsertAllDirect(Function<Integer, Integer> keyValueMapper, int expectedSkipped) {
+        commandListener.onWrite(batchIterator(clo -> {
+            when(clo.index()).thenReturn(raftIndex.incrementAndGet());
+
+            doAnswer(invocation -> {
+                MultiRowsResponse resp = invocation.getArgument(0);
+
+                assertEquals(expectedSkipped, resp.getValues().size());
+
+                return null;
+            }).when(clo).result(any(MultiRowsResponse.class));
+
+            List<BinaryRow> rows = new ArrayList<>(KEY_COUNT);
+
+            for (int i = 0; i < KEY_COUNT; i++) {
+                rows.add(getTestRow(i, keyValueMapper.apply(i)));
+            }
+
+            when(clo.command()).thenReturn(new UpsertAllDirectCommand(rows, Timestamp.nextVersion()));
+        }));
+    }
+
+    /**
+     * Replaces rows with values equal to their keys by rows with incremented values.
+     *
+     * @param expectedUpgraded Expected number of replaced rows.
+     */
+    private void upgradeRows(int expectedUpgraded) {
+        commandListener.onWrite(batchIterator(clo -> {
+            when(clo.index()).thenReturn(raftIndex.incrementAndGet());
+
+            doAnswer(invocation -> {
+                assertEquals(expectedUpgraded, (Integer) invocation.getArgument(0));
+
+                return null;
+            }).when(clo).result(any(Integer.class));
+
+            List<BinaryRow> oldRows = new ArrayList<>(KEY_COUNT);
+            List<BinaryRow> rows = new ArrayList<>(KEY_COUNT);
+
+            for (int i = 0; i < KEY_COUNT; i++) {
+                oldRows.add(getTestRow(i, i));
+                rows.add(getTestRow(i, i + 1));
+            }
+
+            when(clo.command()).thenReturn(new UpgradeRowsCommand(oldRows, rows));
+        }));
+    }
+
     /**
      * Deletes all rows.
      *
@@ -585,6 +715,31 @@ public class PartitionCommandListenerTest {
         }));
     }
 
+    /**
+     * Reads rows from the listener as of the given timestamp and checks values as expected by a mapper.
+     *
+     * @param readTimestamp  Read timestamp.
+     * @param keyValueMapper Mapper a key to the value which will be expected.
+     */
+    private void readOnlyGetAndCheck(Timestamp readTimestamp, Function<Integer, Integer> keyValueMapper) {
+        commandListener.onRead(iterator((i, clo) -> {
+            when(clo.command()).thenReturn(new ReadOnlyGetCommand(getTestKey(i), readTimestamp));
+
+            doAnswer(invocation -> {
+                SingleRowResponse resp = invocation.getArgument(0);
+
+                assertNotNull(resp.getValue());
+
+                Row row = new Row(SCHEMA, resp.getValue());
+
+                assertEquals(i, row.intValue(0));
+                assertEquals(keyValueMapper.apply(i), row.intValue(1));
+
+                return null;
+            }).when(clo).result(any(SingleRowResponse.class));
+        }));
+    }
+
     /**
      * Inserts row.
      *
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.mapping.ColumnMapping;
+import org.apache.ignite.internal.schema.registry.SchemaRegistryImpl;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.storage.basic.TestMvPartitionStorage;
+import org.apache.ignite.internal.table.distributed.command.UpgradeRowsCommand;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.util.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PartitionRowUpgrader}.
+ */
+public class PartitionRowUpgraderTest {
+    /** Number of rows, more than fit in a single upgrade batch. */
+    private static final int ROW_COUNT = 250;
+
+    /** Initial schema. */
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(
+            1,
+            new Column[]{new Column("key", NativeTypes.INT32, false)},
+            new Column[]{new Column("value", NativeTypes.INT32, false)}
+    );
+
+    /** Schema with an added column. */
+    private static final SchemaDescriptor SCHEMA_2 = new SchemaDescriptor(
+            2,
+            new Column[]{new Column("key", NativeTypes.INT32, false)},
+            new Column[]{new Column("value", NativeTypes.INT32, false), new Column("added", NativeTypes.STRING, true)}
+    );
+
+    static {
+        SCHEMA_2.columnMapping(ColumnMapping.createMapper(SCHEMA_2).add(SCHEMA_2.column("added")));
+    }
+
+    /** Partition storage. */
+    private TestMvPartitionStorage storage;
+
+    /** Versioned row store. */
+    private VersionedRowStore rowStore;
+
+    /** Schema registry with the latest schema of version 2. */
+    private SchemaRegistry schemaRegistry;
+
+    /** Tasks scheduled on the upgrade executor, run by the tests. */
+    private final Queue<Runnable> scheduledTasks = new ArrayDeque<>();
+
+    /** Upgrade executor. */
+    private ScheduledExecutorService executor;
+
+    /** Number of replicated commands. */
+    private final AtomicInteger commands = new AtomicInteger();
+
+    /** Commit timestamp of the rows. */
+    private Timestamp writeTimestamp;
+
+    /**
+     * Writes rows of the initial schema.
+     */
+    @BeforeEach
+    public void before() {
+        storage = new TestMvPartitionStorage(List.of(), 0);
+
+        rowStore = new VersionedRowStore(storage, mock(TxManager.class));
+
+        schemaRegistry = new SchemaRegistryImpl(v -> v == 1 ? SCHEMA : SCHEMA_2, () -> SCHEMA_2.version(), SCHEMA_2);
+
+        executor = mock(ScheduledExecutorService.class);
+
+        when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            scheduledTasks.add(invocation.getArgument(0));
+
+            return null;
+        });
+
+        List<BinaryRow> rows = new ArrayList<>(ROW_COUNT);
+
+        for (int i = 0; i < ROW_COUNT; i++) {
+            RowAssembler rowAssembler = new RowAssembler(SCHEMA, 0, 0);
+
+            rowAssembler.appendInt(i);
+            rowAssembler.appendInt(i * 10);
+
+            rows.add(new Row(SCHEMA, rowAssembler.build()));
+        }
+
+        writeTimestamp = Timestamp.nextVersion();
+
+        rowStore.upsertAllDirect(rows, writeTimestamp);
+    }
+
+    @Test
+    public void testLeaderUpgradesRowsInPlace() {
+        PartitionRowUpgrader upgrader = upgrader(() -> true);
+
+        upgrader.onLeaderElected();
+
+        runScheduledTasks();
+
+        assertEquals(ROW_COUNT, upgrader.upgradedRows());
+        assertEquals(SCHEMA_2.version(), upgrader.minSchemaVersion());
+
+        // A command per batch.
+        assertEquals((ROW_COUNT + 99) / 100, commands.get());
+
+        // The upgraded rows are visible at the commit timestamp of the original rows, so no row versions have been added.
+        assertRows(writeTimestamp, SCHEMA_2.version());
+        assertRows(Timestamp.nextVersion(), SCHEMA_2.version());
+    }
+
+    @Test
+    public void testFollowerDoesNothing() {
+        PartitionRowUpgrader upgrader = upgrader(() -> false);
+
+        upgrader.onLeaderElected();
+        upgrader.schedule();
+
+        assertTrue(scheduledTasks.isEmpty());
+
+        assertEquals(0, upgrader.upgradedRows());
+        assertRows(Timestamp.nextVersion(), SCHEMA.version());
+    }
+
+    @Test
+    public void testLeaderStopsWhenLeadershipIsLost() {
+        // Leadership is lost once the first batch has been replicated.
+        PartitionRowUpgrader upgrader = upgrader(() -> commands.get() == 0);
+
+        upgrader.onLeaderElected();
+
+        runScheduledTasks();
+
+        assertEquals(1, commands.get());
+        assertEquals(100, upgrader.upgradedRows());
+        assertEquals(SCHEMA.version(), upgrader.minSchemaVersion());
+    }
+
+    @Test
+    public void testNewLeaderResumesUpgrade() {
+        PartitionRowUpgrader oldLeader = upgrader(() -> commands.get() == 0);
+
+        oldLeader.onLeaderElected();
+
+        runScheduledTasks();
+
+        // The new leader, e.g. a restarted node, only replaces the rows that have not been upgraded yet.
+        PartitionRowUpgrader newLeader = upgrader(() -> true);
+
+        newLeader.onLeaderElected();
+
+        runScheduledTasks();
+
+        assertEquals(ROW_COUNT - 100, newLeader.upgradedRows());
+        assertEquals(SCHEMA_2.version(), newLeader.minSchemaVersion());
+        assertRows(writeTimestamp, SCHEMA_2.version());
+
+        // A re-election finds nothing to replace.
+        int commandsBefore = commands.get();
+
+        newLeader.onLeaderElected();
+
+        runScheduledTasks();
+
+        assertEquals(ROW_COUNT - 100, newLeader.upgradedRows());
+        assertEquals(commandsBefore, commands.get());
+    }
+
+    /**
+     * Creates an upgrader that replicates the commands by applying them to the local row store.
+     *
+     * @param leader Returns {@code true} if the local node is the leader.
+     * @return Upgrader.
+     */
+    private PartitionRowUpgrader upgrader(BooleanSupplier leader) {
+        return new PartitionRowUpgrader(
+                "test",
+                0,
+                storage,
+                schemaRegistry,
+                leader,
+                cmd -> {
+                    commands.incrementAndGet();
+
+                    UpgradeRowsCommand upgradeCmd = (UpgradeRowsCommand) cmd;
+
+                    return rowStore.upgradeAll(upgradeCmd.getOldRows(), upgradeCmd.getRows());
+                },
+                executor
+        );
+    }
+
+    /**
+     * Runs the scheduled tasks, including the ones scheduled by the tasks themselves.
+     */
+    private void runScheduledTasks() {
+        for (Runnable task = scheduledTasks.poll(); task != null; task = scheduledTasks.poll()) {
+            task.run();
+        }
+    }
+
+    /**
+     * Checks that all the rows visible at the timestamp have the schema version and the written values.
+     *
+     * @param timestamp Read timestamp.
+     * @param schemaVersion Expected schema version.
+     */
+    private void assertRows(Timestamp timestamp, int schemaVersion) {
+        int count = 0;
+
+        try (Cursor<BinaryRow> cursor = storage.scan(row -> true, timestamp)) {
+            for (BinaryRow binaryRow : cursor) {
+                assertEquals(schemaVersion, binaryRow.schemaVersion());
+
+                Row row = schemaRegistry.resolve(binaryRow);
+
+                assertEquals(row.intValue(0) * 10, row.intValue(1));
+
+                count++;
+            }
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+
+        assertEquals(ROW_COUNT, count);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.table.impl;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
@@ -41,6 +42,7 @@ import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.raft.client.Command;
 import org.apache.ignite.raft.client.Peer;
@@ -76,6 +78,12 @@ public class DummyInternalTableImpl extends InternalTableImpl {
 
         Mockito.doReturn("testGrp").when(svc).groupId();
         Mockito.doReturn(new Peer(ADDR)).when(svc).leader();
+        Mockito.doReturn(List.of(new Peer(ADDR))).when(svc).peers();
+
+        ClusterService clusterService = mock(ClusterService.class, RETURNS_DEEP_STUBS);
+
+        Mockito.when(clusterService.topologyService().localMember().address()).thenReturn(ADDR);
+        Mockito.doReturn(clusterService).when(svc).clusterService();
 
         // Delegate directly to listener.
         doAnswer(
@@ -149,6 +157,35 @@ public class DummyInternalTableImpl extends InternalTableImpl {
                 }
         ).when(svc).run(any());
 
+        // Read-only commands take no locks, so they are delegated to the listener directly.
+        doAnswer(
+                invocationClose -> {
+                    ReadCommand cmd = invocationClose.getArgument(1);
+
+                    CompletableFuture<Serializable> res = new CompletableFuture<>();
+
+                    CommandClosure<ReadCommand> clo = new CommandClosure<>() {
+                        @Override
+                        public ReadCommand command() {
+                            return cmd;
+                        }
+
+                        @Override
+                        public void result(@Nullable Serializable r) {
+                            res.complete(r);
+                        }
+                    };
+
+                    try {
+                        partitionListener.onRead(List.of(clo).iterator());
+                    } catch (Throwable e) {
+                        res.completeExceptionally(new TransactionException(e));
+                    }
+
+                    return res;
+                }
+        ).when(svc).run(any(Peer.class), any(ReadCommand.class));
+
         partitionListener = new PartitionListener(UUID.randomUUID(), store);
     }
 
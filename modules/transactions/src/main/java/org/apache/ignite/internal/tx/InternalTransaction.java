@@ -22,6 +22,7 @@ import java.util.UUID;
 import org.apache.ignite.raft.client.service.RaftGroupService;
 import org.apache.ignite.tx.Transaction;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -57,4 +58,12 @@ public interface InternalTransaction extends Transaction {
      * @return {@code True} if a partition is enlisted into the transaction.
      */
     boolean enlist(RaftGroupService svc);
+
+    /**
+     * Returns a read timestamp of a read-only transaction. Reads of such a transaction observe the data committed at or before the
+     * timestamp, take no locks and may be served by any replica of a partition.
+     *
+     * @return The read timestamp or {@code null} for a read-write transaction.
+     */
+    @Nullable Timestamp readTimestamp();
 }
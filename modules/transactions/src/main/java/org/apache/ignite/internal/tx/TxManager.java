@@ -40,6 +40,14 @@ public interface TxManager extends IgniteComponent {
      */
     InternalTransaction begin();
 
+    /**
+     * Starts a read-only transaction coordinated by a local node.
+     *
+     * @param readTimestamp The timestamp the transaction reads the data at.
+     * @return The transaction.
+     */
+    InternalTransaction beginReadOnly(Timestamp readTimestamp);
+
     /**
      * Returns a transaction state.
      *
@@ -29,6 +29,7 @@ import java.util.concurrent.ExecutionException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.network.NetworkAddress;
@@ -56,6 +57,9 @@ public class TransactionImpl implements InternalTransaction {
     /** The originator. */
     private final NetworkAddress address;
 
+    /** The read timestamp of a read-only transaction, {@code null} for a read-write one. */
+    private final @Nullable Timestamp readTimestamp;
+
     /** Enlisted groups. */
     private Set<RaftGroupService> enlisted = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
@@ -65,11 +69,13 @@ public class TransactionImpl implements InternalTransaction {
      * @param txManager The tx manager.
      * @param id The id.
      * @param address   The local address.
+     * @param readTimestamp The read timestamp of a read-only transaction, {@code null} for a read-write one.
      */
-    public TransactionImpl(TxManager txManager, @NotNull UUID id, NetworkAddress address) {
+    public TransactionImpl(TxManager txManager, @NotNull UUID id, NetworkAddress address, @Nullable Timestamp readTimestamp) {
         this.txManager = txManager;
         this.id = id;
         this.address = address;
+        this.readTimestamp = readTimestamp;
     }
 
     /** {@inheritDoc} */
@@ -98,6 +104,12 @@ public class TransactionImpl implements InternalTransaction {
         return enlisted.add(svc);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable Timestamp readTimestamp() {
+        return readTimestamp;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void commit() throws TransactionException {
@@ -102,7 +102,17 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
 
         states.put(txId, TxState.PENDING);
 
-        return new TransactionImpl(this, txId, clusterService.topologyService().localMember().address());
+        return new TransactionImpl(this, txId, clusterService.topologyService().localMember().address(), null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public InternalTransaction beginReadOnly(Timestamp readTimestamp) {
+        UUID txId = Timestamp.nextVersion().toUuid();
+
+        states.put(txId, TxState.PENDING);
+
+        return new TransactionImpl(this, txId, clusterService.topologyService().localMember().address(), readTimestamp);
     }
 
     /** {@inheritDoc} */